@@ -31,4 +31,12 @@ public class PokemonCreateRequest {
         requiredMode = Schema.RequiredMode.REQUIRED
     )
     private String name;
+
+    @Size(max = 500, message = "La URL de callback no puede exceder 500 caracteres")
+    @Pattern(regexp = "^https?://\\S+$", message = "La URL de callback debe ser http o https")
+    @Schema(
+        description = "URL que recibe por POST el resultado del trabajo (solo en modo asíncrono)",
+        example = "https://example.com/hooks/pokemon"
+    )
+    private String callbackUrl;
 } 
\ No newline at end of file
@@ -0,0 +1,105 @@
+package com.pokemon.application.dto.request;
+
+import com.pokemon.application.service.PokemonQueryService.InvalidQueryException;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Selección de campos de {@code PokemonResponse} pedida con {@code ?fields=}
+ *
+ * Acepta nombres en snake_case o camelCase separados por coma. El {@code id}
+ * siempre se incluye. La representación canónica (orden fijo, snake_case)
+ * sirve como parte de las claves de caché.
+ *
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+public final class PokemonFields {
+
+    private static final List<String> AVAILABLE = List.of(
+            "id", "external_id", "name", "height", "weight", "base_experience",
+            "types", "abilities", "sprite_url", "created_at", "updated_at");
+
+    private static final Set<String> COLLECTIONS = Set.of("types", "abilities");
+
+    /**
+     * Todos los campos; equivale a no indicar {@code fields}
+     */
+    public static final PokemonFields ALL = new PokemonFields(new LinkedHashSet<>(AVAILABLE));
+
+    private final Set<String> names;
+
+    private PokemonFields(Set<String> names) {
+        this.names = names;
+    }
+
+    /**
+     * Interpreta el parámetro {@code fields}
+     *
+     * @param csv lista de campos separados por coma; nulo o vacío selecciona todos
+     * @return selección de campos
+     * @throws InvalidQueryException si algún campo no existe
+     */
+    public static PokemonFields parse(String csv) {
+        if (csv == null || csv.isBlank()) {
+            return ALL;
+        }
+        Set<String> requested = Arrays.stream(csv.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .map(PokemonFields::toSnakeCase)
+                .collect(Collectors.toSet());
+
+        for (String field : requested) {
+            if (!AVAILABLE.contains(field)) {
+                throw new InvalidQueryException("Campo '" + field + "' no válido. Valores permitidos: "
+                        + String.join(", ", AVAILABLE));
+            }
+        }
+
+        Set<String> names = new LinkedHashSet<>();
+        for (String field : AVAILABLE) {
+            if (field.equals("id") || requested.contains(field)) {
+                names.add(field);
+            }
+        }
+        return names.size() == AVAILABLE.size() ? ALL : new PokemonFields(names);
+    }
+
+    /**
+     * Nombres JSON (snake_case) de los campos seleccionados
+     */
+    public Set<String> names() {
+        return names;
+    }
+
+    /**
+     * Indica si hay que cargar alguna colección (tipos o habilidades)
+     */
+    public boolean includesCollections() {
+        return names.stream().anyMatch(COLLECTIONS::contains);
+    }
+
+    private static String toSnakeCase(String field) {
+        return field.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toLowerCase();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof PokemonFields fields && names.equals(fields.names);
+    }
+
+    @Override
+    public int hashCode() {
+        return names.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return String.join(",", names);
+    }
+}
@@ -0,0 +1,43 @@
+package com.pokemon.application.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Criterios booleanos de filtrado por tipo y habilidad
+ * 
+ * Todos los criterios se combinan con AND; los vacíos no restringen.
+ * 
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Criterios de filtrado por tipo y habilidad")
+public class PokemonFilterCriteria {
+
+    @Schema(description = "Debe tener todos estos tipos", example = "[\"fire\", \"flying\"]")
+    private List<String> allTypes;
+
+    @Schema(description = "Debe tener al menos uno de estos tipos", example = "[\"water\", \"ice\"]")
+    private List<String> anyTypes;
+
+    @Schema(description = "No debe tener ninguno de estos tipos", example = "[\"dragon\"]")
+    private List<String> noneTypes;
+
+    @Schema(description = "Debe tener todas estas habilidades", example = "[\"blaze\"]")
+    private List<String> allAbilities;
+
+    @Schema(description = "Debe tener al menos una de estas habilidades", example = "[\"static\", \"levitate\"]")
+    private List<String> anyAbilities;
+
+    @Schema(description = "No debe tener ninguna de estas habilidades", example = "[\"pressure\"]")
+    private List<String> noneAbilities;
+}
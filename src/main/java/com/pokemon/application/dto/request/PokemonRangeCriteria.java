@@ -0,0 +1,41 @@
+package com.pokemon.application.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Criterios de filtrado por rango de altura, peso y experiencia base
+ * 
+ * Los extremos son inclusivos; los nulos no restringen.
+ * 
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Criterios de filtrado por rango")
+public class PokemonRangeCriteria {
+
+    @Schema(description = "Altura mínima en decímetros", example = "5")
+    private Integer minHeight;
+
+    @Schema(description = "Altura máxima en decímetros", example = "20")
+    private Integer maxHeight;
+
+    @Schema(description = "Peso mínimo en hectogramos", example = "100")
+    private Integer minWeight;
+
+    @Schema(description = "Peso máximo en hectogramos", example = "500")
+    private Integer maxWeight;
+
+    @Schema(description = "Experiencia base mínima", example = "200")
+    private Integer minBaseExperience;
+
+    @Schema(description = "Experiencia base máxima", example = "300")
+    private Integer maxBaseExperience;
+}
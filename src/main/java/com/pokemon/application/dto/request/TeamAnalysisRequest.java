@@ -0,0 +1,37 @@
+package com.pokemon.application.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO para la solicitud de análisis de un equipo
+ * 
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Equipo (completo o parcial) a analizar")
+public class TeamAnalysisRequest {
+
+    @NotEmpty(message = "El equipo debe tener al menos un Pokémon")
+    @Size(max = 6, message = "El equipo no puede tener más de 6 Pokémon")
+    @Schema(
+        description = "IDs de los Pokémon del equipo",
+        example = "[6, 25, 131]",
+        requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    private List<Long> pokemonIds;
+
+    @Schema(description = "Completar el equipo hasta 6 con la mejor combinación del catálogo", example = "true")
+    private boolean complete;
+}
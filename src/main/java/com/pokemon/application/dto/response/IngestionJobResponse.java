@@ -0,0 +1,72 @@
+package com.pokemon.application.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.pokemon.domain.entity.IngestionJob;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DTO de respuesta con el estado de un trabajo de creación asíncrona
+ * 
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Estado de un trabajo de creación asíncrona")
+public class IngestionJobResponse {
+
+    @Schema(description = "ID del trabajo", example = "3f2b6c1e-8a44-4f4e-9d8a-0b6a9f1c2d3e")
+    private UUID id;
+
+    @Schema(description = "Nombre del Pokémon pedido", example = "pikachu")
+    private String pokemonName;
+
+    @Schema(description = "Estado del trabajo", example = "PENDING")
+    private IngestionJob.Status status;
+
+    @Schema(description = "Intentos realizados", example = "1")
+    private Integer attempts;
+
+    @Schema(description = "ID del Pokémon creado, cuando el trabajo terminó bien", example = "25")
+    private Long pokemonId;
+
+    @Schema(description = "Código de error, cuando el trabajo falló", example = "POKEMON_NOT_FOUND")
+    private String errorCode;
+
+    @Schema(description = "Mensaje de error, cuando el trabajo falló")
+    private String errorMessage;
+
+    @Schema(description = "Fecha y hora de creación")
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    @JsonSerialize(using = IsoDateTimeSerializer.class)
+    private LocalDateTime createdAt;
+
+    @Schema(description = "Fecha y hora de finalización")
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    @JsonSerialize(using = IsoDateTimeSerializer.class)
+    private LocalDateTime completedAt;
+
+    public static IngestionJobResponse of(IngestionJob job) {
+        return IngestionJobResponse.builder()
+                .id(job.getId())
+                .pokemonName(job.getPokemonName())
+                .status(job.getStatus())
+                .attempts(job.getAttempts())
+                .pokemonId(job.getPokemonId())
+                .errorCode(job.getErrorCode())
+                .errorMessage(job.getErrorMessage())
+                .createdAt(job.getCreatedAt())
+                .completedAt(job.getCompletedAt())
+                .build();
+    }
+}
@@ -0,0 +1,62 @@
+package com.pokemon.application.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO de respuesta para agregados de una métrica agrupados por tipo o habilidad
+ * 
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Agregados de una métrica del catálogo")
+public class PokemonAggregateResponse {
+
+    @Schema(description = "Métrica agregada", example = "weight")
+    private String metric;
+
+    @Schema(description = "Dimensión de agrupamiento (ausente si no se agrupa)", example = "type")
+    private String groupBy;
+
+    @Schema(description = "Agregados por grupo, ordenados por clave")
+    private List<Group> groups;
+
+    /**
+     * Agregados de un grupo
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "Agregados de un grupo")
+    public static class Group {
+
+        @Schema(description = "Clave del grupo (tipo, habilidad o 'all')", example = "fire")
+        private String key;
+
+        @Schema(description = "Cantidad de Pokémon con valor en la métrica", example = "64")
+        private Integer count;
+
+        @Schema(description = "Promedio", example = "612.5")
+        private Double avg;
+
+        @Schema(description = "Mínimo", example = "10")
+        private Integer min;
+
+        @Schema(description = "Máximo", example = "9999")
+        private Integer max;
+
+        @Schema(description = "Percentiles pedidos (interpolados, como percentile_cont)", example = "{\"p50\": 350.0, \"p90\": 1200.0}")
+        private Map<String, Double> percentiles;
+    }
+}
@@ -0,0 +1,48 @@
+package com.pokemon.application.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de respuesta para un elemento de una consulta por lote
+ * 
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Resultado de un ID o nombre pedido en una consulta por lote")
+public class PokemonBatchItem {
+
+    @Schema(description = "ID o nombre tal como se pidió", example = "25")
+    private String key;
+
+    @Schema(description = "Indica si el Pokémon existe", example = "true")
+    private boolean found;
+
+    @Schema(description = "Pokémon encontrado (ausente si no existe)")
+    private PokemonResponse pokemon;
+
+    @Schema(description = "Código de error cuando no existe", example = "POKEMON_NOT_FOUND")
+    private String errorCode;
+
+    public static PokemonBatchItem of(String key, PokemonResponse pokemon) {
+        if (pokemon == null) {
+            return PokemonBatchItem.builder()
+                    .key(key)
+                    .found(false)
+                    .errorCode("POKEMON_NOT_FOUND")
+                    .build();
+        }
+        return PokemonBatchItem.builder()
+                .key(key)
+                .found(true)
+                .pokemon(pokemon)
+                .build();
+    }
+}
@@ -0,0 +1,53 @@
+package com.pokemon.application.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.pokemon.domain.entity.PokemonChange;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO de respuesta con un cambio del catálogo
+ * 
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Cambio del catálogo")
+public class PokemonChangeResponse {
+
+    @Schema(description = "Secuencia del cambio, creciente en orden de commit", example = "42")
+    private Long sequence;
+
+    @Schema(description = "Tipo de cambio", example = "CREATED")
+    private PokemonChange.Type type;
+
+    @Schema(description = "ID del Pokémon afectado", example = "25")
+    private Long pokemonId;
+
+    @Schema(description = "Nombre del Pokémon (solo en altas)", example = "pikachu")
+    private String pokemonName;
+
+    @Schema(description = "Fecha y hora del cambio")
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    @JsonSerialize(using = IsoDateTimeSerializer.class)
+    private LocalDateTime occurredAt;
+
+    public static PokemonChangeResponse of(PokemonChange change) {
+        return PokemonChangeResponse.builder()
+                .sequence(change.getSequence())
+                .type(change.getType())
+                .pokemonId(change.getPokemonId())
+                .pokemonName(change.getPokemonName())
+                .occurredAt(change.getOccurredAt())
+                .build();
+    }
+}
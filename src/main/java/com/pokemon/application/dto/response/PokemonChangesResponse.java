@@ -0,0 +1,35 @@
+package com.pokemon.application.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de respuesta con una página del registro de cambios
+ * 
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Página del registro de cambios")
+public class PokemonChangesResponse {
+
+    @Schema(description = "Cambios posteriores a 'since', en orden")
+    private List<PokemonChangeResponse> changes;
+
+    @Schema(description = "Valor de 'since' para la próxima consulta", example = "42")
+    private Long nextSince;
+
+    @Schema(description = "Indica si hay más cambios sin devolver", example = "false")
+    private Boolean hasMore;
+
+    @Schema(description = "Última secuencia registrada al momento de la consulta", example = "42")
+    private Long lastSequence;
+}
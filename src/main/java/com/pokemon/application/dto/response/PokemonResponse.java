@@ -1,6 +1,7 @@
 package com.pokemon.application.dto.response;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -52,9 +53,11 @@ public class PokemonResponse {
 
     @Schema(description = "Fecha y hora de creación")
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    @JsonSerialize(using = IsoDateTimeSerializer.class)
     private LocalDateTime createdAt;
 
     @Schema(description = "Fecha y hora de última actualización")
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    @JsonSerialize(using = IsoDateTimeSerializer.class)
     private LocalDateTime updatedAt;
 } 
\ No newline at end of file
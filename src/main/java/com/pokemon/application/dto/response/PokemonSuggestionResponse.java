@@ -0,0 +1,35 @@
+package com.pokemon.application.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de respuesta para sugerencias de autocompletado
+ * 
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Sugerencia de autocompletado de Pokémon")
+public class PokemonSuggestionResponse {
+
+    @Schema(description = "ID interno del Pokémon", example = "1")
+    private Long id;
+
+    @Schema(description = "Nombre del Pokémon", example = "pikachu")
+    private String name;
+
+    @Schema(description = "URL del sprite frontal del Pokémon")
+    private String spriteUrl;
+
+    @Schema(description = "Tipos del Pokémon", example = "[\"electric\"]")
+    private List<String> types;
+}
@@ -0,0 +1,32 @@
+package com.pokemon.application.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de respuesta para un Pokémon similar a otro
+ * 
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Pokémon similar con su distancia al Pokémon de referencia")
+public class SimilarPokemonResponse {
+
+    @Schema(description = "Pokémon similar")
+    private PokemonResponse pokemon;
+
+    @Schema(description = "Distancia al Pokémon de referencia (menor es más parecido)", example = "0.42")
+    private Double distance;
+
+    @Schema(description = "Tipos en común con el Pokémon de referencia", example = "[\"electric\"]")
+    private List<String> sharedTypes;
+}
@@ -0,0 +1,47 @@
+package com.pokemon.application.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de respuesta con la cobertura de tipos de un equipo
+ * 
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Cobertura ofensiva y debilidades de un equipo")
+public class TeamAnalysisResponse {
+
+    @Schema(description = "Pokémon del equipo pedido")
+    private List<PokemonResponse> members;
+
+    @Schema(description = "Pokémon sugeridos para completar el equipo (sólo si se pidió completar)")
+    private List<PokemonResponse> suggestions;
+
+    @Schema(description = "Tipos de ataque del equipo analizado (incluye sugerencias)", example = "[\"fire\", \"flying\", \"electric\"]")
+    private List<String> attackingTypes;
+
+    @Schema(description = "Fracción de los Pokémon del catálogo a los que el equipo golpea súper eficaz", example = "0.83")
+    private Double coverage;
+
+    @Schema(description = "Combinaciones de tipos del catálogo que el equipo no golpea súper eficaz", example = "[\"water/dragon\"]")
+    private List<String> uncovered;
+
+    @Schema(description = "Tipos de ataque a los que más integrantes son débiles que resistentes", example = "[\"rock\"]")
+    private List<String> weaknesses;
+
+    @Schema(description = "Tipos de ataque que más integrantes resisten que sufren", example = "[\"grass\"]")
+    private List<String> resistances;
+
+    @Schema(description = "Puntaje: cobertura menos la mitad de la fracción de tipos débiles", example = "0.77")
+    private Double score;
+}
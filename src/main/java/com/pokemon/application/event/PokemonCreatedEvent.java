@@ -0,0 +1,24 @@
+package com.pokemon.application.event;
+
+import com.pokemon.application.dto.response.PokemonResponse;
+import lombok.Value;
+
+/**
+ * Evento publicado cuando se crea un Pokémon dentro de una transacción
+ * 
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@Value
+public class PokemonCreatedEvent {
+
+    /**
+     * Pokémon creado, ya con su ID asignado
+     */
+    PokemonResponse pokemon;
+
+    /**
+     * Versión de la entidad persistida
+     */
+    Long version;
+}
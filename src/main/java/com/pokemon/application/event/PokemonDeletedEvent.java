@@ -0,0 +1,18 @@
+package com.pokemon.application.event;
+
+import lombok.Value;
+
+/**
+ * Evento publicado cuando se elimina un Pokémon dentro de una transacción
+ * 
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@Value
+public class PokemonDeletedEvent {
+
+    /**
+     * ID del Pokémon eliminado
+     */
+    Long id;
+}
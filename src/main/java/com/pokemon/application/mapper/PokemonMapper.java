@@ -1,7 +1,9 @@
 package com.pokemon.application.mapper;
 
 import com.pokemon.application.dto.response.PokemonResponse;
+import com.pokemon.application.dto.response.PokemonSuggestionResponse;
 import com.pokemon.domain.entity.Pokemon;
+import com.pokemon.domain.repository.PokemonSummaryView;
 import com.pokemon.infrastructure.external.dto.PokeApiResponse;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -35,6 +37,32 @@ public interface PokemonMapper {
      */
     List<PokemonResponse> toResponseList(List<Pokemon> pokemon);
 
+    /**
+     * Convierte una proyección sin colecciones a DTO de respuesta
+     * 
+     * @param summary proyección escalar
+     * @return DTO de respuesta sin tipos ni habilidades
+     */
+    @Mapping(target = "types", ignore = true)
+    @Mapping(target = "abilities", ignore = true)
+    PokemonResponse toSummaryResponse(PokemonSummaryView summary);
+
+    /**
+     * Convierte un DTO de respuesta a sugerencia de autocompletado
+     * 
+     * @param pokemon DTO de respuesta
+     * @return sugerencia con los datos mínimos para mostrar
+     */
+    PokemonSuggestionResponse toSuggestion(PokemonResponse pokemon);
+
+    /**
+     * Convierte una lista de DTOs de respuesta a sugerencias de autocompletado
+     * 
+     * @param pokemon lista de DTOs de respuesta
+     * @return lista de sugerencias
+     */
+    List<PokemonSuggestionResponse> toSuggestionList(List<PokemonResponse> pokemon);
+
     /**
      * Convierte un DTO de PokeAPI a entidad Pokemon
      * 
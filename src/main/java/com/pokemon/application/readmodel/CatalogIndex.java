@@ -0,0 +1,33 @@
+package com.pokemon.application.readmodel;
+
+import com.pokemon.application.dto.response.PokemonResponse;
+
+/**
+ * Índice derivado del catálogo en memoria
+ * 
+ * {@link PokemonReadModel} notifica a cada índice al recargar el catálogo y
+ * después del commit de cada creación o eliminación, siempre bajo el mismo
+ * lock de escritura. Las implementaciones deben publicar sus estructuras de
+ * forma segura para lectores concurrentes (copy-on-write o estructuras
+ * concurrentes).
+ * 
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+public interface CatalogIndex {
+
+    /**
+     * Reconstruye el índice completo a partir del catálogo
+     */
+    void rebuild(CatalogSnapshot snapshot);
+
+    /**
+     * Agrega un Pokémon recién creado
+     */
+    void onCreated(PokemonResponse pokemon);
+
+    /**
+     * Quita un Pokémon eliminado
+     */
+    void onDeleted(PokemonResponse pokemon);
+}
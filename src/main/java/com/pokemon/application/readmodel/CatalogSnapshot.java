@@ -0,0 +1,221 @@
+package com.pokemon.application.readmodel;
+
+import com.pokemon.application.dto.response.PokemonResponse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * Fotografía inmutable del catálogo completo de Pokémon
+ *
+ * Los datos se guardan en arreglos paralelos ordenados por ID, de forma que
+ * las búsquedas por ID son binarias y las búsquedas por nombre y tipo usan
+ * índices precalculados. Cada escritura genera una nueva instancia
+ * (copy-on-write); las lecturas nunca bloquean. Los órdenes por otros campos
+ * se calculan la primera vez que se piden y se reutilizan mientras la
+ * instancia siga vigente.
+ *
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+public final class CatalogSnapshot {
+
+    private static final int[] NO_POSITIONS = new int[0];
+    private static final CatalogSnapshot EMPTY = new CatalogSnapshot(new long[0], new long[0], new PokemonResponse[0]);
+
+    private final long[] ids;
+    private final long[] versions;
+    private final PokemonResponse[] entries;
+    private final String[] lowerNames;
+    private final Map<String, Integer> nameIndex;
+    private final Map<String, int[]> typeIndex;
+    private final Map<String, int[]> orderings = new ConcurrentHashMap<>();
+
+    private CatalogSnapshot(long[] ids, long[] versions, PokemonResponse[] entries) {
+        this.ids = ids;
+        this.versions = versions;
+        this.entries = entries;
+        this.lowerNames = new String[entries.length];
+
+        Map<String, Integer> names = new HashMap<>(entries.length * 2);
+        Map<String, List<Integer>> types = new HashMap<>();
+        for (int i = 0; i < entries.length; i++) {
+            String lowerName = entries[i].getName().toLowerCase(Locale.ROOT);
+            lowerNames[i] = lowerName;
+            names.put(lowerName, i);
+
+            if (entries[i].getTypes() != null) {
+                for (String type : entries[i].getTypes()) {
+                    types.computeIfAbsent(type.toLowerCase(Locale.ROOT), key -> new ArrayList<>()).add(i);
+                }
+            }
+        }
+
+        Map<String, int[]> typePositions = new HashMap<>(types.size() * 2);
+        types.forEach((type, positions) ->
+                typePositions.put(type, positions.stream().mapToInt(Integer::intValue).distinct().toArray()));
+
+        this.nameIndex = Collections.unmodifiableMap(names);
+        this.typeIndex = Collections.unmodifiableMap(typePositions);
+    }
+
+    /**
+     * Catálogo vacío
+     */
+    public static CatalogSnapshot empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Construye un catálogo a partir de una lista de Pokémon y sus versiones
+     *
+     * @param pokemon Pokémon a incluir
+     * @param versions versión de cada Pokémon (misma posición que en la lista)
+     * @return catálogo ordenado por ID
+     */
+    public static CatalogSnapshot of(List<PokemonResponse> pokemon, List<Long> versions) {
+        Integer[] order = new Integer[pokemon.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(pokemon.get(a).getId(), pokemon.get(b).getId()));
+
+        long[] ids = new long[order.length];
+        long[] vers = new long[order.length];
+        PokemonResponse[] entries = new PokemonResponse[order.length];
+        for (int i = 0; i < order.length; i++) {
+            entries[i] = pokemon.get(order[i]);
+            ids[i] = entries[i].getId();
+            vers[i] = versionOrZero(versions.get(order[i]));
+        }
+        return new CatalogSnapshot(ids, vers, entries);
+    }
+
+    /**
+     * Devuelve un nuevo catálogo con el Pokémon agregado o reemplazado
+     */
+    public CatalogSnapshot with(PokemonResponse pokemon, Long version) {
+        int position = Arrays.binarySearch(ids, pokemon.getId());
+        if (position >= 0) {
+            PokemonResponse[] newEntries = entries.clone();
+            long[] newVersions = versions.clone();
+            newEntries[position] = pokemon;
+            newVersions[position] = versionOrZero(version);
+            return new CatalogSnapshot(ids, newVersions, newEntries);
+        }
+
+        int insertAt = -position - 1;
+        long[] newIds = new long[ids.length + 1];
+        long[] newVersions = new long[ids.length + 1];
+        PokemonResponse[] newEntries = new PokemonResponse[ids.length + 1];
+
+        System.arraycopy(ids, 0, newIds, 0, insertAt);
+        System.arraycopy(versions, 0, newVersions, 0, insertAt);
+        System.arraycopy(entries, 0, newEntries, 0, insertAt);
+        newIds[insertAt] = pokemon.getId();
+        newVersions[insertAt] = versionOrZero(version);
+        newEntries[insertAt] = pokemon;
+        System.arraycopy(ids, insertAt, newIds, insertAt + 1, ids.length - insertAt);
+        System.arraycopy(versions, insertAt, newVersions, insertAt + 1, ids.length - insertAt);
+        System.arraycopy(entries, insertAt, newEntries, insertAt + 1, ids.length - insertAt);
+
+        return new CatalogSnapshot(newIds, newVersions, newEntries);
+    }
+
+    /**
+     * Devuelve un nuevo catálogo sin el Pokémon indicado
+     */
+    public CatalogSnapshot without(long id) {
+        int position = Arrays.binarySearch(ids, id);
+        if (position < 0) {
+            return this;
+        }
+
+        long[] newIds = new long[ids.length - 1];
+        long[] newVersions = new long[ids.length - 1];
+        PokemonResponse[] newEntries = new PokemonResponse[ids.length - 1];
+
+        System.arraycopy(ids, 0, newIds, 0, position);
+        System.arraycopy(versions, 0, newVersions, 0, position);
+        System.arraycopy(entries, 0, newEntries, 0, position);
+        System.arraycopy(ids, position + 1, newIds, position, ids.length - position - 1);
+        System.arraycopy(versions, position + 1, newVersions, position, ids.length - position - 1);
+        System.arraycopy(entries, position + 1, newEntries, position, ids.length - position - 1);
+
+        return new CatalogSnapshot(newIds, newVersions, newEntries);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public Optional<PokemonResponse> findById(long id) {
+        int position = Arrays.binarySearch(ids, id);
+        return position >= 0 ? Optional.of(entries[position]) : Optional.empty();
+    }
+
+    public Optional<PokemonResponse> findByName(String name) {
+        Integer position = nameIndex.get(name.toLowerCase(Locale.ROOT));
+        return position != null ? Optional.of(entries[position]) : Optional.empty();
+    }
+
+    /**
+     * Posiciones (ordenadas por ID) de los Pokémon de un tipo
+     */
+    public int[] positionsOfType(String type) {
+        return typeIndex.getOrDefault(type.toLowerCase(Locale.ROOT), NO_POSITIONS);
+    }
+
+    /**
+     * Posiciones (ordenadas por ID) de los Pokémon cuyo nombre contiene el texto
+     */
+    public int[] positionsContaining(String text) {
+        String needle = text.toLowerCase(Locale.ROOT);
+        int[] matches = new int[lowerNames.length];
+        int count = 0;
+        for (int i = 0; i < lowerNames.length; i++) {
+            if (lowerNames[i].contains(needle)) {
+                matches[count++] = i;
+            }
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    /**
+     * Posiciones de todo el catálogo en el orden del comparador
+     *
+     * El resultado se guarda con la clave indicada, así que la clave debe
+     * identificar al comparador; el arreglo devuelto no debe modificarse.
+     */
+    public int[] positionsSortedBy(String key, Comparator<PokemonResponse> comparator) {
+        return orderings.computeIfAbsent(key, ignored -> IntStream.range(0, entries.length).boxed()
+                .sorted((a, b) -> comparator.compare(entries[a], entries[b]))
+                .mapToInt(Integer::intValue)
+                .toArray());
+    }
+
+    public PokemonResponse entryAt(int position) {
+        return entries[position];
+    }
+
+    public long idAt(int position) {
+        return ids[position];
+    }
+
+    public long versionAt(int position) {
+        return versions[position];
+    }
+
+    private static long versionOrZero(Long version) {
+        return version != null ? version : 0L;
+    }
+}
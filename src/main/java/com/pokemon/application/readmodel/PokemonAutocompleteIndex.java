@@ -0,0 +1,261 @@
+package com.pokemon.application.readmodel;
+
+import com.pokemon.application.dto.response.PokemonResponse;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Índice de autocompletado sobre los nombres de Pokémon
+ *
+ * Trie persistente: cada creación o eliminación copia sólo el camino afectado
+ * y publica una nueva raíz, por lo que las búsquedas nunca bloquean. Las
+ * sugerencias se ordenan por coincidencia exacta de prefijo, luego por
+ * popularidad (consultas registradas) y por último por nombre.
+ *
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@Component
+public class PokemonAutocompleteIndex implements CatalogIndex {
+
+    /**
+     * Largo mínimo del prefijo para tolerar un error de tipeo
+     */
+    static final int FUZZY_MIN_PREFIX = 3;
+
+    private static final int MAX_DISTANCE = 1;
+
+    private final Map<Long, LongAdder> popularity = new ConcurrentHashMap<>();
+    private volatile Node root = Node.EMPTY;
+
+    @Override
+    public synchronized void rebuild(CatalogSnapshot snapshot) {
+        Node fresh = Node.EMPTY;
+        for (int i = 0; i < snapshot.size(); i++) {
+            PokemonResponse pokemon = snapshot.entryAt(i);
+            fresh = fresh.put(key(pokemon.getName()), 0, pokemon);
+        }
+        root = fresh;
+        popularity.keySet().removeIf(id -> snapshot.findById(id).isEmpty());
+    }
+
+    @Override
+    public synchronized void onCreated(PokemonResponse pokemon) {
+        root = root.put(key(pokemon.getName()), 0, pokemon);
+    }
+
+    @Override
+    public synchronized void onDeleted(PokemonResponse pokemon) {
+        root = root.remove(key(pokemon.getName()), 0);
+        popularity.remove(pokemon.getId());
+    }
+
+    /**
+     * Registra una consulta de un Pokémon para el ranking de popularidad
+     */
+    public void recordView(Long id) {
+        popularity.computeIfAbsent(id, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * Sugiere Pokémon cuyo nombre empieza con el prefijo (o con una variante a un error de distancia)
+     *
+     * @param prefix texto ingresado por el usuario
+     * @param limit cantidad máxima de sugerencias
+     * @return sugerencias ordenadas por relevancia
+     */
+    public List<PokemonResponse> suggest(String prefix, int limit) {
+        String query = key(prefix);
+        if (query.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Node current = root;
+        Map<Long, Match> matches = new HashMap<>();
+
+        Node exact = current.find(query, 0);
+        if (exact != null) {
+            exact.collect(0, matches);
+        }
+
+        if (query.length() >= FUZZY_MIN_PREFIX) {
+            int[] firstRow = new int[query.length() + 1];
+            for (int i = 0; i < firstRow.length; i++) {
+                firstRow[i] = i;
+            }
+            current.fuzzy(query, firstRow, matches);
+        }
+
+        List<Match> ranked = new ArrayList<>(matches.values());
+        // Los contadores cambian con cada consulta: se leen una vez para que el orden sea consistente
+        for (Match match : ranked) {
+            match.popularity = popularityOf(match.pokemon.getId());
+        }
+        ranked.sort(Comparator.comparingInt((Match match) -> match.distance)
+                .thenComparing(Comparator.comparingLong((Match match) -> match.popularity).reversed())
+                .thenComparingInt(match -> match.pokemon.getName().length())
+                .thenComparing(match -> match.pokemon.getName()));
+
+        List<PokemonResponse> suggestions = new ArrayList<>(Math.min(limit, ranked.size()));
+        for (int i = 0; i < ranked.size() && i < limit; i++) {
+            suggestions.add(ranked.get(i).pokemon);
+        }
+        return suggestions;
+    }
+
+    long popularityOf(Long id) {
+        LongAdder counter = popularity.get(id);
+        return counter != null ? counter.sum() : 0L;
+    }
+
+    private static String key(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Coincidencia con su distancia de edición al prefijo
+     */
+    private static final class Match {
+        final PokemonResponse pokemon;
+        final int distance;
+        long popularity;
+
+        Match(PokemonResponse pokemon, int distance) {
+            this.pokemon = pokemon;
+            this.distance = distance;
+        }
+    }
+
+    /**
+     * Nodo inmutable del trie; los hijos se guardan ordenados por carácter
+     */
+    private static final class Node {
+        static final Node EMPTY = new Node(new char[0], new Node[0], null);
+
+        final char[] keys;
+        final Node[] children;
+        final PokemonResponse value;
+
+        Node(char[] keys, Node[] children, PokemonResponse value) {
+            this.keys = keys;
+            this.children = children;
+            this.value = value;
+        }
+
+        boolean isEmpty() {
+            return value == null && keys.length == 0;
+        }
+
+        Node child(char c) {
+            int position = Arrays.binarySearch(keys, c);
+            return position >= 0 ? children[position] : null;
+        }
+
+        Node find(String word, int depth) {
+            Node node = this;
+            for (int i = depth; i < word.length() && node != null; i++) {
+                node = node.child(word.charAt(i));
+            }
+            return node;
+        }
+
+        Node put(String word, int depth, PokemonResponse pokemon) {
+            if (depth == word.length()) {
+                return new Node(keys, children, pokemon);
+            }
+
+            char c = word.charAt(depth);
+            int position = Arrays.binarySearch(keys, c);
+            if (position >= 0) {
+                Node[] newChildren = children.clone();
+                newChildren[position] = children[position].put(word, depth + 1, pokemon);
+                return new Node(keys, newChildren, value);
+            }
+
+            int insertAt = -position - 1;
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            newKeys[insertAt] = c;
+            newChildren[insertAt] = EMPTY.put(word, depth + 1, pokemon);
+            System.arraycopy(keys, insertAt, newKeys, insertAt + 1, keys.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+            return new Node(newKeys, newChildren, value);
+        }
+
+        Node remove(String word, int depth) {
+            if (depth == word.length()) {
+                return value == null ? this : new Node(keys, children, null);
+            }
+
+            int position = Arrays.binarySearch(keys, word.charAt(depth));
+            if (position < 0) {
+                return this;
+            }
+
+            Node updated = children[position].remove(word, depth + 1);
+            if (updated == children[position]) {
+                return this;
+            }
+            if (!updated.isEmpty()) {
+                Node[] newChildren = children.clone();
+                newChildren[position] = updated;
+                return new Node(keys, newChildren, value);
+            }
+
+            char[] newKeys = new char[keys.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, position);
+            System.arraycopy(children, 0, newChildren, 0, position);
+            System.arraycopy(keys, position + 1, newKeys, position, keys.length - position - 1);
+            System.arraycopy(children, position + 1, newChildren, position, children.length - position - 1);
+            return new Node(newKeys, newChildren, value);
+        }
+
+        void collect(int distance, Map<Long, Match> matches) {
+            if (value != null) {
+                matches.merge(value.getId(), new Match(value, distance),
+                        (existing, candidate) -> existing.distance <= candidate.distance ? existing : candidate);
+            }
+            for (Node child : children) {
+                child.collect(distance, matches);
+            }
+        }
+
+        /**
+         * Recorre el trie calculando la distancia de Levenshtein entre el prefijo
+         * buscado y cada camino; cuando el camino completo está a distancia
+         * permitida se agregan todos los nombres que cuelgan de él.
+         */
+        void fuzzy(String query, int[] previousRow, Map<Long, Match> matches) {
+            for (int k = 0; k < keys.length; k++) {
+                char c = keys[k];
+                int[] row = new int[previousRow.length];
+                row[0] = previousRow[0] + 1;
+                int best = row[0];
+                for (int i = 1; i < row.length; i++) {
+                    int substitution = previousRow[i - 1] + (query.charAt(i - 1) == c ? 0 : 1);
+                    row[i] = Math.min(substitution, Math.min(row[i - 1] + 1, previousRow[i] + 1));
+                    best = Math.min(best, row[i]);
+                }
+
+                int distance = row[row.length - 1];
+                if (distance <= MAX_DISTANCE) {
+                    children[k].collect(distance, matches);
+                } else if (best <= MAX_DISTANCE) {
+                    children[k].fuzzy(query, row, matches);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.pokemon.application.readmodel;
+
+import com.pokemon.application.dto.response.PokemonResponse;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Índices invertidos comprimidos (Roaring) de tipo y habilidad a IDs de Pokémon
+ *
+ * Cada escritura clona sólo los bitmaps afectados y publica un nuevo estado
+ * inmutable; las consultas trabajan sobre el estado vigente sin bloquear.
+ *
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@Component
+public class PokemonBitmapIndex implements CatalogIndex {
+
+    private volatile State state = State.EMPTY;
+
+    @Override
+    public synchronized void rebuild(CatalogSnapshot snapshot) {
+        RoaringBitmap all = new RoaringBitmap();
+        Map<String, RoaringBitmap> types = new HashMap<>();
+        Map<String, RoaringBitmap> abilities = new HashMap<>();
+
+        for (int i = 0; i < snapshot.size(); i++) {
+            PokemonResponse pokemon = snapshot.entryAt(i);
+            int id = Math.toIntExact(pokemon.getId());
+            all.add(id);
+            addAll(types, pokemon.getTypes(), id);
+            addAll(abilities, pokemon.getAbilities(), id);
+        }
+
+        all.runOptimize();
+        types.values().forEach(RoaringBitmap::runOptimize);
+        abilities.values().forEach(RoaringBitmap::runOptimize);
+        state = new State(all, Map.copyOf(types), Map.copyOf(abilities));
+    }
+
+    @Override
+    public synchronized void onCreated(PokemonResponse pokemon) {
+        int id = Math.toIntExact(pokemon.getId());
+        State current = state;
+        RoaringBitmap all = current.all.clone();
+        all.add(id);
+        state = new State(all,
+                copyWith(current.types, pokemon.getTypes(), bitmap -> { bitmap.add(id); return bitmap; }),
+                copyWith(current.abilities, pokemon.getAbilities(), bitmap -> { bitmap.add(id); return bitmap; }));
+    }
+
+    @Override
+    public synchronized void onDeleted(PokemonResponse pokemon) {
+        int id = Math.toIntExact(pokemon.getId());
+        State current = state;
+        RoaringBitmap all = current.all.clone();
+        all.remove(id);
+        state = new State(all,
+                copyWith(current.types, pokemon.getTypes(), bitmap -> { bitmap.remove(id); return bitmap; }),
+                copyWith(current.abilities, pokemon.getAbilities(), bitmap -> { bitmap.remove(id); return bitmap; }));
+    }
+
+    /**
+     * Evalúa una combinación booleana de tipos y habilidades
+     *
+     * Los criterios vacíos o nulos no restringen el resultado. Sin ningún
+     * criterio se devuelven todos los Pokémon.
+     *
+     * @return bitmap con los IDs que cumplen todos los criterios
+     */
+    public RoaringBitmap evaluate(Collection<String> allTypes, Collection<String> anyTypes, Collection<String> noneTypes,
+                                  Collection<String> allAbilities, Collection<String> anyAbilities,
+                                  Collection<String> noneAbilities) {
+        State current = state;
+        RoaringBitmap result = current.all.clone();
+
+        applyAll(result, current.types, allTypes);
+        applyAny(result, current.types, anyTypes);
+        applyNone(result, current.types, noneTypes);
+        applyAll(result, current.abilities, allAbilities);
+        applyAny(result, current.abilities, anyAbilities);
+        applyNone(result, current.abilities, noneAbilities);
+
+        return result;
+    }
+
+    /**
+     * IDs de los Pokémon de un tipo (bitmap de sólo lectura)
+     */
+    public RoaringBitmap ofType(String type) {
+        return state.types.getOrDefault(normalize(type), State.NONE);
+    }
+
+    /**
+     * IDs de todos los Pokémon del catálogo (bitmap de sólo lectura)
+     */
+    public RoaringBitmap all() {
+        return state.all;
+    }
+
+    private static void applyAll(RoaringBitmap result, Map<String, RoaringBitmap> index, Collection<String> keys) {
+        if (keys == null) {
+            return;
+        }
+        for (String key : keys) {
+            result.and(index.getOrDefault(normalize(key), State.NONE));
+        }
+    }
+
+    private static void applyAny(RoaringBitmap result, Map<String, RoaringBitmap> index, Collection<String> keys) {
+        if (keys == null || keys.isEmpty()) {
+            return;
+        }
+        result.and(union(index, keys));
+    }
+
+    private static void applyNone(RoaringBitmap result, Map<String, RoaringBitmap> index, Collection<String> keys) {
+        if (keys == null || keys.isEmpty()) {
+            return;
+        }
+        result.andNot(union(index, keys));
+    }
+
+    private static RoaringBitmap union(Map<String, RoaringBitmap> index, Collection<String> keys) {
+        return RoaringBitmap.or(keys.stream()
+                .map(key -> index.getOrDefault(normalize(key), State.NONE))
+                .iterator());
+    }
+
+    private static void addAll(Map<String, RoaringBitmap> index, List<String> keys, int id) {
+        if (keys == null) {
+            return;
+        }
+        for (String key : keys) {
+            index.computeIfAbsent(normalize(key), k -> new RoaringBitmap()).add(id);
+        }
+    }
+
+    private static Map<String, RoaringBitmap> copyWith(Map<String, RoaringBitmap> index, List<String> keys,
+                                                       Function<RoaringBitmap, RoaringBitmap> change) {
+        if (keys == null || keys.isEmpty()) {
+            return index;
+        }
+
+        Map<String, RoaringBitmap> copy = new HashMap<>(index);
+        for (String key : keys) {
+            String normalized = normalize(key);
+            RoaringBitmap bitmap = copy.containsKey(normalized) ? copy.get(normalized).clone() : new RoaringBitmap();
+            bitmap = change.apply(bitmap);
+            if (bitmap.isEmpty()) {
+                copy.remove(normalized);
+            } else {
+                copy.put(normalized, bitmap);
+            }
+        }
+        return Map.copyOf(copy);
+    }
+
+    private static String normalize(String key) {
+        return key.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Estado inmutable publicado a los lectores
+     */
+    private static final class State {
+        static final RoaringBitmap NONE = new RoaringBitmap();
+        static final State EMPTY = new State(new RoaringBitmap(), Map.of(), Map.of());
+
+        final RoaringBitmap all;
+        final Map<String, RoaringBitmap> types;
+        final Map<String, RoaringBitmap> abilities;
+
+        State(RoaringBitmap all, Map<String, RoaringBitmap> types, Map<String, RoaringBitmap> abilities) {
+            this.all = all;
+            this.types = types;
+            this.abilities = abilities;
+        }
+    }
+}
@@ -0,0 +1,390 @@
+package com.pokemon.application.readmodel;
+
+import com.pokemon.application.dto.response.PokemonResponse;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Copia columnar del catálogo para consultas de agregación
+ *
+ * Cada métrica es un {@code int[]} (con {@link #NULL} para valores ausentes)
+ * y los tipos y habilidades se codifican con un diccionario: cada fila guarda
+ * sus códigos en un arreglo contiguo indexado por offsets. Las creaciones se
+ * agregan al final sin copiar las columnas (los lectores sólo ven hasta el
+ * tamaño publicado) y las eliminaciones marcan la fila en un bitset; cuando
+ * las filas eliminadas superan un cuarto del total se compacta.
+ *
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@Component
+public class PokemonColumnStore implements CatalogIndex {
+
+    /**
+     * Marca de valor ausente en las columnas de métricas
+     */
+    static final int NULL = Integer.MIN_VALUE;
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * Dimensiones por las que se puede agrupar
+     */
+    public enum Dimension {
+        TYPE, ABILITY
+    }
+
+    /**
+     * Agregados de una métrica para un grupo
+     */
+    public static final class GroupStats {
+        private final String key;
+        private final int count;
+        private final double average;
+        private final int min;
+        private final int max;
+        private final double[] percentiles;
+
+        GroupStats(String key, int count, double average, int min, int max, double[] percentiles) {
+            this.key = key;
+            this.count = count;
+            this.average = average;
+            this.min = min;
+            this.max = max;
+            this.percentiles = percentiles;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public double getAverage() {
+            return average;
+        }
+
+        public int getMin() {
+            return min;
+        }
+
+        public int getMax() {
+            return max;
+        }
+
+        /**
+         * Percentiles en el mismo orden en que se pidieron
+         */
+        public double[] getPercentiles() {
+            return percentiles.clone();
+        }
+    }
+
+    private final Map<Long, Integer> rowById = new HashMap<>();
+    private volatile Columns columns = Columns.empty();
+
+    @Override
+    public synchronized void rebuild(CatalogSnapshot snapshot) {
+        Columns fresh = Columns.empty();
+        rowById.clear();
+        for (int i = 0; i < snapshot.size(); i++) {
+            fresh = append(fresh, snapshot.entryAt(i));
+        }
+        columns = fresh;
+    }
+
+    @Override
+    public synchronized void onCreated(PokemonResponse pokemon) {
+        columns = append(columns, pokemon);
+    }
+
+    @Override
+    public synchronized void onDeleted(PokemonResponse pokemon) {
+        Integer row = rowById.remove(pokemon.getId());
+        if (row == null) {
+            return;
+        }
+        Columns current = columns.withDeleted(row);
+        if (current.deletedCount * 4 > current.rows) {
+            current = compact(current);
+        }
+        columns = current;
+    }
+
+    /**
+     * Cantidad de filas vigentes
+     */
+    public int liveRows() {
+        Columns current = columns;
+        return current.rows - current.deletedCount;
+    }
+
+    /**
+     * Calcula cantidad, promedio, mínimo, máximo y percentiles de una métrica
+     *
+     * Los percentiles se interpolan linealmente entre valores vecinos, igual que
+     * {@code percentile_cont} en SQL. Los valores nulos se ignoran y los grupos
+     * sin valores no aparecen en el resultado.
+     *
+     * @param field métrica a agregar
+     * @param dimension dimensión de agrupamiento, o {@code null} para un único grupo
+     * @param percentiles fracciones en [0, 1]
+     * @return un resultado por grupo, ordenados por clave
+     */
+    public List<GroupStats> aggregate(PokemonRangeIndex.Field field, Dimension dimension, double[] percentiles) {
+        Columns current = columns;
+        int[] values = current.metrics[field.ordinal()];
+
+        if (dimension == null) {
+            int[] buffer = new int[current.rows];
+            int count = 0;
+            for (int row = 0; row < current.rows; row++) {
+                int value = values[row];
+                if (value != NULL && !current.isDeleted(row)) {
+                    buffer[count++] = value;
+                }
+            }
+            return count == 0 ? List.of() : List.of(stats("all", buffer, count, percentiles));
+        }
+
+        Dictionary dictionary = current.dictionaries[dimension.ordinal()];
+        int[] offsets = dictionary.offsets;
+        int[] codes = dictionary.codes;
+
+        int[] counts = new int[dictionary.names.length];
+        for (int row = 0; row < current.rows; row++) {
+            if (values[row] == NULL || current.isDeleted(row)) {
+                continue;
+            }
+            for (int i = offsets[row]; i < offsets[row + 1]; i++) {
+                counts[codes[i]]++;
+            }
+        }
+
+        int[][] buffers = new int[counts.length][];
+        for (int code = 0; code < counts.length; code++) {
+            buffers[code] = new int[counts[code]];
+        }
+        int[] fill = new int[counts.length];
+        for (int row = 0; row < current.rows; row++) {
+            int value = values[row];
+            if (value == NULL || current.isDeleted(row)) {
+                continue;
+            }
+            for (int i = offsets[row]; i < offsets[row + 1]; i++) {
+                int code = codes[i];
+                buffers[code][fill[code]++] = value;
+            }
+        }
+
+        List<GroupStats> result = new ArrayList<>();
+        for (int code = 0; code < counts.length; code++) {
+            if (counts[code] > 0) {
+                result.add(stats(dictionary.names[code], buffers[code], counts[code], percentiles));
+            }
+        }
+        result.sort((a, b) -> a.key.compareTo(b.key));
+        return result;
+    }
+
+    private static GroupStats stats(String key, int[] values, int count, double[] percentiles) {
+        long sum = 0;
+        for (int i = 0; i < count; i++) {
+            sum += values[i];
+        }
+
+        Arrays.sort(values, 0, count);
+        double[] computed = new double[percentiles.length];
+        for (int p = 0; p < percentiles.length; p++) {
+            double position = percentiles[p] * (count - 1);
+            int lower = (int) Math.floor(position);
+            int upper = Math.min(lower + 1, count - 1);
+            computed[p] = values[lower] + (position - lower) * (values[upper] - values[lower]);
+        }
+        return new GroupStats(key, count, (double) sum / count, values[0], values[count - 1], computed);
+    }
+
+    private Columns append(Columns current, PokemonResponse pokemon) {
+        Integer previous = rowById.get(pokemon.getId());
+        if (previous != null) {
+            current = current.withDeleted(previous);
+        }
+        rowById.put(pokemon.getId(), current.rows);
+        return current.withRow(pokemon);
+    }
+
+    private Columns compact(Columns current) {
+        Columns fresh = Columns.empty();
+        rowById.clear();
+        for (int row = 0; row < current.rows; row++) {
+            if (!current.isDeleted(row)) {
+                rowById.put(current.ids[row], fresh.rows);
+                fresh = fresh.withRow(current, row);
+            }
+        }
+        return fresh;
+    }
+
+    private static String normalize(String key) {
+        return key.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Columnas publicadas a los lectores
+     *
+     * Los arreglos pueden tener capacidad de sobra: una fila nueva se escribe
+     * después de {@code rows} (invisible para quien tenga la versión anterior)
+     * y se publica con una nueva instancia. Sólo el bitset de eliminados se
+     * copia en cada eliminación.
+     */
+    private static final class Columns {
+        final int rows;
+        final long[] ids;
+        final int[][] metrics;
+        final Dictionary[] dictionaries;
+        final long[] deleted;
+        final int deletedCount;
+
+        Columns(int rows, long[] ids, int[][] metrics, Dictionary[] dictionaries, long[] deleted, int deletedCount) {
+            this.rows = rows;
+            this.ids = ids;
+            this.metrics = metrics;
+            this.dictionaries = dictionaries;
+            this.deleted = deleted;
+            this.deletedCount = deletedCount;
+        }
+
+        static Columns empty() {
+            int[][] metrics = new int[PokemonRangeIndex.Field.values().length][INITIAL_CAPACITY];
+            Dictionary[] dictionaries = new Dictionary[Dimension.values().length];
+            for (int d = 0; d < dictionaries.length; d++) {
+                dictionaries[d] = Dictionary.empty();
+            }
+            return new Columns(0, new long[INITIAL_CAPACITY], metrics, dictionaries, new long[1], 0);
+        }
+
+        boolean isDeleted(int row) {
+            return (deleted[row >>> 6] & (1L << row)) != 0;
+        }
+
+        Columns withDeleted(int row) {
+            if (isDeleted(row)) {
+                return this;
+            }
+            long[] marked = deleted.clone();
+            marked[row >>> 6] |= 1L << row;
+            return new Columns(rows, ids, metrics, dictionaries, marked, deletedCount + 1);
+        }
+
+        Columns withRow(PokemonResponse pokemon) {
+            int[] values = new int[metrics.length];
+            for (PokemonRangeIndex.Field field : PokemonRangeIndex.Field.values()) {
+                Integer value = field.valueOf(pokemon);
+                values[field.ordinal()] = value != null ? value : NULL;
+            }
+            Dictionary types = dictionaries[Dimension.TYPE.ordinal()].withRow(rows, pokemon.getTypes());
+            Dictionary abilities = dictionaries[Dimension.ABILITY.ordinal()].withRow(rows, pokemon.getAbilities());
+            return withRow(pokemon.getId(), values, types, abilities);
+        }
+
+        Columns withRow(Columns source, int row) {
+            int[] values = new int[metrics.length];
+            for (int m = 0; m < metrics.length; m++) {
+                values[m] = source.metrics[m][row];
+            }
+            Dictionary types = dictionaries[Dimension.TYPE.ordinal()]
+                    .withRow(rows, source.dictionaries[Dimension.TYPE.ordinal()].namesAt(row));
+            Dictionary abilities = dictionaries[Dimension.ABILITY.ordinal()]
+                    .withRow(rows, source.dictionaries[Dimension.ABILITY.ordinal()].namesAt(row));
+            return withRow(source.ids[row], values, types, abilities);
+        }
+
+        private Columns withRow(long id, int[] values, Dictionary types, Dictionary abilities) {
+            long[] newIds = ids.length > rows ? ids : Arrays.copyOf(ids, ids.length * 2);
+            int[][] newMetrics = metrics;
+            if (metrics[0].length <= rows) {
+                newMetrics = new int[metrics.length][];
+                for (int m = 0; m < metrics.length; m++) {
+                    newMetrics[m] = Arrays.copyOf(metrics[m], metrics[m].length * 2);
+                }
+            }
+            newIds[rows] = id;
+            for (int m = 0; m < values.length; m++) {
+                newMetrics[m][rows] = values[m];
+            }
+            long[] newDeleted = deleted.length * 64 > rows ? deleted : Arrays.copyOf(deleted, deleted.length * 2);
+
+            Dictionary[] newDictionaries = new Dictionary[Dimension.values().length];
+            newDictionaries[Dimension.TYPE.ordinal()] = types;
+            newDictionaries[Dimension.ABILITY.ordinal()] = abilities;
+            return new Columns(rows + 1, newIds, newMetrics, newDictionaries, newDeleted, deletedCount);
+        }
+    }
+
+    /**
+     * Columna multivalor codificada con diccionario
+     *
+     * Los códigos de la fila {@code r} ocupan {@code codes[offsets[r]..offsets[r + 1])}.
+     */
+    private static final class Dictionary {
+        final String[] names;
+        final Map<String, Integer> codeByName;
+        final int[] offsets;
+        final int[] codes;
+
+        Dictionary(String[] names, Map<String, Integer> codeByName, int[] offsets, int[] codes) {
+            this.names = names;
+            this.codeByName = codeByName;
+            this.offsets = offsets;
+            this.codes = codes;
+        }
+
+        static Dictionary empty() {
+            return new Dictionary(new String[0], Map.of(), new int[INITIAL_CAPACITY + 1], new int[INITIAL_CAPACITY]);
+        }
+
+        List<String> namesAt(int row) {
+            List<String> result = new ArrayList<>(offsets[row + 1] - offsets[row]);
+            for (int i = offsets[row]; i < offsets[row + 1]; i++) {
+                result.add(names[codes[i]]);
+            }
+            return result;
+        }
+
+        Dictionary withRow(int row, List<String> values) {
+            String[] newNames = names;
+            Map<String, Integer> newCodeByName = codeByName;
+            int start = offsets[row];
+            int length = values != null ? values.size() : 0;
+
+            int[] newOffsets = offsets.length > row + 1 ? offsets : Arrays.copyOf(offsets, offsets.length * 2);
+            int[] newCodes = codes.length >= start + length
+                    ? codes
+                    : Arrays.copyOf(codes, Math.max(codes.length * 2, start + length));
+
+            for (int i = 0; i < length; i++) {
+                String name = normalize(values.get(i));
+                Integer code = newCodeByName.get(name);
+                if (code == null) {
+                    code = newNames.length;
+                    newNames = Arrays.copyOf(newNames, newNames.length + 1);
+                    newNames[code] = name;
+                    Map<String, Integer> copy = new HashMap<>(newCodeByName);
+                    copy.put(name, code);
+                    newCodeByName = copy;
+                }
+                newCodes[start + i] = code;
+            }
+            newOffsets[row + 1] = start + length;
+            return new Dictionary(newNames, newCodeByName, newOffsets, newCodes);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.pokemon.application.readmodel;
+
+import com.pokemon.application.dto.response.PokemonResponse;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Rankings por altura, peso y experiencia base, globales y por tipo
+ *
+ * Cada ranking es un {@link ConcurrentSkipListMap} ordenado por valor
+ * descendente (con desempate por ID), por lo que las creaciones y
+ * eliminaciones cuestan O(log n) y leer el top-K sólo recorre los primeros
+ * K nodos sin bloquear. Los Pokémon sin valor en la métrica no participan.
+ *
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@Component
+public class PokemonLeaderboardIndex implements CatalogIndex {
+
+    private volatile Boards boards = new Boards();
+
+    @Override
+    public synchronized void rebuild(CatalogSnapshot snapshot) {
+        Boards fresh = new Boards();
+        for (int i = 0; i < snapshot.size(); i++) {
+            fresh.add(snapshot.entryAt(i));
+        }
+        boards = fresh;
+    }
+
+    @Override
+    public synchronized void onCreated(PokemonResponse pokemon) {
+        boards.add(pokemon);
+    }
+
+    @Override
+    public synchronized void onDeleted(PokemonResponse pokemon) {
+        boards.remove(pokemon);
+    }
+
+    /**
+     * Los {@code k} Pokémon con mayor valor en la métrica
+     *
+     * @param field métrica del ranking
+     * @param type tipo por el que filtrar, o {@code null} para el ranking global
+     * @param k cantidad de posiciones
+     * @return Pokémon ordenados de mayor a menor valor
+     */
+    public List<PokemonResponse> top(PokemonRangeIndex.Field field, String type, int k) {
+        ConcurrentNavigableMap<Long, PokemonResponse> board = type == null
+                ? boards.global.get(field)
+                : boards.byType.get(field).get(normalize(type));
+        if (board == null || k <= 0) {
+            return List.of();
+        }
+
+        List<PokemonResponse> result = new ArrayList<>(Math.min(k, 64));
+        for (PokemonResponse pokemon : board.values()) {
+            if (result.size() >= k) {
+                break;
+            }
+            result.add(pokemon);
+        }
+        return result;
+    }
+
+    /**
+     * Clave de orden: valor descendente y, a igual valor, ID ascendente
+     */
+    static long key(int value, long id) {
+        return ((long) (Integer.MAX_VALUE - value) << 32) | (id & 0xFFFFFFFFL);
+    }
+
+    private static String normalize(String type) {
+        return type.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Rankings vigentes, por métrica
+     */
+    private static final class Boards {
+        final Map<PokemonRangeIndex.Field, ConcurrentSkipListMap<Long, PokemonResponse>> global =
+                new EnumMap<>(PokemonRangeIndex.Field.class);
+        final Map<PokemonRangeIndex.Field, Map<String, ConcurrentSkipListMap<Long, PokemonResponse>>> byType =
+                new EnumMap<>(PokemonRangeIndex.Field.class);
+
+        Boards() {
+            for (PokemonRangeIndex.Field field : PokemonRangeIndex.Field.values()) {
+                global.put(field, new ConcurrentSkipListMap<>());
+                byType.put(field, new ConcurrentHashMap<>());
+            }
+        }
+
+        void add(PokemonResponse pokemon) {
+            for (PokemonRangeIndex.Field field : PokemonRangeIndex.Field.values()) {
+                Integer value = field.valueOf(pokemon);
+                if (value == null) {
+                    continue;
+                }
+                long key = key(value, pokemon.getId());
+                global.get(field).put(key, pokemon);
+                if (pokemon.getTypes() != null) {
+                    for (String type : pokemon.getTypes()) {
+                        byType.get(field).computeIfAbsent(normalize(type), t -> new ConcurrentSkipListMap<>())
+                                .put(key, pokemon);
+                    }
+                }
+            }
+        }
+
+        void remove(PokemonResponse pokemon) {
+            for (PokemonRangeIndex.Field field : PokemonRangeIndex.Field.values()) {
+                Integer value = field.valueOf(pokemon);
+                if (value == null) {
+                    continue;
+                }
+                long key = key(value, pokemon.getId());
+                global.get(field).remove(key);
+                if (pokemon.getTypes() != null) {
+                    for (String type : pokemon.getTypes()) {
+                        ConcurrentSkipListMap<Long, PokemonResponse> board = byType.get(field).get(normalize(type));
+                        if (board != null) {
+                            board.remove(key);
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,346 @@
+package com.pokemon.application.readmodel;
+
+import com.pokemon.application.dto.response.PokemonResponse;
+import org.roaringbitmap.IntConsumer;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Índices de columnas numéricas (altura, peso y experiencia base) para filtros por rango
+ *
+ * Cada columna guarda sus valores ordenados en un {@code int[]} con los IDs en
+ * un arreglo paralelo: un rango se resuelve con dos búsquedas binarias y los
+ * rangos de distintas columnas se intersectan como bitmaps. El mismo orden
+ * sirve para paginar ordenado por la columna sin reordenar en cada consulta.
+ *
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@Component
+public class PokemonRangeIndex implements CatalogIndex {
+
+    /**
+     * Columnas indexadas
+     */
+    public enum Field {
+        HEIGHT("height", PokemonResponse::getHeight),
+        WEIGHT("weight", PokemonResponse::getWeight),
+        BASE_EXPERIENCE("baseExperience", PokemonResponse::getBaseExperience);
+
+        private final String property;
+        private final Function<PokemonResponse, Integer> extractor;
+
+        Field(String property, Function<PokemonResponse, Integer> extractor) {
+            this.property = property;
+            this.extractor = extractor;
+        }
+
+        public String getProperty() {
+            return property;
+        }
+
+        public Integer valueOf(PokemonResponse pokemon) {
+            return extractor.apply(pokemon);
+        }
+
+        /**
+         * Busca la columna por el nombre de la propiedad del DTO
+         */
+        public static Optional<Field> fromProperty(String property) {
+            for (Field field : values()) {
+                if (field.property.equals(property)) {
+                    return Optional.of(field);
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    @Override
+    public synchronized void rebuild(CatalogSnapshot catalog) {
+        Column[] fresh = new Column[Field.values().length];
+        RoaringBitmap ids = new RoaringBitmap();
+        for (int i = 0; i < catalog.size(); i++) {
+            ids.add(Math.toIntExact(catalog.idAt(i)));
+        }
+        for (Field field : Field.values()) {
+            fresh[field.ordinal()] = Column.build(catalog, field);
+        }
+        snapshot = new Snapshot(fresh, ids);
+    }
+
+    @Override
+    public synchronized void onCreated(PokemonResponse pokemon) {
+        int id = Math.toIntExact(pokemon.getId());
+        Snapshot current = snapshot;
+        Column[] updated = current.columns.clone();
+        for (Field field : Field.values()) {
+            updated[field.ordinal()] = updated[field.ordinal()].with(field.valueOf(pokemon), id);
+        }
+        RoaringBitmap ids = current.all.clone();
+        ids.add(id);
+        snapshot = new Snapshot(updated, ids);
+    }
+
+    @Override
+    public synchronized void onDeleted(PokemonResponse pokemon) {
+        int id = Math.toIntExact(pokemon.getId());
+        Snapshot current = snapshot;
+        Column[] updated = current.columns.clone();
+        for (Field field : Field.values()) {
+            updated[field.ordinal()] = updated[field.ordinal()].without(field.valueOf(pokemon), id);
+        }
+        RoaringBitmap ids = current.all.clone();
+        ids.remove(id);
+        snapshot = new Snapshot(updated, ids);
+    }
+
+    /**
+     * Estado actual del índice
+     *
+     * Una consulta que combina varias columnas debe usar un mismo snapshot para
+     * no mezclar versiones si entre medio se crea o borra un Pokémon.
+     */
+    public Snapshot snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * IDs cuyo valor en la columna está dentro del rango, según el estado actual
+     *
+     * @see Snapshot#range
+     */
+    public RoaringBitmap range(Field field, Integer min, Integer max) {
+        return snapshot.range(field, min, max);
+    }
+
+    /**
+     * Columnas e IDs del catálogo, publicados juntos e inmutables
+     */
+    public static final class Snapshot {
+        static final Snapshot EMPTY = new Snapshot(emptyColumns(), new RoaringBitmap());
+
+        private final Column[] columns;
+        private final RoaringBitmap all;
+
+        private Snapshot(Column[] columns, RoaringBitmap all) {
+            this.columns = columns;
+            this.all = all;
+        }
+
+        /**
+         * IDs cuyo valor en la columna está dentro del rango (extremos incluidos)
+         *
+         * @param min mínimo, o {@code null} para no acotar
+         * @param max máximo, o {@code null} para no acotar
+         */
+        public RoaringBitmap range(Field field, Integer min, Integer max) {
+            Column column = columns[field.ordinal()];
+            int from = min != null ? column.lowerBound(min) : 0;
+            int to = max != null ? column.upperBound(max) : column.values.length;
+
+            RoaringBitmap result = new RoaringBitmap();
+            if (from < to) {
+                result.addN(column.ids, from, to - from);
+            }
+            return result;
+        }
+
+        /**
+         * IDs de todo el catálogo
+         */
+        public RoaringBitmap all() {
+            return all.clone();
+        }
+
+        /**
+         * Recorre los IDs incluidos en {@code matches} en el orden de la columna
+         *
+         * Igual que PostgreSQL, los valores nulos van al final en orden ascendente
+         * y al principio en orden descendente.
+         *
+         * @param offset cantidad de coincidencias a saltear
+         * @param limit cantidad máxima de IDs a entregar
+         */
+        public void forEachSorted(Field field, boolean descending, RoaringBitmap matches,
+                                  long offset, int limit, IntConsumer consumer) {
+            Column column = columns[field.ordinal()];
+            long[] skipped = {0};
+            int[] taken = {0};
+
+            IntConsumer visitor = id -> {
+                if (taken[0] >= limit || !matches.contains(id)) {
+                    return;
+                }
+                if (skipped[0] < offset) {
+                    skipped[0]++;
+                    return;
+                }
+                taken[0]++;
+                consumer.accept(id);
+            };
+
+            if (descending) {
+                for (int id : column.nullIds) {
+                    visitor.accept(id);
+                }
+                for (int i = column.ids.length - 1; i >= 0 && taken[0] < limit; i--) {
+                    visitor.accept(column.ids[i]);
+                }
+            } else {
+                for (int i = 0; i < column.ids.length && taken[0] < limit; i++) {
+                    visitor.accept(column.ids[i]);
+                }
+                for (int id : column.nullIds) {
+                    visitor.accept(id);
+                }
+            }
+        }
+    }
+
+    private static Column[] emptyColumns() {
+        Column[] empty = new Column[Field.values().length];
+        Arrays.fill(empty, Column.EMPTY);
+        return empty;
+    }
+
+    /**
+     * Columna inmutable: valores ordenados (con desempate por ID) e IDs paralelos
+     */
+    private static final class Column {
+        static final Column EMPTY = new Column(new int[0], new int[0], new int[0]);
+
+        final int[] values;
+        final int[] ids;
+        final int[] nullIds;
+
+        Column(int[] values, int[] ids, int[] nullIds) {
+            this.values = values;
+            this.ids = ids;
+            this.nullIds = nullIds;
+        }
+
+        static Column build(CatalogSnapshot snapshot, Field field) {
+            long[] packed = new long[snapshot.size()];
+            int[] nulls = new int[snapshot.size()];
+            int count = 0;
+            int nullCount = 0;
+
+            for (int i = 0; i < snapshot.size(); i++) {
+                int id = Math.toIntExact(snapshot.idAt(i));
+                Integer value = field.valueOf(snapshot.entryAt(i));
+                if (value == null) {
+                    nulls[nullCount++] = id;
+                } else {
+                    packed[count++] = pack(value, id);
+                }
+            }
+
+            Arrays.sort(packed, 0, count);
+            int[] values = new int[count];
+            int[] ids = new int[count];
+            for (int i = 0; i < count; i++) {
+                values[i] = (int) (packed[i] >> 32);
+                ids[i] = (int) packed[i];
+            }
+            return new Column(values, ids, Arrays.copyOf(nulls, nullCount));
+        }
+
+        Column with(Integer value, int id) {
+            if (value == null) {
+                int[] nulls = Arrays.copyOf(nullIds, nullIds.length + 1);
+                nulls[nullIds.length] = id;
+                Arrays.sort(nulls);
+                return new Column(values, ids, nulls);
+            }
+
+            int position = insertionPoint(value, id);
+            int[] newValues = new int[values.length + 1];
+            int[] newIds = new int[ids.length + 1];
+            System.arraycopy(values, 0, newValues, 0, position);
+            System.arraycopy(ids, 0, newIds, 0, position);
+            newValues[position] = value;
+            newIds[position] = id;
+            System.arraycopy(values, position, newValues, position + 1, values.length - position);
+            System.arraycopy(ids, position, newIds, position + 1, ids.length - position);
+            return new Column(newValues, newIds, nullIds);
+        }
+
+        Column without(Integer value, int id) {
+            if (value == null) {
+                int[] nulls = Arrays.stream(nullIds).filter(existing -> existing != id).toArray();
+                return new Column(values, ids, nulls);
+            }
+
+            int position = insertionPoint(value, id);
+            if (position >= ids.length || ids[position] != id || values[position] != value) {
+                return this;
+            }
+            int[] newValues = new int[values.length - 1];
+            int[] newIds = new int[ids.length - 1];
+            System.arraycopy(values, 0, newValues, 0, position);
+            System.arraycopy(ids, 0, newIds, 0, position);
+            System.arraycopy(values, position + 1, newValues, position, values.length - position - 1);
+            System.arraycopy(ids, position + 1, newIds, position, ids.length - position - 1);
+            return new Column(newValues, newIds, nullIds);
+        }
+
+        /**
+         * Primera posición con valor >= {@code min}
+         */
+        int lowerBound(int min) {
+            int low = 0;
+            int high = values.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (values[mid] < min) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * Primera posición con valor > {@code max}
+         */
+        int upperBound(int max) {
+            int low = 0;
+            int high = values.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (values[mid] <= max) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private int insertionPoint(int value, int id) {
+            int low = lowerBound(value);
+            int high = upperBound(value);
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (ids[mid] < id) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private static long pack(int value, int id) {
+            return ((long) value << 32) | (id & 0xFFFFFFFFL);
+        }
+    }
+}
@@ -0,0 +1,354 @@
+package com.pokemon.application.readmodel;
+
+import com.pokemon.application.dto.response.PokemonResponse;
+import com.pokemon.application.event.PokemonCreatedEvent;
+import com.pokemon.application.event.PokemonDeletedEvent;
+import com.pokemon.application.mapper.PokemonMapper;
+import com.pokemon.domain.entity.Pokemon;
+import com.pokemon.domain.repository.PokemonRepository;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * Modelo de lectura en memoria con el catálogo completo de Pokémon
+ *
+ * Se carga al iniciar la aplicación y se actualiza después del commit de cada
+ * creación o eliminación. Mientras está listo, {@code PokemonService} atiende
+ * las lecturas desde aquí sin consultar la base de datos. Los {@link CatalogIndex}
+ * registrados se mantienen sincronizados con cada cambio.
+ *
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@Component
+@Slf4j
+public class PokemonReadModel {
+
+    private static final Map<String, Comparator<PokemonResponse>> SORTABLE_FIELDS = Map.of(
+            "id", comparing(PokemonResponse::getId),
+            "externalId", comparing(PokemonResponse::getExternalId),
+            "name", comparing(PokemonResponse::getName),
+            "height", comparing(PokemonResponse::getHeight),
+            "weight", comparing(PokemonResponse::getWeight),
+            "baseExperience", comparing(PokemonResponse::getBaseExperience)
+    );
+
+    private final PokemonRepository pokemonRepository;
+    private final PokemonMapper pokemonMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final List<CatalogIndex> indexes;
+    private final boolean enabled;
+
+    private volatile CatalogSnapshot snapshot = CatalogSnapshot.empty();
+    private volatile boolean loaded;
+
+    public PokemonReadModel(PokemonRepository pokemonRepository,
+                            PokemonMapper pokemonMapper,
+                            PlatformTransactionManager transactionManager,
+                            List<CatalogIndex> indexes,
+                            @Value("${pokemon.read-model.enabled:true}") boolean enabled) {
+        this.pokemonRepository = pokemonRepository;
+        this.pokemonMapper = pokemonMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.indexes = List.copyOf(indexes);
+        this.enabled = enabled;
+    }
+
+    /**
+     * Carga el catálogo completo cuando la aplicación está lista
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            log.info("Modelo de lectura en memoria deshabilitado");
+            return;
+        }
+        reload();
+    }
+
+    /**
+     * Vuelve a cargar el catálogo completo desde la base de datos
+     */
+    public synchronized void reload() {
+        long start = System.nanoTime();
+
+        CatalogSnapshot fresh = transactionTemplate.execute(status -> {
+            List<Pokemon> all = pokemonRepository.findAll(Sort.by("id"));
+            List<PokemonResponse> responses = new ArrayList<>(all.size());
+            List<Long> versions = new ArrayList<>(all.size());
+            for (Pokemon pokemon : all) {
+                responses.add(pokemonMapper.toResponse(pokemon));
+                versions.add(pokemon.getVersion());
+            }
+            return CatalogSnapshot.of(responses, versions);
+        });
+
+        indexes.forEach(index -> index.rebuild(fresh));
+        snapshot = fresh;
+        loaded = true;
+        log.info("Modelo de lectura cargado con {} Pokémon en {} ms",
+                fresh.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Indica si el modelo puede atender lecturas
+     */
+    public boolean isReady() {
+        return enabled && loaded;
+    }
+
+    public CatalogSnapshot snapshot() {
+        return snapshot;
+    }
+
+    public Optional<PokemonResponse> findById(Long id) {
+        return snapshot.findById(id);
+    }
+
+    public Optional<PokemonResponse> findByName(String name) {
+        return snapshot.findByName(name);
+    }
+
+    /**
+     * Obtiene una página del catálogo completo
+     *
+     * Sin ordenamiento se recorre el catálogo en orden de ID; con un solo campo
+     * se usa el orden precalculado del snapshot, sin copiar ni reordenar.
+     *
+     * @param pageable configuración de paginación
+     * @return la página, o vacío si el ordenamiento pedido no se soporta en memoria
+     */
+    public Optional<Page<PokemonResponse>> findAll(Pageable pageable) {
+        CatalogSnapshot current = snapshot;
+        Sort sort = pageable.getSort();
+        if (sort.isUnsorted()) {
+            return Optional.of(page(current, null, current.size(), pageable));
+        }
+
+        Comparator<PokemonResponse> comparator = comparatorFor(sort);
+        if (comparator == null) {
+            return Optional.empty();
+        }
+        int[] positions = sort.stream().count() == 1
+                ? current.positionsSortedBy(sort.toString(), comparator)
+                : sort(current, IntStream.range(0, current.size()).toArray(), comparator);
+        return Optional.of(page(current, positions, positions.length, pageable));
+    }
+
+    /**
+     * Obtiene una página de los Pokémon de un tipo
+     *
+     * @return la página, o vacío si el ordenamiento pedido no se soporta en memoria
+     */
+    public Optional<Page<PokemonResponse>> findByType(String type, Pageable pageable) {
+        CatalogSnapshot current = snapshot;
+        return sorted(current, current.positionsOfType(type), pageable.getSort())
+                .map(positions -> page(current, positions, positions.length, pageable));
+    }
+
+    /**
+     * Obtiene una página de los Pokémon cuyo nombre contiene el texto
+     *
+     * @return la página, o vacío si el ordenamiento pedido no se soporta en memoria
+     */
+    public Optional<Page<PokemonResponse>> searchByName(String text, Pageable pageable) {
+        CatalogSnapshot current = snapshot;
+        return sorted(current, current.positionsContaining(text), pageable.getSort())
+                .map(positions -> page(current, positions, positions.length, pageable));
+    }
+
+    /**
+     * Aplica una creación ya confirmada en la base de datos
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public synchronized void onPokemonCreated(PokemonCreatedEvent event) {
+        if (!isReady()) {
+            return;
+        }
+        PokemonResponse created = event.getPokemon();
+        snapshot.findById(created.getId()).ifPresent(previous -> indexes.forEach(index -> index.onDeleted(previous)));
+        snapshot = snapshot.with(created, event.getVersion());
+        indexes.forEach(index -> index.onCreated(created));
+        log.debug("Modelo de lectura actualizado con Pokémon {}", event.getPokemon().getId());
+    }
+
+    /**
+     * Aplica una eliminación ya confirmada en la base de datos
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public synchronized void onPokemonDeleted(PokemonDeletedEvent event) {
+        if (!isReady()) {
+            return;
+        }
+        Optional<PokemonResponse> deleted = snapshot.findById(event.getId());
+        if (deleted.isEmpty()) {
+            return;
+        }
+        snapshot = snapshot.without(event.getId());
+        indexes.forEach(index -> index.onDeleted(deleted.get()));
+        log.debug("Pokémon {} eliminado del modelo de lectura", event.getId());
+    }
+
+    /**
+     * Vuelve a leer un Pokémon de la base de datos y aplica su estado actual
+     *
+     * Se usa para los cambios confirmados por otra instancia, de los que solo se
+     * conoce el ID: si el Pokémon existe se agrega o reemplaza, y si no, se quita.
+     */
+    public synchronized void refresh(Long id) {
+        if (!isReady()) {
+            return;
+        }
+        PokemonCreatedEvent current = transactionTemplate.execute(status -> pokemonRepository.findById(id)
+                .map(pokemon -> new PokemonCreatedEvent(pokemonMapper.toResponse(pokemon), pokemon.getVersion()))
+                .orElse(null));
+        if (current != null) {
+            onPokemonCreated(current);
+        } else {
+            onPokemonDeleted(new PokemonDeletedEvent(id));
+        }
+    }
+
+    /**
+     * Compara el catálogo en memoria contra la base de datos (IDs y versiones)
+     *
+     * @return reporte con las diferencias encontradas
+     */
+    public ConsistencyReport checkConsistency() {
+        CatalogSnapshot current = snapshot;
+        Map<Long, Long> databaseVersions = new HashMap<>();
+        for (Object[] row : pokemonRepository.findAllIdsAndVersions()) {
+            databaseVersions.put((Long) row[0], row[1] != null ? (Long) row[1] : 0L);
+        }
+
+        List<Long> missing = new ArrayList<>();
+        List<Long> stale = new ArrayList<>();
+        List<Long> unexpected = new ArrayList<>();
+        for (int i = 0; i < current.size(); i++) {
+            Long databaseVersion = databaseVersions.remove(current.idAt(i));
+            if (databaseVersion == null) {
+                unexpected.add(current.idAt(i));
+            } else if (databaseVersion != current.versionAt(i)) {
+                stale.add(current.idAt(i));
+            }
+        }
+        missing.addAll(databaseVersions.keySet());
+
+        return ConsistencyReport.builder()
+                .memorySize(current.size())
+                .missingIds(missing)
+                .staleIds(stale)
+                .unexpectedIds(unexpected)
+                .build();
+    }
+
+    /**
+     * Verificación periódica: si hay diferencias, recarga el catálogo completo
+     */
+    @Scheduled(fixedDelayString = "${pokemon.read-model.consistency-check-interval:PT5M}",
+               initialDelayString = "${pokemon.read-model.consistency-check-interval:PT5M}")
+    public void verifyConsistency() {
+        if (!isReady()) {
+            return;
+        }
+
+        ConsistencyReport report = checkConsistency();
+        if (!report.isConsistent()) {
+            log.warn("Modelo de lectura inconsistente (faltantes: {}, desactualizados: {}, sobrantes: {}); recargando",
+                    report.getMissingIds().size(), report.getStaleIds().size(), report.getUnexpectedIds().size());
+            reload();
+        }
+    }
+
+    /**
+     * Ordena las posiciones encontradas (que vienen en orden de ID)
+     */
+    private static Optional<int[]> sorted(CatalogSnapshot current, int[] positions, Sort sort) {
+        if (sort.isUnsorted()) {
+            return Optional.of(positions);
+        }
+        Comparator<PokemonResponse> comparator = comparatorFor(sort);
+        return comparator == null ? Optional.empty() : Optional.of(sort(current, positions, comparator));
+    }
+
+    private static int[] sort(CatalogSnapshot current, int[] positions, Comparator<PokemonResponse> comparator) {
+        return IntStream.of(positions).boxed()
+                .sorted((a, b) -> comparator.compare(current.entryAt(a), current.entryAt(b)))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    /**
+     * Arma la página leyendo solo las entradas que incluye
+     *
+     * @param positions posiciones en el orden pedido, o {@code null} para el orden del snapshot
+     * @param total cantidad de coincidencias
+     */
+    private static Page<PokemonResponse> page(CatalogSnapshot current, int[] positions, int total, Pageable pageable) {
+        int from = pageable.isUnpaged() ? 0 : (int) Math.min(pageable.getOffset(), total);
+        int to = pageable.isUnpaged() ? total : (int) Math.min(pageable.getOffset() + pageable.getPageSize(), total);
+        List<PokemonResponse> content = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            content.add(current.entryAt(positions != null ? positions[i] : i));
+        }
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    private static Comparator<PokemonResponse> comparatorFor(Sort sort) {
+        Comparator<PokemonResponse> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<PokemonResponse> field = SORTABLE_FIELDS.get(order.getProperty());
+            if (field == null) {
+                return null;
+            }
+            // Igual que PostgreSQL: los nulos van al final en ASC y al principio en DESC
+            field = order.isDescending() ? field.reversed() : field;
+            comparator = comparator == null ? field : comparator.thenComparing(field);
+        }
+        return comparator == null ? null : comparator.thenComparing(comparing(PokemonResponse::getId));
+    }
+
+    private static <T extends Comparable<? super T>> Comparator<PokemonResponse> comparing(
+            Function<PokemonResponse, T> extractor) {
+        return Comparator.comparing(extractor, Comparator.nullsLast(Comparator.naturalOrder()));
+    }
+
+    /**
+     * Resultado de la verificación de consistencia contra la base de datos
+     */
+    @lombok.Value
+    @Builder
+    public static class ConsistencyReport {
+        int memorySize;
+        List<Long> missingIds;
+        List<Long> staleIds;
+        List<Long> unexpectedIds;
+
+        public boolean isConsistent() {
+            return missingIds.isEmpty() && staleIds.isEmpty() && unexpectedIds.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package com.pokemon.application.readmodel;
+
+import com.pokemon.application.dto.response.PokemonResponse;
+import com.pokemon.domain.model.PokemonType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Búsqueda de Pokémon similares por fuerza bruta sobre una matriz de características
+ *
+ * Cada Pokémon se representa con altura, peso y experiencia base (en escala
+ * logarítmica y estandarizadas) guardadas columna por columna en un único
+ * {@code float[]}, más una máscara de bits con sus tipos. La distancia es la
+ * euclídea al cuadrado más una penalización proporcional a la disimilitud de
+ * Jaccard entre los tipos. El bucle principal recorre arreglos primitivos
+ * contiguos sin ramas, lo que permite al JIT vectorizarlo.
+ *
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@Component
+public class PokemonSimilarityIndex implements CatalogIndex {
+
+    private static final int FEATURES = 3;
+
+    private final float typeWeight;
+    private final ThreadLocal<float[]> scratch = ThreadLocal.withInitial(() -> new float[0]);
+
+    private volatile Matrix matrix = Matrix.build(new PokemonResponse[0]);
+
+    public PokemonSimilarityIndex(@Value("${pokemon.similarity.type-weight:1.0}") float typeWeight) {
+        this.typeWeight = typeWeight;
+    }
+
+    @Override
+    public synchronized void rebuild(CatalogSnapshot snapshot) {
+        PokemonResponse[] entries = new PokemonResponse[snapshot.size()];
+        for (int i = 0; i < entries.length; i++) {
+            entries[i] = snapshot.entryAt(i);
+        }
+        matrix = Matrix.build(entries);
+    }
+
+    @Override
+    public synchronized void onCreated(PokemonResponse pokemon) {
+        PokemonResponse[] entries = matrix.entries;
+        int position = matrix.position(pokemon.getId());
+        PokemonResponse[] updated;
+        if (position >= 0) {
+            updated = entries.clone();
+            updated[position] = pokemon;
+        } else {
+            int insertAt = -position - 1;
+            updated = new PokemonResponse[entries.length + 1];
+            System.arraycopy(entries, 0, updated, 0, insertAt);
+            updated[insertAt] = pokemon;
+            System.arraycopy(entries, insertAt, updated, insertAt + 1, entries.length - insertAt);
+        }
+        matrix = Matrix.build(updated);
+    }
+
+    @Override
+    public synchronized void onDeleted(PokemonResponse pokemon) {
+        int position = matrix.position(pokemon.getId());
+        if (position < 0) {
+            return;
+        }
+        PokemonResponse[] entries = matrix.entries;
+        PokemonResponse[] updated = new PokemonResponse[entries.length - 1];
+        System.arraycopy(entries, 0, updated, 0, position);
+        System.arraycopy(entries, position + 1, updated, position, entries.length - position - 1);
+        matrix = Matrix.build(updated);
+    }
+
+    /**
+     * Indica si el Pokémon está indexado
+     */
+    public boolean contains(Long id) {
+        return matrix.position(id) >= 0;
+    }
+
+    /**
+     * Busca los {@code k} Pokémon más cercanos al indicado (excluyéndolo)
+     *
+     * @param id ID del Pokémon de referencia
+     * @param k cantidad de vecinos
+     * @return vecinos ordenados del más cercano al más lejano; vacío si el ID no está indexado
+     */
+    public List<Neighbor> nearest(Long id, int k) {
+        Matrix current = matrix;
+        int query = current.position(id);
+        if (query < 0 || k <= 0) {
+            return List.of();
+        }
+
+        int n = current.size;
+        float[] distances = scratch(n);
+        float[] features = current.features;
+        squaredDistances(features, n, features[query], features[n + query], features[2 * n + query], distances);
+
+        int queryMask = current.typeMasks[query];
+        int capacity = Math.min(k, n - 1);
+        float[] heapScores = new float[capacity];
+        int[] heapRows = new int[capacity];
+        int heapSize = 0;
+
+        for (int row = 0; row < n; row++) {
+            if (row == query) {
+                continue;
+            }
+            float score = distances[row] + typeWeight * typeDissimilarity(queryMask, current.typeMasks[row]);
+            if (heapSize < capacity) {
+                heapScores[heapSize] = score;
+                heapRows[heapSize] = row;
+                siftUp(heapScores, heapRows, heapSize++);
+            } else if (capacity > 0 && score < heapScores[0]) {
+                heapScores[0] = score;
+                heapRows[0] = row;
+                siftDown(heapScores, heapRows, heapSize);
+            }
+        }
+
+        Neighbor[] result = new Neighbor[heapSize];
+        for (int i = heapSize - 1; i >= 0; i--) {
+            int row = heapRows[0];
+            result[i] = new Neighbor(current.entries[row], heapScores[0], current.typeMasks[row] & queryMask);
+            heapScores[0] = heapScores[i];
+            heapRows[0] = heapRows[i];
+            siftDown(heapScores, heapRows, i);
+        }
+        return Arrays.asList(result);
+    }
+
+    /**
+     * Núcleo vectorizable: distancia euclídea al cuadrado contra todas las filas
+     */
+    static void squaredDistances(float[] features, int n, float height, float weight, float experience, float[] out) {
+        for (int i = 0; i < n; i++) {
+            float dh = features[i] - height;
+            float dw = features[n + i] - weight;
+            float de = features[2 * n + i] - experience;
+            out[i] = dh * dh + dw * dw + de * de;
+        }
+    }
+
+    private static float typeDissimilarity(int a, int b) {
+        int union = Integer.bitCount(a | b);
+        return union == 0 ? 0f : 1f - (float) Integer.bitCount(a & b) / union;
+    }
+
+    private float[] scratch(int size) {
+        float[] buffer = scratch.get();
+        if (buffer.length < size) {
+            buffer = new float[Math.max(size, buffer.length * 2)];
+            scratch.set(buffer);
+        }
+        return buffer;
+    }
+
+    private static void siftUp(float[] scores, int[] rows, int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (scores[parent] >= scores[index]) {
+                return;
+            }
+            swap(scores, rows, parent, index);
+            index = parent;
+        }
+    }
+
+    private static void siftDown(float[] scores, int[] rows, int size) {
+        int index = 0;
+        while (true) {
+            int left = 2 * index + 1;
+            int largest = index;
+            if (left < size && scores[left] > scores[largest]) {
+                largest = left;
+            }
+            if (left + 1 < size && scores[left + 1] > scores[largest]) {
+                largest = left + 1;
+            }
+            if (largest == index) {
+                return;
+            }
+            swap(scores, rows, index, largest);
+            index = largest;
+        }
+    }
+
+    private static void swap(float[] scores, int[] rows, int a, int b) {
+        float score = scores[a];
+        scores[a] = scores[b];
+        scores[b] = score;
+        int row = rows[a];
+        rows[a] = rows[b];
+        rows[b] = row;
+    }
+
+    /**
+     * Vecino encontrado con su distancia y los tipos que comparte con la referencia
+     */
+    public static final class Neighbor {
+        private final PokemonResponse pokemon;
+        private final float distance;
+        private final int sharedTypesMask;
+
+        Neighbor(PokemonResponse pokemon, float distance, int sharedTypesMask) {
+            this.pokemon = pokemon;
+            this.distance = distance;
+            this.sharedTypesMask = sharedTypesMask;
+        }
+
+        public PokemonResponse getPokemon() {
+            return pokemon;
+        }
+
+        public float getDistance() {
+            return distance;
+        }
+
+        public List<String> getSharedTypes() {
+            return PokemonType.namesOf(sharedTypesMask);
+        }
+    }
+
+    /**
+     * Matriz inmutable de características, columna por columna
+     */
+    private static final class Matrix {
+        final PokemonResponse[] entries;
+        final long[] ids;
+        final float[] features;
+        final int[] typeMasks;
+        final int size;
+
+        private Matrix(PokemonResponse[] entries, long[] ids, float[] features, int[] typeMasks) {
+            this.entries = entries;
+            this.ids = ids;
+            this.features = features;
+            this.typeMasks = typeMasks;
+            this.size = entries.length;
+        }
+
+        static Matrix build(PokemonResponse[] entries) {
+            int n = entries.length;
+            long[] ids = new long[n];
+            int[] masks = new int[n];
+            float[] features = new float[FEATURES * n];
+
+            for (int i = 0; i < n; i++) {
+                ids[i] = entries[i].getId();
+                masks[i] = PokemonType.maskOf(entries[i].getTypes());
+            }
+            standardize(entries, features, 0, n, PokemonResponse::getHeight);
+            standardize(entries, features, 1, n, PokemonResponse::getWeight);
+            standardize(entries, features, 2, n, PokemonResponse::getBaseExperience);
+
+            return new Matrix(entries, ids, features, masks);
+        }
+
+        int position(Long id) {
+            return Arrays.binarySearch(ids, id);
+        }
+
+        /**
+         * Escala logarítmica y estandarización (media 0, desvío 1); los nulos quedan en la media
+         */
+        private static void standardize(PokemonResponse[] entries, float[] features, int column, int n,
+                                        Function<PokemonResponse, Integer> extractor) {
+            double[] logs = new double[n];
+            boolean[] missing = new boolean[n];
+            int present = 0;
+            double sum = 0;
+            for (int i = 0; i < n; i++) {
+                Integer value = extractor.apply(entries[i]);
+                if (value == null) {
+                    missing[i] = true;
+                } else {
+                    logs[i] = Math.log1p(Math.max(0, value));
+                    sum += logs[i];
+                    present++;
+                }
+            }
+
+            double mean = present > 0 ? sum / present : 0;
+            double squares = 0;
+            for (int i = 0; i < n; i++) {
+                if (!missing[i]) {
+                    squares += (logs[i] - mean) * (logs[i] - mean);
+                }
+            }
+            double deviation = present > 0 && squares > 0 ? Math.sqrt(squares / present) : 1;
+
+            int offset = column * n;
+            for (int i = 0; i < n; i++) {
+                features[offset + i] = missing[i] ? 0f : (float) ((logs[i] - mean) / deviation);
+            }
+        }
+    }
+}
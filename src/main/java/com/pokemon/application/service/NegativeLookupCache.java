@@ -0,0 +1,77 @@
+package com.pokemon.application.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache de búsquedas sin resultado (IDs y nombres inexistentes)
+ * 
+ * {@code @Cacheable} no guarda las excepciones, así que cada búsqueda fallida
+ * volvía a la base de datos. Las claves se guardan con un TTL corto y se
+ * descartan todas al crear un Pokémon. Cada invalidación avanza una generación:
+ * un fallo leído antes de una creación no se registra después de ella.
+ * 
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@Component
+public class NegativeLookupCache implements MeterBinder {
+
+    private final Cache<String, Boolean> misses;
+    private final AtomicLong generation = new AtomicLong();
+
+    public NegativeLookupCache(@Value("${pokemon.cache.not-found.ttl:30s}") Duration ttl,
+                               @Value("${pokemon.cache.not-found.max-size:10000}") long maxSize) {
+        this.misses = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Indica si la clave se buscó hace poco sin resultado
+     */
+    public boolean isMissing(String key) {
+        return misses.getIfPresent(key) != null;
+    }
+
+    /**
+     * Generación actual; se toma antes de la consulta y se pasa a {@link #recordMissing(String, long)}
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Registra una búsqueda sin resultado, salvo que haya habido una invalidación desde {@code observedGeneration}
+     */
+    public void recordMissing(String key, long observedGeneration) {
+        misses.put(key, Boolean.TRUE);
+        if (generation.get() != observedGeneration) {
+            misses.invalidate(key);
+        }
+    }
+
+    /**
+     * Descarta todos los fallos registrados
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        misses.invalidateAll();
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, misses, "pokemonNotFoundCache");
+    }
+}
@@ -0,0 +1,155 @@
+package com.pokemon.application.service;
+
+import com.pokemon.application.dto.response.PokemonChangeResponse;
+import com.pokemon.application.dto.response.PokemonChangesResponse;
+import com.pokemon.application.event.PokemonCreatedEvent;
+import com.pokemon.application.event.PokemonDeletedEvent;
+import com.pokemon.domain.entity.PokemonChange;
+import com.pokemon.domain.entity.PokemonChangeSequence;
+import com.pokemon.domain.repository.PokemonChangeRepository;
+import com.pokemon.domain.repository.PokemonChangeSequenceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Registro de cambios del catálogo para sincronización incremental
+ *
+ * Cada alta y baja agrega una entrada en la misma transacción que el cambio
+ * (escuchando los eventos que publica {@link PokemonService} antes del commit),
+ * así que el registro nunca adelanta ni atrasa a la tabla de Pokémon. Los
+ * consumidores piden lo posterior a la última secuencia que vieron.
+ *
+ * Periódicamente se compacta (de cada Pokémon solo queda su último cambio) y
+ * se borran las entradas más antiguas que la retención. Quien pida cambios
+ * anteriores a lo borrado recibe {@link ChangesExpiredException} y debe
+ * volver a descargar el catálogo completo.
+ *
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@Service
+@Slf4j
+public class PokemonChangeFeedService {
+
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    private final PokemonChangeRepository changeRepository;
+    private final PokemonChangeSequenceRepository sequenceRepository;
+    private final Duration retention;
+
+    public PokemonChangeFeedService(PokemonChangeRepository changeRepository,
+                                    PokemonChangeSequenceRepository sequenceRepository,
+                                    @Value("${pokemon.changes.retention:P7D}") Duration retention) {
+        this.changeRepository = changeRepository;
+        this.sequenceRepository = sequenceRepository;
+        this.retention = retention;
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onPokemonCreated(PokemonCreatedEvent event) {
+        append(PokemonChange.Type.CREATED, event.getPokemon().getId(), event.getPokemon().getName());
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onPokemonDeleted(PokemonDeletedEvent event) {
+        append(PokemonChange.Type.DELETED, event.getId(), null);
+    }
+
+    private void append(PokemonChange.Type type, Long pokemonId, String pokemonName) {
+        if (sequenceRepository.increment() == 0) {
+            sequenceRepository.initialize();
+            sequenceRepository.increment();
+        }
+        long sequence = sequenceRepository.currentValue();
+        changeRepository.insert(sequence, type.name(), pokemonId, pokemonName, LocalDateTime.now());
+        log.debug("Cambio {} registrado: {} del Pokémon {}", sequence, type, pokemonId);
+    }
+
+    /**
+     * Cambios posteriores a la secuencia dada
+     *
+     * @param since última secuencia vista (0 para empezar desde el principio)
+     * @param limit cantidad máxima de cambios, hasta {@value #MAX_PAGE_SIZE}
+     * @return página de cambios y la secuencia desde la cual continuar
+     * @throws ChangesExpiredException si la retención ya borró cambios posteriores a {@code since}
+     */
+    @Transactional(readOnly = true)
+    public PokemonChangesResponse getChanges(long since, int limit) {
+        int size = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        Optional<PokemonChangeSequence> counter = sequenceRepository.findById(PokemonChangeSequence.SINGLETON_ID);
+        requireRetained(since, counter);
+
+        List<PokemonChange> changes = changeRepository.findBySequenceGreaterThanOrderBySequence(
+                since, PageRequest.ofSize(size + 1));
+        boolean hasMore = changes.size() > size;
+        List<PokemonChangeResponse> page = changes.stream()
+                .limit(size)
+                .map(PokemonChangeResponse::of)
+                .toList();
+        long nextSince = page.isEmpty() ? since : page.get(page.size() - 1).getSequence();
+
+        return PokemonChangesResponse.builder()
+                .changes(page)
+                .nextSince(nextSince)
+                .hasMore(hasMore)
+                .lastSequence(counter.map(PokemonChangeSequence::getLastValue).orElse(0L))
+                .build();
+    }
+
+    /**
+     * Verifica que los cambios posteriores a {@code since} sigan disponibles
+     *
+     * @throws ChangesExpiredException si la retención ya los borró
+     */
+    @Transactional(readOnly = true)
+    public void requireRetained(long since) {
+        requireRetained(since, sequenceRepository.findById(PokemonChangeSequence.SINGLETON_ID));
+    }
+
+    private void requireRetained(long since, Optional<PokemonChangeSequence> counter) {
+        long purgedThrough = counter.map(PokemonChangeSequence::getPurgedThrough).orElse(0L);
+        if (since < purgedThrough) {
+            throw new ChangesExpiredException("Los cambios hasta la secuencia " + purgedThrough
+                    + " ya no están disponibles; descargue el catálogo completo y continúe desde last_sequence");
+        }
+    }
+
+    /**
+     * Compacta el registro y aplica la retención
+     */
+    @Scheduled(fixedDelayString = "${pokemon.changes.compaction-interval:PT1H}",
+               initialDelayString = "${pokemon.changes.compaction-interval:PT1H}")
+    @Transactional
+    public void compact() {
+        int superseded = changeRepository.deleteSuperseded();
+        int expired = changeRepository.findLastSequenceBefore(LocalDateTime.now().minus(retention))
+                .map(through -> {
+                    sequenceRepository.markPurged(through);
+                    return changeRepository.deleteThrough(through);
+                })
+                .orElse(0);
+        if (superseded > 0 || expired > 0) {
+            log.info("Registro de cambios compactado: {} reemplazados y {} vencidos eliminados", superseded, expired);
+        }
+    }
+
+    // Excepciones personalizadas
+    public static class ChangesExpiredException extends RuntimeException {
+        public ChangesExpiredException(String message) {
+            super(message);
+        }
+    }
+}
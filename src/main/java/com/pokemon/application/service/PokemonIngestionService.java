@@ -0,0 +1,380 @@
+package com.pokemon.application.service;
+
+import com.pokemon.application.dto.request.PokemonCreateRequest;
+import com.pokemon.application.dto.response.IngestionJobResponse;
+import com.pokemon.application.dto.response.PokemonResponse;
+import com.pokemon.domain.entity.IngestionJob;
+import com.pokemon.domain.entity.Pokemon;
+import com.pokemon.domain.repository.IngestionJobRepository;
+import com.pokemon.domain.repository.PokemonRepository;
+import com.pokemon.infrastructure.external.service.JobCallbackClient;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Creación asíncrona de Pokémon a través de una cola persistente
+ *
+ * {@link #submit} solo registra el trabajo y responde de inmediato. Un grupo
+ * fijo de workers toma los trabajos listos de la tabla {@code ingestion_job}
+ * ({@code FOR UPDATE SKIP LOCKED}) y ejecuta la misma creación que el modo
+ * síncrono. Los errores transitorios se reintentan con backoff exponencial; los
+ * trabajos que quedaron en ejecución en una instancia caída vuelven a la cola.
+ * Cuando la cola alcanza su capacidad se rechazan trabajos nuevos indicando
+ * cuándo reintentar.
+ *
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@Service
+@Slf4j
+public class PokemonIngestionService {
+
+    private static final Set<IngestionJob.Status> ACTIVE =
+            EnumSet.of(IngestionJob.Status.PENDING, IngestionJob.Status.RUNNING);
+
+    /** Peso de la última muestra en el promedio móvil de duración de los trabajos */
+    private static final double DURATION_SMOOTHING = 0.2;
+
+    private final IngestionJobRepository jobRepository;
+    private final PokemonRepository pokemonRepository;
+    private final PokemonService pokemonService;
+    private final JobCallbackClient callbackClient;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int workers;
+    private final int queueCapacity;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration pollInterval;
+    private final Duration staleAfter;
+    private final Duration retention;
+
+    private final Semaphore wakeUp = new Semaphore(0);
+    private volatile double averageJobMillis = 1000;
+    private volatile boolean running;
+    private ExecutorService executor;
+
+    public PokemonIngestionService(IngestionJobRepository jobRepository,
+                                   PokemonRepository pokemonRepository,
+                                   PokemonService pokemonService,
+                                   JobCallbackClient callbackClient,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${pokemon.ingestion.enabled:true}") boolean enabled,
+                                   @Value("${pokemon.ingestion.workers:4}") int workers,
+                                   @Value("${pokemon.ingestion.queue-capacity:1000}") int queueCapacity,
+                                   @Value("${pokemon.ingestion.max-attempts:5}") int maxAttempts,
+                                   @Value("${pokemon.ingestion.retry-backoff:2s}") Duration retryBackoff,
+                                   @Value("${pokemon.ingestion.poll-interval:1s}") Duration pollInterval,
+                                   @Value("${pokemon.ingestion.stale-after:5m}") Duration staleAfter,
+                                   @Value("${pokemon.ingestion.retention:7d}") Duration retention) {
+        this.jobRepository = jobRepository;
+        this.pokemonRepository = pokemonRepository;
+        this.pokemonService = pokemonService;
+        this.callbackClient = callbackClient;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.workers = workers;
+        this.queueCapacity = queueCapacity;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.pollInterval = pollInterval;
+        this.staleAfter = staleAfter;
+        this.retention = retention;
+    }
+
+    /**
+     * Encola la creación de un Pokémon
+     *
+     * Si ya hay un trabajo activo para el mismo nombre se devuelve ese, de modo
+     * que los reintentos del cliente no duplican trabajo. Si dos solicitudes
+     * encolan el mismo nombre a la vez, la restricción única de
+     * {@code active_name} rechaza la segunda inserción y esta devuelve el
+     * trabajo de la primera.
+     *
+     * @param request solicitud de creación (con URL de callback opcional)
+     * @return estado inicial del trabajo
+     * @throws PokemonService.PokemonAlreadyExistsException si el Pokémon ya existe
+     * @throws IngestionQueueFullException si la cola está llena
+     * @throws JobCallbackClient.InvalidCallbackUrlException si la URL de callback no está permitida
+     */
+    public IngestionJobResponse submit(PokemonCreateRequest request) {
+        String pokemonName = request.getName().toLowerCase().trim();
+        if (request.getCallbackUrl() != null) {
+            callbackClient.validate(request.getCallbackUrl());
+        }
+
+        IngestionJob job;
+        try {
+            job = transactionTemplate.execute(status -> enqueue(pokemonName, request.getCallbackUrl()));
+        } catch (DataIntegrityViolationException e) {
+            // Otra solicitud encoló el mismo nombre entre la consulta y la inserción
+            IngestionJob active = transactionTemplate.execute(status ->
+                    jobRepository.findFirstByPokemonNameAndStatusIn(pokemonName, ACTIVE).orElse(null));
+            if (active == null) {
+                throw e;
+            }
+            log.info("Trabajo activo {} reutilizado para '{}' tras inserción concurrente", active.getId(), pokemonName);
+            return IngestionJobResponse.of(active);
+        }
+
+        wakeUp.release();
+        log.info("Trabajo {} encolado para '{}'", job.getId(), pokemonName);
+        return IngestionJobResponse.of(job);
+    }
+
+    private IngestionJob enqueue(String pokemonName, String callbackUrl) {
+        Optional<IngestionJob> active = jobRepository.findFirstByPokemonNameAndStatusIn(pokemonName, ACTIVE);
+        if (active.isPresent()) {
+            log.info("Trabajo activo {} reutilizado para '{}'", active.get().getId(), pokemonName);
+            return active.get();
+        }
+        if (pokemonRepository.existsByNameIgnoreCase(pokemonName)) {
+            throw new PokemonService.PokemonAlreadyExistsException(
+                    "El Pokémon '" + pokemonName + "' ya existe en la base de datos");
+        }
+        long depth = jobRepository.countByStatusIn(ACTIVE);
+        if (depth >= queueCapacity) {
+            log.warn("Cola de creación llena ({} trabajos), se rechaza '{}'", depth, pokemonName);
+            throw new IngestionQueueFullException(
+                    "La cola de creación está llena (" + depth + " trabajos)", retryAfter(depth));
+        }
+        // Con flush la violación de la restricción única se detecta acá y no en el commit
+        return jobRepository.saveAndFlush(IngestionJob.builder()
+                .pokemonName(pokemonName)
+                .status(IngestionJob.Status.PENDING)
+                .callbackUrl(callbackUrl)
+                .nextAttemptAt(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * Obtiene el estado de un trabajo
+     *
+     * @throws JobNotFoundException si el trabajo no existe
+     */
+    public IngestionJobResponse getJob(UUID id) {
+        return jobRepository.findById(id)
+                .map(IngestionJobResponse::of)
+                .orElseThrow(() -> new JobNotFoundException("Trabajo " + id + " no encontrado"));
+    }
+
+    /**
+     * Arranca los workers cuando la aplicación está lista
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            log.info("Creación asíncrona deshabilitada");
+            return;
+        }
+        AtomicInteger sequence = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(workers, task -> {
+            Thread thread = new Thread(task, "ingestion-worker-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        running = true;
+        for (int i = 0; i < workers; i++) {
+            executor.execute(this::workLoop);
+        }
+        log.info("Creación asíncrona iniciada con {} workers y capacidad {}", workers, queueCapacity);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (executor != null) {
+            executor.shutdownNow();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Devuelve a la cola los trabajos abandonados y purga los finalizados antiguos
+     */
+    @Scheduled(fixedDelayString = "${pokemon.ingestion.maintenance-interval:PT1M}")
+    public void maintain() {
+        if (!running) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            int requeued = jobRepository.requeueStale(
+                    IngestionJob.Status.RUNNING, IngestionJob.Status.PENDING, now.minus(staleAfter), now);
+            int purged = jobRepository.deleteCompletedBefore(now.minus(retention));
+            if (requeued > 0 || purged > 0) {
+                log.info("Mantenimiento de la cola: {} trabajos reencolados, {} purgados", requeued, purged);
+            }
+        });
+        if (jobRepository.countByStatusIn(EnumSet.of(IngestionJob.Status.PENDING)) > 0) {
+            wakeUp.release(workers);
+        }
+    }
+
+    /**
+     * Toma y ejecuta el próximo trabajo listo
+     *
+     * @return false si no había trabajos listos
+     */
+    boolean processNext() {
+        IngestionJob job = transactionTemplate.execute(status -> {
+            List<IngestionJob> ready = jobRepository.findReadyForUpdate(
+                    IngestionJob.Status.PENDING, LocalDateTime.now(), PageRequest.of(0, 1));
+            if (ready.isEmpty()) {
+                return null;
+            }
+            IngestionJob claimed = ready.get(0);
+            claimed.setStatus(IngestionJob.Status.RUNNING);
+            claimed.setAttempts(claimed.getAttempts() + 1);
+            claimed.setStartedAt(LocalDateTime.now());
+            return jobRepository.save(claimed);
+        });
+        if (job == null) {
+            return false;
+        }
+
+        long start = System.nanoTime();
+        run(job);
+        double elapsedMillis = (System.nanoTime() - start) / 1_000_000.0;
+        averageJobMillis += DURATION_SMOOTHING * (elapsedMillis - averageJobMillis);
+        return true;
+    }
+
+    private void workLoop() {
+        while (running) {
+            boolean processed = false;
+            try {
+                processed = processNext();
+            } catch (RuntimeException e) {
+                log.error("Error en el worker de creación asíncrona", e);
+            }
+            if (!processed) {
+                try {
+                    wakeUp.tryAcquire(pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void run(IngestionJob job) {
+        String pokemonName = job.getPokemonName();
+        try {
+            PokemonResponse created = pokemonService.createPokemon(
+                    PokemonCreateRequest.builder().name(pokemonName).build());
+            complete(job.getId(), IngestionJob.Status.SUCCEEDED, j -> j.setPokemonId(created.getId()));
+            log.info("Trabajo {} completado: '{}' creado con ID {}", job.getId(), pokemonName, created.getId());
+
+        } catch (PokemonService.PokemonAlreadyExistsException e) {
+            Long existingId = pokemonRepository.findByNameIgnoreCase(pokemonName).map(Pokemon::getId).orElse(null);
+            if (job.getAttempts() > 1) {
+                // Un intento anterior de este mismo trabajo llegó a crear el Pokémon
+                complete(job.getId(), IngestionJob.Status.SUCCEEDED, j -> j.setPokemonId(existingId));
+            } else {
+                complete(job.getId(), IngestionJob.Status.FAILED,
+                        j -> fail(j, "POKEMON_ALREADY_EXISTS", e.getMessage()).setPokemonId(existingId));
+            }
+
+        } catch (PokemonService.PokemonNotFoundException e) {
+            complete(job.getId(), IngestionJob.Status.FAILED, j -> fail(j, "POKEMON_NOT_FOUND", e.getMessage()));
+
+        } catch (RuntimeException e) {
+            if (job.getAttempts() < maxAttempts) {
+                Duration delay = retryBackoff.multipliedBy(1L << Math.min(job.getAttempts() - 1, 10));
+                log.warn("Trabajo {} falló (intento {}), se reintenta en {}: {}",
+                        job.getId(), job.getAttempts(), delay, e.getMessage());
+                update(job.getId(), j -> {
+                    j.setStatus(IngestionJob.Status.PENDING);
+                    j.setNextAttemptAt(LocalDateTime.now().plus(delay));
+                    j.setErrorMessage(truncate(e.getMessage()));
+                });
+            } else {
+                log.error("Trabajo {} falló definitivamente tras {} intentos", job.getId(), job.getAttempts(), e);
+                complete(job.getId(), IngestionJob.Status.FAILED,
+                        j -> fail(j, "EXTERNAL_SERVICE_ERROR", e.getMessage()));
+            }
+        }
+    }
+
+    private void complete(UUID id, IngestionJob.Status status, Consumer<IngestionJob> change) {
+        IngestionJob job = update(id, j -> {
+            j.setStatus(status);
+            j.setCompletedAt(LocalDateTime.now());
+            change.accept(j);
+        });
+        if (job.getCallbackUrl() != null) {
+            callbackClient.notify(job.getCallbackUrl(), IngestionJobResponse.of(job));
+        }
+    }
+
+    private IngestionJob update(UUID id, Consumer<IngestionJob> change) {
+        return transactionTemplate.execute(status -> {
+            IngestionJob job = jobRepository.findById(id).orElseThrow();
+            change.accept(job);
+            return jobRepository.save(job);
+        });
+    }
+
+    private static IngestionJob fail(IngestionJob job, String errorCode, String message) {
+        job.setErrorCode(errorCode);
+        job.setErrorMessage(truncate(message));
+        return job;
+    }
+
+    private static String truncate(String message) {
+        return message == null || message.length() <= 500 ? message : message.substring(0, 500);
+    }
+
+    /**
+     * Segundos estimados hasta que la cola tenga lugar: el excedente sobre la
+     * capacidad más uno, repartido entre los workers, por la duración promedio
+     */
+    private long retryAfter(long depth) {
+        double seconds = (depth - queueCapacity + 1) * averageJobMillis / workers / 1000.0;
+        return Math.max(1, (long) Math.ceil(seconds));
+    }
+
+    // Excepciones personalizadas
+
+    public static class IngestionQueueFullException extends RuntimeException {
+        @Getter
+        private final long retryAfterSeconds;
+
+        public IngestionQueueFullException(String message, long retryAfterSeconds) {
+            super(message);
+            this.retryAfterSeconds = retryAfterSeconds;
+        }
+    }
+
+    public static class JobNotFoundException extends RuntimeException {
+        public JobNotFoundException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,516 @@
+package com.pokemon.application.service;
+
+import com.pokemon.application.dto.request.PokemonFields;
+import com.pokemon.application.dto.request.PokemonFilterCriteria;
+import com.pokemon.application.dto.request.PokemonRangeCriteria;
+import com.pokemon.application.dto.response.PokemonAggregateResponse;
+import com.pokemon.application.dto.response.PokemonBatchItem;
+import com.pokemon.application.dto.response.PokemonResponse;
+import com.pokemon.application.dto.response.PokemonSuggestionResponse;
+import com.pokemon.application.dto.response.SimilarPokemonResponse;
+import com.pokemon.application.mapper.PokemonMapper;
+import com.pokemon.application.readmodel.CatalogSnapshot;
+import com.pokemon.application.readmodel.PokemonAutocompleteIndex;
+import com.pokemon.application.readmodel.PokemonBitmapIndex;
+import com.pokemon.application.readmodel.PokemonColumnStore;
+import com.pokemon.application.readmodel.PokemonLeaderboardIndex;
+import com.pokemon.application.readmodel.PokemonRangeIndex;
+import com.pokemon.application.readmodel.PokemonReadModel;
+import com.pokemon.application.readmodel.PokemonSimilarityIndex;
+import com.pokemon.domain.entity.Pokemon;
+import com.pokemon.domain.repository.PokemonRepository;
+import com.pokemon.domain.repository.PokemonSummaryView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Servicio de consultas avanzadas sobre el catálogo en memoria
+ * 
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PokemonQueryService {
+
+    static final int MAX_BATCH_SIZE = 100;
+    private static final String POKEMON_CACHE = "pokemonCache";
+    private static final int STREAM_CHUNK_SIZE = 100;
+    private static final Set<String> STREAM_SORT_PROPERTIES = new LinkedHashSet<>(List.of(
+            "id", "externalId", "name", "height", "weight", "baseExperience", "createdAt", "updatedAt"));
+
+    private final PokemonReadModel readModel;
+    private final PokemonBitmapIndex bitmapIndex;
+    private final PokemonAutocompleteIndex autocompleteIndex;
+    private final PokemonRangeIndex rangeIndex;
+    private final PokemonSimilarityIndex similarityIndex;
+    private final PokemonLeaderboardIndex leaderboardIndex;
+    private final PokemonColumnStore columnStore;
+    private final PokemonRepository pokemonRepository;
+    private final PokemonMapper pokemonMapper;
+    private final CacheManager cacheManager;
+    private final NegativeLookupCache notFoundCache;
+
+    /**
+     * Filtra Pokémon combinando tipos y habilidades con operaciones de bitmap
+     * 
+     * @param criteria criterios de filtrado
+     * @param pageable configuración de paginación
+     * @return página de Pokémon ordenados por ID
+     * @throws CatalogUnavailableException si el catálogo en memoria no está cargado
+     */
+    public Page<PokemonResponse> filterPokemon(PokemonFilterCriteria criteria, Pageable pageable) {
+        requireCatalog();
+        log.debug("Filtrando Pokémon con criterios: {}", criteria);
+
+        RoaringBitmap matches = bitmapIndex.evaluate(
+                criteria.getAllTypes(), criteria.getAnyTypes(), criteria.getNoneTypes(),
+                criteria.getAllAbilities(), criteria.getAnyAbilities(), criteria.getNoneAbilities());
+
+        Page<PokemonResponse> page = page(matches, pageable);
+        log.info("Filtro devolvió {} Pokémon de {} coincidencias", page.getNumberOfElements(), page.getTotalElements());
+        return page;
+    }
+
+    /**
+     * Busca Pokémon por rangos de altura, peso y experiencia base
+     * 
+     * Con el catálogo en memoria cargado usa los índices de columnas ordenadas;
+     * si no, consulta la base de datos apoyándose en los índices compuestos.
+     * 
+     * @param criteria rangos a aplicar
+     * @param pageable paginación; se admite ordenar por id, height, weight o baseExperience
+     * @return página de Pokémon dentro de los rangos
+     * @throws InvalidQueryException si el campo de ordenamiento no es válido
+     */
+    public Page<PokemonResponse> queryByRange(PokemonRangeCriteria criteria, Pageable pageable) {
+        Sort.Order order = pageable.getSort().stream().findFirst().orElse(Sort.Order.asc("id"));
+        Optional<PokemonRangeIndex.Field> sortField = PokemonRangeIndex.Field.fromProperty(order.getProperty());
+        if (sortField.isEmpty() && !"id".equals(order.getProperty())) {
+            throw new InvalidQueryException("No se puede ordenar por '" + order.getProperty()
+                    + "'. Valores permitidos: id, height, weight, baseExperience");
+        }
+
+        log.debug("Consultando Pokémon por rangos: {} ordenados por {}", criteria, order);
+
+        if (!readModel.isReady()) {
+            Page<Pokemon> pokemonPage = pokemonRepository.findByRanges(
+                    criteria.getMinHeight(), criteria.getMaxHeight(),
+                    criteria.getMinWeight(), criteria.getMaxWeight(),
+                    criteria.getMinBaseExperience(), criteria.getMaxBaseExperience(),
+                    pageable);
+            return new PageImpl<>(pokemonMapper.toResponseList(pokemonPage.getContent()),
+                    pageable, pokemonPage.getTotalElements());
+        }
+
+        PokemonRangeIndex.Snapshot ranges = rangeIndex.snapshot();
+        RoaringBitmap matches = ranges.all();
+        applyRange(ranges, matches, PokemonRangeIndex.Field.HEIGHT, criteria.getMinHeight(), criteria.getMaxHeight());
+        applyRange(ranges, matches, PokemonRangeIndex.Field.WEIGHT, criteria.getMinWeight(), criteria.getMaxWeight());
+        applyRange(ranges, matches, PokemonRangeIndex.Field.BASE_EXPERIENCE,
+                criteria.getMinBaseExperience(), criteria.getMaxBaseExperience());
+
+        if (sortField.isEmpty()) {
+            return order.isDescending() ? pageDescending(matches, pageable) : page(matches, pageable);
+        }
+
+        CatalogSnapshot snapshot = readModel.snapshot();
+        List<PokemonResponse> content = new ArrayList<>(pageable.getPageSize());
+        ranges.forEachSorted(sortField.get(), order.isDescending(), matches,
+                pageable.getOffset(), pageable.getPageSize(),
+                id -> snapshot.findById(id).ifPresent(content::add));
+
+        log.info("Consulta por rangos devolvió {} Pokémon de {} coincidencias", content.size(), matches.getCardinality());
+        return new PageImpl<>(content, pageable, matches.getCardinality());
+    }
+
+    /**
+     * Sugiere Pokémon por prefijo de nombre, tolerando un error de tipeo
+     * 
+     * @param prefix texto ingresado por el usuario
+     * @param limit cantidad máxima de sugerencias
+     * @return sugerencias ordenadas por coincidencia de prefijo y popularidad
+     * @throws CatalogUnavailableException si el catálogo en memoria no está cargado
+     */
+    public List<PokemonSuggestionResponse> autocomplete(String prefix, int limit) {
+        requireCatalog();
+        log.debug("Autocompletando prefijo: {}", prefix);
+
+        return pokemonMapper.toSuggestionList(autocompleteIndex.suggest(prefix, limit));
+    }
+
+    /**
+     * Busca los Pokémon más parecidos a uno dado
+     * 
+     * La similitud combina altura, peso y experiencia base normalizadas con la
+     * coincidencia de tipos.
+     * 
+     * @param id ID del Pokémon de referencia
+     * @param k cantidad de Pokémon similares a devolver
+     * @return Pokémon similares, del más al menos parecido
+     * @throws CatalogUnavailableException si el catálogo en memoria no está cargado
+     * @throws PokemonService.PokemonNotFoundException si el Pokémon no existe
+     */
+    public List<SimilarPokemonResponse> findSimilar(Long id, int k) {
+        requireCatalog();
+        log.debug("Buscando {} Pokémon similares a {}", k, id);
+
+        if (!similarityIndex.contains(id)) {
+            throw new PokemonService.PokemonNotFoundException("Pokémon con ID " + id + " no encontrado");
+        }
+
+        List<SimilarPokemonResponse> similar = new ArrayList<>(k);
+        for (PokemonSimilarityIndex.Neighbor neighbor : similarityIndex.nearest(id, k)) {
+            similar.add(SimilarPokemonResponse.builder()
+                    .pokemon(neighbor.getPokemon())
+                    .distance((double) neighbor.getDistance())
+                    .sharedTypes(neighbor.getSharedTypes())
+                    .build());
+        }
+        return similar;
+    }
+
+    /**
+     * Obtiene el ranking de Pokémon por una métrica, global o de un tipo
+     * 
+     * @param metric métrica del ranking: height, weight o baseExperience
+     * @param type tipo por el que filtrar, o {@code null} para el ranking global
+     * @param k cantidad de posiciones
+     * @return Pokémon ordenados de mayor a menor valor
+     * @throws InvalidQueryException si la métrica no es válida
+     * @throws CatalogUnavailableException si el catálogo en memoria no está cargado
+     */
+    public List<PokemonResponse> topPokemon(String metric, String type, int k) {
+        PokemonRangeIndex.Field field = PokemonRangeIndex.Field.fromProperty(metric)
+                .orElseThrow(() -> new InvalidQueryException("Métrica '" + metric
+                        + "' no soportada. Valores permitidos: height, weight, baseExperience"));
+        requireCatalog();
+        log.debug("Obteniendo top {} por {} (tipo: {})", k, metric, type);
+
+        return leaderboardIndex.top(field, type, k);
+    }
+
+    /**
+     * Calcula promedio, mínimo, máximo y percentiles de una métrica sobre la copia columnar del catálogo
+     * 
+     * @param metric métrica: height, weight o baseExperience
+     * @param groupBy dimensión de agrupamiento: type, ability, o {@code null} para no agrupar
+     * @param percentiles percentiles a calcular, entre 0 y 100
+     * @return agregados por grupo
+     * @throws InvalidQueryException si la métrica, la dimensión o algún percentil no son válidos
+     * @throws CatalogUnavailableException si el catálogo en memoria no está cargado
+     */
+    public PokemonAggregateResponse aggregate(String metric, String groupBy, List<Double> percentiles) {
+        PokemonRangeIndex.Field field = PokemonRangeIndex.Field.fromProperty(metric)
+                .orElseThrow(() -> new InvalidQueryException("Métrica '" + metric
+                        + "' no soportada. Valores permitidos: height, weight, baseExperience"));
+        PokemonColumnStore.Dimension dimension = dimensionOf(groupBy);
+
+        double[] fractions = new double[percentiles.size()];
+        for (int i = 0; i < fractions.length; i++) {
+            Double percentile = percentiles.get(i);
+            if (percentile == null || percentile < 0 || percentile > 100) {
+                throw new InvalidQueryException("Los percentiles deben estar entre 0 y 100");
+            }
+            fractions[i] = percentile / 100.0;
+        }
+
+        requireCatalog();
+        log.debug("Agregando {} agrupado por {}", metric, groupBy);
+
+        List<PokemonAggregateResponse.Group> groups = new ArrayList<>();
+        for (PokemonColumnStore.GroupStats stats : columnStore.aggregate(field, dimension, fractions)) {
+            double[] values = stats.getPercentiles();
+            Map<String, Double> byLabel = new LinkedHashMap<>();
+            for (int i = 0; i < values.length; i++) {
+                byLabel.put(percentileLabel(percentiles.get(i)), values[i]);
+            }
+            groups.add(PokemonAggregateResponse.Group.builder()
+                    .key(stats.getKey())
+                    .count(stats.getCount())
+                    .avg(stats.getAverage())
+                    .min(stats.getMin())
+                    .max(stats.getMax())
+                    .percentiles(byLabel)
+                    .build());
+        }
+
+        return PokemonAggregateResponse.builder()
+                .metric(field.getProperty())
+                .groupBy(dimension != null ? dimension.name().toLowerCase(Locale.ROOT) : null)
+                .groups(groups)
+                .build();
+    }
+
+    /**
+     * Obtiene varios Pokémon por ID o por nombre, en el orden pedido
+     * 
+     * Con el catálogo en memoria cargado se resuelve desde él. Si no, los
+     * aciertos de {@code pokemonCache} se leen en una sola consulta al cache y el
+     * resto se carga de la base de datos con una consulta {@code IN}; lo cargado
+     * queda en el cache para las lecturas individuales. Los IDs o nombres
+     * inexistentes vuelven como elementos con {@code found=false}.
+     * 
+     * @param ids IDs a buscar
+     * @param names nombres a buscar
+     * @return un elemento por cada ID o nombre pedido, repetidos incluidos
+     * @throws InvalidQueryException si no se indica exactamente una de las listas o supera el máximo
+     */
+    @Transactional(readOnly = true)
+    public List<PokemonBatchItem> findBatch(List<Long> ids, List<String> names) {
+        boolean byId = ids != null && !ids.isEmpty();
+        boolean byName = names != null && !names.isEmpty();
+        if (byId == byName) {
+            throw new InvalidQueryException("Indique ids o names (uno de los dos)");
+        }
+        int size = byId ? ids.size() : names.size();
+        if (size > MAX_BATCH_SIZE) {
+            throw new InvalidQueryException("Se pueden pedir hasta " + MAX_BATCH_SIZE + " Pokémon por lote");
+        }
+        log.debug("Consulta por lote de {} Pokémon por {}", size, byId ? "ID" : "nombre");
+
+        if (byId) {
+            Map<Long, PokemonResponse> found = resolve(ids.stream().filter(Objects::nonNull).toList(), "id_",
+                    readModel::findById, pokemonRepository::findAllWithTypesByIdIn, PokemonResponse::getId);
+            return ids.stream()
+                    .map(id -> PokemonBatchItem.of(String.valueOf(id), id != null ? found.get(id) : null))
+                    .toList();
+        }
+
+        List<String> normalized = names.stream().filter(Objects::nonNull).map(PokemonQueryService::normalize).toList();
+        Map<String, PokemonResponse> found = resolve(normalized, "name_",
+                readModel::findByName, pokemonRepository::findAllWithTypesByNameIn,
+                pokemon -> normalize(pokemon.getName()));
+        return names.stream()
+                .map(name -> PokemonBatchItem.of(name, name != null ? found.get(normalize(name)) : null))
+                .toList();
+    }
+
+    /**
+     * Recorre todo el catálogo desde un cursor de base de datos, en el orden pedido
+     * 
+     * Nada se acumula: cada Pokémon se entrega a {@code sink} a medida que se lee
+     * y el contexto de persistencia se vacía cada {@value #STREAM_CHUNK_SIZE}
+     * filas, así que la memoria no crece con el tamaño del catálogo. Si
+     * {@code sink} escribe en la respuesta de forma bloqueante, un cliente lento
+     * frena la lectura del cursor. Sin tipos ni habilidades en {@code fields} se
+     * lee una proyección escalar; si no, las colecciones de cada bloque se cargan
+     * en una consulta por lote.
+     * 
+     * @param sort ordenamiento (ver {@link #requireStreamableSort(Sort)})
+     * @param fields campos solicitados
+     * @param sink destino de cada Pokémon
+     * @throws InvalidQueryException si el ordenamiento no es válido
+     */
+    @Transactional(readOnly = true)
+    public void streamAll(Sort sort, PokemonFields fields, Consumer<PokemonResponse> sink) {
+        requireStreamableSort(sort);
+        log.debug("Recorriendo el catálogo ordenado por {} con campos {}", sort, fields);
+
+        if (!fields.includesCollections()) {
+            try (Stream<PokemonSummaryView> rows = pokemonRepository.streamProjectedBy(sort)) {
+                rows.map(pokemonMapper::toSummaryResponse).forEach(sink);
+            }
+            return;
+        }
+        pokemonRepository.forEachChunk(sort, STREAM_CHUNK_SIZE,
+                chunk -> pokemonMapper.toResponseList(chunk).forEach(sink));
+    }
+
+    /**
+     * Valida que el ordenamiento solo use columnas escalares de Pokémon
+     * 
+     * @param sort ordenamiento a validar
+     * @throws InvalidQueryException si alguna propiedad no es ordenable
+     */
+    public void requireStreamableSort(Sort sort) {
+        for (Sort.Order order : sort) {
+            if (!STREAM_SORT_PROPERTIES.contains(order.getProperty())) {
+                throw new InvalidQueryException("No se puede ordenar por '" + order.getProperty()
+                        + "'. Valores permitidos: " + String.join(", ", STREAM_SORT_PROPERTIES));
+            }
+        }
+    }
+
+    private <K> Map<K, PokemonResponse> resolve(List<K> keys, String cachePrefix,
+                                                Function<K, Optional<PokemonResponse>> inMemory,
+                                                Function<Collection<K>, List<Pokemon>> loader,
+                                                Function<PokemonResponse, K> keyOf) {
+        Map<K, PokemonResponse> found = new HashMap<>();
+        if (readModel.isReady()) {
+            for (K key : keys) {
+                inMemory.apply(key).ifPresent(pokemon -> found.put(key, pokemon));
+            }
+            return found;
+        }
+
+        Map<String, K> pending = new LinkedHashMap<>();
+        for (K key : keys) {
+            pending.put(cachePrefix + key, key);
+        }
+
+        Cache cache = cacheManager.getCache(POKEMON_CACHE);
+        cachedValues(cache, pending.keySet()).forEach((cacheKey, value) -> {
+            if (value instanceof PokemonResponse pokemon) {
+                found.put(pending.remove(cacheKey), pokemon);
+            }
+        });
+        pending.keySet().removeIf(notFoundCache::isMissing);
+        if (pending.isEmpty()) {
+            return found;
+        }
+
+        long generation = notFoundCache.generation();
+        for (Pokemon entity : loader.apply(List.copyOf(pending.values()))) {
+            PokemonResponse pokemon = pokemonMapper.toResponse(entity);
+            K key = keyOf.apply(pokemon);
+            found.put(key, pokemon);
+            pending.remove(cachePrefix + key);
+            if (cache != null) {
+                cache.put(cachePrefix + key, pokemon);
+            }
+        }
+        pending.keySet().forEach(cacheKey -> notFoundCache.recordMissing(cacheKey, generation));
+        return found;
+    }
+
+    /**
+     * Lee varias claves del cache en una sola operación cuando el proveedor es Caffeine
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<Object, Object> cachedValues(Cache cache, Collection<String> keys) {
+        if (cache == null) {
+            return Map.of();
+        }
+        if (cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeine) {
+            return ((com.github.benmanes.caffeine.cache.Cache<Object, Object>) caffeine).getAllPresent(keys);
+        }
+        Map<Object, Object> values = new HashMap<>();
+        for (String key : keys) {
+            Cache.ValueWrapper value = cache.get(key);
+            if (value != null) {
+                values.put(key, value.get());
+            }
+        }
+        return values;
+    }
+
+    private static String normalize(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Registra la consulta de un Pokémon para el ranking de popularidad del autocompletado
+     * 
+     * @param id ID del Pokémon consultado
+     */
+    public void recordView(Long id) {
+        autocompleteIndex.recordView(id);
+    }
+
+    private Page<PokemonResponse> page(RoaringBitmap ids, Pageable pageable) {
+        CatalogSnapshot snapshot = readModel.snapshot();
+        int total = ids.getCardinality();
+        long offset = pageable.isPaged() ? pageable.getOffset() : 0;
+        int limit = pageable.isPaged() ? pageable.getPageSize() : total;
+
+        List<PokemonResponse> content = new ArrayList<>(Math.min(limit, total));
+        if (offset < total) {
+            PeekableIntIterator iterator = ids.getIntIterator();
+            iterator.advanceIfNeeded(ids.select((int) offset));
+            while (iterator.hasNext() && content.size() < limit) {
+                snapshot.findById(iterator.next()).ifPresent(content::add);
+            }
+        }
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    private Page<PokemonResponse> pageDescending(RoaringBitmap ids, Pageable pageable) {
+        CatalogSnapshot snapshot = readModel.snapshot();
+        int total = ids.getCardinality();
+        List<PokemonResponse> content = new ArrayList<>(Math.min(pageable.getPageSize(), total));
+
+        IntIterator iterator = ids.getReverseIntIterator();
+        for (long skipped = 0; skipped < pageable.getOffset() && iterator.hasNext(); skipped++) {
+            iterator.next();
+        }
+        while (iterator.hasNext() && content.size() < pageable.getPageSize()) {
+            snapshot.findById(iterator.next()).ifPresent(content::add);
+        }
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    private static void applyRange(PokemonRangeIndex.Snapshot ranges, RoaringBitmap matches,
+                                   PokemonRangeIndex.Field field, Integer min, Integer max) {
+        if (min != null || max != null) {
+            matches.and(ranges.range(field, min, max));
+        }
+    }
+
+    private static PokemonColumnStore.Dimension dimensionOf(String groupBy) {
+        if (groupBy == null || groupBy.isBlank()) {
+            return null;
+        }
+        switch (groupBy.trim().toLowerCase(Locale.ROOT)) {
+            case "type":
+                return PokemonColumnStore.Dimension.TYPE;
+            case "ability":
+                return PokemonColumnStore.Dimension.ABILITY;
+            default:
+                throw new InvalidQueryException("No se puede agrupar por '" + groupBy
+                        + "'. Valores permitidos: type, ability");
+        }
+    }
+
+    private static String percentileLabel(double percentile) {
+        return percentile == Math.rint(percentile)
+                ? "p" + (long) percentile
+                : "p" + String.valueOf(percentile).replace('.', '_');
+    }
+
+    private void requireCatalog() {
+        if (!readModel.isReady()) {
+            throw new CatalogUnavailableException("El catálogo en memoria no está disponible");
+        }
+    }
+
+    // Excepciones personalizadas
+    public static class CatalogUnavailableException extends RuntimeException {
+        public CatalogUnavailableException(String message) {
+            super(message);
+        }
+    }
+
+    public static class InvalidQueryException extends RuntimeException {
+        public InvalidQueryException(String message) {
+            super(message);
+        }
+    }
+}
@@ -1,24 +1,31 @@
 package com.pokemon.application.service;
 
 import com.pokemon.application.dto.request.PokemonCreateRequest;
+import com.pokemon.application.dto.request.PokemonFields;
 import com.pokemon.application.dto.response.PokemonResponse;
+import com.pokemon.application.event.PokemonDeletedEvent;
 import com.pokemon.application.mapper.PokemonMapper;
+import com.pokemon.application.readmodel.PokemonReadModel;
 import com.pokemon.domain.entity.Pokemon;
 import com.pokemon.domain.repository.PokemonRepository;
 import com.pokemon.infrastructure.external.dto.PokeApiResponse;
 import com.pokemon.infrastructure.external.service.PokeApiService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.time.Duration;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
  * Servicio principal para la gestión de Pokémon
@@ -32,25 +39,59 @@ import java.util.Optional;
 @Transactional(readOnly = true)
 public class PokemonService {
 
+    /**
+     * Las páginas más grandes no se cachean: ocuparían el cache con pocas entradas
+     * y para recorrer el catálogo completo está {@code GET /pokemon/stream}
+     */
+    public static final int MAX_CACHED_PAGE_SIZE = 100;
+
+    private static final int CREATION_LOCK_STRIPES = 256;
+
     private final PokemonRepository pokemonRepository;
     private final PokeApiService pokeApiService;
     private final PokemonMapper pokemonMapper;
+    private final PokemonReadModel readModel;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PokemonWriteBuffer writeBuffer;
+    private final NegativeLookupCache notFoundCache;
+    private final StripedLocks creationLocks = new StripedLocks(CREATION_LOCK_STRIPES);
+
+    @Value("${pokemon.create.lock-timeout:35s}")
+    private Duration creationLockTimeout = Duration.ofSeconds(35);
 
     /**
      * Crea un nuevo Pokémon obteniendo la información desde PokeAPI
      * 
+     * Las creaciones concurrentes del mismo nombre se serializan con un lock por
+     * nombre tomado antes de abrir la transacción, así que solo la primera
+     * consulta PokeAPI y las demás ven el Pokémon ya guardado. La llamada externa
+     * se hace fuera de la transacción; la inserción se agrupa con las de otras
+     * solicitudes concurrentes en {@link PokemonWriteBuffer} y se responde después
+     * de su commit. Dos nombres que resuelven al mismo ID externo (por ejemplo
+     * "pikachu" y "25") se resuelven con la inserción condicional.
+     * 
      * @param request solicitud de creación
      * @return respuesta con la información del Pokémon creado
      * @throws PokemonAlreadyExistsException si el Pokémon ya existe
      * @throws PokemonNotFoundException si el Pokémon no existe en PokeAPI
+     * @throws CreationInProgressException si otra creación del mismo nombre no terminó a tiempo
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     @CacheEvict(value = {"pokemonListCache", "pokemonSearchCache"}, allEntries = true)
     public PokemonResponse createPokemon(PokemonCreateRequest request) {
         String pokemonName = request.getName().toLowerCase().trim();
         
         log.info("Iniciando creación de Pokémon: {}", pokemonName);
 
+        try {
+            return creationLocks.withLock(pokemonName, creationLockTimeout, () -> create(pokemonName));
+        } catch (StripedLocks.LockTimeoutException e) {
+            log.warn("Creación de '{}' en curso por otra solicitud", pokemonName);
+            throw new CreationInProgressException("La creación de '" + pokemonName + "' ya está en curso");
+        }
+    }
+
+    private PokemonResponse create(String pokemonName) {
         // Verificar si ya existe en nuestra base de datos
         if (pokemonRepository.existsByNameIgnoreCase(pokemonName)) {
             log.warn("Intento de crear Pokémon duplicado: {}", pokemonName);
@@ -69,34 +110,52 @@ public class PokemonService {
             throw new ExternalServiceException("Error al consultar información del Pokémon desde PokeAPI", e);
         }
 
-        // Convertir y guardar
+        // Convertir y guardar en el próximo lote; si otro nombre ya insertó el mismo ID externo no se hace nada
         Pokemon pokemon = pokemonMapper.fromPokeApiResponse(pokeApiResponse);
-        Pokemon savedPokemon = pokemonRepository.save(pokemon);
-        
-        log.info("Pokémon '{}' creado exitosamente con ID: {}", pokemonName, savedPokemon.getId());
-        
-        return pokemonMapper.toResponse(savedPokemon);
+        PokemonResponse created = writeBuffer.insert(pokemon).orElseThrow(() -> {
+            log.warn("Pokémon '{}' (ID externo {}) ya existe", pokemonName, pokemon.getExternalId());
+            return new PokemonAlreadyExistsException(
+                    "El Pokémon '" + pokemon.getName() + "' ya existe en la base de datos");
+        });
+
+        log.info("Pokémon '{}' creado exitosamente con ID: {}", pokemonName, created.getId());
+
+        // Después del commit: el modelo de lectura ya tiene el Pokémon
+        notFoundCache.invalidateAll();
+        return created;
     }
 
     /**
      * Obtiene todos los Pokémon con paginación
-     * Los resultados se cachean por 10 minutos
+     * Se atiende desde el modelo de lectura si está listo y soporta el ordenamiento
+     * Los resultados se cachean por 10 minutos (páginas de hasta {@value #MAX_CACHED_PAGE_SIZE})
+     * Si no se piden tipos ni habilidades, la base de datos solo lee columnas escalares
      * 
      * @param pageable configuración de paginación
+     * @param fields campos solicitados
      * @return página de Pokémon
      */
-    @Cacheable(value = "pokemonListCache", key = "#pageable.pageNumber + '_' + #pageable.pageSize + '_' + #pageable.sort.toString()")
-    public Page<PokemonResponse> getAllPokemon(Pageable pageable) {
+    @Cacheable(value = "pokemonListCache", key = "#pageable.pageNumber + '_' + #pageable.pageSize + '_' + #pageable.sort.toString() + '_' + #fields",
+            condition = "#pageable.pageSize <= T(com.pokemon.application.service.PokemonService).MAX_CACHED_PAGE_SIZE")
+    public Page<PokemonResponse> getAllPokemon(Pageable pageable, PokemonFields fields) {
         log.debug("Obteniendo lista de Pokémon - Página: {}, Tamaño: {}", 
                  pageable.getPageNumber(), pageable.getPageSize());
 
-        Page<Pokemon> pokemonPage = pokemonRepository.findAll(pageable);
-        List<PokemonResponse> responses = pokemonMapper.toResponseList(pokemonPage.getContent());
+        if (readModel.isReady()) {
+            Optional<Page<PokemonResponse>> inMemory = readModel.findAll(pageable);
+            if (inMemory.isPresent()) {
+                return inMemory.get();
+            }
+        }
+
+        Page<PokemonResponse> responses = fields.includesCollections()
+                ? toResponsePage(pokemonRepository.findAll(pageable), pageable)
+                : pokemonRepository.findAllProjectedBy(pageable).map(pokemonMapper::toSummaryResponse);
         
         log.info("Se encontraron {} Pokémon en la página {} de {}", 
-                responses.size(), pokemonPage.getNumber() + 1, pokemonPage.getTotalPages());
+                responses.getNumberOfElements(), responses.getNumber() + 1, responses.getTotalPages());
 
-        return new PageImpl<>(responses, pageable, pokemonPage.getTotalElements());
+        return responses;
     }
 
     /**
@@ -110,14 +169,16 @@ public class PokemonService {
     public PokemonResponse getPokemonById(Long id) {
         log.debug("Buscando Pokémon por ID: {}", id);
 
-        Pokemon pokemon = pokemonRepository.findById(id)
+        PokemonResponse pokemon = (readModel.isReady()
+                        ? readModel.findById(id)
+                        : findInDatabase("id_" + id, () -> pokemonRepository.findById(id).map(pokemonMapper::toResponse)))
                 .orElseThrow(() -> {
                     log.warn("Pokémon con ID {} no encontrado", id);
                     return new PokemonNotFoundException("Pokémon con ID " + id + " no encontrado");
                 });
 
         log.debug("Pokémon encontrado: {}", pokemon.getName());
-        return pokemonMapper.toResponse(pokemon);
+        return pokemon;
     }
 
     /**
@@ -131,14 +192,32 @@ public class PokemonService {
     public PokemonResponse getPokemonByName(String name) {
         log.debug("Buscando Pokémon por nombre: {}", name);
 
-        Pokemon pokemon = pokemonRepository.findByNameIgnoreCase(name)
+        PokemonResponse pokemon = (readModel.isReady()
+                        ? readModel.findByName(name)
+                        : findInDatabase("name_" + name.toLowerCase(),
+                                () -> pokemonRepository.findByNaturalId(name).map(pokemonMapper::toResponse)))
                 .orElseThrow(() -> {
                     log.warn("Pokémon con nombre '{}' no encontrado", name);
                     return new PokemonNotFoundException("Pokémon '" + name + "' no encontrado");
                 });
 
         log.debug("Pokémon encontrado: {}", pokemon.getName());
-        return pokemonMapper.toResponse(pokemon);
+        return pokemon;
+    }
+
+    /**
+     * Consulta la base de datos salvo que la misma clave haya fallado hace poco
+     */
+    private Optional<PokemonResponse> findInDatabase(String key, Supplier<Optional<PokemonResponse>> lookup) {
+        if (notFoundCache.isMissing(key)) {
+            return Optional.empty();
+        }
+        long generation = notFoundCache.generation();
+        Optional<PokemonResponse> result = lookup.get();
+        if (result.isEmpty()) {
+            notFoundCache.recordMissing(key, generation);
+        }
+        return result;
     }
 
     /**
@@ -146,19 +225,29 @@ public class PokemonService {
      * 
      * @param type tipo de Pokémon
      * @param pageable configuración de paginación
+     * @param fields campos solicitados
      * @return página de Pokémon del tipo especificado
      */
-    @Cacheable(value = "pokemonSearchCache", key = "'type_' + #type.toLowerCase() + '_' + #pageable.pageNumber + '_' + #pageable.pageSize")
-    public Page<PokemonResponse> getPokemonByType(String type, Pageable pageable) {
+    @Cacheable(value = "pokemonSearchCache", key = "'type_' + #type.toLowerCase() + '_' + #pageable.pageNumber + '_' + #pageable.pageSize + '_' + #pageable.sort.toString() + '_' + #fields",
+            condition = "#pageable.pageSize <= T(com.pokemon.application.service.PokemonService).MAX_CACHED_PAGE_SIZE")
+    public Page<PokemonResponse> getPokemonByType(String type, Pageable pageable, PokemonFields fields) {
         log.debug("Buscando Pokémon por tipo: {}", type);
 
-        Page<Pokemon> pokemonPage = pokemonRepository.findByTypesContainingIgnoreCase(type, pageable);
-        List<PokemonResponse> responses = pokemonMapper.toResponseList(pokemonPage.getContent());
+        if (readModel.isReady()) {
+            Optional<Page<PokemonResponse>> inMemory = readModel.findByType(type, pageable);
+            if (inMemory.isPresent()) {
+                return inMemory.get();
+            }
+        }
+
+        Page<PokemonResponse> responses = fields.includesCollections()
+                ? toResponsePage(pokemonRepository.findByTypesContainingIgnoreCase(type, pageable), pageable)
+                : pokemonRepository.findProjectedByType(type, pageable).map(pokemonMapper::toSummaryResponse);
 
         log.info("Se encontraron {} Pokémon de tipo '{}' en la página {} de {}", 
-                responses.size(), type, pokemonPage.getNumber() + 1, pokemonPage.getTotalPages());
+                responses.getNumberOfElements(), type, responses.getNumber() + 1, responses.getTotalPages());
 
-        return new PageImpl<>(responses, pageable, pokemonPage.getTotalElements());
+        return responses;
     }
 
     /**
@@ -166,19 +255,35 @@ public class PokemonService {
      * 
      * @param name parte del nombre a buscar
      * @param pageable configuración de paginación
+     * @param fields campos solicitados
      * @return página de Pokémon que contengan el texto en su nombre
      */
-    @Cacheable(value = "pokemonSearchCache", key = "'search_' + #name.toLowerCase() + '_' + #pageable.pageNumber + '_' + #pageable.pageSize")
-    public Page<PokemonResponse> searchPokemonByName(String name, Pageable pageable) {
+    @Cacheable(value = "pokemonSearchCache", key = "'search_' + #name.toLowerCase() + '_' + #pageable.pageNumber + '_' + #pageable.pageSize + '_' + #pageable.sort.toString() + '_' + #fields",
+            condition = "#pageable.pageSize <= T(com.pokemon.application.service.PokemonService).MAX_CACHED_PAGE_SIZE")
+    public Page<PokemonResponse> searchPokemonByName(String name, Pageable pageable, PokemonFields fields) {
         log.debug("Buscando Pokémon que contengan: {}", name);
 
-        Page<Pokemon> pokemonPage = pokemonRepository.findByNameContainingIgnoreCase(name, pageable);
-        List<PokemonResponse> responses = pokemonMapper.toResponseList(pokemonPage.getContent());
+        if (readModel.isReady()) {
+            Optional<Page<PokemonResponse>> inMemory = readModel.searchByName(name, pageable);
+            if (inMemory.isPresent()) {
+                return inMemory.get();
+            }
+        }
+
+        Page<PokemonResponse> responses = fields.includesCollections()
+                ? toResponsePage(pokemonRepository.findByNameContainingIgnoreCase(name, pageable), pageable)
+                : pokemonRepository.findProjectedByNameContainingIgnoreCase(name, pageable)
+                        .map(pokemonMapper::toSummaryResponse);
 
         log.info("Se encontraron {} Pokémon que contienen '{}' en la página {} de {}", 
-                responses.size(), name, pokemonPage.getNumber() + 1, pokemonPage.getTotalPages());
+                responses.getNumberOfElements(), name, responses.getNumber() + 1, responses.getTotalPages());
+
+        return responses;
+    }
 
-        return new PageImpl<>(responses, pageable, pokemonPage.getTotalElements());
+    private Page<PokemonResponse> toResponsePage(Page<Pokemon> pokemonPage, Pageable pageable) {
+        return new PageImpl<>(pokemonMapper.toResponseList(pokemonPage.getContent()),
+                pageable, pokemonPage.getTotalElements());
     }
 
     /**
@@ -192,12 +297,14 @@ public class PokemonService {
     public void deletePokemon(Long id) {
         log.info("Eliminando Pokémon con ID: {}", id);
 
-        if (!pokemonRepository.existsById(id)) {
+        // findById puede resolverse desde el cache de segundo nivel; existsById siempre consulta
+        Pokemon pokemon = pokemonRepository.findById(id).orElseThrow(() -> {
             log.warn("Intento de eliminar Pokémon inexistente con ID: {}", id);
-            throw new PokemonNotFoundException("Pokémon con ID " + id + " no encontrado");
-        }
+            return new PokemonNotFoundException("Pokémon con ID " + id + " no encontrado");
+        });
 
-        pokemonRepository.deleteById(id);
+        pokemonRepository.delete(pokemon);
+        eventPublisher.publishEvent(new PokemonDeletedEvent(id));
         log.info("Pokémon con ID {} eliminado exitosamente", id);
     }
 
@@ -217,19 +324,43 @@ public class PokemonService {
     }
 
     // Excepciones personalizadas
+    // Las de flujo esperado no capturan stack trace: son respuestas 404/409 frecuentes, no fallas
     public static class PokemonNotFoundException extends RuntimeException {
         public PokemonNotFoundException(String message) {
-            super(message);
+            super(message, null, false, false);
         }
         
         public PokemonNotFoundException(String message, Throwable cause) {
-            super(message, cause);
+            super(message, cause, false, false);
         }
     }
 
     public static class PokemonAlreadyExistsException extends RuntimeException {
         public PokemonAlreadyExistsException(String message) {
-            super(message);
+            super(message, null, false, false);
+        }
+    }
+
+    public static class CreationInProgressException extends RuntimeException {
+        public CreationInProgressException(String message) {
+            super(message, null, false, false);
+        }
+    }
+
+    /**
+     * Saturación local (colas o esperas internas agotadas): el cliente puede
+     * reintentar pasados {@code retryAfterSeconds}
+     */
+    public static class ServiceBusyException extends RuntimeException {
+        private final long retryAfterSeconds;
+
+        public ServiceBusyException(String message, long retryAfterSeconds, Throwable cause) {
+            super(message, cause);
+            this.retryAfterSeconds = retryAfterSeconds;
+        }
+
+        public long getRetryAfterSeconds() {
+            return retryAfterSeconds;
         }
     }
 
@@ -0,0 +1,447 @@
+package com.pokemon.application.service;
+
+import com.pokemon.application.dto.response.PokemonResponse;
+import com.pokemon.application.event.PokemonDeletedEvent;
+import com.pokemon.infrastructure.external.service.SpriteClient;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Cache en disco de los sprites de los Pokémon
+ *
+ * La primera solicitud de un sprite lo descarga con {@link SpriteClient} y lo
+ * guarda como {@code {id}-{etag}.{extensión}}; las siguientes se sirven desde
+ * ese archivo. El ETag es un hash del contenido, así que se conserva entre
+ * reinicios: al arrancar se recorre el directorio y los archivos se ordenan
+ * por fecha de modificación como aproximación del uso reciente.
+ *
+ * El tamaño total está acotado por {@code pokemon.sprites.max-size}; al
+ * superarlo se borran los sprites usados hace más tiempo (LRU). Las descargas
+ * concurrentes del mismo Pokémon se serializan con un lock por ID, de modo que
+ * cada imagen se pide una sola vez.
+ *
+ * Para servir un sprite se usa {@link #openSprite}, que abre el archivo mientras
+ * sigue registrado en el índice. El desalojo y la eliminación lo quitan del
+ * índice antes de borrarlo, así que un archivo abierto nunca se pierde a mitad
+ * de la respuesta: el sistema de archivos lo conserva hasta cerrarlo.
+ *
+ * Cuando el contenedor envía el archivo por su cuenta (sendfile), lo abre
+ * después de que el controlador termina, así que no alcanza con el archivo
+ * abierto: {@link #linkForSendfile} crea un enlace duro por solicitud en
+ * {@code sendfile/}, que mantiene vivo el contenido aunque el sprite se borre, y
+ * {@link #cleanUpLinks} borra los enlaces que superan {@code pokemon.sprites.link-ttl}.
+ *
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@Service
+@Slf4j
+public class PokemonSpriteService implements MeterBinder {
+
+    private static final int DOWNLOAD_LOCK_STRIPES = 64;
+
+    /** Veces que se reintenta abrir un sprite desalojado entre la búsqueda y la apertura */
+    private static final int OPEN_ATTEMPTS = 3;
+
+    /** Segundos sugeridos al cliente para reintentar cuando el cache está ocupado */
+    private static final long RETRY_AFTER_SECONDS = 1;
+
+    /** Subdirectorio de los enlaces creados para sendfile */
+    private static final String LINKS_DIRECTORY = "sendfile";
+
+    private static final Pattern FILE_NAME = Pattern.compile("(\\d+)-([0-9a-f]+)\\.([a-z0-9]+)");
+
+    private static final Map<String, String> EXTENSIONS = Map.of(
+            "png", "png",
+            "gif", "gif",
+            "jpeg", "jpg",
+            "webp", "webp",
+            "svg+xml", "svg");
+
+    private final PokemonService pokemonService;
+    private final SpriteClient spriteClient;
+    private final Path directory;
+    private final long maxSizeBytes;
+    private final Duration lockTimeout;
+    private final Path linksDirectory;
+    private final Duration linkTtl;
+    private final StripedLocks downloadLocks = new StripedLocks(DOWNLOAD_LOCK_STRIPES);
+
+    /** Sprites en disco en orden de acceso (el primero es el usado hace más tiempo) */
+    private final LinkedHashMap<Long, Sprite> sprites = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    /** Enlaces para sendfile en orden de creación, pendientes de borrar */
+    private final Queue<SendfileLink> links = new ConcurrentLinkedQueue<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong downloads = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public PokemonSpriteService(PokemonService pokemonService,
+                                SpriteClient spriteClient,
+                                @Value("${pokemon.sprites.directory:${java.io.tmpdir}/pokemon-sprites}") Path directory,
+                                @Value("${pokemon.sprites.max-size:100MB}") DataSize maxSize,
+                                @Value("${pokemon.sprites.lock-timeout:15s}") Duration lockTimeout,
+                                @Value("${pokemon.sprites.link-ttl:1m}") Duration linkTtl) {
+        this.pokemonService = pokemonService;
+        this.spriteClient = spriteClient;
+        this.directory = directory;
+        this.maxSizeBytes = maxSize.toBytes();
+        this.lockTimeout = lockTimeout;
+        this.linksDirectory = directory.resolve(LINKS_DIRECTORY);
+        this.linkTtl = linkTtl;
+    }
+
+    /**
+     * Registra los sprites que ya estaban en disco
+     */
+    @PostConstruct
+    public void load() {
+        List<Path> files = new ArrayList<>();
+        try {
+            Files.createDirectories(linksDirectory);
+            try (DirectoryStream<Path> entries = Files.newDirectoryStream(linksDirectory)) {
+                for (Path link : entries) {
+                    // Enlaces de respuestas de la ejecución anterior
+                    Files.deleteIfExists(link);
+                }
+            }
+            try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+                for (Path file : entries) {
+                    if (file.getFileName().toString().endsWith(".tmp")) {
+                        // Descarga interrumpida antes de renombrarse
+                        Files.deleteIfExists(file);
+                    } else if (FILE_NAME.matcher(file.getFileName().toString()).matches()) {
+                        files.add(file);
+                    }
+                }
+            }
+            files.sort(Comparator.comparing(PokemonSpriteService::lastModified));
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo preparar el directorio de sprites " + directory, e);
+        }
+
+        List<Path> evicted;
+        synchronized (this) {
+            for (Path file : files) {
+                Matcher matcher = FILE_NAME.matcher(file.getFileName().toString());
+                matcher.matches();
+                long size = file.toFile().length();
+                Sprite sprite = new Sprite(Long.valueOf(matcher.group(1)), file, matcher.group(2),
+                        MediaTypeFactory.getMediaType(file.getFileName().toString())
+                                .orElse(MediaType.APPLICATION_OCTET_STREAM), size);
+                Sprite previous = sprites.put(sprite.pokemonId(), sprite);
+                totalBytes += size;
+                if (previous != null) {
+                    // Dos versiones del mismo sprite: queda la más reciente
+                    totalBytes -= previous.size();
+                    delete(previous.path());
+                }
+            }
+            evicted = evictOverBudget();
+        }
+        evicted.forEach(PokemonSpriteService::delete);
+        log.info("Cache de sprites en {}: {} archivos, {} bytes", directory, sprites.size(), totalBytes);
+    }
+
+    /**
+     * Obtiene el sprite de un Pokémon, descargándolo la primera vez
+     *
+     * @param id ID del Pokémon
+     * @return el archivo del sprite con su ETag y tipo
+     * @throws PokemonService.PokemonNotFoundException si el Pokémon no existe
+     * @throws SpriteNotAvailableException si el Pokémon no tiene sprite
+     * @throws PokemonService.ExternalServiceException si no se pudo descargar
+     * @throws PokemonService.ServiceBusyException si la descarga del mismo sprite sigue en curso
+     */
+    public Sprite getSprite(Long id) {
+        // Un Pokémon eliminado en otra instancia no debe seguir sirviendo su sprite
+        PokemonResponse pokemon = pokemonService.getPokemonById(id);
+
+        Sprite cached = lookup(id);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return cached;
+        }
+        if (pokemon.getSpriteUrl() == null || pokemon.getSpriteUrl().isBlank()) {
+            throw new SpriteNotAvailableException("El Pokémon '" + pokemon.getName() + "' no tiene sprite");
+        }
+
+        try {
+            return downloadLocks.withLock(String.valueOf(id), lockTimeout, () -> {
+                Sprite downloaded = lookup(id);
+                return downloaded != null ? downloaded : download(id, pokemon.getSpriteUrl());
+            });
+        } catch (StripedLocks.LockTimeoutException e) {
+            throw new PokemonService.ServiceBusyException(
+                    "La descarga del sprite del Pokémon " + id + " sigue en curso", RETRY_AFTER_SECONDS, e);
+        } catch (SpriteClient.SpriteDownloadException e) {
+            log.warn("No se pudo obtener el sprite del Pokémon {}: {}", id, e.getMessage());
+            throw new PokemonService.ExternalServiceException("Error al descargar el sprite del Pokémon", e);
+        }
+    }
+
+    /**
+     * Obtiene el sprite de un Pokémon con su archivo ya abierto para leerlo
+     *
+     * El archivo se abre solo si el sprite sigue en el índice, de modo que el
+     * desalojo o la eliminación del Pokémon no pueden borrarlo antes; el
+     * llamador debe cerrarlo.
+     *
+     * @param id ID del Pokémon
+     * @return el sprite y su archivo abierto
+     * @throws PokemonService.PokemonNotFoundException si el Pokémon no existe
+     * @throws SpriteNotAvailableException si el Pokémon no tiene sprite
+     * @throws PokemonService.ExternalServiceException si no se pudo descargar
+     * @throws PokemonService.ServiceBusyException si la descarga sigue en curso o el
+     *         sprite se desaloja una y otra vez antes de abrirse
+     */
+    public OpenSprite openSprite(Long id) {
+        for (int attempt = 1; attempt <= OPEN_ATTEMPTS; attempt++) {
+            Sprite sprite = getSprite(id);
+            synchronized (this) {
+                if (sprites.get(id) == sprite) {
+                    try {
+                        return new OpenSprite(sprite, FileChannel.open(sprite.path(), StandardOpenOption.READ));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("No se pudo abrir el sprite del Pokémon " + id, e);
+                    }
+                }
+            }
+            log.debug("Sprite del Pokémon {} desalojado antes de abrirse (intento {})", id, attempt);
+        }
+        throw new PokemonService.ServiceBusyException(
+                "El sprite del Pokémon " + id + " se desalojó antes de poder servirse", RETRY_AFTER_SECONDS, null);
+    }
+
+    /**
+     * Crea un enlace duro al archivo de un sprite para que el contenedor lo envíe
+     *
+     * El enlace se crea solo si el sprite sigue en el índice, así que apunta al
+     * mismo contenido que el sprite ya abierto, y sobrevive a su desalojo hasta
+     * que {@link #cleanUpLinks} lo borra.
+     *
+     * @param sprite sprite obtenido con {@link #openSprite}
+     * @return el enlace, o vacío si el sprite ya se desalojó o el sistema de
+     *         archivos no admite enlaces duros
+     */
+    public Optional<Path> linkForSendfile(Sprite sprite) {
+        Path link = linksDirectory.resolve(UUID.randomUUID() + "-" + sprite.path().getFileName());
+        synchronized (this) {
+            if (sprites.get(sprite.pokemonId()) != sprite) {
+                return Optional.empty();
+            }
+            try {
+                Files.createLink(link, sprite.path());
+            } catch (IOException | UnsupportedOperationException e) {
+                log.debug("No se pudo enlazar el sprite {} para sendfile: {}", sprite.path(), e.getMessage());
+                return Optional.empty();
+            }
+        }
+        links.add(new SendfileLink(link, Instant.now()));
+        return Optional.of(link);
+    }
+
+    /**
+     * Borra los enlaces para sendfile que superan {@code pokemon.sprites.link-ttl}
+     *
+     * El contenedor abre el archivo en cuanto termina el controlador, así que
+     * borrar el enlace después no corta la respuesta en curso.
+     */
+    @Scheduled(fixedDelayString = "${pokemon.sprites.link-ttl:1m}")
+    public void cleanUpLinks() {
+        Instant expired = Instant.now().minus(linkTtl);
+        SendfileLink link;
+        while ((link = links.peek()) != null && !link.createdAt().isAfter(expired)) {
+            links.poll();
+            delete(link.path());
+        }
+    }
+
+    /**
+     * Borra el sprite de un Pokémon eliminado
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPokemonDeleted(PokemonDeletedEvent event) {
+        Sprite removed;
+        synchronized (this) {
+            removed = sprites.remove(event.getId());
+            if (removed != null) {
+                totalBytes -= removed.size();
+            }
+        }
+        if (removed != null) {
+            delete(removed.path());
+        }
+    }
+
+    private synchronized Sprite lookup(Long id) {
+        return sprites.get(id);
+    }
+
+    private Sprite download(Long id, String url) {
+        SpriteClient.Download image = spriteClient.download(url);
+        downloads.incrementAndGet();
+
+        String etag = hash(image.content());
+        String extension = EXTENSIONS.getOrDefault(image.contentType().getSubtype(), "bin");
+        Path target = directory.resolve(id + "-" + etag + "." + extension);
+        Path temporary = directory.resolve(id + "-" + etag + ".tmp");
+        try {
+            // Escribir aparte y renombrar: nunca se sirve un archivo a medio escribir
+            Files.write(temporary, image.content());
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            delete(temporary);
+            throw new UncheckedIOException("No se pudo guardar el sprite del Pokémon " + id, e);
+        }
+
+        Sprite sprite = new Sprite(id, target, etag, image.contentType(), image.content().length);
+        List<Path> evicted;
+        synchronized (this) {
+            sprites.put(id, sprite);
+            totalBytes += sprite.size();
+            evicted = evictOverBudget();
+        }
+        evicted.forEach(PokemonSpriteService::delete);
+        log.info("Sprite del Pokémon {} guardado en disco ({} bytes)", id, sprite.size());
+        return sprite;
+    }
+
+    /**
+     * Quita del índice los sprites usados hace más tiempo hasta volver al límite
+     *
+     * El último agregado nunca se desaloja, aunque por sí solo supere el límite,
+     * porque todavía tiene que servirse. Devuelve los archivos a borrar, que se
+     * borran fuera del lock.
+     */
+    private List<Path> evictOverBudget() {
+        List<Path> evicted = new ArrayList<>();
+        Iterator<Sprite> eldest = sprites.values().iterator();
+        while (totalBytes > maxSizeBytes && sprites.size() > 1) {
+            Sprite sprite = eldest.next();
+            eldest.remove();
+            totalBytes -= sprite.size();
+            evictions.incrementAndGet();
+            evicted.add(sprite.path());
+        }
+        return evicted;
+    }
+
+    private static String hash(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static FileTime lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("No se pudo borrar el sprite {}: {}", file, e.getMessage());
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("pokemon.sprites.cache.size", this, service -> {
+                    synchronized (service) {
+                        return service.totalBytes;
+                    }
+                })
+                .description("Bytes ocupados por los sprites en disco")
+                .baseUnit("bytes")
+                .register(registry);
+        FunctionCounter.builder("pokemon.sprites.cache.hits", hits, AtomicLong::get)
+                .description("Sprites servidos desde disco sin descargar")
+                .register(registry);
+        FunctionCounter.builder("pokemon.sprites.downloads", downloads, AtomicLong::get)
+                .description("Sprites descargados")
+                .register(registry);
+        FunctionCounter.builder("pokemon.sprites.evictions", evictions, AtomicLong::get)
+                .description("Sprites borrados para respetar el tamaño máximo")
+                .register(registry);
+    }
+
+    /**
+     * Sprite guardado en disco
+     *
+     * @param etag hash del contenido, estable mientras la imagen no cambie
+     */
+    public record Sprite(Long pokemonId, Path path, String etag, MediaType contentType, long size) {
+    }
+
+    /**
+     * Sprite con su archivo abierto; cerrarlo libera el archivo
+     */
+    public record OpenSprite(Sprite sprite, FileChannel channel) implements AutoCloseable {
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    private record SendfileLink(Path path, Instant createdAt) {
+    }
+
+    // Excepciones personalizadas
+
+    public static class SpriteNotAvailableException extends RuntimeException {
+        public SpriteNotAvailableException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.pokemon.application.service;
+
+import com.pokemon.application.dto.response.PokemonResponse;
+import com.pokemon.application.event.PokemonCreatedEvent;
+import com.pokemon.application.mapper.PokemonMapper;
+import com.pokemon.domain.entity.Pokemon;
+import com.pokemon.domain.repository.PokemonRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Agrupa las inserciones de Pokémon de solicitudes concurrentes en un único commit
+ *
+ * Cada creación deja su Pokémon en una cola y espera. Un hilo propio toma el
+ * primero, junta los que lleguen hasta completar {@code max-rows} o hasta que
+ * pasen {@code max-delay} desde el primero, y los inserta con un solo
+ * {@code INSERT} de varias filas en una transacción. A cada solicitud se le
+ * responde recién después del commit. Mientras un lote se escribe, los que
+ * llegan se acumulan para el siguiente, así que con {@code max-delay} en cero
+ * igual se agrupa bajo carga sin agregar espera.
+ *
+ * Si el lote falla se reintenta cada Pokémon en su propia transacción, para que
+ * una fila inválida no haga fallar a las demás solicitudes.
+ *
+ * La cola está acotada por {@code queue-capacity} y cada solicitud espera su
+ * commit a lo sumo {@code timeout}, porque lo hace con el lock de creación del
+ * nombre tomado; en ambos casos se responde que el servicio está saturado. Si
+ * el plazo vence con el Pokémon ya tomado por el lote en curso, ese lote puede
+ * confirmarse igual: el reintento del cliente verá el Pokémon ya creado.
+ *
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@Component
+@Slf4j
+public class PokemonWriteBuffer implements MeterBinder {
+
+    /** Cada cuánto revisa el hilo si debe terminar cuando la cola está vacía */
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    /** Segundos sugeridos al cliente para reintentar cuando el buffer está saturado */
+    private static final long RETRY_AFTER_SECONDS = 1;
+
+    private final PokemonRepository pokemonRepository;
+    private final PokemonMapper pokemonMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionOperations transactionOperations;
+    private final int maxRows;
+    private final Duration maxDelay;
+    private final Duration timeout;
+
+    private final BlockingQueue<PendingInsert> queue;
+    private final AtomicLong flushes = new AtomicLong();
+    private final AtomicLong rows = new AtomicLong();
+    private final Thread flusher;
+    private volatile boolean running = true;
+
+    public PokemonWriteBuffer(PokemonRepository pokemonRepository,
+                              PokemonMapper pokemonMapper,
+                              ApplicationEventPublisher eventPublisher,
+                              TransactionOperations transactionOperations,
+                              @Value("${pokemon.create.group-commit.max-rows:100}") int maxRows,
+                              @Value("${pokemon.create.group-commit.max-delay:5ms}") Duration maxDelay,
+                              @Value("${pokemon.create.group-commit.timeout:10s}") Duration timeout,
+                              @Value("${pokemon.create.group-commit.queue-capacity:1000}") int queueCapacity) {
+        this.pokemonRepository = pokemonRepository;
+        this.pokemonMapper = pokemonMapper;
+        this.eventPublisher = eventPublisher;
+        this.transactionOperations = transactionOperations;
+        this.maxRows = maxRows;
+        this.maxDelay = maxDelay;
+        this.timeout = timeout;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.flusher = new Thread(this::flushLoop, "pokemon-write-buffer");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    /**
+     * Inserta el Pokémon en el próximo lote y espera su commit
+     *
+     * @param pokemon Pokémon sin ID
+     * @return la respuesta del Pokémon creado, o vacío si ya existía uno con el
+     *         mismo ID externo o nombre
+     * @throws IllegalStateException si la aplicación se está deteniendo
+     * @throws PokemonService.ServiceBusyException si la cola está llena o el
+     *         commit no llega a tiempo
+     */
+    public Optional<PokemonResponse> insert(Pokemon pokemon) {
+        PendingInsert pending = new PendingInsert(pokemon, new CompletableFuture<>());
+        if (!queue.offer(pending)) {
+            throw new PokemonService.ServiceBusyException(
+                    "La cola de inserción está llena (" + queue.size() + " Pokémon esperando)", RETRY_AFTER_SECONDS, null);
+        }
+        // Durante el cierre el hilo puede haber vaciado la cola por última vez
+        if (!running && queue.remove(pending)) {
+            throw new IllegalStateException("El buffer de inserción se está deteniendo");
+        }
+        try {
+            return pending.result().get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            if (queue.remove(pending)) {
+                log.warn("La inserción de '{}' no llegó a un lote en {}", pokemon.getName(), timeout);
+                throw new PokemonService.ServiceBusyException("La inserción del Pokémon no llegó a escribirse en "
+                        + timeout + "; no se guardó nada", RETRY_AFTER_SECONDS, e);
+            }
+            if (pending.result().isDone()) {
+                // El lote terminó justo después del plazo
+                return pending.result().join();
+            }
+            log.warn("La inserción de '{}' sigue en un lote sin confirmar tras {}", pokemon.getName(), timeout);
+            throw new PokemonService.ServiceBusyException("La inserción del Pokémon no se confirmó en " + timeout
+                    + "; todavía puede confirmarse, y en ese caso un reintento responde que el Pokémon ya existe",
+                    RETRY_AFTER_SECONDS, e);
+        } catch (InterruptedException e) {
+            queue.remove(pending);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrumpido esperando la inserción del Pokémon", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Termina de escribir lo encolado antes de cerrar el pool de conexiones
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        flusher.join();
+        PendingInsert pending;
+        while ((pending = queue.poll()) != null) {
+            pending.result().completeExceptionally(
+                    new IllegalStateException("El buffer de inserción se está deteniendo"));
+        }
+    }
+
+    private void flushLoop() {
+        List<PendingInsert> batch = new ArrayList<>(maxRows);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingInsert first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + maxDelay.toNanos();
+                while (batch.size() < maxRows) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        // Plazo vencido: se suma lo que ya esté esperando, sin bloquear
+                        queue.drainTo(batch, maxRows - batch.size());
+                        break;
+                    }
+                    PendingInsert next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Hilo del buffer de inserción interrumpido");
+                batch.forEach(pending -> pending.result().completeExceptionally(
+                        new IllegalStateException("El buffer de inserción fue interrumpido")));
+                return;
+            } catch (Throwable e) {
+                // El hilo sigue vivo: solo falla el lote en curso
+                log.error("Error inesperado en el buffer de inserción con {} Pokémon", batch.size(), e);
+                batch.forEach(pending -> pending.result().completeExceptionally(e));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<PendingInsert> batch) {
+        Map<Pokemon, PokemonResponse> created;
+        try {
+            created = transactionOperations.execute(status -> {
+                List<Pokemon> inserted = pokemonRepository.insertAllIfAbsent(
+                        batch.stream().map(PendingInsert::pokemon).toList());
+                Map<Pokemon, PokemonResponse> responses = new IdentityHashMap<>();
+                for (Pokemon pokemon : inserted) {
+                    PokemonResponse response = pokemonMapper.toResponse(pokemon);
+                    eventPublisher.publishEvent(new PokemonCreatedEvent(response, pokemon.getVersion()));
+                    responses.put(pokemon, response);
+                }
+                return responses;
+            });
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                batch.get(0).result().completeExceptionally(e);
+                return;
+            }
+            log.warn("Falló la inserción agrupada de {} Pokémon: {}; se reintentan de a uno",
+                    batch.size(), e.getMessage());
+            batch.forEach(pending -> flush(List.of(pending)));
+            return;
+        }
+
+        flushes.incrementAndGet();
+        rows.addAndGet(created.size());
+        log.debug("Lote de {} Pokémon confirmado ({} insertados)", batch.size(), created.size());
+        // Recién después del commit se responde a cada solicitud
+        batch.forEach(pending -> pending.result().complete(Optional.ofNullable(created.get(pending.pokemon()))));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("pokemon.create.batch.flushes", flushes, AtomicLong::get)
+                .description("Transacciones de inserción agrupada confirmadas")
+                .register(registry);
+        FunctionCounter.builder("pokemon.create.batch.rows", rows, AtomicLong::get)
+                .description("Pokémon insertados por inserción agrupada")
+                .register(registry);
+        Gauge.builder("pokemon.create.batch.pending", queue, BlockingQueue::size)
+                .description("Creaciones esperando el próximo lote")
+                .register(registry);
+    }
+
+    private record PendingInsert(Pokemon pokemon, CompletableFuture<Optional<PokemonResponse>> result) {
+    }
+}
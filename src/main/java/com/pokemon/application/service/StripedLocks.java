@@ -0,0 +1,64 @@
+package com.pokemon.application.service;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Conjunto fijo de locks repartidos por hash de clave
+ *
+ * Dos operaciones sobre la misma clave se serializan; claves distintas solo
+ * se bloquean entre sí si caen en la misma franja. La memoria no crece con la
+ * cantidad de claves.
+ *
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+final class StripedLocks {
+
+    private final ReentrantLock[] stripes;
+    private final int mask;
+
+    StripedLocks(int stripes) {
+        int size = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.stripes = new ReentrantLock[size];
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Ejecuta la acción con el lock de la clave
+     *
+     * @throws LockTimeoutException si no se obtiene el lock dentro del plazo
+     */
+    <T> T withLock(String key, Duration timeout, Supplier<T> action) {
+        ReentrantLock lock = stripes[index(key)];
+        try {
+            if (!lock.tryLock(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new LockTimeoutException(key);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LockTimeoutException(key);
+        }
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int index(String key) {
+        int h = key.hashCode();
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    static final class LockTimeoutException extends RuntimeException {
+        LockTimeoutException(String key) {
+            super("No se obtuvo el lock para '" + key + "'");
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.pokemon.application.service;
+
+import com.pokemon.application.dto.request.TeamAnalysisRequest;
+import com.pokemon.application.dto.response.PokemonResponse;
+import com.pokemon.application.dto.response.TeamAnalysisResponse;
+import com.pokemon.application.readmodel.CatalogSnapshot;
+import com.pokemon.application.readmodel.PokemonReadModel;
+import com.pokemon.domain.model.PokemonType;
+import com.pokemon.domain.model.TeamCoverage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Servicio de análisis de cobertura de tipos de equipos
+ * 
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TeamAnalysisService {
+
+    private static final Comparator<PokemonResponse> REPRESENTATIVE_ORDER = Comparator
+            .comparing(PokemonResponse::getBaseExperience, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(PokemonResponse::getId);
+
+    private final PokemonReadModel readModel;
+
+    private volatile CatalogTypes catalogTypes;
+
+    /**
+     * Analiza la cobertura ofensiva y las debilidades de un equipo
+     * 
+     * Si se pide completar, busca sobre todo el catálogo las combinaciones de
+     * tipos que maximizan el puntaje y sugiere, para cada una, el Pokémon con
+     * mayor experiencia base que no esté en el equipo.
+     * 
+     * @param request IDs del equipo y si se debe completar
+     * @return análisis del equipo (con las sugerencias incluidas)
+     * @throws PokemonQueryService.CatalogUnavailableException si el catálogo en memoria no está cargado
+     * @throws PokemonService.PokemonNotFoundException si algún Pokémon no existe
+     */
+    public TeamAnalysisResponse analyze(TeamAnalysisRequest request) {
+        if (!readModel.isReady()) {
+            throw new PokemonQueryService.CatalogUnavailableException("El catálogo en memoria no está disponible");
+        }
+        log.debug("Analizando equipo: {}", request.getPokemonIds());
+
+        CatalogTypes catalog = catalogTypes();
+        List<PokemonResponse> members = new ArrayList<>(request.getPokemonIds().size());
+        for (Long id : request.getPokemonIds()) {
+            members.add(catalog.snapshot.findById(id)
+                    .orElseThrow(() -> new PokemonService.PokemonNotFoundException("Pokémon con ID " + id + " no encontrado")));
+        }
+
+        List<PokemonResponse> suggestions = List.of();
+        int openSlots = TeamCoverage.TEAM_SIZE - members.size();
+        if (request.isComplete() && openSlots > 0) {
+            long start = System.nanoTime();
+            suggestions = suggest(catalog, members, openSlots);
+            log.info("Equipo completado con {} sugerencias en {} ms",
+                    suggestions.size(), (System.nanoTime() - start) / 1_000_000);
+        }
+
+        List<PokemonResponse> team = new ArrayList<>(members);
+        team.addAll(suggestions);
+        TeamCoverage.Evaluation evaluation = catalog.coverage.evaluate(masksOf(team));
+
+        return TeamAnalysisResponse.builder()
+                .members(members)
+                .suggestions(request.isComplete() ? suggestions : null)
+                .attackingTypes(PokemonType.namesOf(evaluation.getAttackMask()))
+                .coverage(evaluation.getCoverage())
+                .uncovered(Arrays.stream(evaluation.getUncoveredMasks())
+                        .mapToObj(mask -> String.join("/", PokemonType.namesOf(mask)))
+                        .toList())
+                .weaknesses(PokemonType.namesOf(evaluation.getWeaknessMask()))
+                .resistances(PokemonType.namesOf(evaluation.getResistanceMask()))
+                .score(evaluation.getScore())
+                .build();
+    }
+
+    private List<PokemonResponse> suggest(CatalogTypes catalog, List<PokemonResponse> members, int openSlots) {
+        Set<Long> taken = new HashSet<>();
+        members.forEach(member -> taken.add(member.getId()));
+
+        int[] available = catalog.byMask.entrySet().stream()
+                .filter(entry -> entry.getValue().stream().anyMatch(pokemon -> !taken.contains(pokemon.getId())))
+                .mapToInt(Map.Entry::getKey)
+                .toArray();
+
+        int[] picked = catalog.coverage.complete(masksOf(members), available, openSlots, ForkJoinPool.commonPool());
+
+        List<PokemonResponse> suggestions = new ArrayList<>(picked.length);
+        for (int mask : picked) {
+            catalog.byMask.get(mask).stream()
+                    .filter(pokemon -> !taken.contains(pokemon.getId()))
+                    .findFirst()
+                    .ifPresent(pokemon -> {
+                        taken.add(pokemon.getId());
+                        suggestions.add(pokemon);
+                    });
+        }
+        return suggestions;
+    }
+
+    /**
+     * Distribución de tipos del catálogo vigente, recalculada sólo cuando cambia el snapshot
+     */
+    private CatalogTypes catalogTypes() {
+        CatalogSnapshot snapshot = readModel.snapshot();
+        CatalogTypes current = catalogTypes;
+        if (current != null && current.snapshot == snapshot) {
+            return current;
+        }
+
+        int[] masks = new int[snapshot.size()];
+        Map<Integer, List<PokemonResponse>> byMask = new HashMap<>();
+        for (int i = 0; i < snapshot.size(); i++) {
+            PokemonResponse pokemon = snapshot.entryAt(i);
+            masks[i] = PokemonType.maskOf(pokemon.getTypes());
+            if (masks[i] != 0) {
+                byMask.computeIfAbsent(masks[i], mask -> new ArrayList<>()).add(pokemon);
+            }
+        }
+        byMask.values().forEach(list -> list.sort(REPRESENTATIVE_ORDER));
+
+        current = new CatalogTypes(snapshot, TeamCoverage.of(masks), byMask);
+        catalogTypes = current;
+        return current;
+    }
+
+    private static int[] masksOf(List<PokemonResponse> pokemon) {
+        return pokemon.stream().mapToInt(p -> PokemonType.maskOf(p.getTypes())).toArray();
+    }
+
+    /**
+     * Distribución de tipos asociada a un snapshot del catálogo
+     */
+    private static final class CatalogTypes {
+        final CatalogSnapshot snapshot;
+        final TeamCoverage coverage;
+        final Map<Integer, List<PokemonResponse>> byMask;
+
+        CatalogTypes(CatalogSnapshot snapshot, TeamCoverage coverage, Map<Integer, List<PokemonResponse>> byMask) {
+            this.snapshot = snapshot;
+            this.coverage = coverage;
+            this.byMask = byMask;
+        }
+    }
+}
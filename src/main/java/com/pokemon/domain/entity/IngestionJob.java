@@ -0,0 +1,104 @@
+package com.pokemon.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Trabajo de creación asíncrona de un Pokémon
+ * 
+ * La tabla funciona como cola persistente: los workers toman el trabajo
+ * pendiente más antiguo cuyo {@code nextAttemptAt} ya pasó.
+ * 
+ * {@code active_name} repite el nombre solo mientras el trabajo está activo y
+ * queda en {@code NULL} al terminar. Su restricción única impide dos trabajos
+ * activos para el mismo nombre aunque se encolen a la vez desde distintas
+ * instancias (un índice parcial haría lo mismo, pero H2 no los admite).
+ * 
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "ingestion_job", indexes = {
+    @Index(name = "idx_ingestion_job_status_next_attempt", columnList = "status, next_attempt_at"),
+    @Index(name = "idx_ingestion_job_pokemon_name", columnList = "pokemon_name")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IngestionJob {
+
+    /**
+     * Estados del trabajo; {@code SUCCEEDED} y {@code FAILED} son finales
+     */
+    public enum Status {
+        PENDING, RUNNING, SUCCEEDED, FAILED;
+
+        public boolean isFinal() {
+            return this == SUCCEEDED || this == FAILED;
+        }
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "pokemon_name", nullable = false, length = 100)
+    private String pokemonName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Status status;
+
+    @Column(name = "active_name", unique = true, length = 100)
+    private String activeName;
+
+    @Column(name = "callback_url", length = 500)
+    private String callbackUrl;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Column(name = "pokemon_id")
+    private Long pokemonId;
+
+    @Column(name = "error_code", length = 50)
+    private String errorCode;
+
+    @Column(name = "error_message", length = 500)
+    private String errorMessage;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Version
+    private Long version;
+
+    @PrePersist
+    @PreUpdate
+    void syncActiveName() {
+        activeName = status != null && !status.isFinal() ? pokemonName : null;
+    }
+}
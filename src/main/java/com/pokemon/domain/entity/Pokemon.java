@@ -9,7 +9,11 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
@@ -18,20 +22,33 @@ import java.util.List;
 /**
  * Entidad Pokemon para la persistencia en base de datos
  * 
+ * La entidad, sus colecciones y la búsqueda por nombre (ID natural) se guardan
+ * en el cache de segundo nivel de Hibernate (regiones en {@code hibernate-cache.conf}).
+ * 
  * @author Pokemon API Team
  * @version 1.0.0
  */
 @Entity
 @Table(name = "pokemon", indexes = {
     @Index(name = "idx_pokemon_name", columnList = "name"),
-    @Index(name = "idx_pokemon_external_id", columnList = "external_id")
+    @Index(name = "idx_pokemon_external_id", columnList = "external_id"),
+    @Index(name = "idx_pokemon_weight_base_experience", columnList = "weight, base_experience"),
+    @Index(name = "idx_pokemon_height_weight", columnList = "height, weight"),
+    @Index(name = "idx_pokemon_base_experience_height", columnList = "base_experience, height")
 })
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Pokemon.CACHE_REGION)
+@NaturalIdCache(region = Pokemon.NATURAL_ID_CACHE_REGION)
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Pokemon {
 
+    public static final String CACHE_REGION = "pokemon";
+    public static final String NATURAL_ID_CACHE_REGION = "pokemon-by-name";
+    public static final String TYPES_CACHE_REGION = "pokemon-types";
+    public static final String ABILITIES_CACHE_REGION = "pokemon-abilities";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -41,6 +58,7 @@ public class Pokemon {
     @Positive(message = "El ID externo debe ser positivo")
     private Integer externalId;
 
+    @NaturalId
     @Column(name = "name", nullable = false, unique = true, length = 100)
     @NotBlank(message = "El nombre no puede estar vacío")
     @Size(max = 100, message = "El nombre no puede exceder 100 caracteres")
@@ -59,11 +77,13 @@ public class Pokemon {
     private Integer baseExperience;
 
     @ElementCollection(fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = TYPES_CACHE_REGION)
     @CollectionTable(name = "pokemon_types", joinColumns = @JoinColumn(name = "pokemon_id"))
     @Column(name = "type_name")
     private List<String> types;
 
     @ElementCollection(fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = ABILITIES_CACHE_REGION)
     @CollectionTable(name = "pokemon_abilities", joinColumns = @JoinColumn(name = "pokemon_id"))
     @Column(name = "ability_name")
     private List<String> abilities;
@@ -0,0 +1,54 @@
+package com.pokemon.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entrada del registro de cambios del catálogo (outbox)
+ * 
+ * Se escribe en la misma transacción que el cambio. La secuencia la asigna
+ * {@link PokemonChangeSequence} y crece en orden de commit, así que un
+ * consumidor que pide lo posterior a la última secuencia vista no se salta nada.
+ * 
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "pokemon_change", indexes = {
+    @Index(name = "idx_pokemon_change_pokemon_id", columnList = "pokemon_id, sequence")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PokemonChange {
+
+    /**
+     * Tipo de cambio
+     */
+    public enum Type {
+        CREATED, DELETED
+    }
+
+    @Id
+    @Column(name = "sequence")
+    private Long sequence;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 20)
+    private Type type;
+
+    @Column(name = "pokemon_id", nullable = false)
+    private Long pokemonId;
+
+    @Column(name = "pokemon_name", length = 100)
+    private String pokemonName;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+}
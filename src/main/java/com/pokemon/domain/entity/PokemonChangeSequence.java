@@ -0,0 +1,39 @@
+package com.pokemon.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Contador del registro de cambios (una sola fila)
+ * 
+ * Incrementarlo bloquea la fila hasta el commit, de modo que las transacciones
+ * que registran cambios toman secuencias en el mismo orden en que confirman.
+ * {@code purgedThrough} es la última secuencia borrada por retención: quien
+ * pida cambios anteriores ya no puede sincronizarse de forma incremental.
+ * 
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "pokemon_change_sequence")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PokemonChangeSequence {
+
+    public static final int SINGLETON_ID = 1;
+
+    @Id
+    private Integer id;
+
+    @Column(name = "last_value", nullable = false)
+    private long lastValue;
+
+    @Column(name = "purged_through", nullable = false)
+    private long purgedThrough;
+}
@@ -0,0 +1,79 @@
+package com.pokemon.domain.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Los 18 tipos de Pokémon, con un bit asignado a cada uno
+ * 
+ * Permite representar el conjunto de tipos de un Pokémon como una máscara
+ * de bits ({@code int}) para comparaciones sin asignar memoria.
+ * 
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+public enum PokemonType {
+    NORMAL, FIRE, WATER, ELECTRIC, GRASS, ICE, FIGHTING, POISON, GROUND,
+    FLYING, PSYCHIC, BUG, ROCK, GHOST, DRAGON, DARK, STEEL, FAIRY;
+
+    private static final PokemonType[] VALUES = values();
+
+    /**
+     * Bit que representa al tipo dentro de una máscara
+     */
+    public int mask() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * Nombre del tipo tal como lo usa la PokeAPI
+     */
+    public String apiName() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Busca un tipo por su nombre en la PokeAPI (sin distinguir mayúsculas)
+     */
+    public static Optional<PokemonType> fromName(String name) {
+        if (name == null) {
+            return Optional.empty();
+        }
+        String normalized = name.trim().toUpperCase(Locale.ROOT);
+        for (PokemonType type : VALUES) {
+            if (type.name().equals(normalized)) {
+                return Optional.of(type);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Máscara de bits con los tipos conocidos de la colección (los desconocidos se ignoran)
+     */
+    public static int maskOf(Collection<String> names) {
+        int mask = 0;
+        if (names != null) {
+            for (String name : names) {
+                mask |= fromName(name).map(PokemonType::mask).orElse(0);
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Nombres de los tipos presentes en la máscara, en orden de declaración
+     */
+    public static List<String> namesOf(int mask) {
+        List<String> names = new ArrayList<>(Integer.bitCount(mask));
+        for (PokemonType type : VALUES) {
+            if ((mask & type.mask()) != 0) {
+                names.add(type.apiName());
+            }
+        }
+        return names;
+    }
+}
@@ -0,0 +1,385 @@
+package com.pokemon.domain.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Evaluación de cobertura de tipos de un equipo contra una distribución de defensores
+ *
+ * Los conjuntos de tipos se representan como máscaras de bits de {@link PokemonType}.
+ * La distribución agrupa el catálogo por combinación de tipos (a lo sumo unas
+ * 170 distintas), y cada combinación guarda la máscara de tipos atacantes que
+ * la golpean súper eficaz: un equipo la cubre si esa máscara intersecta sus
+ * tipos de ataque. Las debilidades y resistencias de los integrantes se
+ * acumulan en contadores de 3 bits por tipo empaquetados en un {@code long}.
+ *
+ * El puntaje de un equipo es la fracción del catálogo cubierta menos
+ * {@value #WEAKNESS_WEIGHT} por la fracción de tipos de ataque a los que el
+ * equipo es mayormente débil.
+ *
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+public final class TeamCoverage {
+
+    /**
+     * Tamaño de un equipo completo
+     */
+    public static final int TEAM_SIZE = 6;
+
+    /**
+     * Cantidad máxima de lugares que se buscan exhaustivamente; el resto se completa con una búsqueda voraz
+     */
+    public static final int MAX_EXHAUSTIVE_SLOTS = 3;
+
+    static final double WEAKNESS_WEIGHT = 0.5;
+
+    private static final int TYPES = PokemonType.values().length;
+    private static final int LANE_BITS = 3;
+    private static final int LANE_MASK = (1 << LANE_BITS) - 1;
+    private static final int SPLIT_THRESHOLD = 4;
+
+    private final int[] defenderMasks;
+    private final int[] weights;
+    private final int[] hitBy;
+    private final int total;
+
+    private TeamCoverage(int[] defenderMasks, int[] weights, int total) {
+        this.defenderMasks = defenderMasks;
+        this.weights = weights;
+        this.total = total;
+        this.hitBy = new int[defenderMasks.length];
+        for (int i = 0; i < defenderMasks.length; i++) {
+            hitBy[i] = TypeChart.superEffectiveAttackers(defenderMasks[i]);
+        }
+    }
+
+    /**
+     * Construye la distribución a partir de las máscaras de tipos del catálogo
+     *
+     * @param catalogMasks una máscara por Pokémon; las vacías (tipos desconocidos) se ignoran
+     */
+    public static TeamCoverage of(int[] catalogMasks) {
+        Map<Integer, Integer> counts = new HashMap<>();
+        int total = 0;
+        for (int mask : catalogMasks) {
+            if (mask != 0) {
+                counts.merge(mask, 1, Integer::sum);
+                total++;
+            }
+        }
+
+        int[] masks = counts.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+        int[] weights = new int[masks.length];
+        for (int i = 0; i < masks.length; i++) {
+            weights[i] = counts.get(masks[i]);
+        }
+        return new TeamCoverage(masks, weights, total);
+    }
+
+    /**
+     * Evalúa un equipo
+     *
+     * @param memberMasks máscara de tipos de cada integrante
+     */
+    public Evaluation evaluate(int[] memberMasks) {
+        int attack = 0;
+        long weak = 0;
+        long resist = 0;
+        for (int mask : memberMasks) {
+            attack |= mask;
+            weak += lanes(TypeChart.weaknesses(mask));
+            resist += lanes(TypeChart.resistances(mask));
+        }
+
+        List<Integer> uncovered = new ArrayList<>();
+        for (int i = 0; i < defenderMasks.length; i++) {
+            if ((attack & hitBy[i]) == 0) {
+                uncovered.add(i);
+            }
+        }
+        uncovered.sort(Comparator.comparingInt((Integer i) -> weights[i]).reversed()
+                .thenComparingInt(i -> defenderMasks[i]));
+
+        int weaknessMask = 0;
+        int resistanceMask = 0;
+        for (int t = 0; t < TYPES; t++) {
+            int w = lane(weak, t);
+            int r = lane(resist, t);
+            if (w > r) {
+                weaknessMask |= 1 << t;
+            } else if (r > w) {
+                resistanceMask |= 1 << t;
+            }
+        }
+
+        int[] uncoveredMasks = uncovered.stream().mapToInt(i -> defenderMasks[i]).toArray();
+        return new Evaluation(attack, coverage(attack), weaknessMask, resistanceMask, uncoveredMasks,
+                score(attack, weak, resist));
+    }
+
+    /**
+     * Busca las combinaciones de tipos que mejor completan un equipo parcial
+     *
+     * Los primeros {@link #MAX_EXHAUSTIVE_SLOTS} lugares se buscan exhaustivamente
+     * (sin repetir combinaciones) repartiendo el primer nivel del árbol entre los
+     * hilos del pool; los lugares restantes se eligen de a uno con el mejor
+     * candidato. A igual puntaje gana la combinación lexicográficamente menor,
+     * por lo que el resultado no depende del paralelismo.
+     *
+     * @param memberMasks tipos de los integrantes actuales
+     * @param candidateMasks combinaciones de tipos disponibles para completar
+     * @param slots lugares a completar
+     * @param pool pool fork-join donde evaluar
+     * @return máscaras elegidas, a lo sumo {@code slots}
+     */
+    public int[] complete(int[] memberMasks, int[] candidateMasks, int slots, ForkJoinPool pool) {
+        int[] candidates = Arrays.stream(candidateMasks).filter(mask -> mask != 0).distinct().sorted().toArray();
+        int searchable = Math.min(Math.min(slots, MAX_EXHAUSTIVE_SLOTS), candidates.length);
+        if (searchable <= 0) {
+            return new int[0];
+        }
+
+        long[] candidateWeak = new long[candidates.length];
+        long[] candidateResist = new long[candidates.length];
+        for (int i = 0; i < candidates.length; i++) {
+            candidateWeak[i] = lanes(TypeChart.weaknesses(candidates[i]));
+            candidateResist[i] = lanes(TypeChart.resistances(candidates[i]));
+        }
+
+        int attack = 0;
+        long weak = 0;
+        long resist = 0;
+        for (int mask : memberMasks) {
+            attack |= mask;
+            weak += lanes(TypeChart.weaknesses(mask));
+            resist += lanes(TypeChart.resistances(mask));
+        }
+
+        Search search = new Search(candidates, candidateWeak, candidateResist, searchable);
+        Best best = pool.invoke(search.task(0, candidates.length, attack, weak, resist));
+
+        List<Integer> picked = new ArrayList<>();
+        for (int index : best.picks) {
+            picked.add(index);
+            attack |= candidates[index];
+            weak += candidateWeak[index];
+            resist += candidateResist[index];
+        }
+
+        for (int slot = searchable; slot < slots; slot++) {
+            int bestIndex = -1;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < candidates.length; i++) {
+                if (picked.contains(i)) {
+                    continue;
+                }
+                double score = score(attack | candidates[i], weak + candidateWeak[i], resist + candidateResist[i]);
+                if (score > bestScore) {
+                    bestScore = score;
+                    bestIndex = i;
+                }
+            }
+            if (bestIndex < 0) {
+                break;
+            }
+            picked.add(bestIndex);
+            attack |= candidates[bestIndex];
+            weak += candidateWeak[bestIndex];
+            resist += candidateResist[bestIndex];
+        }
+
+        return picked.stream().mapToInt(index -> candidates[index]).toArray();
+    }
+
+    double coverage(int attack) {
+        if (total == 0) {
+            return 0;
+        }
+        int covered = 0;
+        for (int i = 0; i < hitBy.length; i++) {
+            covered += (attack & hitBy[i]) != 0 ? weights[i] : 0;
+        }
+        return (double) covered / total;
+    }
+
+    double score(int attack, long weak, long resist) {
+        int weakTypes = 0;
+        for (int t = 0; t < TYPES; t++) {
+            if (lane(weak, t) > lane(resist, t)) {
+                weakTypes++;
+            }
+        }
+        return coverage(attack) - WEAKNESS_WEIGHT * weakTypes / TYPES;
+    }
+
+    /**
+     * Reparte una máscara de tipos en contadores de 3 bits (uno por tipo)
+     */
+    private static long lanes(int mask) {
+        long result = 0;
+        while (mask != 0) {
+            int t = Integer.numberOfTrailingZeros(mask);
+            result |= 1L << (t * LANE_BITS);
+            mask &= mask - 1;
+        }
+        return result;
+    }
+
+    private static int lane(long lanes, int type) {
+        return (int) (lanes >>> (type * LANE_BITS)) & LANE_MASK;
+    }
+
+    /**
+     * Resultado de evaluar un equipo
+     */
+    public static final class Evaluation {
+        private final int attackMask;
+        private final double coverage;
+        private final int weaknessMask;
+        private final int resistanceMask;
+        private final int[] uncoveredMasks;
+        private final double score;
+
+        Evaluation(int attackMask, double coverage, int weaknessMask, int resistanceMask,
+                   int[] uncoveredMasks, double score) {
+            this.attackMask = attackMask;
+            this.coverage = coverage;
+            this.weaknessMask = weaknessMask;
+            this.resistanceMask = resistanceMask;
+            this.uncoveredMasks = uncoveredMasks;
+            this.score = score;
+        }
+
+        public int getAttackMask() {
+            return attackMask;
+        }
+
+        public double getCoverage() {
+            return coverage;
+        }
+
+        public int getWeaknessMask() {
+            return weaknessMask;
+        }
+
+        public int getResistanceMask() {
+            return resistanceMask;
+        }
+
+        /**
+         * Combinaciones de tipos no cubiertas, de la más a la menos frecuente en el catálogo
+         */
+        public int[] getUncoveredMasks() {
+            return uncoveredMasks.clone();
+        }
+
+        public double getScore() {
+            return score;
+        }
+    }
+
+    /**
+     * Mejor combinación encontrada (índices de candidatos en orden creciente)
+     */
+    private static final class Best {
+        static final Best NONE = new Best(Double.NEGATIVE_INFINITY, new int[0]);
+
+        final double score;
+        final int[] picks;
+
+        Best(double score, int[] picks) {
+            this.score = score;
+            this.picks = picks;
+        }
+
+        Best orBetter(Best other) {
+            if (other.score > score) {
+                return other;
+            }
+            if (other.score == score && Arrays.compare(other.picks, picks) < 0) {
+                return other;
+            }
+            return this;
+        }
+    }
+
+    /**
+     * Estado mutable de una hoja de la búsqueda (un único hilo)
+     */
+    private static final class Leaf {
+        final int[] picks;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        int[] bestPicks;
+
+        Leaf(int depth) {
+            this.picks = new int[depth];
+        }
+    }
+
+    /**
+     * Búsqueda exhaustiva de combinaciones sin repetición
+     */
+    private final class Search {
+        final int[] candidates;
+        final long[] candidateWeak;
+        final long[] candidateResist;
+        final int depth;
+
+        Search(int[] candidates, long[] candidateWeak, long[] candidateResist, int depth) {
+            this.candidates = candidates;
+            this.candidateWeak = candidateWeak;
+            this.candidateResist = candidateResist;
+            this.depth = depth;
+        }
+
+        RecursiveTask<Best> task(int from, int to, int attack, long weak, long resist) {
+            return new RecursiveTask<>() {
+                @Override
+                protected Best compute() {
+                    if (to - from <= SPLIT_THRESHOLD) {
+                        Leaf leaf = new Leaf(depth);
+                        for (int i = from; i < to; i++) {
+                            leaf.picks[0] = i;
+                            enumerate(leaf, 1, i + 1,
+                                    attack | candidates[i], weak + candidateWeak[i], resist + candidateResist[i]);
+                        }
+                        return leaf.bestPicks == null ? Best.NONE : new Best(leaf.bestScore, leaf.bestPicks);
+                    }
+                    int middle = (from + to) >>> 1;
+                    RecursiveTask<Best> left = task(from, middle, attack, weak, resist);
+                    RecursiveTask<Best> right = task(middle, to, attack, weak, resist);
+                    right.fork();
+                    Best leftBest = left.invoke();
+                    return leftBest.orBetter(right.join());
+                }
+            };
+        }
+
+        /**
+         * Recorre las combinaciones en orden lexicográfico; sólo una mejora estricta
+         * reemplaza a la mejor, así que a igual puntaje queda la primera
+         */
+        private void enumerate(Leaf leaf, int level, int start, int attack, long weak, long resist) {
+            if (level == depth) {
+                double score = score(attack, weak, resist);
+                if (score > leaf.bestScore) {
+                    leaf.bestScore = score;
+                    leaf.bestPicks = leaf.picks.clone();
+                }
+                return;
+            }
+            for (int i = start; i < candidates.length; i++) {
+                leaf.picks[level] = i;
+                enumerate(leaf, level + 1, i + 1,
+                        attack | candidates[i], weak + candidateWeak[i], resist + candidateResist[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.pokemon.domain.model;
+
+import static com.pokemon.domain.model.PokemonType.*;
+
+/**
+ * Tabla de efectividad de tipos (18×18, generación 6 en adelante)
+ *
+ * Cada fila del tipo atacante se guarda como tres máscaras de bits sobre los
+ * tipos defensores (súper eficaz, poco eficaz y sin efecto). La efectividad
+ * contra un defensor de dos tipos se obtiene contando bits sobre su máscara.
+ *
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+public final class TypeChart {
+
+    private static final int TYPES = PokemonType.values().length;
+
+    private static final int[] SUPER_EFFECTIVE = new int[TYPES];
+    private static final int[] NOT_VERY_EFFECTIVE = new int[TYPES];
+    private static final int[] NO_EFFECT = new int[TYPES];
+
+    static {
+        row(NORMAL, of(), of(ROCK, STEEL), of(GHOST));
+        row(FIRE, of(GRASS, ICE, BUG, STEEL), of(FIRE, WATER, ROCK, DRAGON), of());
+        row(WATER, of(FIRE, GROUND, ROCK), of(WATER, GRASS, DRAGON), of());
+        row(ELECTRIC, of(WATER, FLYING), of(ELECTRIC, GRASS, DRAGON), of(GROUND));
+        row(GRASS, of(WATER, GROUND, ROCK), of(FIRE, GRASS, POISON, FLYING, BUG, DRAGON, STEEL), of());
+        row(ICE, of(GRASS, GROUND, FLYING, DRAGON), of(FIRE, WATER, ICE, STEEL), of());
+        row(FIGHTING, of(NORMAL, ICE, ROCK, DARK, STEEL), of(POISON, FLYING, PSYCHIC, BUG, FAIRY), of(GHOST));
+        row(POISON, of(GRASS, FAIRY), of(POISON, GROUND, ROCK, GHOST), of(STEEL));
+        row(GROUND, of(FIRE, ELECTRIC, POISON, ROCK, STEEL), of(GRASS, BUG), of(FLYING));
+        row(FLYING, of(GRASS, FIGHTING, BUG), of(ELECTRIC, ROCK, STEEL), of());
+        row(PSYCHIC, of(FIGHTING, POISON), of(PSYCHIC, STEEL), of(DARK));
+        row(BUG, of(GRASS, PSYCHIC, DARK), of(FIRE, FIGHTING, POISON, FLYING, GHOST, STEEL, FAIRY), of());
+        row(ROCK, of(FIRE, ICE, FLYING, BUG), of(FIGHTING, GROUND, STEEL), of());
+        row(GHOST, of(PSYCHIC, GHOST), of(DARK), of(NORMAL));
+        row(DRAGON, of(DRAGON), of(STEEL), of(FAIRY));
+        row(DARK, of(PSYCHIC, GHOST), of(FIGHTING, DARK, FAIRY), of());
+        row(STEEL, of(ICE, ROCK, FAIRY), of(FIRE, WATER, ELECTRIC, STEEL), of());
+        row(FAIRY, of(FIGHTING, DRAGON, DARK), of(FIRE, POISON, STEEL), of());
+    }
+
+    private TypeChart() {
+    }
+
+    /**
+     * Multiplicador de daño de un tipo atacante contra un defensor
+     *
+     * @param attacker tipo del ataque
+     * @param defenderMask máscara con los tipos del defensor
+     * @return 0, 0.25, 0.5, 1, 2 o 4
+     */
+    public static double multiplier(PokemonType attacker, int defenderMask) {
+        int a = attacker.ordinal();
+        if ((NO_EFFECT[a] & defenderMask) != 0) {
+            return 0;
+        }
+        return Math.scalb(1.0, exponent(a, defenderMask));
+    }
+
+    /**
+     * Tipos atacantes que son súper eficaces (multiplicador mayor a 1) contra el defensor
+     */
+    public static int superEffectiveAttackers(int defenderMask) {
+        int strong = 0;
+        for (int a = 0; a < TYPES; a++) {
+            if ((NO_EFFECT[a] & defenderMask) == 0 && exponent(a, defenderMask) > 0) {
+                strong |= 1 << a;
+            }
+        }
+        return strong;
+    }
+
+    /**
+     * Tipos atacantes a los que el defensor es débil (igual que {@link #superEffectiveAttackers(int)})
+     */
+    public static int weaknesses(int defenderMask) {
+        return superEffectiveAttackers(defenderMask);
+    }
+
+    /**
+     * Tipos atacantes que el defensor resiste o a los que es inmune (multiplicador menor a 1)
+     */
+    public static int resistances(int defenderMask) {
+        int resisted = 0;
+        for (int a = 0; a < TYPES; a++) {
+            if ((NO_EFFECT[a] & defenderMask) != 0 || exponent(a, defenderMask) < 0) {
+                resisted |= 1 << a;
+            }
+        }
+        return resisted;
+    }
+
+    private static int exponent(int attacker, int defenderMask) {
+        return Integer.bitCount(SUPER_EFFECTIVE[attacker] & defenderMask)
+                - Integer.bitCount(NOT_VERY_EFFECTIVE[attacker] & defenderMask);
+    }
+
+    private static void row(PokemonType attacker, int superEffective, int notVeryEffective, int noEffect) {
+        SUPER_EFFECTIVE[attacker.ordinal()] = superEffective;
+        NOT_VERY_EFFECTIVE[attacker.ordinal()] = notVeryEffective;
+        NO_EFFECT[attacker.ordinal()] = noEffect;
+    }
+
+    private static int of(PokemonType... types) {
+        int mask = 0;
+        for (PokemonType type : types) {
+            mask |= type.mask();
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,70 @@
+package com.pokemon.domain.repository;
+
+import com.pokemon.domain.entity.IngestionJob;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repositorio de la cola de trabajos de creación asíncrona
+ * 
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@Repository
+public interface IngestionJobRepository extends JpaRepository<IngestionJob, UUID> {
+
+    /**
+     * Trabajos listos para ejecutarse, del más antiguo al más nuevo, bloqueados
+     * para escritura. El timeout {@code -2} se traduce a {@code SKIP LOCKED}, de
+     * modo que varios workers (o instancias) no compiten por la misma fila.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT j FROM IngestionJob j WHERE j.status = :status AND j.nextAttemptAt <= :now " +
+           "ORDER BY j.nextAttemptAt, j.createdAt")
+    List<IngestionJob> findReadyForUpdate(@Param("status") IngestionJob.Status status,
+                                          @Param("now") LocalDateTime now,
+                                          Pageable pageable);
+
+    /**
+     * Trabajo todavía activo para el mismo Pokémon, si lo hay
+     */
+    Optional<IngestionJob> findFirstByPokemonNameAndStatusIn(String pokemonName, Collection<IngestionJob.Status> statuses);
+
+    /**
+     * Cantidad de trabajos en los estados dados
+     */
+    long countByStatusIn(Collection<IngestionJob.Status> statuses);
+
+    /**
+     * Devuelve a la cola los trabajos que quedaron en ejecución en una instancia caída
+     */
+    @Modifying
+    @Query("UPDATE IngestionJob j SET j.status = :pending, j.nextAttemptAt = :now, j.version = j.version + 1 " +
+           "WHERE j.status = :running AND j.startedAt < :staleBefore")
+    int requeueStale(@Param("running") IngestionJob.Status running,
+                     @Param("pending") IngestionJob.Status pending,
+                     @Param("staleBefore") LocalDateTime staleBefore,
+                     @Param("now") LocalDateTime now);
+
+    /**
+     * Elimina los trabajos finalizados antes de la fecha dada
+     */
+    @Modifying
+    @Query("DELETE FROM IngestionJob j WHERE j.completedAt < :completedBefore")
+    int deleteCompletedBefore(@Param("completedBefore") LocalDateTime completedBefore);
+}
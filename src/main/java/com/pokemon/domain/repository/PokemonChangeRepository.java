@@ -0,0 +1,69 @@
+package com.pokemon.domain.repository;
+
+import com.pokemon.domain.entity.PokemonChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repositorio del registro de cambios del catálogo
+ * 
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@Repository
+public interface PokemonChangeRepository extends JpaRepository<PokemonChange, Long> {
+
+    /**
+     * Cambios posteriores a la secuencia dada, en orden
+     * 
+     * @param since última secuencia vista
+     * @param pageable cantidad máxima a devolver
+     * @return cambios ordenados por secuencia
+     */
+    List<PokemonChange> findBySequenceGreaterThanOrderBySequence(long since, Pageable pageable);
+
+    /**
+     * Inserta un cambio con la secuencia ya asignada (sin el SELECT previo de {@code save})
+     */
+    @Modifying
+    @Query(value = "INSERT INTO pokemon_change (sequence, type, pokemon_id, pokemon_name, occurred_at) " +
+                   "VALUES (:sequence, :type, :pokemonId, :pokemonName, :occurredAt)", nativeQuery = true)
+    void insert(@Param("sequence") long sequence,
+                @Param("type") String type,
+                @Param("pokemonId") Long pokemonId,
+                @Param("pokemonName") String pokemonName,
+                @Param("occurredAt") LocalDateTime occurredAt);
+
+    /**
+     * Última secuencia registrada antes del instante dado
+     */
+    @Query("SELECT MAX(c.sequence) FROM PokemonChange c WHERE c.occurredAt < :before")
+    Optional<Long> findLastSequenceBefore(@Param("before") LocalDateTime before);
+
+    /**
+     * Borra los cambios hasta la secuencia dada, inclusive
+     * 
+     * @return cantidad de cambios borrados
+     */
+    @Modifying
+    @Query("DELETE FROM PokemonChange c WHERE c.sequence <= :through")
+    int deleteThrough(@Param("through") long through);
+
+    /**
+     * Compacta el registro: borra los cambios que tienen uno posterior para el mismo Pokémon
+     * 
+     * @return cantidad de cambios borrados
+     */
+    @Modifying
+    @Query("DELETE FROM PokemonChange c WHERE EXISTS " +
+           "(SELECT 1 FROM PokemonChange n WHERE n.pokemonId = c.pokemonId AND n.sequence > c.sequence)")
+    int deleteSuperseded();
+}
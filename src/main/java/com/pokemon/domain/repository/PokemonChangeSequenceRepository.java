@@ -0,0 +1,51 @@
+package com.pokemon.domain.repository;
+
+import com.pokemon.domain.entity.PokemonChangeSequence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repositorio del contador del registro de cambios
+ * 
+ * Las operaciones trabajan sobre la única fila ({@link PokemonChangeSequence#SINGLETON_ID})
+ * con consultas directas para no depender de la entidad cacheada en el contexto de persistencia.
+ * 
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@Repository
+public interface PokemonChangeSequenceRepository extends JpaRepository<PokemonChangeSequence, Integer> {
+
+    /**
+     * Crea la fila del contador si no existe
+     */
+    @Modifying
+    @Query(value = "INSERT INTO pokemon_change_sequence (id, last_value, purged_through) VALUES (1, 0, 0) " +
+                   "ON CONFLICT DO NOTHING", nativeQuery = true)
+    void initialize();
+
+    /**
+     * Incrementa el contador; la fila queda bloqueada hasta el fin de la transacción
+     * 
+     * @return filas actualizadas (0 si el contador todavía no existe)
+     */
+    @Modifying
+    @Query("UPDATE PokemonChangeSequence s SET s.lastValue = s.lastValue + 1 WHERE s.id = 1")
+    int increment();
+
+    /**
+     * Valor actual del contador; la fila debe existir
+     */
+    @Query("SELECT s.lastValue FROM PokemonChangeSequence s WHERE s.id = 1")
+    long currentValue();
+
+    /**
+     * Registra que la retención borró los cambios hasta la secuencia dada
+     */
+    @Modifying
+    @Query("UPDATE PokemonChangeSequence s SET s.purgedThrough = :through WHERE s.id = 1 AND s.purgedThrough < :through")
+    int markPurged(@Param("through") long through);
+}
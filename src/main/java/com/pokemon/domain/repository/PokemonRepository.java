@@ -1,14 +1,21 @@
 package com.pokemon.domain.repository;
 
 import com.pokemon.domain.entity.Pokemon;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repositorio para la entidad Pokemon
@@ -17,7 +24,7 @@ import java.util.Optional;
  * @version 1.0.0
  */
 @Repository
-public interface PokemonRepository extends JpaRepository<Pokemon, Long> {
+public interface PokemonRepository extends JpaRepository<Pokemon, Long>, PokemonRepositoryCustom {
 
     /**
      * Busca un Pokémon por su nombre (case-insensitive)
@@ -79,4 +86,73 @@ public interface PokemonRepository extends JpaRepository<Pokemon, Long> {
      * @return página de Pokémon que contengan el texto en su nombre
      */
     Page<Pokemon> findByNameContainingIgnoreCase(String name, Pageable pageable);
-} 
\ No newline at end of file
+
+    /**
+     * Lista Pokémon sin cargar sus colecciones
+     * 
+     * @param pageable configuración de paginación y ordenamiento
+     * @return página de proyecciones escalares
+     */
+    Page<PokemonSummaryView> findAllProjectedBy(Pageable pageable);
+
+    /**
+     * Busca Pokémon por tipo sin cargar sus colecciones
+     * 
+     * @param type tipo de Pokémon
+     * @param pageable configuración de paginación
+     * @return página de proyecciones escalares
+     */
+    @Query(value = "SELECT p.id AS id, p.externalId AS externalId, p.name AS name, p.height AS height, "
+            + "p.weight AS weight, p.baseExperience AS baseExperience, p.spriteUrl AS spriteUrl, "
+            + "p.createdAt AS createdAt, p.updatedAt AS updatedAt "
+            + "FROM Pokemon p JOIN p.types t WHERE LOWER(t) = LOWER(:type)",
+           countQuery = "SELECT COUNT(p) FROM Pokemon p JOIN p.types t WHERE LOWER(t) = LOWER(:type)")
+    Page<PokemonSummaryView> findProjectedByType(@Param("type") String type, Pageable pageable);
+
+    /**
+     * Busca Pokémon por nombre parcial sin cargar sus colecciones
+     * 
+     * @param name parte del nombre a buscar
+     * @param pageable configuración de paginación
+     * @return página de proyecciones escalares
+     */
+    Page<PokemonSummaryView> findProjectedByNameContainingIgnoreCase(String name, Pageable pageable);
+
+    /**
+     * Recorre todos los Pokémon sin cargar sus colecciones, con un cursor
+     * Requiere una transacción abierta y cerrar el stream
+     * 
+     * @param sort ordenamiento
+     * @return stream de proyecciones escalares
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "100"))
+    Stream<PokemonSummaryView> streamProjectedBy(Sort sort);
+
+    /**
+     * Busca varios Pokémon por ID en una sola consulta, con sus tipos
+     * Las habilidades se cargan en una segunda consulta por lote (no se pueden
+     * traer dos colecciones tipo lista en el mismo fetch join)
+     * 
+     * @param ids IDs a buscar
+     * @return Pokémon encontrados, sin orden garantizado
+     */
+    @Query("SELECT DISTINCT p FROM Pokemon p LEFT JOIN FETCH p.types WHERE p.id IN :ids")
+    List<Pokemon> findAllWithTypesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Busca varios Pokémon por nombre (case-insensitive) en una sola consulta, con sus tipos
+     * 
+     * @param names nombres en minúsculas
+     * @return Pokémon encontrados, sin orden garantizado
+     */
+    @Query("SELECT DISTINCT p FROM Pokemon p LEFT JOIN FETCH p.types WHERE LOWER(p.name) IN :names")
+    List<Pokemon> findAllWithTypesByNameIn(@Param("names") Collection<String> names);
+
+    /**
+     * Obtiene el ID y la versión de todos los Pokémon (sin cargar colecciones)
+     * 
+     * @return lista de pares [id, version]
+     */
+    @Query("SELECT p.id, p.version FROM Pokemon p")
+    List<Object[]> findAllIdsAndVersions();
+}
@@ -0,0 +1,87 @@
+package com.pokemon.domain.repository;
+
+import com.pokemon.domain.entity.Pokemon;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Operaciones del repositorio de Pokémon que no se expresan con JPA
+ * 
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+public interface PokemonRepositoryCustom {
+
+    /**
+     * Inserta el Pokémon con sus tipos y habilidades salvo que ya exista uno con
+     * el mismo ID externo o nombre ({@code INSERT ... ON CONFLICT DO NOTHING})
+     * 
+     * @param pokemon Pokémon sin ID
+     * @return el mismo Pokémon con ID, versión y fechas asignados, o vacío si ya existía
+     */
+    Optional<Pokemon> insertIfAbsent(Pokemon pokemon);
+
+    /**
+     * Inserta varios Pokémon en una sola sentencia de varias filas, omitiendo los
+     * que choquen con uno existente o con otro del mismo lote
+     * 
+     * Los tipos y habilidades de todos los insertados se agregan con un batch por
+     * tabla, así que el costo por sentencia se paga una vez por lote.
+     * 
+     * @param pokemons Pokémon sin ID
+     * @return los insertados, con ID, versión y fechas asignados, en el orden recibido
+     */
+    List<Pokemon> insertAllIfAbsent(List<Pokemon> pokemons);
+
+    /**
+     * Busca un Pokémon por su ID natural (el nombre, guardado en minúsculas)
+     * 
+     * A diferencia de {@code findByNameIgnoreCase}, resuelve el ID desde el cache
+     * de segundo nivel y luego la entidad por ID, sin consultar la base de datos
+     * cuando ambos están cacheados.
+     * 
+     * @param name nombre del Pokémon, en cualquier combinación de mayúsculas
+     * @return el Pokémon o vacío si no existe
+     */
+    Optional<Pokemon> findByNaturalId(String name);
+
+    /**
+     * Recorre todos los Pokémon con un cursor y los entrega en bloques
+     * 
+     * Las entidades de cada bloque siguen asociadas mientras se procesa, así que
+     * sus colecciones se cargan con una consulta por lote; después se desasocian
+     * para que el contexto de persistencia no crezca. Lee del cache de segundo nivel
+     * pero no lo llena, para que un recorrido completo no desplace lo más consultado.
+     * Requiere una transacción abierta.
+     * 
+     * @param sort ordenamiento
+     * @param chunkSize tamaño de bloque y de fetch del cursor
+     * @param chunkConsumer procesa cada bloque; la lista no debe retenerse
+     */
+    void forEachChunk(Sort sort, int chunkSize, Consumer<List<Pokemon>> chunkConsumer);
+
+    /**
+     * Busca Pokémon por rangos de altura, peso y experiencia base
+     * 
+     * La consulta solo incluye las cotas recibidas: un {@code (:p IS NULL OR ...)}
+     * por parámetro obligaría a un plan genérico que no usa los índices compuestos.
+     * 
+     * @param minHeight altura mínima, o {@code null} si no se restringe
+     * @param maxHeight altura máxima, o {@code null} si no se restringe
+     * @param minWeight peso mínimo, o {@code null} si no se restringe
+     * @param maxWeight peso máximo, o {@code null} si no se restringe
+     * @param minBaseExperience experiencia base mínima, o {@code null} si no se restringe
+     * @param maxBaseExperience experiencia base máxima, o {@code null} si no se restringe
+     * @param pageable configuración de paginación y ordenamiento
+     * @return página de Pokémon dentro de los rangos
+     */
+    Page<Pokemon> findByRanges(Integer minHeight, Integer maxHeight,
+                               Integer minWeight, Integer maxWeight,
+                               Integer minBaseExperience, Integer maxBaseExperience,
+                               Pageable pageable);
+}
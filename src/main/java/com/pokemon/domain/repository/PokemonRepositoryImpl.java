@@ -0,0 +1,210 @@
+package com.pokemon.domain.repository;
+
+import com.pokemon.domain.entity.Pokemon;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Implementación de {@link PokemonRepositoryCustom} con JDBC y JPA
+ * 
+ * Usa la conexión de la transacción JPA en curso. Ante un conflicto con
+ * cualquiera de las claves únicas ({@code external_id}, {@code name}) la
+ * inserción no hace nada en lugar de fallar, de modo que dos creaciones
+ * concurrentes no terminan en una {@code DataIntegrityViolationException}.
+ * Las inserciones en lote usan un único {@code INSERT} de varias filas y un
+ * batch por colección, porque el ID {@code IDENTITY} impide que Hibernate agrupe.
+ * 
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@RequiredArgsConstructor
+public class PokemonRepositoryImpl implements PokemonRepositoryCustom {
+
+    private static final String INSERT_POKEMON =
+            "INSERT INTO pokemon (external_id, name, height, weight, base_experience, sprite_url, " +
+            "created_at, updated_at, version) VALUES ";
+
+    private static final String POKEMON_ROW = "(?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    private static final String INSERT_TYPE = "INSERT INTO pokemon_types (pokemon_id, type_name) VALUES (?, ?)";
+
+    private static final String INSERT_ABILITY = "INSERT INTO pokemon_abilities (pokemon_id, ability_name) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    @Override
+    public Optional<Pokemon> insertIfAbsent(Pokemon pokemon) {
+        return insertAllIfAbsent(List.of(pokemon)).stream().findFirst();
+    }
+
+    @Override
+    public List<Pokemon> insertAllIfAbsent(List<Pokemon> pokemons) {
+        if (pokemons.isEmpty()) {
+            return List.of();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        String sql = INSERT_POKEMON + String.join(", ", Collections.nCopies(pokemons.size(), POKEMON_ROW))
+                + " ON CONFLICT DO NOTHING";
+
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql, new String[]{"id", "name"});
+            int index = 1;
+            for (Pokemon pokemon : pokemons) {
+                statement.setInt(index++, pokemon.getExternalId());
+                statement.setString(index++, pokemon.getName());
+                statement.setObject(index++, pokemon.getHeight(), Types.INTEGER);
+                statement.setObject(index++, pokemon.getWeight(), Types.INTEGER);
+                statement.setObject(index++, pokemon.getBaseExperience(), Types.INTEGER);
+                statement.setString(index++, pokemon.getSpriteUrl());
+                statement.setTimestamp(index++, Timestamp.valueOf(now));
+                statement.setTimestamp(index++, Timestamp.valueOf(now));
+            }
+            return statement;
+        }, keyHolder);
+
+        // Las filas omitidas por conflicto no devuelven clave: se identifican por nombre
+        Map<String, Long> ids = new HashMap<>();
+        for (Map<String, Object> key : keyHolder.getKeyList()) {
+            ids.put(key.get("name").toString().toLowerCase(Locale.ROOT), ((Number) key.get("id")).longValue());
+        }
+
+        List<Pokemon> inserted = new ArrayList<>(ids.size());
+        for (Pokemon pokemon : pokemons) {
+            Long id = ids.remove(pokemon.getName().toLowerCase(Locale.ROOT));
+            if (id != null) {
+                pokemon.setId(id);
+                pokemon.setVersion(0L);
+                pokemon.setCreatedAt(now);
+                pokemon.setUpdatedAt(now);
+                inserted.add(pokemon);
+            }
+        }
+        insertValues(INSERT_TYPE, inserted, Pokemon::getTypes);
+        insertValues(INSERT_ABILITY, inserted, Pokemon::getAbilities);
+        return inserted;
+    }
+
+    @Override
+    public Optional<Pokemon> findByNaturalId(String name) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Pokemon.class)
+                .loadOptional(name.toLowerCase(Locale.ROOT));
+    }
+
+    @Override
+    public void forEachChunk(Sort sort, int chunkSize, Consumer<List<Pokemon>> chunkConsumer) {
+        String query = QueryUtils.applySorting("SELECT p FROM Pokemon p", sort, "p");
+        Session session = entityManager.unwrap(Session.class);
+        CacheMode previousCacheMode = session.getCacheMode();
+        session.setCacheMode(CacheMode.GET);
+        try (Stream<Pokemon> rows = entityManager.createQuery(query, Pokemon.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, chunkSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()) {
+            List<Pokemon> chunk = new ArrayList<>(chunkSize);
+            Iterator<Pokemon> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                // Vaciar antes de avanzar el cursor: la fila siguiente ya quedaría asociada
+                if (chunk.size() == chunkSize) {
+                    chunkConsumer.accept(chunk);
+                    chunk.clear();
+                    entityManager.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                chunkConsumer.accept(chunk);
+                entityManager.clear();
+            }
+        } finally {
+            session.setCacheMode(previousCacheMode);
+        }
+    }
+
+    @Override
+    public Page<Pokemon> findByRanges(Integer minHeight, Integer maxHeight,
+                                      Integer minWeight, Integer maxWeight,
+                                      Integer minBaseExperience, Integer maxBaseExperience,
+                                      Pageable pageable) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        Function<Root<Pokemon>, Predicate[]> ranges = root -> {
+            List<Predicate> predicates = new ArrayList<>();
+            addRange(builder, predicates, root.get("height"), minHeight, maxHeight);
+            addRange(builder, predicates, root.get("weight"), minWeight, maxWeight);
+            addRange(builder, predicates, root.get("baseExperience"), minBaseExperience, maxBaseExperience);
+            return predicates.toArray(Predicate[]::new);
+        };
+
+        CriteriaQuery<Pokemon> query = builder.createQuery(Pokemon.class);
+        Root<Pokemon> root = query.from(Pokemon.class);
+        query.select(root).where(ranges.apply(root)).orderBy(QueryUtils.toOrders(pageable.getSort(), root, builder));
+        TypedQuery<Pokemon> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset()).setMaxResults(pageable.getPageSize());
+        }
+
+        return PageableExecutionUtils.getPage(typedQuery.getResultList(), pageable, () -> {
+            CriteriaQuery<Long> count = builder.createQuery(Long.class);
+            Root<Pokemon> countRoot = count.from(Pokemon.class);
+            count.select(builder.count(countRoot)).where(ranges.apply(countRoot));
+            return entityManager.createQuery(count).getSingleResult();
+        });
+    }
+
+    private static void addRange(CriteriaBuilder builder, List<Predicate> predicates,
+                                 Path<Integer> column, Integer min, Integer max) {
+        if (min != null) {
+            predicates.add(builder.greaterThanOrEqualTo(column, min));
+        }
+        if (max != null) {
+            predicates.add(builder.lessThanOrEqualTo(column, max));
+        }
+    }
+
+    private void insertValues(String sql, List<Pokemon> pokemons, Function<Pokemon, List<String>> values) {
+        List<Object[]> rows = new ArrayList<>();
+        for (Pokemon pokemon : pokemons) {
+            if (values.apply(pokemon) != null) {
+                values.apply(pokemon).forEach(value -> rows.add(new Object[]{pokemon.getId(), value}));
+            }
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, rows, new int[]{Types.BIGINT, Types.VARCHAR});
+        }
+    }
+}
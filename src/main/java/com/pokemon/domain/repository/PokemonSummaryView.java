@@ -0,0 +1,33 @@
+package com.pokemon.domain.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Proyección de Pokémon con solo las columnas escalares
+ *
+ * Spring Data selecciona únicamente estas columnas, sin hidratar la entidad
+ * ni tocar las tablas de tipos y habilidades.
+ *
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+public interface PokemonSummaryView {
+
+    Long getId();
+
+    Integer getExternalId();
+
+    String getName();
+
+    Integer getHeight();
+
+    Integer getWeight();
+
+    Integer getBaseExperience();
+
+    String getSpriteUrl();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,116 @@
+package com.pokemon.infrastructure.cache;
+
+import com.pokemon.application.dto.response.PokemonResponse;
+import com.pokemon.application.readmodel.PokemonReadModel;
+import com.pokemon.application.service.NegativeLookupCache;
+import com.pokemon.domain.entity.Pokemon;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Aplica en esta instancia los cambios confirmados por otra
+ *
+ * Replica lo que hacen los {@code @CacheEvict} de {@code PokemonService} y el
+ * cache de segundo nivel de Hibernate en la instancia que escribió, pero
+ * desalojando solo las claves del Pokémon afectado donde se las conoce. Los
+ * listados y búsquedas se vacían completos porque cualquier página puede contenerlo.
+ *
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@Component
+@Slf4j
+public class LocalCacheInvalidator {
+
+    static final String POKEMON_CACHE = "pokemonCache";
+    static final String LIST_CACHE = "pokemonListCache";
+    static final String SEARCH_CACHE = "pokemonSearchCache";
+    static final String STATS_CACHE = "pokemonStatsCache";
+
+    private final CacheManager cacheManager;
+    private final NegativeLookupCache notFoundCache;
+    private final PokemonReadModel readModel;
+    private final org.hibernate.Cache secondLevelCache;
+
+    public LocalCacheInvalidator(CacheManager cacheManager,
+                                 NegativeLookupCache notFoundCache,
+                                 PokemonReadModel readModel,
+                                 EntityManagerFactory entityManagerFactory) {
+        this.cacheManager = cacheManager;
+        this.notFoundCache = notFoundCache;
+        this.readModel = readModel;
+        this.secondLevelCache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+
+    /**
+     * Otra instancia creó un Pokémon
+     */
+    public void onRemoteCreated(Long id, String name) {
+        cache(POKEMON_CACHE).ifPresent(cache -> {
+            cache.evict("id_" + id);
+            cache.evict("name_" + name.toLowerCase());
+        });
+        evictCollections();
+        notFoundCache.invalidateAll();
+        readModel.refresh(id);
+        log.debug("Caches locales actualizados por la creación remota del Pokémon {}", id);
+    }
+
+    /**
+     * Otra instancia eliminó un Pokémon
+     *
+     * La notificación solo trae el ID; el nombre se toma de lo que esta instancia
+     * tenga en memoria. Si no lo conoce, se vacía {@code pokemonCache} completo
+     * para no dejar una entrada por nombre desactualizada.
+     */
+    public void onRemoteDeleted(Long id) {
+        cache(POKEMON_CACHE).ifPresent(cache -> {
+            Optional<String> name = Optional.ofNullable(cache.get("id_" + id, PokemonResponse.class))
+                    .or(() -> readModel.findById(id))
+                    .map(PokemonResponse::getName);
+            if (name.isPresent()) {
+                cache.evict("id_" + id);
+                cache.evict("name_" + name.get().toLowerCase());
+            } else {
+                cache.clear();
+            }
+        });
+        evictCollections();
+        secondLevelCache.evictEntityData(Pokemon.class, id);
+        secondLevelCache.evictCollectionData(Pokemon.class.getName() + ".types", id);
+        secondLevelCache.evictCollectionData(Pokemon.class.getName() + ".abilities", id);
+        secondLevelCache.evictNaturalIdData(Pokemon.class);
+        readModel.refresh(id);
+        log.debug("Caches locales actualizados por la eliminación remota del Pokémon {}", id);
+    }
+
+    /**
+     * Descarta todo lo cacheado; se usa cuando pudieron perderse notificaciones
+     *
+     * El modelo de lectura no se recarga a ciegas: se compara contra la base de
+     * datos y solo se recarga si hay diferencias.
+     */
+    public void flushAll() {
+        cacheManager.getCacheNames().forEach(name -> cache(name).ifPresent(Cache::clear));
+        notFoundCache.invalidateAll();
+        secondLevelCache.evictAllRegions();
+        readModel.verifyConsistency();
+        log.info("Caches locales vaciados por completo");
+    }
+
+    private void evictCollections() {
+        cache(LIST_CACHE).ifPresent(Cache::clear);
+        cache(SEARCH_CACHE).ifPresent(Cache::clear);
+        cache(STATS_CACHE).ifPresent(Cache::clear);
+    }
+
+    private Optional<Cache> cache(String name) {
+        return Optional.ofNullable(cacheManager.getCache(name));
+    }
+}
@@ -0,0 +1,258 @@
+package com.pokemon.infrastructure.cache;
+
+import com.pokemon.application.event.PokemonCreatedEvent;
+import com.pokemon.application.event.PokemonDeletedEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Invalidación de caches entre instancias con {@code LISTEN}/{@code NOTIFY} de PostgreSQL
+ *
+ * Cada alta y baja ejecuta {@code pg_notify} dentro de su propia transacción:
+ * PostgreSQL entrega la notificación solo si la transacción confirma, y recién
+ * después del commit. Cada instancia mantiene una conexión dedicada (fuera del
+ * pool) con {@code LISTEN} en un hilo propio y aplica las notificaciones de las
+ * demás con {@link LocalCacheInvalidator}; las propias se ignoran porque los
+ * {@code @CacheEvict} ya se aplicaron.
+ *
+ * Las notificaciones emitidas mientras la conexión está caída se pierden, así
+ * que cada vez que se (re)establece el {@code LISTEN} se vacían todos los
+ * caches. Si la base de datos no es PostgreSQL queda deshabilitada.
+ *
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@Component
+@Slf4j
+public class PostgresCacheInvalidation implements MeterBinder {
+
+    private final LocalCacheInvalidator invalidator;
+    private final JdbcTemplate jdbcTemplate;
+    private final String url;
+    private final String username;
+    private final String password;
+    private final boolean enabled;
+    private final String channel;
+    private final Duration pollTimeout;
+    private final Duration reconnectBackoff;
+    private final Duration maxReconnectBackoff;
+
+    /** Identifica a esta instancia en las notificaciones que emite */
+    private final String origin = UUID.randomUUID().toString();
+
+    private final AtomicLong received = new AtomicLong();
+    private final AtomicLong flushes = new AtomicLong();
+    private volatile boolean connected;
+    private volatile boolean running;
+    private Thread listener;
+
+    public PostgresCacheInvalidation(LocalCacheInvalidator invalidator,
+                                     JdbcTemplate jdbcTemplate,
+                                     @Value("${spring.datasource.url:}") String url,
+                                     @Value("${spring.datasource.username:}") String username,
+                                     @Value("${spring.datasource.password:}") String password,
+                                     @Value("${pokemon.cache.invalidation.enabled:true}") boolean enabled,
+                                     @Value("${pokemon.cache.invalidation.channel:pokemon_cache_invalidation}") String channel,
+                                     @Value("${pokemon.cache.invalidation.poll-timeout:5s}") Duration pollTimeout,
+                                     @Value("${pokemon.cache.invalidation.reconnect-backoff:1s}") Duration reconnectBackoff,
+                                     @Value("${pokemon.cache.invalidation.max-reconnect-backoff:30s}") Duration maxReconnectBackoff) {
+        this.invalidator = invalidator;
+        this.jdbcTemplate = jdbcTemplate;
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.enabled = enabled && url.startsWith("jdbc:postgresql:");
+        this.channel = channel;
+        this.pollTimeout = pollTimeout;
+        this.reconnectBackoff = reconnectBackoff;
+        this.maxReconnectBackoff = maxReconnectBackoff;
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onPokemonCreated(PokemonCreatedEvent event) {
+        notifyCommit(new Message(origin, Message.CREATED, event.getPokemon().getId(), event.getPokemon().getName()));
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onPokemonDeleted(PokemonDeletedEvent event) {
+        notifyCommit(new Message(origin, Message.DELETED, event.getId(), null));
+    }
+
+    private void notifyCommit(Message message) {
+        if (enabled) {
+            // Usa la conexión de la transacción en curso: se entrega al confirmar
+            jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", channel, message.format());
+        }
+    }
+
+    /**
+     * Arranca el hilo que escucha las notificaciones cuando la aplicación está lista
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            log.info("Invalidación de caches entre instancias deshabilitada");
+            return;
+        }
+        running = true;
+        listener = new Thread(this::listenLoop, "cache-invalidation-listener");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+            listener.join(pollTimeout.toMillis() * 2);
+        }
+    }
+
+    private void listenLoop() {
+        Duration backoff = reconnectBackoff;
+        while (running) {
+            try (Connection connection = connect()) {
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                connected = true;
+                backoff = reconnectBackoff;
+                log.info("Escuchando invalidaciones de caché en el canal '{}'", channel);
+
+                // Lo ocurrido antes del LISTEN no llegará como notificación
+                flushes.incrementAndGet();
+                invalidator.flushAll();
+
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications((int) pollTimeout.toMillis());
+                    if (notifications == null || notifications.length == 0) {
+                        // Sin novedades: verificar que la conexión sigue viva
+                        try (Statement statement = connection.createStatement()) {
+                            statement.execute("SELECT 1");
+                        }
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        apply(notification.getParameter());
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                // Al reconectar se vacían todos los caches, también si falló aplicar una invalidación
+                connected = false;
+                if (!running) {
+                    return;
+                }
+                log.warn("Escucha de invalidaciones de caché interrumpida: {}; reintentando en {} ms",
+                        e.getMessage(), backoff.toMillis());
+                try {
+                    Thread.sleep(backoff.toMillis());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                backoff = backoff.multipliedBy(2).compareTo(maxReconnectBackoff) > 0
+                        ? maxReconnectBackoff : backoff.multipliedBy(2);
+            }
+        }
+        connected = false;
+    }
+
+    private Connection connect() throws SQLException {
+        Properties properties = new Properties();
+        properties.setProperty("user", username);
+        properties.setProperty("password", password);
+        properties.setProperty("tcpKeepAlive", "true");
+        properties.setProperty("ApplicationName", "pokemon-api-cache-listener");
+        return DriverManager.getConnection(url, properties);
+    }
+
+    void apply(String payload) {
+        Optional<Message> parsed = Message.parse(payload);
+        if (parsed.isEmpty()) {
+            log.warn("Notificación de invalidación de caché no válida: {}", payload);
+            return;
+        }
+        Message message = parsed.get();
+        if (message.origin().equals(origin)) {
+            return;
+        }
+        received.incrementAndGet();
+        if (Message.CREATED.equals(message.type())) {
+            invalidator.onRemoteCreated(message.pokemonId(), message.pokemonName());
+        } else {
+            invalidator.onRemoteDeleted(message.pokemonId());
+        }
+    }
+
+    String origin() {
+        return origin;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("pokemon.cache.invalidation.received", received, AtomicLong::get)
+                .description("Invalidaciones recibidas de otras instancias")
+                .register(registry);
+        FunctionCounter.builder("pokemon.cache.invalidation.flushes", flushes, AtomicLong::get)
+                .description("Vaciados completos por (re)conexión del LISTEN")
+                .register(registry);
+        Gauge.builder("pokemon.cache.invalidation.connected", this, invalidation -> invalidation.connected ? 1 : 0)
+                .description("1 si la conexión LISTEN está activa")
+                .register(registry);
+    }
+
+    /**
+     * Contenido de una notificación: {@code origen:tipo:id[:nombre]}
+     */
+    record Message(String origin, String type, Long pokemonId, String pokemonName) {
+
+        static final String CREATED = "C";
+        static final String DELETED = "D";
+
+        String format() {
+            String base = origin + ":" + type + ":" + pokemonId;
+            return pokemonName != null ? base + ":" + pokemonName : base;
+        }
+
+        static Optional<Message> parse(String payload) {
+            String[] parts = payload.split(":", 4);
+            if (parts.length < 3 || !(CREATED.equals(parts[1]) || DELETED.equals(parts[1]))
+                    || (CREATED.equals(parts[1]) && parts.length < 4)) {
+                return Optional.empty();
+            }
+            try {
+                return Optional.of(new Message(parts[0], parts[1], Long.valueOf(parts[2]),
+                        parts.length == 4 ? parts[3] : null));
+            } catch (NumberFormatException e) {
+                return Optional.empty();
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.pokemon.infrastructure.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.pokemon.application.dto.response.PokemonResponse;
+import com.pokemon.infrastructure.web.advice.PokemonFieldsResponseBodyAdvice;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuración de Jackson
+ * 
+ * Spring Boot registra en el {@code ObjectMapper} todos los {@link Module}
+ * declarados como beans.
+ * 
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@Configuration
+@Slf4j
+public class JacksonConfig {
+
+    /**
+     * Blackbird reemplaza el acceso por reflexión a getters y setters por
+     * lambdas generadas con {@code LambdaMetafactory}, que el JIT puede inlinear
+     */
+    @Bean
+    @ConditionalOnProperty(name = "pokemon.serialization.blackbird", havingValue = "true", matchIfMissing = true)
+    public Module blackbirdModule() {
+        log.info("Módulo Blackbird de Jackson habilitado");
+        return new BlackbirdModule();
+    }
+
+    /**
+     * Asocia {@code PokemonResponse} al filtro de {@code ?fields=}; el filtro por
+     * defecto serializa todos los campos, así que sin parámetro nada cambia
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer pokemonFieldsCustomizer() {
+        return builder -> builder
+                .mixIn(PokemonResponse.class, PokemonFieldsResponseBodyAdvice.FilteredPokemon.class)
+                .filters(PokemonFieldsResponseBodyAdvice.ALL_FIELDS);
+    }
+}
@@ -10,8 +10,9 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.WebClient;
-import reactor.core.publisher.Mono;
+import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
@@ -19,6 +20,11 @@ import java.util.concurrent.TimeUnit;
 /**
  * Configuración de WebClient para llamadas a servicios externos
  * 
+ * Usa un pool de conexiones propio (en lugar del pool global compartido de
+ * Reactor Netty) con límites de conexiones y de espera, desalojo de conexiones
+ * inactivas y métricas de Micrometer bajo {@code reactor.netty.connection.provider.*}
+ * con el tag {@code name=pokeapi}.
+ * 
  * @author Pokemon API Team
  * @version 1.0.0
  */
@@ -26,68 +32,111 @@ import java.util.concurrent.TimeUnit;
 @Slf4j
 public class WebClientConfig {
 
-    @Value("${pokemon.api.timeout:30s}")
-    private Duration timeout;
+    static final String POOL_NAME = "pokeapi";
+
+    private final Duration timeout;
+    private final int maxConnections;
+    private final int pendingAcquireMaxCount;
+    private final Duration pendingAcquireTimeout;
+    private final Duration maxIdleTime;
+    private final Duration maxLifeTime;
+    private final Duration evictionInterval;
+    private final boolean http2;
+
+    public WebClientConfig(@Value("${pokemon.api.timeout:30s}") Duration timeout,
+                           @Value("${pokemon.api.pool.max-connections:50}") int maxConnections,
+                           @Value("${pokemon.api.pool.pending-acquire-max-count:200}") int pendingAcquireMaxCount,
+                           @Value("${pokemon.api.pool.pending-acquire-timeout:5s}") Duration pendingAcquireTimeout,
+                           @Value("${pokemon.api.pool.max-idle-time:30s}") Duration maxIdleTime,
+                           @Value("${pokemon.api.pool.max-life-time:5m}") Duration maxLifeTime,
+                           @Value("${pokemon.api.pool.eviction-interval:30s}") Duration evictionInterval,
+                           @Value("${pokemon.api.http2:false}") boolean http2) {
+        this.timeout = timeout;
+        this.maxConnections = maxConnections;
+        this.pendingAcquireMaxCount = pendingAcquireMaxCount;
+        this.pendingAcquireTimeout = pendingAcquireTimeout;
+        this.maxIdleTime = maxIdleTime;
+        this.maxLifeTime = maxLifeTime;
+        this.evictionInterval = evictionInterval;
+        this.http2 = http2;
+    }
+
+    /**
+     * Pool de conexiones dedicado a los servicios externos
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider externalConnectionProvider() {
+        return ConnectionProvider.builder(POOL_NAME)
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                .evictInBackground(evictionInterval)
+                .metrics(true)
+                .build();
+    }
 
     /**
      * Configura WebClient con timeouts y logging
      */
     @Bean
-    public WebClient webClient() {
-        HttpClient httpClient = HttpClient.create()
+    public WebClient webClient(ConnectionProvider externalConnectionProvider) {
+        HttpClient httpClient = HttpClient.create(externalConnectionProvider)
                 .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) timeout.toMillis())
                 .doOnConnected(conn -> conn
                         .addHandlerLast(new ReadTimeoutHandler(timeout.toSeconds(), TimeUnit.SECONDS))
                         .addHandlerLast(new WriteTimeoutHandler(timeout.toSeconds(), TimeUnit.SECONDS)))
                 .compress(true);
 
+        if (http2) {
+            // HTTP/2 se negocia por ALPN en conexiones TLS; los hosts sin soporte siguen en HTTP/1.1
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+        }
+
         return WebClient.builder()
                 .clientConnector(new ReactorClientHttpConnector(httpClient))
-                .filter(logRequest())
-                .filter(logResponse())
+                .filter(debugLogging())
                 .filter(errorHandler())
                 .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(1024 * 1024)) // 1MB
                 .build();
     }
 
     /**
-     * Filter para logging de requests
-     */
-    private ExchangeFilterFunction logRequest() {
-        return ExchangeFilterFunction.ofRequestProcessor(clientRequest -> {
-            log.debug("Request: {} {}", clientRequest.method(), clientRequest.url());
-            clientRequest.headers().forEach((name, values) -> 
-                log.debug("Request header: {}={}", name, values));
-            return Mono.just(clientRequest);
-        });
-    }
-
-    /**
-     * Filter para logging de responses
+     * Filter para logging de requests y responses
+     * 
+     * Con el nivel DEBUG desactivado pasa la request sin crear publishers ni
+     * recorrer headers. El nivel se consulta en cada llamada, así que cambiarlo
+     * en caliente (por ejemplo desde /actuator/loggers) surte efecto.
      */
-    private ExchangeFilterFunction logResponse() {
-        return ExchangeFilterFunction.ofResponseProcessor(clientResponse -> {
-            log.debug("Response status: {}", clientResponse.statusCode());
-            clientResponse.headers().asHttpHeaders().forEach((name, values) -> 
-                log.debug("Response header: {}={}", name, values));
-            return Mono.just(clientResponse);
-        });
+    private ExchangeFilterFunction debugLogging() {
+        return (request, next) -> {
+            if (!log.isDebugEnabled()) {
+                return next.exchange(request);
+            }
+            log.debug("Request: {} {}", request.method(), request.url());
+            request.headers().forEach((name, values) ->
+                    log.debug("Request header: {}={}", name, values));
+            return next.exchange(request).doOnNext(response -> {
+                log.debug("Response status: {}", response.statusCode());
+                response.headers().asHttpHeaders().forEach((name, values) ->
+                        log.debug("Response header: {}={}", name, values));
+            });
+        };
     }
 
     /**
      * Filter para manejo de errores HTTP
+     * 
+     * Solo registra el status: el cuerpo queda intacto para quien consume la
+     * respuesta y termina en {@code WebClientResponseException}.
      */
     private ExchangeFilterFunction errorHandler() {
-        return ExchangeFilterFunction.ofResponseProcessor(clientResponse -> {
-            if (clientResponse.statusCode().isError()) {
-                return clientResponse.bodyToMono(String.class)
-                        .flatMap(errorBody -> {
-                            log.error("Error response from external service: {} - Body: {}", 
-                                    clientResponse.statusCode(), errorBody);
-                            return Mono.just(clientResponse);
-                        });
+        return (request, next) -> next.exchange(request).doOnNext(response -> {
+            if (response.statusCode().isError()) {
+                log.error("Error response from external service: {} {} - {}",
+                        request.method(), request.url(), response.statusCode());
             }
-            return Mono.just(clientResponse);
         });
     }
-} 
\ No newline at end of file
+}
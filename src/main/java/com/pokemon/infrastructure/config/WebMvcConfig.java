@@ -0,0 +1,63 @@
+package com.pokemon.infrastructure.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.pokemon.application.dto.response.IsoDateTimeSerializer;
+import com.pokemon.infrastructure.web.converter.ProtobufJacksonHttpMessageConverter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Configuración de Spring MVC: formatos binarios para clientes internos
+ * 
+ * Además de JSON, las respuestas se negocian por {@code Accept} en CBOR
+ * ({@code application/cbor}), Smile ({@code application/x-jackson-smile}) y
+ * Protocol Buffers ({@code application/x-protobuf}). Los tres usan la misma
+ * configuración de Jackson que JSON (snake_case, sin nulos, módulos
+ * registrados) y se agregan después del convertidor JSON, que sigue siendo el
+ * formato por defecto.
+ * 
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder;
+
+    /**
+     * Convertidor protobuf; también lo usa el endpoint que publica los esquemas
+     */
+    @Bean
+    public ProtobufJacksonHttpMessageConverter protobufHttpMessageConverter() {
+        // El esquema se genera desde el serializador por tipo, que debe declarar las fechas como texto
+        return new ProtobufJacksonHttpMessageConverter(objectMapperBuilder.getObject()
+                .serializerByType(LocalDateTime.class, new IsoDateTimeSerializer())
+                .factory(new ProtobufFactory())
+                .build());
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+                || converter instanceof MappingJackson2SmileHttpMessageConverter
+                || converter instanceof ProtobufJacksonHttpMessageConverter);
+        converters.add(new MappingJackson2CborHttpMessageConverter(
+                objectMapperBuilder.getObject().factory(new CBORFactory()).build()));
+        converters.add(new MappingJackson2SmileHttpMessageConverter(
+                objectMapperBuilder.getObject().factory(new SmileFactory()).build()));
+        converters.add(protobufHttpMessageConverter());
+    }
+}
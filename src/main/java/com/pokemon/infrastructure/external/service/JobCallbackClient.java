@@ -0,0 +1,238 @@
+package com.pokemon.infrastructure.external.service;
+
+import io.netty.channel.ChannelOption;
+import io.netty.resolver.AddressResolver;
+import io.netty.resolver.AddressResolverGroup;
+import io.netty.resolver.InetNameResolver;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Promise;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+import reactor.util.retry.Retry;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Notifica a los clientes el resultado de un trabajo asíncrono
+ *
+ * El envío no bloquea al worker: se reintenta con backoff exponencial y, si
+ * igual falla, solo se registra. El cliente siempre puede consultar el estado
+ * por {@code GET /pokemon/jobs/{id}}.
+ *
+ * Como la URL la elige el cliente, solo se aceptan hosts que resuelven a
+ * direcciones públicas (nada de loopback, link-local como la metadata de la
+ * nube, ni redes privadas) y, si se configura
+ * {@code pokemon.ingestion.callback-allowed-hosts}, solo esos hosts y sus
+ * subdominios. La verificación se repite al conectar, sobre las direcciones
+ * que resuelve el propio cliente HTTP, así un DNS que cambia entre la
+ * validación y el envío no la evita; las redirecciones no se siguen.
+ *
+ * Usa su propio pool de conexiones ({@code name=callbacks}) y su propio event
+ * loop, con timeouts cortos, para que receptores lentos no compitan con las
+ * llamadas a PokeAPI.
+ *
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@Service
+@Slf4j
+public class JobCallbackClient {
+
+    static final String POOL_NAME = "callbacks";
+
+    private final Duration timeout;
+    private final int retries;
+    private final List<String> allowedHosts;
+    private final ConnectionProvider connectionProvider;
+    private final LoopResources loopResources;
+    private final WebClient webClient;
+
+    public JobCallbackClient(@Value("${pokemon.ingestion.callback-timeout:5s}") Duration timeout,
+                             @Value("${pokemon.ingestion.callback-retries:3}") int retries,
+                             @Value("${pokemon.ingestion.callback-max-connections:20}") int maxConnections,
+                             @Value("${pokemon.ingestion.callback-allowed-hosts:}") List<String> allowedHosts) {
+        this.timeout = timeout;
+        this.retries = retries;
+        this.allowedHosts = allowedHosts.stream()
+                .map(host -> host.trim().toLowerCase(Locale.ROOT))
+                .filter(host -> !host.isEmpty())
+                .toList();
+        this.connectionProvider = ConnectionProvider.builder(POOL_NAME)
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(timeout)
+                .maxIdleTime(Duration.ofSeconds(30))
+                .metrics(true)
+                .build();
+        this.loopResources = LoopResources.create(POOL_NAME, 1, true);
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .runOn(loopResources)
+                .resolver(new PublicAddressResolverGroup())
+                .followRedirect(false)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) timeout.toMillis())
+                .responseTimeout(timeout);
+        this.webClient = WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        connectionProvider.dispose();
+        loopResources.dispose();
+    }
+
+    /**
+     * Verifica que una URL de callback sea http(s) y apunte a un host permitido
+     *
+     * @throws InvalidCallbackUrlException si la URL no es válida, el host no está
+     *         permitido o resuelve a una dirección no pública
+     */
+    public void validate(String callbackUrl) {
+        URI uri;
+        try {
+            uri = new URI(callbackUrl);
+        } catch (URISyntaxException e) {
+            throw new InvalidCallbackUrlException("La URL de callback no es válida: " + callbackUrl);
+        }
+        if (!"http".equalsIgnoreCase(uri.getScheme()) && !"https".equalsIgnoreCase(uri.getScheme())) {
+            throw new InvalidCallbackUrlException("La URL de callback debe ser http o https");
+        }
+        if (uri.getHost() == null) {
+            throw new InvalidCallbackUrlException("La URL de callback no tiene host: " + callbackUrl);
+        }
+        resolvePublic(uri.getHost());
+    }
+
+    /**
+     * Envía el cuerpo como JSON por POST a la URL indicada
+     */
+    public void notify(String callbackUrl, Object body) {
+        try {
+            // Las IP literales no pasan por el resolver del cliente HTTP
+            validate(callbackUrl);
+        } catch (InvalidCallbackUrlException e) {
+            log.warn("Callback a {} descartado: {}", callbackUrl, e.getMessage());
+            return;
+        }
+
+        webClient.post()
+                .uri(callbackUrl)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .retrieve()
+                .toBodilessEntity()
+                .timeout(timeout)
+                .retryWhen(Retry.backoff(retries, Duration.ofSeconds(1))
+                        .filter(error -> !(error instanceof InvalidCallbackUrlException
+                                || error.getCause() instanceof InvalidCallbackUrlException)))
+                .subscribe(
+                        response -> log.debug("Callback enviado a {}: {}", callbackUrl, response.getStatusCode()),
+                        error -> log.warn("No se pudo enviar el callback a {}: {}", callbackUrl, error.getMessage()));
+    }
+
+    /**
+     * Resuelve un host permitido y verifica que todas sus direcciones sean públicas
+     */
+    private List<InetAddress> resolvePublic(String host) {
+        String normalized = host.toLowerCase(Locale.ROOT);
+        if (normalized.startsWith("[") && normalized.endsWith("]")) {
+            normalized = normalized.substring(1, normalized.length() - 1);
+        }
+        if (!isAllowedHost(normalized)) {
+            throw new InvalidCallbackUrlException("El host " + host + " no está permitido para callbacks");
+        }
+
+        InetAddress[] addresses;
+        try {
+            addresses = InetAddress.getAllByName(normalized);
+        } catch (UnknownHostException e) {
+            throw new InvalidCallbackUrlException("No se pudo resolver el host " + host);
+        }
+        for (InetAddress address : addresses) {
+            if (!isPublic(address)) {
+                throw new InvalidCallbackUrlException(
+                        "El host " + host + " resuelve a una dirección no pública (" + address.getHostAddress() + ")");
+            }
+        }
+        return List.of(addresses);
+    }
+
+    private boolean isAllowedHost(String host) {
+        if (allowedHosts.isEmpty()) {
+            return true;
+        }
+        return allowedHosts.stream().anyMatch(allowed -> host.equals(allowed) || host.endsWith("." + allowed));
+    }
+
+    /**
+     * Indica si una dirección es alcanzable en Internet y no una interna del servidor
+     */
+    static boolean isPublic(InetAddress address) {
+        if (address.isAnyLocalAddress() || address.isLoopbackAddress() || address.isLinkLocalAddress()
+                || address.isSiteLocalAddress() || address.isMulticastAddress()) {
+            return false;
+        }
+        byte[] bytes = address.getAddress();
+        if (bytes.length == 4) {
+            int first = bytes[0] & 0xff;
+            int second = bytes[1] & 0xff;
+            // 0.0.0.0/8 y 100.64.0.0/10 (NAT de operador)
+            return first != 0 && !(first == 100 && (second & 0xc0) == 64);
+        }
+        // fc00::/7, direcciones IPv6 únicas locales
+        return (bytes[0] & 0xfe) != 0xfc;
+    }
+
+    /**
+     * Resolver del cliente HTTP que aplica las mismas reglas al conectar
+     */
+    private final class PublicAddressResolverGroup extends AddressResolverGroup<InetSocketAddress> {
+
+        @Override
+        protected AddressResolver<InetSocketAddress> newResolver(EventExecutor executor) {
+            return new InetNameResolver(executor) {
+                @Override
+                protected void doResolve(String host, Promise<InetAddress> promise) {
+                    try {
+                        promise.setSuccess(resolvePublic(host).get(0));
+                    } catch (RuntimeException e) {
+                        promise.setFailure(e);
+                    }
+                }
+
+                @Override
+                protected void doResolveAll(String host, Promise<List<InetAddress>> promise) {
+                    try {
+                        promise.setSuccess(resolvePublic(host));
+                    } catch (RuntimeException e) {
+                        promise.setFailure(e);
+                    }
+                }
+            }.asAddressResolver();
+        }
+    }
+
+    // Excepciones personalizadas
+
+    public static class InvalidCallbackUrlException extends RuntimeException {
+        public InvalidCallbackUrlException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.pokemon.infrastructure.external.service;
+
+import java.util.Arrays;
+
+/**
+ * Ventana deslizante con las latencias más recientes de un servicio externo
+ * 
+ * Guarda las últimas {@code capacity} muestras en un buffer circular y calcula
+ * percentiles sobre ellas, de modo que el umbral se adapta si el servicio se
+ * vuelve más lento o más rápido.
+ * 
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+final class LatencyWindow {
+
+    private final long[] samples;
+    private int next;
+    private int size;
+
+    LatencyWindow(int capacity) {
+        this.samples = new long[capacity];
+    }
+
+    synchronized void record(long nanos) {
+        samples[next] = nanos;
+        next = (next + 1) % samples.length;
+        if (size < samples.length) {
+            size++;
+        }
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Percentil de las muestras actuales en nanosegundos, o -1 si la ventana está vacía
+     *
+     * @param percentile valor entre 0 y 1
+     */
+    long percentile(double percentile) {
+        long[] sorted;
+        synchronized (this) {
+            if (size == 0) {
+                return -1;
+            }
+            sorted = Arrays.copyOf(samples, size);
+        }
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+}
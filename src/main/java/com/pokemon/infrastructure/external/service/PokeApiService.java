@@ -1,35 +1,105 @@
 package com.pokemon.infrastructure.external.service;
 
 import com.pokemon.infrastructure.external.dto.PokeApiResponse;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
 import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
 /**
  * Servicio para interactuar con la PokeAPI externa
  * 
+ * Cada consulta se protege contra la latencia de cola y los errores transitorios:
+ * <ul>
+ *   <li>Hedging: si el primer intento no respondió dentro del percentil configurado
+ *       de las latencias recientes, se lanza un segundo intento y gana el primero
+ *       en responder.</li>
+ *   <li>Reintentos con backoff exponencial y jitter ante 5xx, errores de conexión
+ *       y timeouts por intento (solo GET y HEAD, que son idempotentes).</li>
+ *   <li>Los hedges y reintentos consumen un presupuesto global proporcional al
+ *       tráfico real, para no multiplicar la carga cuando PokeAPI está caída.</li>
+ * </ul>
+ * 
  * @author Pokemon API Team
  * @version 1.0.0
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class PokeApiService {
 
+    private static final int LATENCY_WINDOW = 512;
+    private static final int MIN_LATENCY_SAMPLES = 20;
+
     private final WebClient webClient;
+    private final String baseUrl;
+    private final Duration timeout;
+    private final Duration attemptTimeout;
+    private final boolean hedgingEnabled;
+    private final double hedgePercentile;
+    private final Duration minHedgeDelay;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
 
-    @Value("${pokemon.api.base-url}")
-    private String baseUrl;
+    private final LatencyWindow latencies = new LatencyWindow(LATENCY_WINDOW);
+    private final RetryBudget retryBudget;
 
-    @Value("${pokemon.api.timeout}")
-    private Duration timeout;
+    private final Counter hedgesFired;
+    private final Counter hedgesWon;
+    private final Counter retries;
+    private final Counter budgetExhausted;
+
+    public PokeApiService(WebClient webClient,
+                          MeterRegistry meterRegistry,
+                          @Value("${pokemon.api.base-url}") String baseUrl,
+                          @Value("${pokemon.api.timeout}") Duration timeout,
+                          @Value("${pokemon.api.attempt-timeout:10s}") Duration attemptTimeout,
+                          @Value("${pokemon.api.hedging.enabled:true}") boolean hedgingEnabled,
+                          @Value("${pokemon.api.hedging.percentile:0.95}") double hedgePercentile,
+                          @Value("${pokemon.api.hedging.min-delay:50ms}") Duration minHedgeDelay,
+                          @Value("${pokemon.api.retry.max-attempts:3}") int maxAttempts,
+                          @Value("${pokemon.api.retry.backoff:200ms}") Duration retryBackoff,
+                          @Value("${pokemon.api.retry.budget-ratio:0.1}") double budgetRatio,
+                          @Value("${pokemon.api.retry.budget-reserve:10}") int budgetReserve) {
+        this.webClient = webClient;
+        this.baseUrl = baseUrl;
+        this.timeout = timeout;
+        this.attemptTimeout = attemptTimeout;
+        this.hedgingEnabled = hedgingEnabled;
+        this.hedgePercentile = hedgePercentile;
+        this.minHedgeDelay = minHedgeDelay;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoff = retryBackoff;
+        this.retryBudget = new RetryBudget(budgetRatio, budgetReserve);
+
+        this.hedgesFired = Counter.builder("pokeapi.hedge.fired")
+                .description("Intentos duplicados lanzados por latencia alta")
+                .register(meterRegistry);
+        this.hedgesWon = Counter.builder("pokeapi.hedge.won")
+                .description("Intentos duplicados que respondieron antes que el original")
+                .register(meterRegistry);
+        this.retries = Counter.builder("pokeapi.retry")
+                .description("Reintentos ante errores transitorios")
+                .register(meterRegistry);
+        this.budgetExhausted = Counter.builder("pokeapi.retry.budget.exhausted")
+                .description("Reintentos descartados por falta de presupuesto")
+                .register(meterRegistry);
+        Gauge.builder("pokeapi.hedge.delay", this, service -> service.hedgeDelayNanos() / 1_000_000.0)
+                .description("Espera actual antes de lanzar un hedge (ms, -1 sin datos suficientes)")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
 
     /**
      * Obtiene información de un Pokémon desde la PokeAPI
@@ -45,19 +115,18 @@ public class PokeApiService {
         log.info("Buscando Pokémon '{}' en PokeAPI", name);
         
         try {
-            return webClient
-                .get()
-                .uri(baseUrl + "/pokemon/{name}", name.toLowerCase())
-                .retrieve()
-                .bodyToMono(PokeApiResponse.class)
-                .timeout(timeout)
+            return resilient(() -> webClient
+                    .get()
+                    .uri(baseUrl + "/pokemon/{name}", name.toLowerCase())
+                    .retrieve()
+                    .bodyToMono(PokeApiResponse.class))
                 .doOnSuccess(response -> log.info("Pokémon '{}' encontrado exitosamente", name))
                 .doOnError(error -> log.error("Error al buscar Pokémon '{}': {}", name, error.getMessage()))
                 .onErrorMap(WebClientResponseException.NotFound.class, 
                     ex -> new PokemonNotFoundException("Pokémon '" + name + "' no encontrado en PokeAPI"))
                 .onErrorMap(WebClientResponseException.class,
                     ex -> new ExternalApiException("Error al comunicarse con PokeAPI: " + ex.getMessage()))
-                .onErrorMap(Exception.class,
+                .onErrorMap(ex -> !(ex instanceof PokemonNotFoundException || ex instanceof ExternalApiException),
                     ex -> new ExternalApiException("Error inesperado al consultar PokeAPI: " + ex.getMessage()))
                 .block();
                 
@@ -78,12 +147,11 @@ public class PokeApiService {
         log.debug("Verificando si Pokémon '{}' existe en PokeAPI", name);
         
         try {
-            return webClient
-                .head()
-                .uri(baseUrl + "/pokemon/{name}", name.toLowerCase())
-                .retrieve()
-                .toBodilessEntity()
-                .timeout(timeout)
+            return resilient(() -> webClient
+                    .head()
+                    .uri(baseUrl + "/pokemon/{name}", name.toLowerCase())
+                    .retrieve()
+                    .toBodilessEntity())
                 .map(response -> response.getStatusCode().is2xxSuccessful())
                 .onErrorReturn(WebClientResponseException.NotFound.class, false)
                 .onErrorReturn(false)
@@ -96,11 +164,94 @@ public class PokeApiService {
     }
 
     /**
-     * Excepción personalizada para Pokémon no encontrado
+     * Aplica hedging, reintentos y el timeout total a una request idempotente
+     */
+    private <T> Mono<T> resilient(Supplier<Mono<T>> request) {
+        retryBudget.recordRequest();
+        return hedged(request)
+                .retryWhen(Retry.backoff(maxAttempts - 1, retryBackoff)
+                        .jitter(0.5)
+                        .filter(PokeApiService::isRetryable)
+                        .doBeforeRetryAsync(signal -> {
+                            if (!acquireBudget()) {
+                                return Mono.error(signal.failure());
+                            }
+                            retries.increment();
+                            log.warn("Reintentando consulta a PokeAPI (intento {}): {}",
+                                    signal.totalRetries() + 2, signal.failure().getMessage());
+                            return Mono.empty();
+                        })
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+                .timeout(timeout);
+    }
+
+    private <T> Mono<T> hedged(Supplier<Mono<T>> request) {
+        Mono<T> primary = attempt(request);
+        long delay = hedgingEnabled ? hedgeDelayNanos() : -1;
+        if (delay < 0) {
+            return primary;
+        }
+        Mono<T> hedge = Mono.delay(Duration.ofNanos(delay))
+                .flatMap(tick -> {
+                    if (!acquireBudget()) {
+                        return Mono.<T>never();
+                    }
+                    hedgesFired.increment();
+                    log.debug("PokeAPI no respondió en {} ms, lanzando hedge", delay / 1_000_000);
+                    return attempt(request).doOnSuccess(value -> hedgesWon.increment());
+                });
+        return Mono.firstWithSignal(primary, hedge);
+    }
+
+    /**
+     * Un intento con su propio timeout; las respuestas (incluidos los 4xx) alimentan la ventana de latencias
+     */
+    private <T> Mono<T> attempt(Supplier<Mono<T>> request) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return request.get()
+                    .timeout(attemptTimeout)
+                    .doOnSuccess(value -> latencies.record(System.nanoTime() - start))
+                    .doOnError(WebClientResponseException.class, ex -> {
+                        if (ex.getStatusCode().is4xxClientError()) {
+                            latencies.record(System.nanoTime() - start);
+                        }
+                    });
+        });
+    }
+
+    /**
+     * Espera antes de lanzar un hedge: el percentil configurado de las latencias
+     * recientes, nunca menor al mínimo; -1 mientras no haya muestras suficientes
+     */
+    long hedgeDelayNanos() {
+        if (latencies.size() < MIN_LATENCY_SAMPLES) {
+            return -1;
+        }
+        return Math.max(minHedgeDelay.toNanos(), latencies.percentile(hedgePercentile));
+    }
+
+    private boolean acquireBudget() {
+        if (retryBudget.tryAcquire()) {
+            return true;
+        }
+        budgetExhausted.increment();
+        return false;
+    }
+
+    private static boolean isRetryable(Throwable error) {
+        if (error instanceof WebClientResponseException ex) {
+            return ex.getStatusCode().is5xxServerError();
+        }
+        return error instanceof WebClientRequestException || error instanceof TimeoutException;
+    }
+
+    /**
+     * Excepción personalizada para Pokémon no encontrado (sin stack trace: es una respuesta esperada)
      */
     public static class PokemonNotFoundException extends RuntimeException {
         public PokemonNotFoundException(String message) {
-            super(message);
+            super(message, null, false, false);
         }
     }
 
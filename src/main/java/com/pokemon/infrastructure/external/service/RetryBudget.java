@@ -0,0 +1,45 @@
+package com.pokemon.infrastructure.external.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Presupuesto global de reintentos y requests duplicadas
+ * 
+ * Cada request original deposita {@code ratio} fichas y cada reintento o
+ * hedge consume una, con un saldo máximo de {@code reserve} fichas. Así el
+ * tráfico extra queda acotado a una fracción del tráfico real y, si el servicio
+ * externo está caído, los reintentos se agotan en lugar de multiplicar la carga.
+ * 
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+final class RetryBudget {
+
+    private static final long TOKEN = 1000;
+
+    private final long deposit;
+    private final long capacity;
+    private final AtomicLong balance;
+
+    RetryBudget(double ratio, int reserve) {
+        this.deposit = Math.round(ratio * TOKEN);
+        this.capacity = Math.max(1, reserve) * TOKEN;
+        this.balance = new AtomicLong(capacity);
+    }
+
+    void recordRequest() {
+        balance.accumulateAndGet(deposit, (current, amount) -> Math.min(capacity, current + amount));
+    }
+
+    boolean tryAcquire() {
+        while (true) {
+            long current = balance.get();
+            if (current < TOKEN) {
+                return false;
+            }
+            if (balance.compareAndSet(current, current - TOKEN)) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.pokemon.infrastructure.external.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+
+/**
+ * Descarga las imágenes de los sprites desde la URL guardada en cada Pokémon
+ *
+ * Las imágenes se leen completas en memoria (el límite del {@code WebClient}
+ * es de 1 MB) porque se guardan en disco una sola vez y de ahí en adelante
+ * se sirven desde el archivo.
+ *
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@Service
+@Slf4j
+public class SpriteClient {
+
+    private final WebClient webClient;
+    private final Duration timeout;
+
+    public SpriteClient(WebClient webClient,
+                        @Value("${pokemon.sprites.download-timeout:10s}") Duration timeout) {
+        this.webClient = webClient;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Descarga la imagen
+     *
+     * @param url URL absoluta del sprite
+     * @return contenido y tipo de la imagen
+     * @throws SpriteDownloadException si la descarga falla o no devuelve una imagen
+     */
+    public Download download(String url) {
+        log.info("Descargando sprite desde {}", url);
+
+        ResponseEntity<byte[]> response;
+        try {
+            response = webClient.get()
+                    .uri(url)
+                    .accept(MediaType.parseMediaType("image/*"))
+                    .retrieve()
+                    .toEntity(byte[].class)
+                    .timeout(timeout)
+                    .block();
+        } catch (RuntimeException e) {
+            throw new SpriteDownloadException("No se pudo descargar el sprite desde " + url + ": " + e.getMessage(), e);
+        }
+
+        if (response == null || response.getBody() == null || response.getBody().length == 0) {
+            throw new SpriteDownloadException("El sprite descargado desde " + url + " está vacío", null);
+        }
+        MediaType contentType = response.getHeaders().getContentType() != null
+                ? response.getHeaders().getContentType()
+                : MediaTypeFactory.getMediaType(url).orElse(MediaType.APPLICATION_OCTET_STREAM);
+        if (!"image".equals(contentType.getType())) {
+            throw new SpriteDownloadException("El recurso " + url + " no es una imagen (" + contentType + ")", null);
+        }
+        return new Download(response.getBody(), new MediaType(contentType.getType(), contentType.getSubtype()));
+    }
+
+    /**
+     * Imagen descargada
+     */
+    public record Download(byte[] content, MediaType contentType) {
+    }
+
+    /**
+     * Excepción personalizada para descargas de sprites fallidas
+     */
+    public static class SpriteDownloadException extends RuntimeException {
+        public SpriteDownloadException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+}
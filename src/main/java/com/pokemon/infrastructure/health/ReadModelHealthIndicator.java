@@ -0,0 +1,41 @@
+package com.pokemon.infrastructure.health;
+
+import com.pokemon.application.readmodel.PokemonReadModel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Indicador de salud del modelo de lectura en memoria
+ * 
+ * Reporta el tamaño del catálogo y las diferencias contra la base de datos.
+ * 
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@Component("readModel")
+@RequiredArgsConstructor
+public class ReadModelHealthIndicator implements HealthIndicator {
+
+    private final PokemonReadModel readModel;
+
+    @Override
+    public Health health() {
+        if (!readModel.isReady()) {
+            return Health.unknown()
+                    .withDetail("ready", false)
+                    .build();
+        }
+
+        PokemonReadModel.ConsistencyReport report = readModel.checkConsistency();
+        Health.Builder builder = report.isConsistent() ? Health.up() : Health.status("OUT_OF_SYNC");
+        return builder
+                .withDetail("ready", true)
+                .withDetail("size", report.getMemorySize())
+                .withDetail("missing", report.getMissingIds().size())
+                .withDetail("stale", report.getStaleIds().size())
+                .withDetail("unexpected", report.getUnexpectedIds().size())
+                .build();
+    }
+}
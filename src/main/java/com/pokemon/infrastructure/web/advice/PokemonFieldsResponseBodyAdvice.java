@@ -0,0 +1,70 @@
+package com.pokemon.infrastructure.web.advice;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.pokemon.application.dto.request.PokemonFields;
+import com.pokemon.infrastructure.web.controller.PokemonController;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+/**
+ * Aplica {@code ?fields=} al serializar las respuestas de {@link PokemonController}
+ *
+ * {@code PokemonResponse} se registra con el filtro {@link #FILTER_ID} (ver
+ * {@code JacksonConfig}); aquí se sustituye el filtro por defecto, que lo
+ * serializa todo, por uno que solo deja pasar los campos pedidos. Afecta a
+ * todos los formatos basados en Jackson (JSON, CBOR y Smile).
+ *
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@ControllerAdvice(assignableTypes = PokemonController.class)
+public class PokemonFieldsResponseBodyAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    public static final String FILTER_ID = "pokemonFields";
+
+    /**
+     * Filtros por defecto de los {@code ObjectMapper}: todos los campos
+     */
+    public static final FilterProvider ALL_FIELDS = new SimpleFilterProvider()
+            .addFilter(FILTER_ID, SimpleBeanPropertyFilter.serializeAll());
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+                                           MethodParameter returnType, ServerHttpRequest request,
+                                           ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return;
+        }
+        PokemonFields fields = PokemonFields.parse(servletRequest.getServletRequest().getParameter("fields"));
+        if (fields != PokemonFields.ALL) {
+            bodyContainer.setFilters(filtersFor(fields));
+        }
+    }
+
+    /**
+     * Filtros que serializan solo los campos seleccionados
+     */
+    public static FilterProvider filtersFor(PokemonFields fields) {
+        if (fields == PokemonFields.ALL) {
+            return ALL_FIELDS;
+        }
+        return new SimpleFilterProvider()
+                .addFilter(FILTER_ID, SimpleBeanPropertyFilter.filterOutAllExcept(fields.names()));
+    }
+
+    /**
+     * Mixin que asocia {@code PokemonResponse} al filtro de campos
+     */
+    @JsonFilter(FILTER_ID)
+    public interface FilteredPokemon {
+    }
+}
@@ -1,29 +1,71 @@
 package com.pokemon.infrastructure.web.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.pokemon.application.dto.request.PokemonCreateRequest;
+import com.pokemon.application.dto.request.PokemonFields;
+import com.pokemon.application.dto.request.PokemonFilterCriteria;
+import com.pokemon.application.dto.request.PokemonRangeCriteria;
+import com.pokemon.application.dto.request.TeamAnalysisRequest;
+import com.pokemon.application.dto.response.IngestionJobResponse;
+import com.pokemon.application.dto.response.PokemonAggregateResponse;
+import com.pokemon.application.dto.response.PokemonBatchItem;
+import com.pokemon.application.dto.response.PokemonChangesResponse;
 import com.pokemon.application.dto.response.PokemonResponse;
+import com.pokemon.application.dto.response.PokemonSuggestionResponse;
+import com.pokemon.application.dto.response.SimilarPokemonResponse;
+import com.pokemon.application.dto.response.TeamAnalysisResponse;
+import com.pokemon.application.service.PokemonChangeFeedService;
+import com.pokemon.application.service.PokemonIngestionService;
+import com.pokemon.application.service.PokemonQueryService;
 import com.pokemon.application.service.PokemonService;
+import com.pokemon.application.service.PokemonSpriteService;
+import com.pokemon.application.service.TeamAnalysisService;
+import com.pokemon.infrastructure.web.advice.PokemonFieldsResponseBodyAdvice;
 import com.pokemon.infrastructure.web.dto.ApiResponse;
 import com.pokemon.infrastructure.web.dto.ErrorResponse;
+import com.pokemon.infrastructure.web.dto.PageResponse;
+import com.pokemon.infrastructure.web.sse.PokemonChangeBroadcaster;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Controlador REST para la gestión de Pokémon
@@ -39,7 +81,23 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "Pokemon API", description = "Endpoints para gestión de Pokémon")
 public class PokemonController {
 
+    /** Atributos de request con los que Tomcat envía un archivo por sendfile */
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
     private final PokemonService pokemonService;
+    private final PokemonQueryService pokemonQueryService;
+    private final TeamAnalysisService teamAnalysisService;
+    private final PokemonIngestionService ingestionService;
+    private final PokemonChangeFeedService changeFeedService;
+    private final PokemonChangeBroadcaster changeBroadcaster;
+    private final PokemonSpriteService spriteService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${pokemon.sprites.max-age:30d}")
+    private Duration spriteMaxAge = Duration.ofDays(30);
 
     /**
      * Crea un nuevo Pokémon obteniendo información desde PokeAPI
@@ -101,6 +159,89 @@ public class PokemonController {
         }
     }
 
+    /**
+     * Encola la creación de un Pokémon y responde sin esperar a la PokeAPI
+     */
+    @PostMapping(params = "async=true")
+    @Operation(
+        summary = "Crear Pokémon de forma asíncrona",
+        description = "Registra un trabajo de creación y responde 202 con su ID. El resultado se consulta en " +
+                      "/pokemon/jobs/{id} o se recibe por POST en callback_url. Si ya hay un trabajo activo " +
+                      "para el mismo nombre se devuelve ese."
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "202",
+            description = "Trabajo encolado",
+            content = @Content(schema = @Schema(implementation = IngestionJobResponse.class))
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "409",
+            description = "Pokémon ya existe",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "503",
+            description = "Cola de creación llena (ver Retry-After)",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        )
+    })
+    public ResponseEntity<ApiResponse<IngestionJobResponse>> createPokemonAsync(
+            @Valid @RequestBody PokemonCreateRequest request) {
+
+        log.info("POST /pokemon?async=true - Encolando creación de Pokémon: {}", request.getName());
+
+        IngestionJobResponse job = ingestionService.submit(request);
+
+        ApiResponse<IngestionJobResponse> apiResponse = ApiResponse.<IngestionJobResponse>builder()
+                .success(true)
+                .message("Creación de Pokémon encolada")
+                .data(job)
+                .build();
+
+        URI location = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/pokemon/jobs/{id}")
+                .buildAndExpand(job.getId())
+                .toUri();
+
+        return ResponseEntity.accepted().location(location).body(apiResponse);
+    }
+
+    /**
+     * Obtiene el estado de un trabajo de creación asíncrona
+     */
+    @GetMapping("/jobs/{id}")
+    @Operation(
+        summary = "Estado de un trabajo de creación",
+        description = "Devuelve el estado (PENDING, RUNNING, SUCCEEDED, FAILED) y, al terminar, el ID del Pokémon creado o el error"
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "Estado del trabajo",
+            content = @Content(schema = @Schema(implementation = IngestionJobResponse.class))
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "404",
+            description = "Trabajo no encontrado",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        )
+    })
+    public ResponseEntity<ApiResponse<IngestionJobResponse>> getJob(
+            @Parameter(description = "ID del trabajo", example = "3f2b6c1e-8a44-4f4e-9d8a-0b6a9f1c2d3e")
+            @PathVariable UUID id) {
+
+        log.debug("GET /pokemon/jobs/{} - Consultando trabajo", id);
+
+        ApiResponse<IngestionJobResponse> apiResponse = ApiResponse.<IngestionJobResponse>builder()
+                .success(true)
+                .message("Estado del trabajo obtenido exitosamente")
+                .data(ingestionService.getJob(id))
+                .build();
+
+        return ResponseEntity.ok(apiResponse);
+    }
+
     /**
      * Obtiene todos los Pokémon con paginación y ordenamiento
      */
@@ -120,7 +261,7 @@ public class PokemonController {
             content = @Content(schema = @Schema(implementation = ErrorResponse.class))
         )
     })
-    public ResponseEntity<ApiResponse<Page<PokemonResponse>>> getAllPokemon(
+    public ResponseEntity<ApiResponse<PageResponse<PokemonResponse>>> getAllPokemon(
             @Parameter(description = "Número de página (0-based)", example = "0")
             @RequestParam(defaultValue = "0") @Min(0) int page,
             
@@ -131,7 +272,10 @@ public class PokemonController {
             @RequestParam(defaultValue = "id") String sortBy,
             
             @Parameter(description = "Dirección de ordenamiento", example = "asc")
-            @RequestParam(defaultValue = "asc") String sortDir) {
+            @RequestParam(defaultValue = "asc") String sortDir,
+
+            @Parameter(description = "Campos a incluir, separados por coma (el id siempre se incluye)", example = "name,sprite_url")
+            @RequestParam(required = false) String fields) {
         
         log.info("GET /pokemon - Página: {}, Tamaño: {}, Ordenar por: {} {}", 
                 page, size, sortBy, sortDir);
@@ -141,12 +285,12 @@ public class PokemonController {
                 Sort.Direction.DESC : Sort.Direction.ASC;
         
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
-        Page<PokemonResponse> pokemonPage = pokemonService.getAllPokemon(pageable);
+        Page<PokemonResponse> pokemonPage = pokemonService.getAllPokemon(pageable, PokemonFields.parse(fields));
 
-        ApiResponse<Page<PokemonResponse>> apiResponse = ApiResponse.<Page<PokemonResponse>>builder()
+        ApiResponse<PageResponse<PokemonResponse>> apiResponse = ApiResponse.<PageResponse<PokemonResponse>>builder()
                 .success(true)
                 .message("Lista de Pokémon obtenida exitosamente")
-                .data(pokemonPage)
+                .data(PageResponse.of(pokemonPage))
                 .build();
 
         log.info("Devolviendo {} Pokémon de {} total", 
@@ -155,6 +299,124 @@ public class PokemonController {
         return ResponseEntity.ok(apiResponse);
     }
 
+    /**
+     * Recorre todo el catálogo emitiendo cada Pokémon a medida que se lee
+     */
+    @GetMapping(value = "/stream", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    @Operation(
+        summary = "Recorrer Pokémon en streaming",
+        description = "Emite todos los Pokémon desde un cursor de base de datos, uno por línea (application/x-ndjson) "
+                + "o como eventos SSE (text/event-stream), sin armar la lista completa en memoria"
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "Flujo de Pokémon"
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "Ordenamiento o campos inválidos",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        )
+    })
+    public ResponseEntity<StreamingResponseBody> streamPokemon(
+            @Parameter(description = "Campo de ordenamiento", example = "name")
+            @RequestParam(defaultValue = "id") String sortBy,
+            
+            @Parameter(description = "Dirección de ordenamiento", example = "asc")
+            @RequestParam(defaultValue = "asc") String sortDir,
+
+            @Parameter(description = "Campos a incluir, separados por coma (el id siempre se incluye)", example = "name,sprite_url")
+            @RequestParam(required = false) String fields,
+
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+
+        Sort.Direction direction = sortDir.equalsIgnoreCase("desc") ?
+                Sort.Direction.DESC : Sort.Direction.ASC;
+        Sort sort = Sort.by(direction, sortBy);
+        PokemonFields selected = PokemonFields.parse(fields);
+        // Validar antes de comprometer la respuesta: los errores posteriores ya no pueden cambiar el status
+        pokemonQueryService.requireStreamableSort(sort);
+
+        boolean eventStream = accept != null && MediaType.parseMediaTypes(accept).stream()
+                .anyMatch(MediaType.TEXT_EVENT_STREAM::equalsTypeAndSubtype);
+        ObjectWriter writer = objectMapper.writer(PokemonFieldsResponseBodyAdvice.filtersFor(selected));
+
+        log.info("GET /pokemon/stream - Ordenar por: {} {}, Formato: {}", sortBy, sortDir,
+                eventStream ? "SSE" : "NDJSON");
+
+        StreamingResponseBody body = out -> {
+            PokemonStreamWriter streamWriter = new PokemonStreamWriter(writer, out, eventStream);
+            pokemonQueryService.streamAll(sort, selected, streamWriter);
+            log.info("Streaming completado: {} Pokémon enviados", streamWriter.finish());
+        };
+
+        return ResponseEntity.ok()
+                .contentType(eventStream ? MediaType.TEXT_EVENT_STREAM : MediaType.APPLICATION_NDJSON)
+                .cacheControl(CacheControl.noCache())
+                .body(body);
+    }
+
+    /**
+     * Devuelve los cambios del catálogo posteriores a una secuencia
+     */
+    @GetMapping("/changes")
+    @Operation(
+        summary = "Registro de cambios",
+        description = "Altas y bajas posteriores a 'since', en orden de commit, para sincronizar sin volver a descargar el catálogo"
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "Cambios obtenidos exitosamente"
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "410",
+            description = "Los cambios pedidos ya se eliminaron por retención; hay que descargar el catálogo completo",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        )
+    })
+    public ResponseEntity<ApiResponse<PokemonChangesResponse>> getChanges(
+            @Parameter(description = "Última secuencia vista (0 para empezar desde el principio)", example = "0")
+            @RequestParam(defaultValue = "0") @Min(0) long since,
+
+            @Parameter(description = "Cantidad máxima de cambios", example = "100")
+            @RequestParam(defaultValue = "100") @Min(1) @Max(PokemonChangeFeedService.MAX_PAGE_SIZE) int limit) {
+
+        log.info("GET /pokemon/changes?since={} - Consultando registro de cambios", since);
+
+        PokemonChangesResponse changes = changeFeedService.getChanges(since, limit);
+
+        ApiResponse<PokemonChangesResponse> apiResponse = ApiResponse.<PokemonChangesResponse>builder()
+                .success(true)
+                .message("Cambios obtenidos exitosamente")
+                .data(changes)
+                .build();
+
+        return ResponseEntity.ok(apiResponse);
+    }
+
+    /**
+     * Suscripción SSE a los cambios del catálogo
+     */
+    @GetMapping(value = "/changes/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+        summary = "Suscribirse al registro de cambios",
+        description = "Emite un evento 'change' (con id = secuencia) por cada alta o baja posterior a 'since'. "
+                + "Al reconectar, el header Last-Event-ID tiene prioridad sobre 'since'"
+    )
+    public SseEmitter streamChanges(
+            @Parameter(description = "Última secuencia vista", example = "0")
+            @RequestParam(defaultValue = "0") @Min(0) long since,
+
+            @Parameter(hidden = true)
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+
+        long from = lastEventId != null ? lastEventId : since;
+        log.info("GET /pokemon/changes/stream - Suscripción desde la secuencia {}", from);
+        return changeBroadcaster.subscribe(from);
+    }
+
     /**
      * Busca un Pokémon por su ID
      */
@@ -181,6 +443,7 @@ public class PokemonController {
         log.info("GET /pokemon/{} - Buscando Pokémon por ID", id);
 
         PokemonResponse pokemon = pokemonService.getPokemonById(id);
+        pokemonQueryService.recordView(pokemon.getId());
         
         ApiResponse<PokemonResponse> apiResponse = ApiResponse.<PokemonResponse>builder()
                 .success(true)
@@ -207,6 +470,7 @@ public class PokemonController {
         log.info("GET /pokemon/name/{} - Buscando Pokémon por nombre", name);
 
         PokemonResponse pokemon = pokemonService.getPokemonByName(name);
+        pokemonQueryService.recordView(pokemon.getId());
         
         ApiResponse<PokemonResponse> apiResponse = ApiResponse.<PokemonResponse>builder()
                 .success(true)
@@ -217,6 +481,47 @@ public class PokemonController {
         return ResponseEntity.ok(apiResponse);
     }
 
+    /**
+     * Obtiene varios Pokémon por ID o por nombre en una sola llamada
+     */
+    @GetMapping("/batch")
+    @Operation(
+        summary = "Obtener varios Pokémon",
+        description = "Devuelve hasta 100 Pokémon por ID (ids) o por nombre (names) en el orden pedido; los inexistentes vienen con found=false"
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "Lote resuelto (puede incluir elementos no encontrados)"
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "Falta la lista, se indicaron ambas o supera el máximo",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        )
+    })
+    public ResponseEntity<ApiResponse<List<PokemonBatchItem>>> getPokemonBatch(
+            @Parameter(description = "IDs separados por coma", example = "1,4,7,25")
+            @RequestParam(required = false) List<Long> ids,
+            @Parameter(description = "Nombres separados por coma", example = "bulbasaur,pikachu")
+            @RequestParam(required = false) List<String> names) {
+
+        log.debug("GET /pokemon/batch - ids: {}, names: {}", ids, names);
+
+        List<PokemonBatchItem> items = pokemonQueryService.findBatch(ids, names);
+        items.stream()
+                .filter(PokemonBatchItem::isFound)
+                .forEach(item -> pokemonQueryService.recordView(item.getPokemon().getId()));
+
+        ApiResponse<List<PokemonBatchItem>> apiResponse = ApiResponse.<List<PokemonBatchItem>>builder()
+                .success(true)
+                .message("Lote de Pokémon obtenido exitosamente")
+                .data(items)
+                .build();
+
+        return ResponseEntity.ok(apiResponse);
+    }
+
     /**
      * Busca Pokémon por tipo
      */
@@ -225,21 +530,23 @@ public class PokemonController {
         summary = "Buscar Pokémon por tipo",
         description = "Obtiene todos los Pokémon de un tipo específico"
     )
-    public ResponseEntity<ApiResponse<Page<PokemonResponse>>> getPokemonByType(
+    public ResponseEntity<ApiResponse<PageResponse<PokemonResponse>>> getPokemonByType(
             @Parameter(description = "Tipo de Pokémon", example = "electric")
             @PathVariable String type,
             @RequestParam(defaultValue = "0") @Min(0) int page,
-            @RequestParam(defaultValue = "10") @Min(1) int size) {
+            @RequestParam(defaultValue = "10") @Min(1) int size,
+            @Parameter(description = "Campos a incluir, separados por coma (el id siempre se incluye)", example = "name,sprite_url")
+            @RequestParam(required = false) String fields) {
         
         log.info("GET /pokemon/type/{} - Buscando Pokémon por tipo", type);
 
         Pageable pageable = PageRequest.of(page, size);
-        Page<PokemonResponse> pokemonPage = pokemonService.getPokemonByType(type, pageable);
+        Page<PokemonResponse> pokemonPage = pokemonService.getPokemonByType(type, pageable, PokemonFields.parse(fields));
 
-        ApiResponse<Page<PokemonResponse>> apiResponse = ApiResponse.<Page<PokemonResponse>>builder()
+        ApiResponse<PageResponse<PokemonResponse>> apiResponse = ApiResponse.<PageResponse<PokemonResponse>>builder()
                 .success(true)
                 .message("Pokémon encontrados por tipo exitosamente")
-                .data(pokemonPage)
+                .data(PageResponse.of(pokemonPage))
                 .build();
 
         return ResponseEntity.ok(apiResponse);
@@ -253,21 +560,427 @@ public class PokemonController {
         summary = "Buscar Pokémon por nombre",
         description = "Busca Pokémon que contengan el texto especificado en su nombre"
     )
-    public ResponseEntity<ApiResponse<Page<PokemonResponse>>> searchPokemon(
+    public ResponseEntity<ApiResponse<PageResponse<PokemonResponse>>> searchPokemon(
             @Parameter(description = "Texto a buscar en el nombre", example = "chu")
             @RequestParam String query,
             @RequestParam(defaultValue = "0") @Min(0) int page,
-            @RequestParam(defaultValue = "10") @Min(1) int size) {
+            @RequestParam(defaultValue = "10") @Min(1) int size,
+            @Parameter(description = "Campos a incluir, separados por coma (el id siempre se incluye)", example = "name,sprite_url")
+            @RequestParam(required = false) String fields) {
         
         log.info("GET /pokemon/search?query={} - Buscando Pokémon", query);
 
         Pageable pageable = PageRequest.of(page, size);
-        Page<PokemonResponse> pokemonPage = pokemonService.searchPokemonByName(query, pageable);
+        Page<PokemonResponse> pokemonPage = pokemonService.searchPokemonByName(query, pageable, PokemonFields.parse(fields));
 
-        ApiResponse<Page<PokemonResponse>> apiResponse = ApiResponse.<Page<PokemonResponse>>builder()
+        ApiResponse<PageResponse<PokemonResponse>> apiResponse = ApiResponse.<PageResponse<PokemonResponse>>builder()
                 .success(true)
                 .message("Búsqueda completada exitosamente")
-                .data(pokemonPage)
+                .data(PageResponse.of(pokemonPage))
+                .build();
+
+        return ResponseEntity.ok(apiResponse);
+    }
+
+    /**
+     * Analiza la cobertura de tipos de un equipo
+     */
+    @PostMapping("/team/analyze")
+    @Operation(
+        summary = "Analizar equipo",
+        description = "Calcula la cobertura ofensiva de un equipo contra el catálogo y sus debilidades; opcionalmente lo completa hasta 6 con la mejor combinación de tipos"
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "Equipo analizado exitosamente"
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "Datos de entrada inválidos",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "404",
+            description = "Algún Pokémon del equipo no existe",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "503",
+            description = "Catálogo en memoria no disponible",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        )
+    })
+    public ResponseEntity<ApiResponse<TeamAnalysisResponse>> analyzeTeam(
+            @Valid @RequestBody TeamAnalysisRequest request) {
+
+        log.debug("POST /pokemon/team/analyze - Analizando equipo de {} Pokémon", request.getPokemonIds().size());
+
+        TeamAnalysisResponse analysis = teamAnalysisService.analyze(request);
+
+        ApiResponse<TeamAnalysisResponse> apiResponse = ApiResponse.<TeamAnalysisResponse>builder()
+                .success(true)
+                .message("Equipo analizado exitosamente")
+                .data(analysis)
+                .build();
+
+        return ResponseEntity.ok(apiResponse);
+    }
+
+    /**
+     * Calcula agregados de una métrica, opcionalmente agrupados
+     */
+    @GetMapping("/analytics")
+    @Operation(
+        summary = "Agregados del catálogo",
+        description = "Calcula promedio, mínimo, máximo y percentiles de altura, peso o experiencia base, agrupando por tipo o habilidad"
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "Agregados calculados exitosamente"
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "Métrica, agrupamiento o percentiles inválidos",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "503",
+            description = "Catálogo en memoria no disponible",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        )
+    })
+    public ResponseEntity<ApiResponse<PokemonAggregateResponse>> getAnalytics(
+            @Parameter(description = "Métrica: height, weight o baseExperience", example = "weight")
+            @RequestParam String metric,
+            @Parameter(description = "Agrupar por type o ability (opcional)", example = "type")
+            @RequestParam(required = false) String groupBy,
+            @Parameter(description = "Percentiles a calcular (0-100)", example = "50,90,99")
+            @RequestParam(defaultValue = "50,90,99") List<Double> percentiles) {
+
+        log.debug("GET /pokemon/analytics?metric={}&groupBy={} - Calculando agregados", metric, groupBy);
+
+        PokemonAggregateResponse aggregates = pokemonQueryService.aggregate(metric, groupBy, percentiles);
+
+        ApiResponse<PokemonAggregateResponse> apiResponse = ApiResponse.<PokemonAggregateResponse>builder()
+                .success(true)
+                .message("Agregados calculados exitosamente")
+                .data(aggregates)
+                .build();
+
+        return ResponseEntity.ok(apiResponse);
+    }
+
+    /**
+     * Obtiene el ranking de Pokémon por una métrica
+     */
+    @GetMapping("/top")
+    @Operation(
+        summary = "Ranking de Pokémon",
+        description = "Devuelve los k Pokémon con mayor altura, peso o experiencia base, opcionalmente de un tipo, desde rankings en memoria"
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "Ranking obtenido exitosamente"
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "Métrica no soportada",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "503",
+            description = "Catálogo en memoria no disponible",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        )
+    })
+    public ResponseEntity<ApiResponse<List<PokemonResponse>>> getTopPokemon(
+            @Parameter(description = "Métrica: height, weight o baseExperience", example = "weight")
+            @RequestParam String metric,
+            @Parameter(description = "Tipo por el que filtrar (opcional)", example = "fire")
+            @RequestParam(required = false) String type,
+            @Parameter(description = "Cantidad de posiciones", example = "10")
+            @RequestParam(defaultValue = "10") @Min(1) @Max(100) int k) {
+
+        log.debug("GET /pokemon/top?metric={}&type={}&k={} - Obteniendo ranking", metric, type, k);
+
+        List<PokemonResponse> top = pokemonQueryService.topPokemon(metric, type, k);
+
+        ApiResponse<List<PokemonResponse>> apiResponse = ApiResponse.<List<PokemonResponse>>builder()
+                .success(true)
+                .message("Ranking obtenido exitosamente")
+                .data(top)
+                .build();
+
+        return ResponseEntity.ok(apiResponse);
+    }
+
+    /**
+     * Sirve la imagen del sprite de un Pokémon desde el cache en disco
+     */
+    @GetMapping("/{id}/sprite")
+    @Operation(
+        summary = "Obtener sprite",
+        description = "Devuelve la imagen del Pokémon. Se descarga una sola vez y luego se sirve desde disco con ETag "
+                + "y Cache-Control de larga duración; con If-None-Match vigente responde 304"
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "Imagen del sprite",
+            content = @Content(mediaType = "image/png")
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "304",
+            description = "El cliente ya tiene la versión vigente"
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "404",
+            description = "Pokémon no encontrado o sin sprite",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "502",
+            description = "No se pudo descargar la imagen",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        )
+    })
+    public void getSprite(
+            @Parameter(description = "ID del Pokémon", example = "1")
+            @PathVariable @Positive Long id,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+
+        log.debug("GET /pokemon/{}/sprite - Sirviendo sprite", id);
+
+        // El archivo se abre antes de responder: si el cache lo desaloja mientras tanto, la copia abierta sigue legible
+        try (PokemonSpriteService.OpenSprite open = spriteService.openSprite(id)) {
+            PokemonSpriteService.Sprite sprite = open.sprite();
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.maxAge(spriteMaxAge).cachePublic().getHeaderValue());
+            if (new ServletWebRequest(request, response).checkNotModified(sprite.etag())) {
+                return;
+            }
+
+            response.setContentType(sprite.contentType().toString());
+            response.setContentLengthLong(sprite.size());
+            if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+                // Tomcat abre el archivo al terminar el controlador: se le pasa un enlace propio de esta respuesta
+                Optional<Path> link = spriteService.linkForSendfile(sprite);
+                if (link.isPresent()) {
+                    request.setAttribute(SENDFILE_FILENAME, link.get().toAbsolutePath().toString());
+                    request.setAttribute(SENDFILE_START, 0L);
+                    request.setAttribute(SENDFILE_END, sprite.size());
+                    return;
+                }
+            }
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = 0;
+            while (position < sprite.size()) {
+                position += open.channel().transferTo(position, sprite.size() - position, out);
+            }
+        }
+    }
+
+    /**
+     * Obtiene los Pokémon más parecidos a uno dado
+     */
+    @GetMapping("/{id}/similar")
+    @Operation(
+        summary = "Buscar Pokémon similares",
+        description = "Devuelve los k Pokémon más cercanos por altura, peso y experiencia base normalizadas, penalizando los tipos no compartidos"
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "Pokémon similares obtenidos exitosamente"
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "404",
+            description = "Pokémon no encontrado",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "503",
+            description = "Catálogo en memoria no disponible",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        )
+    })
+    public ResponseEntity<ApiResponse<List<SimilarPokemonResponse>>> getSimilarPokemon(
+            @Parameter(description = "ID del Pokémon de referencia", example = "1")
+            @PathVariable Long id,
+            @Parameter(description = "Cantidad de Pokémon similares", example = "10")
+            @RequestParam(defaultValue = "10") @Min(1) @Max(50) int k) {
+
+        log.debug("GET /pokemon/{}/similar?k={} - Buscando similares", id, k);
+
+        List<SimilarPokemonResponse> similar = pokemonQueryService.findSimilar(id, k);
+
+        ApiResponse<List<SimilarPokemonResponse>> apiResponse = ApiResponse.<List<SimilarPokemonResponse>>builder()
+                .success(true)
+                .message("Pokémon similares obtenidos exitosamente")
+                .data(similar)
+                .build();
+
+        return ResponseEntity.ok(apiResponse);
+    }
+
+    /**
+     * Sugiere Pokémon por prefijo de nombre
+     */
+    @GetMapping("/autocomplete")
+    @Operation(
+        summary = "Autocompletar nombres de Pokémon",
+        description = "Sugiere Pokémon por prefijo de nombre, ordenados por coincidencia y popularidad, tolerando un error de tipeo"
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "Sugerencias obtenidas exitosamente"
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "503",
+            description = "Catálogo en memoria no disponible",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        )
+    })
+    public ResponseEntity<ApiResponse<List<PokemonSuggestionResponse>>> autocomplete(
+            @Parameter(description = "Prefijo del nombre", example = "pik")
+            @RequestParam String prefix,
+            @Parameter(description = "Cantidad máxima de sugerencias", example = "10")
+            @RequestParam(defaultValue = "10") @Min(1) @Max(50) int limit) {
+
+        log.debug("GET /pokemon/autocomplete?prefix={} - Autocompletando", prefix);
+
+        List<PokemonSuggestionResponse> suggestions = pokemonQueryService.autocomplete(prefix, limit);
+
+        ApiResponse<List<PokemonSuggestionResponse>> apiResponse = ApiResponse.<List<PokemonSuggestionResponse>>builder()
+                .success(true)
+                .message("Sugerencias obtenidas exitosamente")
+                .data(suggestions)
+                .build();
+
+        return ResponseEntity.ok(apiResponse);
+    }
+
+    /**
+     * Filtra Pokémon combinando tipos y habilidades
+     */
+    @GetMapping("/filter")
+    @Operation(
+        summary = "Filtrar Pokémon por tipos y habilidades",
+        description = "Evalúa combinaciones booleanas (todos / alguno / ninguno) de tipos y habilidades sobre índices en memoria"
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "Filtro aplicado exitosamente"
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "503",
+            description = "Catálogo en memoria no disponible",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        )
+    })
+    public ResponseEntity<ApiResponse<PageResponse<PokemonResponse>>> filterPokemon(
+            @Parameter(description = "Debe tener todos estos tipos", example = "fire,flying")
+            @RequestParam(required = false) List<String> allTypes,
+            @Parameter(description = "Debe tener al menos uno de estos tipos", example = "water,ice")
+            @RequestParam(required = false) List<String> anyTypes,
+            @Parameter(description = "No debe tener ninguno de estos tipos", example = "dragon")
+            @RequestParam(required = false) List<String> noneTypes,
+            @Parameter(description = "Debe tener todas estas habilidades", example = "blaze")
+            @RequestParam(required = false) List<String> allAbilities,
+            @Parameter(description = "Debe tener al menos una de estas habilidades", example = "static,levitate")
+            @RequestParam(required = false) List<String> anyAbilities,
+            @Parameter(description = "No debe tener ninguna de estas habilidades", example = "pressure")
+            @RequestParam(required = false) List<String> noneAbilities,
+            @RequestParam(defaultValue = "0") @Min(0) int page,
+            @RequestParam(defaultValue = "10") @Min(1) int size) {
+
+        PokemonFilterCriteria criteria = PokemonFilterCriteria.builder()
+                .allTypes(allTypes)
+                .anyTypes(anyTypes)
+                .noneTypes(noneTypes)
+                .allAbilities(allAbilities)
+                .anyAbilities(anyAbilities)
+                .noneAbilities(noneAbilities)
+                .build();
+
+        log.info("GET /pokemon/filter - Filtrando Pokémon: {}", criteria);
+
+        Page<PokemonResponse> pokemonPage = pokemonQueryService.filterPokemon(criteria, PageRequest.of(page, size));
+
+        ApiResponse<PageResponse<PokemonResponse>> apiResponse = ApiResponse.<PageResponse<PokemonResponse>>builder()
+                .success(true)
+                .message("Filtro aplicado exitosamente")
+                .data(PageResponse.of(pokemonPage))
+                .build();
+
+        return ResponseEntity.ok(apiResponse);
+    }
+
+    /**
+     * Busca Pokémon por rangos de altura, peso y experiencia base
+     */
+    @GetMapping("/query")
+    @Operation(
+        summary = "Consultar Pokémon por rangos",
+        description = "Filtra por rangos inclusivos de altura (dm), peso (hg) y experiencia base, ordenando por cualquiera de esos campos"
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "Consulta realizada exitosamente"
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "Parámetros de consulta inválidos",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        )
+    })
+    public ResponseEntity<ApiResponse<PageResponse<PokemonResponse>>> queryPokemon(
+            @Parameter(description = "Altura mínima (dm)", example = "5")
+            @RequestParam(required = false) @Min(0) Integer minHeight,
+            @Parameter(description = "Altura máxima (dm)", example = "20")
+            @RequestParam(required = false) @Min(0) Integer maxHeight,
+            @Parameter(description = "Peso mínimo (hg)", example = "100")
+            @RequestParam(required = false) @Min(0) Integer minWeight,
+            @Parameter(description = "Peso máximo (hg)", example = "500")
+            @RequestParam(required = false) @Min(0) Integer maxWeight,
+            @Parameter(description = "Experiencia base mínima", example = "200")
+            @RequestParam(required = false) @Min(0) Integer minBaseExperience,
+            @Parameter(description = "Experiencia base máxima", example = "300")
+            @RequestParam(required = false) @Min(0) Integer maxBaseExperience,
+            @Parameter(description = "Campo de ordenamiento (id, height, weight, baseExperience)", example = "weight")
+            @RequestParam(defaultValue = "id") String sortBy,
+            @Parameter(description = "Dirección de ordenamiento", example = "desc")
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(defaultValue = "0") @Min(0) int page,
+            @RequestParam(defaultValue = "10") @Min(1) int size) {
+
+        PokemonRangeCriteria criteria = PokemonRangeCriteria.builder()
+                .minHeight(minHeight)
+                .maxHeight(maxHeight)
+                .minWeight(minWeight)
+                .maxWeight(maxWeight)
+                .minBaseExperience(minBaseExperience)
+                .maxBaseExperience(maxBaseExperience)
+                .build();
+
+        log.info("GET /pokemon/query - Rangos: {}, Ordenar por: {} {}", criteria, sortBy, sortDir);
+
+        Sort.Direction direction = sortDir.equalsIgnoreCase("desc") ? 
+                Sort.Direction.DESC : Sort.Direction.ASC;
+
+        Page<PokemonResponse> pokemonPage = pokemonQueryService.queryByRange(
+                criteria, PageRequest.of(page, size, Sort.by(direction, sortBy)));
+
+        ApiResponse<PageResponse<PokemonResponse>> apiResponse = ApiResponse.<PageResponse<PokemonResponse>>builder()
+                .success(true)
+                .message("Consulta realizada exitosamente")
+                .data(PageResponse.of(pokemonPage))
                 .build();
 
         return ResponseEntity.ok(apiResponse);
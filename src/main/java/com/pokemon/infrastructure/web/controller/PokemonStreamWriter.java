@@ -0,0 +1,77 @@
+package com.pokemon.infrastructure.web.controller;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.pokemon.application.dto.response.PokemonResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Escribe Pokémon en la respuesta a medida que llegan, como NDJSON o como eventos SSE
+ *
+ * Las escrituras son bloqueantes: si el cliente no consume, el buffer del
+ * servidor se llena y la lectura del cursor se detiene hasta que haya espacio.
+ * El primer elemento se envía de inmediato y luego se vacía el buffer cada
+ * {@value #FLUSH_EVERY} elementos. Una desconexión del cliente se propaga como
+ * {@link UncheckedIOException} y corta la consulta.
+ *
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+class PokemonStreamWriter implements Consumer<PokemonResponse> {
+
+    private static final int FLUSH_EVERY = 50;
+    private static final byte[] NEWLINE = {'\n'};
+    private static final byte[] EVENT_END = {'\n', '\n'};
+
+    private final ObjectWriter writer;
+    private final OutputStream out;
+    private final boolean eventStream;
+    private long count;
+
+    PokemonStreamWriter(ObjectWriter writer, OutputStream out, boolean eventStream) {
+        this.writer = writer;
+        this.out = out;
+        this.eventStream = eventStream;
+    }
+
+    @Override
+    public void accept(PokemonResponse pokemon) {
+        try {
+            byte[] json = writer.writeValueAsBytes(pokemon);
+            if (eventStream) {
+                out.write(ascii("id: " + pokemon.getId() + "\nevent: pokemon\ndata: "));
+                out.write(json);
+                out.write(EVENT_END);
+            } else {
+                out.write(json);
+                out.write(NEWLINE);
+            }
+            if (++count == 1 || count % FLUSH_EVERY == 0) {
+                out.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Cierra el flujo; en SSE emite un evento {@code end} con el total enviado
+     *
+     * @return cantidad de Pokémon escritos
+     */
+    long finish() throws IOException {
+        if (eventStream) {
+            out.write(ascii("event: end\ndata: {\"count\":" + count + "}\n\n"));
+        }
+        out.flush();
+        return count;
+    }
+
+    private static byte[] ascii(String text) {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,85 @@
+package com.pokemon.infrastructure.web.controller;
+
+import com.pokemon.infrastructure.web.converter.ProtobufJacksonHttpMessageConverter;
+import com.pokemon.infrastructure.web.dto.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Publica los esquemas de los formatos binarios de la API
+ * 
+ * Los esquemas {@code .proto} se generan desde los tipos de retorno de los
+ * endpoints de lectura de {@link PokemonController}, con el mismo generador
+ * que usa el convertidor, por lo que siempre coinciden con lo que se envía.
+ * CBOR y Smile no necesitan esquema: usan los mismos nombres de campo que JSON.
+ * 
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/schemas")
+@Slf4j
+@Tag(name = "Schemas", description = "Esquemas de los formatos binarios")
+public class SchemaController {
+
+    private final ProtobufJacksonHttpMessageConverter protobufConverter;
+    private final RequestMappingHandlerMapping handlerMapping;
+
+    public SchemaController(ProtobufJacksonHttpMessageConverter protobufConverter,
+                            @Qualifier("requestMappingHandlerMapping") RequestMappingHandlerMapping handlerMapping) {
+        this.protobufConverter = protobufConverter;
+        this.handlerMapping = handlerMapping;
+    }
+
+    /**
+     * Esquemas protobuf por endpoint de lectura
+     */
+    @GetMapping("/protobuf")
+    @Operation(
+        summary = "Esquemas protobuf",
+        description = "Devuelve el esquema .proto de la respuesta de cada endpoint de lectura " +
+                      "(Accept: application/x-protobuf). Los endpoints que no aparecen no admiten protobuf."
+    )
+    public ResponseEntity<ApiResponse<Map<String, String>>> getProtobufSchemas() {
+        log.info("GET /schemas/protobuf - Publicando esquemas protobuf");
+
+        Map<String, String> schemas = new TreeMap<>();
+        for (Map.Entry<RequestMappingInfo, HandlerMethod> entry : handlerMapping.getHandlerMethods().entrySet()) {
+            RequestMappingInfo info = entry.getKey();
+            HandlerMethod method = entry.getValue();
+            if (method.getBeanType() != PokemonController.class
+                    || !info.getMethodsCondition().getMethods().contains(RequestMethod.GET)) {
+                continue;
+            }
+            ResolvableType body = ResolvableType.forMethodReturnType(method.getMethod())
+                    .as(ResponseEntity.class).getGeneric(0);
+            protobufConverter.schemaFor(body.getType()).ifPresent(schema -> {
+                for (String pattern : info.getPatternValues()) {
+                    schemas.put("GET " + pattern, schema.getSource().toString());
+                }
+            });
+        }
+
+        ApiResponse<Map<String, String>> apiResponse = ApiResponse.<Map<String, String>>builder()
+                .success(true)
+                .message("Esquemas protobuf obtenidos exitosamente")
+                .data(schemas)
+                .build();
+
+        return ResponseEntity.ok(apiResponse);
+    }
+}
@@ -0,0 +1,105 @@
+package com.pokemon.infrastructure.web.converter;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufFactory;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+import com.fasterxml.jackson.dataformat.protobuf.schemagen.ProtobufSchemaGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Convierte los DTOs de la API a Protocol Buffers usando Jackson
+ * 
+ * El esquema {@code .proto} de cada tipo de respuesta se genera a partir del
+ * propio DTO (mismos nombres snake_case que en JSON) y se cachea, por lo que
+ * no hay clases generadas que mantener sincronizadas. Los tipos que protobuf
+ * no puede representar (mapas) se rechazan en {@code canWrite} y la
+ * negociación de contenido cae al siguiente formato aceptado.
+ * 
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@Slf4j
+public class ProtobufJacksonHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final MediaType APPLICATION_PROTOBUF = new MediaType("application", "x-protobuf");
+
+    private final ObjectMapper mapper;
+    private final Map<JavaType, Optional<ProtobufSchema>> schemas = new ConcurrentHashMap<>();
+
+    public ProtobufJacksonHttpMessageConverter(ObjectMapper mapper) {
+        super(APPLICATION_PROTOBUF);
+        Assert.isInstanceOf(ProtobufFactory.class, mapper.getFactory(), "El ObjectMapper debe usar ProtobufFactory");
+        this.mapper = mapper;
+    }
+
+    /**
+     * Esquema protobuf del tipo indicado, vacío si el tipo no es representable
+     */
+    public Optional<ProtobufSchema> schemaFor(Type type) {
+        return schemas.computeIfAbsent(mapper.constructType(type), this::generate);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return true;
+    }
+
+    @Override
+    public boolean canRead(Type type, @Nullable Class<?> contextClass, @Nullable MediaType mediaType) {
+        return canRead(mediaType) && schemaFor(GenericTypeResolver.resolveType(type, contextClass)).isPresent();
+    }
+
+    @Override
+    public boolean canWrite(@Nullable Type type, Class<?> clazz, @Nullable MediaType mediaType) {
+        return canWrite(mediaType) && schemaFor(type != null ? type : clazz).isPresent();
+    }
+
+    @Override
+    public Object read(Type type, @Nullable Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+        JavaType javaType = mapper.constructType(GenericTypeResolver.resolveType(type, contextClass));
+        ProtobufSchema schema = schemaFor(javaType).orElseThrow(() ->
+                new HttpMessageNotReadableException("Tipo no representable en protobuf: " + javaType, inputMessage));
+        return mapper.readerFor(javaType).with(schema).readValue(inputMessage.getBody());
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        return read(clazz, null, inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object value, @Nullable Type type, HttpOutputMessage outputMessage) throws IOException {
+        JavaType javaType = mapper.constructType(type != null ? type : value.getClass());
+        ProtobufSchema schema = schemaFor(javaType).orElseThrow(() ->
+                new HttpMessageNotWritableException("Tipo no representable en protobuf: " + javaType));
+        mapper.writerFor(javaType).with(schema).writeValue(outputMessage.getBody(), value);
+    }
+
+    private Optional<ProtobufSchema> generate(JavaType type) {
+        try {
+            ProtobufSchemaGenerator generator = new ProtobufSchemaGenerator();
+            mapper.acceptJsonFormatVisitor(type, generator);
+            return Optional.of(generator.getGeneratedSchema());
+        } catch (JsonMappingException | RuntimeException e) {
+            log.debug("Sin esquema protobuf para {}: {}", type, e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
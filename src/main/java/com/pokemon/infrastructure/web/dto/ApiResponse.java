@@ -1,6 +1,8 @@
 package com.pokemon.infrastructure.web.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.pokemon.application.dto.response.IsoDateTimeSerializer;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -35,6 +37,7 @@ public class ApiResponse<T> {
 
     @Schema(description = "Timestamp de la respuesta")
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    @JsonSerialize(using = IsoDateTimeSerializer.class)
     @Builder.Default
     private LocalDateTime timestamp = LocalDateTime.now();
 
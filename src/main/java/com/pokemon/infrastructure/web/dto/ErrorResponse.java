@@ -1,6 +1,8 @@
 package com.pokemon.infrastructure.web.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.pokemon.application.dto.response.IsoDateTimeSerializer;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -45,6 +47,7 @@ public class ErrorResponse {
 
     @Schema(description = "Timestamp del error")
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    @JsonSerialize(using = IsoDateTimeSerializer.class)
     @Builder.Default
     private LocalDateTime timestamp = LocalDateTime.now();
 
@@ -0,0 +1,62 @@
+package com.pokemon.infrastructure.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+/**
+ * Envoltorio liviano y estable para respuestas paginadas
+ * 
+ * Reemplaza la serialización directa de {@code PageImpl}, que expone la
+ * estructura interna de Spring Data (pageable, sort, flags duplicados) y
+ * falla con páginas sin paginación.
+ * 
+ * @param <T> tipo de los elementos de la página
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Página de resultados")
+public class PageResponse<T> {
+
+    @Schema(description = "Elementos de la página")
+    private List<T> content;
+
+    @Schema(description = "Número de página (desde 0)", example = "0")
+    private int page;
+
+    @Schema(description = "Tamaño de página pedido", example = "20")
+    private int size;
+
+    @Schema(description = "Cantidad total de elementos", example = "151")
+    private long totalElements;
+
+    @Schema(description = "Cantidad total de páginas", example = "8")
+    private int totalPages;
+
+    @Schema(description = "Indica si hay una página siguiente", example = "true")
+    private boolean hasNext;
+
+    /**
+     * Crea el envoltorio a partir de una página de Spring Data
+     */
+    public static <T> PageResponse<T> of(Page<T> page) {
+        boolean paged = page.getPageable().isPaged();
+        return PageResponse.<T>builder()
+                .content(page.getContent())
+                .page(paged ? page.getNumber() : 0)
+                .size(paged ? page.getSize() : page.getNumberOfElements())
+                .totalElements(page.getTotalElements())
+                .totalPages(page.getTotalPages())
+                .hasNext(page.hasNext())
+                .build();
+    }
+}
@@ -1,6 +1,11 @@
 package com.pokemon.infrastructure.web.exception;
 
+import com.pokemon.application.service.PokemonChangeFeedService;
+import com.pokemon.application.service.PokemonIngestionService;
+import com.pokemon.application.service.PokemonQueryService;
 import com.pokemon.application.service.PokemonService;
+import com.pokemon.application.service.PokemonSpriteService;
+import com.pokemon.infrastructure.external.service.JobCallbackClient;
 import com.pokemon.infrastructure.external.service.PokeApiService;
 import com.pokemon.infrastructure.web.dto.ErrorResponse;
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,6 +13,7 @@ import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -111,6 +117,21 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
+    /**
+     * Maneja Pokémon sin sprite
+     */
+    @ExceptionHandler(PokemonSpriteService.SpriteNotAvailableException.class)
+    public ResponseEntity<ErrorResponse> handleSpriteNotAvailable(
+            PokemonSpriteService.SpriteNotAvailableException ex, HttpServletRequest request) {
+        
+        log.info("Sprite no disponible en {}: {}", request.getRequestURI(), ex.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.of(ex.getMessage(), "SPRITE_NOT_AVAILABLE");
+        errorResponse.setPath(request.getRequestURI());
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+
     /**
      * Maneja Pokémon ya existente
      */
@@ -126,6 +147,78 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
     }
 
+    /**
+     * Maneja creaciones del mismo Pokémon que siguen en curso en otra solicitud
+     */
+    @ExceptionHandler(PokemonService.CreationInProgressException.class)
+    public ResponseEntity<ErrorResponse> handleCreationInProgress(
+            PokemonService.CreationInProgressException ex, HttpServletRequest request) {
+
+        log.warn("Creación concurrente en {}: {}", request.getRequestURI(), ex.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.of(ex.getMessage(), "CREATION_IN_PROGRESS");
+        errorResponse.setPath(request.getRequestURI());
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    /**
+     * Maneja trabajos de creación asíncrona inexistentes
+     */
+    @ExceptionHandler(PokemonIngestionService.JobNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleJobNotFound(
+            PokemonIngestionService.JobNotFoundException ex, HttpServletRequest request) {
+
+        log.info("Trabajo no encontrado en {}: {}", request.getRequestURI(), ex.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.of(ex.getMessage(), "JOB_NOT_FOUND");
+        errorResponse.setPath(request.getRequestURI());
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+
+    /**
+     * Maneja la cola de creación llena indicando cuándo reintentar
+     */
+    @ExceptionHandler(PokemonIngestionService.IngestionQueueFullException.class)
+    public ResponseEntity<ErrorResponse> handleIngestionQueueFull(
+            PokemonIngestionService.IngestionQueueFullException ex, HttpServletRequest request) {
+
+        log.warn("Cola de creación llena en {}: {}", request.getRequestURI(), ex.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.of(
+                "Hay demasiadas creaciones pendientes. Intente nuevamente más tarde.",
+                "INGESTION_QUEUE_FULL",
+                ex.getMessage()
+        );
+        errorResponse.setPath(request.getRequestURI());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(errorResponse);
+    }
+
+    /**
+     * Maneja la saturación de colas y esperas internas indicando cuándo reintentar
+     */
+    @ExceptionHandler(PokemonService.ServiceBusyException.class)
+    public ResponseEntity<ErrorResponse> handleServiceBusy(
+            PokemonService.ServiceBusyException ex, HttpServletRequest request) {
+
+        log.warn("Servicio saturado en {}: {}", request.getRequestURI(), ex.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.of(
+                "El servidor está saturado. Intente nuevamente más tarde.",
+                "SERVICE_BUSY",
+                ex.getMessage()
+        );
+        errorResponse.setPath(request.getRequestURI());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(errorResponse);
+    }
+
     /**
      * Maneja errores de PokeAPI (Pokémon no encontrado en servicio externo)
      */
@@ -163,6 +256,70 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_GATEWAY).body(errorResponse);
     }
 
+    /**
+     * Maneja URLs de callback que apuntan a hosts no permitidos
+     */
+    @ExceptionHandler(JobCallbackClient.InvalidCallbackUrlException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCallbackUrl(
+            JobCallbackClient.InvalidCallbackUrlException ex, HttpServletRequest request) {
+
+        log.warn("URL de callback rechazada en {}: {}", request.getRequestURI(), ex.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.of(ex.getMessage(), "INVALID_CALLBACK_URL");
+        errorResponse.setPath(request.getRequestURI());
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    /**
+     * Maneja consultas con parámetros inválidos (por ejemplo, campos de orden no soportados)
+     */
+    @ExceptionHandler(PokemonQueryService.InvalidQueryException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidQuery(
+            PokemonQueryService.InvalidQueryException ex, HttpServletRequest request) {
+        
+        log.warn("Consulta inválida en {}: {}", request.getRequestURI(), ex.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.of(ex.getMessage(), "INVALID_QUERY");
+        errorResponse.setPath(request.getRequestURI());
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    /**
+     * Maneja pedidos de cambios que la retención del registro ya eliminó
+     */
+    @ExceptionHandler(PokemonChangeFeedService.ChangesExpiredException.class)
+    public ResponseEntity<ErrorResponse> handleChangesExpired(
+            PokemonChangeFeedService.ChangesExpiredException ex, HttpServletRequest request) {
+        
+        log.info("Cambios vencidos pedidos en {}: {}", request.getRequestURI(), ex.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.of(ex.getMessage(), "CHANGES_EXPIRED");
+        errorResponse.setPath(request.getRequestURI());
+
+        return ResponseEntity.status(HttpStatus.GONE).body(errorResponse);
+    }
+
+    /**
+     * Maneja consultas sobre el catálogo en memoria cuando todavía no está cargado
+     */
+    @ExceptionHandler(PokemonQueryService.CatalogUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleCatalogUnavailable(
+            PokemonQueryService.CatalogUnavailableException ex, HttpServletRequest request) {
+        
+        log.warn("Catálogo en memoria no disponible en {}: {}", request.getRequestURI(), ex.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.of(
+                "El catálogo no está disponible en este momento. Intente nuevamente más tarde.",
+                "CATALOG_UNAVAILABLE",
+                ex.getMessage()
+        );
+        errorResponse.setPath(request.getRequestURI());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+    }
+
     /**
      * Maneja errores de integridad de datos
      */
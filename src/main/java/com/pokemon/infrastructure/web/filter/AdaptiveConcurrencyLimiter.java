@@ -0,0 +1,131 @@
+package com.pokemon.infrastructure.web.filter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Límite de concurrencia adaptativo (AIMD guiado por el gradiente de latencia)
+ *
+ * Las requests se agrupan en ventanas de {@link #WINDOW_SAMPLES} muestras y se
+ * decide una vez por ventana, nunca por una request suelta: la latencia media
+ * de la ventana (corta) se compara con una media móvil exponencial de las
+ * ventanas anteriores (larga). Si la corta supera {@link #TOLERANCE} veces la
+ * larga, o más de {@link #DROP_TOLERANCE} de las requests fallan con una
+ * excepción, el límite se reduce multiplicativamente; si no, crece en
+ * proporción a las muestras de la ventana (una unidad cada {@code limit}).
+ *
+ * El límite solo se ajusta cuando la ventana lo usó al menos a medias: con
+ * poca concurrencia la latencia la deciden las requests, no la cola, y una
+ * mezcla de endpoints rápidos y lentos no debe mover el límite. Las ventanas
+ * sobrecargadas no entran en la referencia, salvo ya en el límite mínimo,
+ * donde la latencia no depende de la concurrencia y pasa a ser la nueva normal.
+ *
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+final class AdaptiveConcurrencyLimiter {
+
+    static final double TOLERANCE = 2.0;
+    static final int WINDOW_SAMPLES = 25;
+    private static final double DROP_TOLERANCE = 0.1;
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final double SMOOTHING = 0.1;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong rejected = new AtomicLong();
+
+    private volatile double limit;
+    private double baselineNanos = -1;
+
+    // Ventana en curso, protegida por this
+    private int windowSamples;
+    private int windowDropped;
+    private long windowLatencyNanos;
+    private int windowPeakInFlight;
+
+    AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.limit = Math.min(this.maxLimit, Math.max(this.minLimit, initialLimit));
+    }
+
+    /**
+     * Reserva un lugar si hay capacidad; si no, cuenta el rechazo
+     */
+    boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                rejected.incrementAndGet();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Libera el lugar y registra la latencia en la ventana en curso
+     *
+     * @param latencyNanos duración de la request
+     * @param dropped true si la request terminó con una excepción
+     */
+    void release(long latencyNanos, boolean dropped) {
+        int inFlightBefore = inFlight.getAndDecrement();
+        synchronized (this) {
+            windowSamples++;
+            windowPeakInFlight = Math.max(windowPeakInFlight, inFlightBefore);
+            if (dropped) {
+                windowDropped++;
+            } else {
+                windowLatencyNanos += latencyNanos;
+            }
+            if (windowSamples >= WINDOW_SAMPLES) {
+                closeWindow();
+            }
+        }
+    }
+
+    /**
+     * Ajusta el límite con la ventana completa y empieza una nueva
+     */
+    private void closeWindow() {
+        int completed = windowSamples - windowDropped;
+        double averageNanos = completed > 0 ? (double) windowLatencyNanos / completed : -1;
+        if (baselineNanos < 0) {
+            baselineNanos = averageNanos;
+        }
+
+        boolean overloaded = windowDropped > windowSamples * DROP_TOLERANCE
+                || (averageNanos >= 0 && averageNanos > baselineNanos * TOLERANCE);
+        boolean limitInUse = windowPeakInFlight * 2 >= limit;
+        if (overloaded && limitInUse) {
+            limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+        } else if (!overloaded && limitInUse) {
+            limit = Math.min(maxLimit, limit + windowSamples / limit);
+        }
+        if (averageNanos >= 0 && (!overloaded || limit <= minLimit)) {
+            baselineNanos += SMOOTHING * (averageNanos - baselineNanos);
+        }
+
+        windowSamples = 0;
+        windowDropped = 0;
+        windowLatencyNanos = 0;
+        windowPeakInFlight = 0;
+    }
+
+    int limit() {
+        return (int) limit;
+    }
+
+    int inFlight() {
+        return inFlight.get();
+    }
+
+    long rejected() {
+        return rejected.get();
+    }
+}
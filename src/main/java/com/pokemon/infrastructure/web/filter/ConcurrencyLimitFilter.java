@@ -0,0 +1,211 @@
+package com.pokemon.infrastructure.web.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pokemon.infrastructure.web.dto.ErrorResponse;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+
+/**
+ * Limita la concurrencia de los endpoints de Pokémon y descarta el exceso
+ * 
+ * Las lecturas ({@code GET /pokemon/**}), las lecturas costosas (analytics,
+ * batch y query) y la creación síncrona ({@code POST /pokemon}) tienen límites
+ * adaptativos separados, así una PokeAPI lenta no arrastra a las lecturas y
+ * las agregaciones no deforman la latencia de referencia de las consultas
+ * simples. Las requests por encima del límite
+ * se responden de inmediato con 503 y {@code Retry-After} en lugar de esperar
+ * en la cola de Tomcat. Límites, requests en curso y rechazos se publican como
+ * métricas {@code pokemon.concurrency.*} con el tag {@code endpoint}.
+ * 
+ * Las respuestas que duran lo que tarda el cliente en consumirlas (exportación,
+ * registro de cambios y sprites) no se limitan ni se miden: su duración no dice
+ * nada de la carga del servidor y arrastraría la latencia de referencia.
+ * 
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@Slf4j
+public class ConcurrencyLimitFilter extends OncePerRequestFilter implements MeterBinder {
+
+    static final String READ = "read";
+    static final String HEAVY = "heavy";
+    static final String CREATE = "create";
+
+    private static final String POKEMON_PATH = "/pokemon";
+    private static final Pattern LONG_LIVED_PATH =
+            Pattern.compile(POKEMON_PATH + "/(stream|changes/stream|[^/]+/sprite)");
+    private static final Pattern HEAVY_PATH = Pattern.compile(POKEMON_PATH + "/(analytics|batch|query)");
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Duration retryAfter;
+    private final Map<String, AdaptiveConcurrencyLimiter> limiters;
+
+    public ConcurrencyLimitFilter(ObjectMapper objectMapper,
+                                  @Value("${pokemon.concurrency.enabled:true}") boolean enabled,
+                                  @Value("${pokemon.concurrency.retry-after:1s}") Duration retryAfter,
+                                  @Value("${pokemon.concurrency.read.initial-limit:100}") int readInitial,
+                                  @Value("${pokemon.concurrency.read.min-limit:10}") int readMin,
+                                  @Value("${pokemon.concurrency.read.max-limit:400}") int readMax,
+                                  @Value("${pokemon.concurrency.heavy.initial-limit:20}") int heavyInitial,
+                                  @Value("${pokemon.concurrency.heavy.min-limit:2}") int heavyMin,
+                                  @Value("${pokemon.concurrency.heavy.max-limit:100}") int heavyMax,
+                                  @Value("${pokemon.concurrency.create.initial-limit:10}") int createInitial,
+                                  @Value("${pokemon.concurrency.create.min-limit:2}") int createMin,
+                                  @Value("${pokemon.concurrency.create.max-limit:50}") int createMax) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.retryAfter = retryAfter;
+        this.limiters = Map.of(
+                READ, new AdaptiveConcurrencyLimiter(readInitial, readMin, readMax),
+                HEAVY, new AdaptiveConcurrencyLimiter(heavyInitial, heavyMin, heavyMax),
+                CREATE, new AdaptiveConcurrencyLimiter(createInitial, createMin, createMax));
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        limiters.forEach((endpoint, limiter) -> {
+            Gauge.builder("pokemon.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::limit)
+                    .description("Límite de concurrencia actual")
+                    .tag("endpoint", endpoint)
+                    .register(registry);
+            Gauge.builder("pokemon.concurrency.in-flight", limiter, AdaptiveConcurrencyLimiter::inFlight)
+                    .description("Requests en curso")
+                    .tag("endpoint", endpoint)
+                    .register(registry);
+            FunctionCounter.builder("pokemon.concurrency.rejected", limiter, AdaptiveConcurrencyLimiter::rejected)
+                    .description("Requests descartadas por superar el límite")
+                    .tag("endpoint", endpoint)
+                    .register(registry);
+        });
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !enabled || classify(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain chain) throws ServletException, IOException {
+        String endpoint = classify(request);
+        AdaptiveConcurrencyLimiter limiter = limiters.get(endpoint);
+
+        if (!limiter.tryAcquire()) {
+            log.warn("Request descartada por límite de concurrencia ({}: {})", endpoint, limiter.limit());
+            reject(request, response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean dropped = true;
+        try {
+            chain.doFilter(request, response);
+            dropped = false;
+        } finally {
+            if (!dropped && request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseOnCompletion(limiter, start));
+            } else {
+                limiter.release(System.nanoTime() - start, dropped);
+            }
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ErrorResponse error = ErrorResponse.of("El servidor está saturado, intente nuevamente más tarde",
+                "CONCURRENCY_LIMIT_EXCEEDED");
+        error.setPath(request.getRequestURI());
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, retryAfter.toSeconds())));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+
+    /**
+     * Endpoint lógico de la request, o null si no está limitada
+     */
+    private static String classify(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (!path.equals(POKEMON_PATH) && !path.startsWith(POKEMON_PATH + "/")) {
+            return null;
+        }
+        if (HttpMethod.GET.matches(request.getMethod())) {
+            if (LONG_LIVED_PATH.matcher(path).matches()) {
+                return null;
+            }
+            return HEAVY_PATH.matcher(path).matches() ? HEAVY : READ;
+        }
+        if (HttpMethod.POST.matches(request.getMethod()) && path.equals(POKEMON_PATH)
+                && !"true".equalsIgnoreCase(request.getParameter("async"))) {
+            return CREATE;
+        }
+        return null;
+    }
+
+    /**
+     * Libera el lugar cuando termina una request asíncrona (streaming, SSE)
+     */
+    private static final class ReleaseOnCompletion implements AsyncListener {
+        private final AdaptiveConcurrencyLimiter limiter;
+        private final long start;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private ReleaseOnCompletion(AdaptiveConcurrencyLimiter limiter, long start) {
+            this.limiter = limiter;
+            this.start = start;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release(false);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release(true);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release(true);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+
+        private void release(boolean dropped) {
+            if (released.compareAndSet(false, true)) {
+                limiter.release(System.nanoTime() - start, dropped);
+            }
+        }
+    }
+}
@@ -0,0 +1,312 @@
+package com.pokemon.infrastructure.web.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pokemon.infrastructure.web.dto.ErrorResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Soporte del header {@code Idempotency-Key} en requests POST
+ * 
+ * La primera request con una clave se ejecuta normalmente y su resultado
+ * (status, headers relevantes y cuerpo) se guarda durante el TTL configurado.
+ * Las repeticiones reciben esa misma respuesta con {@code Idempotent-Replayed: true}
+ * sin volver a ejecutar la creación. Si la primera sigue en curso, las
+ * repeticiones esperan su resultado en lugar de correr en paralelo. Reusar una
+ * clave con otro cuerpo o ruta responde 422. Solo se guardan los resultados
+ * definitivos: 2xx y los 4xx que se repetirían igual (400, 404, 409 y 422). Los
+ * transitorios (5xx, 408, 429 y el 409 {@code CREATION_IN_PROGRESS}) no se
+ * guardan, así el cliente puede reintentar con la misma clave.
+ * 
+ * El cuerpo se lee completo en memoria para calcular la huella, por eso se
+ * limita a {@code pokemon.idempotency.max-body}; los más grandes responden 413.
+ * 
+ * El almacenamiento es local a la instancia.
+ * 
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@Component
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    public static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    /** Errores de cliente que se repetirían igual al reintentar */
+    private static final Set<Integer> FINAL_CLIENT_ERRORS = Set.of(400, 404, 409, 422);
+
+    /** Conflictos que se resuelven solos al reintentar */
+    private static final Set<String> TRANSIENT_CONFLICTS = Set.of("CREATION_IN_PROGRESS");
+
+    private final ObjectMapper objectMapper;
+    private final Duration waitTimeout;
+    private final int maxBodyBytes;
+    private final Cache<String, Execution> executions;
+
+    public IdempotencyFilter(ObjectMapper objectMapper,
+                             @Value("${pokemon.idempotency.ttl:24h}") Duration ttl,
+                             @Value("${pokemon.idempotency.max-keys:100000}") long maxKeys,
+                             @Value("${pokemon.idempotency.wait-timeout:40s}") Duration waitTimeout,
+                             @Value("${pokemon.idempotency.max-body:64KB}") DataSize maxBody) {
+        this.objectMapper = objectMapper;
+        this.waitTimeout = waitTimeout;
+        this.maxBodyBytes = Math.toIntExact(maxBody.toBytes());
+        this.executions = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxKeys)
+                .build();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod()) || request.getHeader(IDEMPOTENCY_KEY) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        String key = request.getHeader(IDEMPOTENCY_KEY).trim();
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            writeError(request, response, HttpStatus.BAD_REQUEST, "INVALID_IDEMPOTENCY_KEY",
+                    "El header Idempotency-Key debe tener entre 1 y " + MAX_KEY_LENGTH + " caracteres");
+            return;
+        }
+
+        byte[] body = request.getContentLengthLong() > maxBodyBytes
+                ? null
+                : request.getInputStream().readNBytes(maxBodyBytes + 1);
+        if (body == null || body.length > maxBodyBytes) {
+            writeError(request, response, HttpStatus.PAYLOAD_TOO_LARGE, "PAYLOAD_TOO_LARGE",
+                    "El cuerpo de una solicitud con Idempotency-Key no puede superar " + maxBodyBytes + " bytes");
+            return;
+        }
+
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request, body);
+        String fingerprint = fingerprint(cachedRequest);
+
+        while (true) {
+            Execution execution = new Execution(fingerprint);
+            Execution existing = executions.asMap().putIfAbsent(key, execution);
+            if (existing == null) {
+                execute(key, execution, cachedRequest, response, chain);
+                return;
+            }
+
+            if (!existing.fingerprint.equals(fingerprint)) {
+                writeError(request, response, HttpStatus.UNPROCESSABLE_ENTITY, "IDEMPOTENCY_KEY_REUSED",
+                        "La clave de idempotencia ya se usó con otra solicitud");
+                return;
+            }
+
+            StoredResponse stored;
+            try {
+                stored = existing.result.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                writeError(request, response, HttpStatus.CONFLICT, "IDEMPOTENCY_KEY_IN_PROGRESS",
+                        "La solicitud original con esta clave sigue en curso");
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ServletException(e);
+            } catch (ExecutionException e) {
+                throw new ServletException(e.getCause());
+            }
+
+            if (stored != null) {
+                log.debug("Respuesta repetida para la clave de idempotencia {}", key);
+                stored.writeTo(response);
+                return;
+            }
+            // La ejecución original no dejó un resultado reutilizable: se intenta tomar la clave otra vez
+        }
+    }
+
+    private void execute(String key, Execution execution, HttpServletRequest request,
+                         HttpServletResponse response, FilterChain chain) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        StoredResponse stored = null;
+        try {
+            chain.doFilter(request, wrapper);
+            if (isFinal(wrapper.getStatus(), wrapper.getContentAsByteArray())) {
+                stored = new StoredResponse(wrapper.getStatus(), wrapper.getContentType(),
+                        wrapper.getHeader(HttpHeaders.LOCATION), wrapper.getContentAsByteArray());
+            }
+        } finally {
+            if (stored == null) {
+                executions.asMap().remove(key, execution);
+            }
+            execution.result.complete(stored);
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    /**
+     * Indica si una respuesta es el resultado definitivo de la request
+     */
+    private boolean isFinal(int status, byte[] body) {
+        if (status >= 200 && status < 300) {
+            return true;
+        }
+        if (!FINAL_CLIENT_ERRORS.contains(status)) {
+            return false;
+        }
+        if (status == HttpStatus.CONFLICT.value()) {
+            try {
+                String code = objectMapper.readTree(body).path("error_code").asText();
+                return !TRANSIENT_CONFLICTS.contains(code);
+            } catch (IOException e) {
+                return true;
+            }
+        }
+        return true;
+    }
+
+    private void writeError(HttpServletRequest request, HttpServletResponse response,
+                            HttpStatus status, String code, String message) throws IOException {
+        ErrorResponse error = ErrorResponse.of(message, code);
+        error.setPath(request.getRequestURI());
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+
+    private static String fingerprint(CachedBodyRequest request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(request.getRequestURI().getBytes(StandardCharsets.UTF_8));
+            if (request.getQueryString() != null) {
+                digest.update((byte) '?');
+                digest.update(request.getQueryString().getBytes(StandardCharsets.UTF_8));
+            }
+            digest.update((byte) 0);
+            digest.update(request.body);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Ejecución de una clave: la huella de la request original y su resultado
+     * ({@code null} si no es reutilizable)
+     */
+    private static final class Execution {
+        private final String fingerprint;
+        private final CompletableFuture<StoredResponse> result = new CompletableFuture<>();
+
+        private Execution(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+    }
+
+    private record StoredResponse(int status, String contentType, String location, byte[] body) {
+
+        void writeTo(HttpServletResponse response) throws IOException {
+            response.setStatus(status);
+            if (contentType != null) {
+                response.setContentType(contentType);
+            }
+            if (location != null) {
+                response.setHeader(HttpHeaders.LOCATION, location);
+            }
+            response.setHeader(IDEMPOTENT_REPLAYED, "true");
+            response.setContentLength(body.length);
+            response.getOutputStream().write(body);
+        }
+    }
+
+    /**
+     * Request con el cuerpo ya leído, para calcular la huella y volver a leerlo
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    // El cuerpo ya está en memoria: todo está disponible de inmediato
+                    try {
+                        if (!isFinished()) {
+                            listener.onDataAvailable();
+                        }
+                        listener.onAllDataRead();
+                    } catch (IOException e) {
+                        listener.onError(e);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.pokemon.infrastructure.web.sse;
+
+import com.pokemon.application.dto.response.PokemonChangeResponse;
+import com.pokemon.application.dto.response.PokemonChangesResponse;
+import com.pokemon.application.event.PokemonCreatedEvent;
+import com.pokemon.application.event.PokemonDeletedEvent;
+import com.pokemon.application.service.PokemonChangeFeedService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Suscripciones SSE al registro de cambios del catálogo
+ *
+ * Un único hilo despachador lee el registro y reparte los cambios. Los
+ * suscriptores se agrupan por la última secuencia enviada, así que en régimen
+ * (todos al día) cada ronda es una sola consulta sin importar cuántos haya.
+ * El despachador se despierta tras cada commit local y, además, cada
+ * {@code poll-interval} para ver los cambios confirmados por otras instancias.
+ * A los suscriptores sin novedades se les envía un comentario cada
+ * {@code heartbeat-interval}, lo que mantiene viva la conexión y detecta
+ * clientes desconectados.
+ *
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@Component
+@Slf4j
+public class PokemonChangeBroadcaster implements MeterBinder {
+
+    private static final int DISPATCH_BATCH_SIZE = 500;
+
+    private final PokemonChangeFeedService changeFeed;
+    private final Duration timeout;
+    private final long heartbeatNanos;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService dispatcher;
+
+    public PokemonChangeBroadcaster(PokemonChangeFeedService changeFeed,
+                                    @Value("${pokemon.changes.stream.timeout:30m}") Duration timeout,
+                                    @Value("${pokemon.changes.stream.poll-interval:1s}") Duration pollInterval,
+                                    @Value("${pokemon.changes.stream.heartbeat-interval:15s}") Duration heartbeatInterval) {
+        this.changeFeed = changeFeed;
+        this.timeout = timeout;
+        this.heartbeatNanos = heartbeatInterval.toNanos();
+        this.dispatcher = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "change-feed-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        dispatcher.scheduleWithFixedDelay(this::dispatch, pollInterval.toMillis(), pollInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Abre una suscripción que recibe los cambios posteriores a {@code since}
+     *
+     * @param since última secuencia vista por el cliente
+     * @return emisor SSE de eventos {@code change}
+     * @throws PokemonChangeFeedService.ChangesExpiredException si esos cambios ya no están disponibles
+     */
+    public SseEmitter subscribe(long since) {
+        changeFeed.requireRetained(since);
+
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(emitter, since);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        log.debug("Nueva suscripción al registro de cambios desde la secuencia {}", since);
+
+        // Enviar lo pendiente sin esperar a la próxima ronda
+        dispatcher.execute(this::dispatch);
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPokemonCreated(PokemonCreatedEvent event) {
+        wakeUp();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPokemonDeleted(PokemonDeletedEvent event) {
+        wakeUp();
+    }
+
+    private void wakeUp() {
+        if (!subscribers.isEmpty()) {
+            dispatcher.execute(this::dispatch);
+        }
+    }
+
+    /**
+     * Una ronda de reparto; corre siempre en el hilo despachador
+     */
+    void dispatch() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        try {
+            Map<Long, List<Subscriber>> byCursor = subscribers.stream()
+                    .collect(Collectors.groupingBy(subscriber -> subscriber.cursor));
+            byCursor.forEach(this::deliver);
+
+            long now = System.nanoTime();
+            for (Subscriber subscriber : subscribers) {
+                if (now - subscriber.lastSentNanos >= heartbeatNanos) {
+                    subscriber.send(SseEmitter.event().comment("keepalive").build());
+                }
+            }
+        } catch (RuntimeException e) {
+            // Una falla de base de datos no debe cancelar las rondas siguientes
+            log.warn("Error al repartir el registro de cambios: {}", e.getMessage());
+        }
+    }
+
+    private void deliver(long cursor, List<Subscriber> group) {
+        List<Subscriber> active = new ArrayList<>(group);
+        PokemonChangesResponse page;
+        do {
+            try {
+                page = changeFeed.getChanges(cursor, DISPATCH_BATCH_SIZE);
+            } catch (PokemonChangeFeedService.ChangesExpiredException e) {
+                // Quedaron atrás de la retención: deben volver a sincronizar desde cero
+                Set<DataWithMediaType> expired = SseEmitter.event().name("expired").data(e.getMessage()).build();
+                active.forEach(subscriber -> {
+                    subscriber.send(expired);
+                    subscribers.remove(subscriber);
+                    subscriber.emitter.complete();
+                });
+                return;
+            }
+            for (PokemonChangeResponse change : page.getChanges()) {
+                Set<DataWithMediaType> event = SseEmitter.event()
+                        .id(String.valueOf(change.getSequence()))
+                        .name("change")
+                        .data(change, MediaType.APPLICATION_JSON)
+                        .build();
+                active.removeIf(subscriber -> !subscriber.send(event));
+                active.forEach(subscriber -> subscriber.cursor = change.getSequence());
+            }
+            cursor = page.getNextSince();
+        } while (page.getHasMore() && !active.isEmpty());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("pokemon.changes.subscribers", subscribers, Set::size)
+                .description("Suscripciones SSE abiertas al registro de cambios")
+                .register(registry);
+    }
+
+    /**
+     * Suscriptor y la última secuencia que se le envió; solo el despachador la modifica
+     */
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private volatile long cursor;
+        private long lastSentNanos = System.nanoTime();
+
+        private Subscriber(SseEmitter emitter, long cursor) {
+            this.emitter = emitter;
+            this.cursor = cursor;
+        }
+
+        private boolean send(Set<DataWithMediaType> event) {
+            try {
+                emitter.send(event);
+                lastSentNanos = System.nanoTime();
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                subscribers.remove(this);
+                emitter.completeWithError(e);
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.pokemon.application.dto.request;
+
+import com.pokemon.application.service.PokemonQueryService.InvalidQueryException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests unitarios para PokemonFields
+ * 
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@DisplayName("Pokemon Fields Tests")
+class PokemonFieldsTest {
+
+    @Test
+    @DisplayName("Debe normalizar a snake_case en orden fijo e incluir siempre el id")
+    void shouldNormalizeFields() {
+        // When
+        PokemonFields fields = PokemonFields.parse(" spriteUrl , name,base_experience");
+
+        // Then
+        assertThat(fields.names()).containsExactly("id", "name", "base_experience", "sprite_url");
+        assertThat(fields.includesCollections()).isFalse();
+        assertThat(fields).hasToString("id,name,base_experience,sprite_url")
+                .isEqualTo(PokemonFields.parse("base_experience,sprite_url,name"));
+    }
+
+    @Test
+    @DisplayName("Debe seleccionar todos los campos si no se indica ninguno")
+    void shouldSelectAllFieldsByDefault() {
+        // When & Then
+        assertThat(PokemonFields.parse(null)).isSameAs(PokemonFields.ALL);
+        assertThat(PokemonFields.parse(" ")).isSameAs(PokemonFields.ALL);
+        assertThat(PokemonFields.ALL.includesCollections()).isTrue();
+        assertThat(PokemonFields.parse("abilities").includesCollections()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Debe rechazar campos desconocidos")
+    void shouldRejectUnknownField() {
+        // When & Then
+        assertThatThrownBy(() -> PokemonFields.parse("name,power"))
+                .isInstanceOf(InvalidQueryException.class)
+                .hasMessageContaining("power");
+    }
+}
@@ -0,0 +1,45 @@
+package com.pokemon.application.dto.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests unitarios para IsoDateTimeSerializer
+ * 
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@DisplayName("Iso Date Time Serializer Tests")
+class IsoDateTimeSerializerTest {
+
+    private static final DateTimeFormatter PATTERN = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    private final ObjectMapper mapper = new ObjectMapper()
+            .registerModule(new SimpleModule().addSerializer(LocalDateTime.class, new IsoDateTimeSerializer()));
+
+    @Test
+    @DisplayName("Debe producir la misma salida que el patrón de @JsonFormat")
+    void shouldMatchJsonFormatPattern() throws Exception {
+        // Given
+        LocalDateTime[] values = {
+                LocalDateTime.of(2024, 1, 5, 9, 7, 3, 999_999_999),
+                LocalDateTime.of(1999, 12, 31, 23, 59, 59),
+                LocalDateTime.of(5, 2, 28, 0, 0, 0)
+        };
+
+        for (LocalDateTime value : values) {
+            // When
+            String json = mapper.writeValueAsString(value);
+
+            // Then
+            assertThat(json).isEqualTo("\"" + PATTERN.format(value) + "\"");
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.pokemon.application.readmodel;
+
+import com.pokemon.application.dto.response.PokemonResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests unitarios para PokemonAutocompleteIndex
+ * 
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@DisplayName("Pokemon Autocomplete Index Tests")
+class PokemonAutocompleteIndexTest {
+
+    private PokemonAutocompleteIndex index;
+
+    @BeforeEach
+    void setUp() {
+        List<PokemonResponse> pokemon = List.of(
+                pokemon(25L, "pikachu"),
+                pokemon(172L, "pichu"),
+                pokemon(26L, "raichu"),
+                pokemon(127L, "pinsir"),
+                pokemon(16L, "pidgey")
+        );
+        index = new PokemonAutocompleteIndex();
+        index.rebuild(CatalogSnapshot.of(pokemon, Collections.nCopies(pokemon.size(), 0L)));
+    }
+
+    @Test
+    @DisplayName("Debe sugerir por prefijo ordenando por popularidad")
+    void shouldSuggestByPrefixAndPopularity() {
+        index.recordView(16L);
+        index.recordView(16L);
+        index.recordView(172L);
+
+        assertThat(names(index.suggest("Pi", 10))).containsExactly("pidgey", "pichu", "pinsir", "pikachu");
+        assertThat(names(index.suggest("pi", 2))).containsExactly("pidgey", "pichu");
+    }
+
+    @Test
+    @DisplayName("Debe tolerar un error de tipeo después de las coincidencias exactas")
+    void shouldTolerateOneTypo() {
+        assertThat(names(index.suggest("pika", 10))).containsExactly("pikachu");
+        assertThat(names(index.suggest("pkac", 10))).containsExactly("pikachu");
+        assertThat(names(index.suggest("rai", 10))).first().isEqualTo("raichu");
+        assertThat(index.suggest("xyz", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Debe actualizarse incrementalmente en creaciones y eliminaciones")
+    void shouldUpdateIncrementally() {
+        index.onCreated(pokemon(28L, "sandslash"));
+        index.onDeleted(pokemon(25L, "pikachu"));
+
+        assertThat(names(index.suggest("sand", 10))).containsExactly("sandslash");
+        assertThat(names(index.suggest("pik", 10))).doesNotContain("pikachu");
+    }
+
+    @Test
+    @DisplayName("Debe ordenar sin errores mientras cambian los contadores de popularidad")
+    void shouldRankWhilePopularityChanges() throws Exception {
+        // Given
+        List<PokemonResponse> many = new ArrayList<>();
+        for (long id = 1; id <= 200; id++) {
+            many.add(pokemon(id, "poke" + id));
+        }
+        index.rebuild(CatalogSnapshot.of(many, Collections.nCopies(many.size(), 0L)));
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread viewer = new Thread(() -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            while (running.get()) {
+                index.recordView(random.nextLong(1, 201));
+            }
+        });
+        viewer.start();
+
+        // When & Then
+        try {
+            for (int i = 0; i < 500; i++) {
+                assertThat(index.suggest("poke", 10)).hasSize(10);
+            }
+        } finally {
+            running.set(false);
+            viewer.join();
+        }
+    }
+
+    private static List<String> names(List<PokemonResponse> suggestions) {
+        return suggestions.stream().map(PokemonResponse::getName).toList();
+    }
+
+    private static PokemonResponse pokemon(Long id, String name) {
+        return PokemonResponse.builder().id(id).name(name).types(List.of()).build();
+    }
+}
@@ -0,0 +1,73 @@
+package com.pokemon.application.readmodel;
+
+import com.pokemon.application.dto.response.PokemonResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests unitarios para PokemonBitmapIndex
+ * 
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@DisplayName("Pokemon Bitmap Index Tests")
+class PokemonBitmapIndexTest {
+
+    private PokemonBitmapIndex index;
+
+    @BeforeEach
+    void setUp() {
+        List<PokemonResponse> pokemon = List.of(
+                pokemon(6L, List.of("fire", "flying"), List.of("blaze", "solar-power")),
+                pokemon(149L, List.of("dragon", "flying"), List.of("inner-focus", "multiscale")),
+                pokemon(146L, List.of("fire", "flying"), List.of("pressure", "flame-body")),
+                pokemon(25L, List.of("electric"), List.of("static", "lightning-rod")),
+                pokemon(4L, List.of("fire"), List.of("blaze", "solar-power"))
+        );
+        index = new PokemonBitmapIndex();
+        index.rebuild(CatalogSnapshot.of(pokemon, Collections.nCopies(pokemon.size(), 0L)));
+    }
+
+    @Test
+    @DisplayName("Debe evaluar fire AND flying AND NOT dragon")
+    void shouldEvaluateTypeCombination() {
+        assertThat(index.evaluate(List.of("fire", "flying"), null, List.of("dragon"), null, null, null).toArray())
+                .containsExactly(6, 146);
+    }
+
+    @Test
+    @DisplayName("Debe evaluar cualquiera de varias habilidades excluyendo otras")
+    void shouldEvaluateAbilityCombination() {
+        assertThat(index.evaluate(null, null, null, null, List.of("Blaze", "static"), List.of("solar-power")).toArray())
+                .containsExactly(25);
+    }
+
+    @Test
+    @DisplayName("Debe mantener los índices sincronizados en creaciones y eliminaciones")
+    void shouldStayInSyncOnWrites() {
+        PokemonResponse moltres = pokemon(146L, List.of("fire", "flying"), List.of("pressure", "flame-body"));
+
+        index.onDeleted(moltres);
+        index.onCreated(pokemon(250L, List.of("fire", "flying"), List.of("pressure")));
+
+        assertThat(index.evaluate(List.of("fire", "flying"), null, null, null, null, null).toArray())
+                .containsExactly(6, 250);
+        assertThat(index.evaluate(null, null, null, List.of("flame-body"), null, null).isEmpty()).isTrue();
+        assertThat(index.all().getCardinality()).isEqualTo(5);
+    }
+
+    private static PokemonResponse pokemon(Long id, List<String> types, List<String> abilities) {
+        return PokemonResponse.builder()
+                .id(id)
+                .name("pokemon-" + id)
+                .types(types)
+                .abilities(abilities)
+                .build();
+    }
+}
@@ -0,0 +1,117 @@
+package com.pokemon.application.readmodel;
+
+import com.pokemon.application.dto.response.PokemonResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests unitarios para PokemonColumnStore
+ * 
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@DisplayName("Pokemon Column Store Tests")
+class PokemonColumnStoreTest {
+
+    private static final double[] MEDIAN = {0.5};
+
+    private PokemonColumnStore store;
+
+    @BeforeEach
+    void setUp() {
+        List<PokemonResponse> pokemon = List.of(
+                pokemon(4L, 85, List.of("fire"), List.of("blaze")),
+                pokemon(6L, 905, List.of("fire", "flying"), List.of("blaze", "solar-power")),
+                pokemon(16L, 18, List.of("normal", "flying"), List.of("keen-eye")),
+                pokemon(25L, 60, List.of("electric"), List.of("static")),
+                pokemon(143L, null, List.of("normal"), List.of("thick-fat"))
+        );
+        store = new PokemonColumnStore();
+        store.rebuild(CatalogSnapshot.of(pokemon, Collections.nCopies(pokemon.size(), 0L)));
+    }
+
+    @Test
+    @DisplayName("Debe agrupar por tipo contando cada tipo de un Pokémon e ignorando nulos")
+    void shouldAggregateByType() {
+        // When
+        List<PokemonColumnStore.GroupStats> groups = store.aggregate(PokemonRangeIndex.Field.WEIGHT,
+                PokemonColumnStore.Dimension.TYPE, MEDIAN);
+
+        // Then
+        assertThat(groups).extracting(PokemonColumnStore.GroupStats::getKey)
+                .containsExactly("electric", "fire", "flying", "normal");
+        PokemonColumnStore.GroupStats fire = groups.get(1);
+        assertThat(fire.getCount()).isEqualTo(2);
+        assertThat(fire.getAverage()).isEqualTo(495.0);
+        assertThat(fire.getMin()).isEqualTo(85);
+        assertThat(fire.getMax()).isEqualTo(905);
+        assertThat(fire.getPercentiles()).containsExactly(495.0);
+        assertThat(groups.get(3).getCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Debe interpolar percentiles como percentile_cont")
+    void shouldInterpolatePercentiles() {
+        // When
+        List<PokemonColumnStore.GroupStats> groups = store.aggregate(PokemonRangeIndex.Field.WEIGHT, null,
+                new double[]{0.0, 0.25, 0.5, 1.0});
+
+        // Then: valores ordenados 18, 60, 85, 905
+        assertThat(groups).singleElement().satisfies(all -> {
+            assertThat(all.getCount()).isEqualTo(4);
+            assertThat(all.getPercentiles()).containsExactly(18.0, 49.5, 72.5, 905.0);
+        });
+    }
+
+    @Test
+    @DisplayName("Debe aplicar creaciones, reemplazos y eliminaciones con compactación")
+    void shouldApplyWritesIncrementally() {
+        // When
+        store.onCreated(pokemon(5L, 190, List.of("fire"), List.of("blaze")));
+        store.onCreated(pokemon(4L, 100, List.of("fire"), List.of("blaze")));
+        store.onDeleted(pokemon(6L, 905, List.of("fire", "flying"), List.of("blaze", "solar-power")));
+        store.onDeleted(pokemon(16L, 18, List.of("normal", "flying"), List.of("keen-eye")));
+        store.onDeleted(pokemon(999L, 1, List.of(), List.of()));
+
+        // Then
+        assertThat(store.liveRows()).isEqualTo(4);
+        List<PokemonColumnStore.GroupStats> blaze = store.aggregate(PokemonRangeIndex.Field.WEIGHT,
+                PokemonColumnStore.Dimension.ABILITY, MEDIAN);
+        assertThat(blaze).extracting(PokemonColumnStore.GroupStats::getKey).containsExactly("blaze", "static");
+        assertThat(blaze.get(0).getCount()).isEqualTo(2);
+        assertThat(blaze.get(0).getAverage()).isEqualTo(145.0);
+    }
+
+    @Test
+    @DisplayName("Debe crecer más allá de la capacidad inicial")
+    void shouldGrowBeyondInitialCapacity() {
+        // When
+        for (long id = 1000; id < 1200; id++) {
+            store.onCreated(pokemon(id, 10, List.of("bug"), List.of("swarm")));
+        }
+
+        // Then
+        assertThat(store.liveRows()).isEqualTo(205);
+        assertThat(store.aggregate(PokemonRangeIndex.Field.WEIGHT, PokemonColumnStore.Dimension.TYPE, MEDIAN))
+                .filteredOn(group -> group.getKey().equals("bug"))
+                .singleElement()
+                .extracting(PokemonColumnStore.GroupStats::getCount)
+                .isEqualTo(200);
+    }
+
+    private static PokemonResponse pokemon(Long id, Integer weight, List<String> types, List<String> abilities) {
+        return PokemonResponse.builder()
+                .id(id)
+                .name("pokemon-" + id)
+                .weight(weight)
+                .types(types)
+                .abilities(abilities)
+                .build();
+    }
+}
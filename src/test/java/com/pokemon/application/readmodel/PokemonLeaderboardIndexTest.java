@@ -0,0 +1,96 @@
+package com.pokemon.application.readmodel;
+
+import com.pokemon.application.dto.response.PokemonResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests unitarios para PokemonLeaderboardIndex
+ * 
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@DisplayName("Pokemon Leaderboard Index Tests")
+class PokemonLeaderboardIndexTest {
+
+    private PokemonLeaderboardIndex index;
+
+    @BeforeEach
+    void setUp() {
+        List<PokemonResponse> pokemon = List.of(
+                pokemon(4L, "charmander", 6, 85, "fire"),
+                pokemon(6L, "charizard", 17, 905, "fire", "flying"),
+                pokemon(25L, "pikachu", 4, 60, "electric"),
+                pokemon(131L, "lapras", 25, 2200, "water", "ice"),
+                pokemon(143L, "snorlax", 21, 4600, "normal"),
+                pokemon(150L, "mewtwo", 20, null, "psychic")
+        );
+        index = new PokemonLeaderboardIndex();
+        index.rebuild(CatalogSnapshot.of(pokemon, Collections.nCopies(pokemon.size(), 0L)));
+    }
+
+    @Test
+    @DisplayName("Debe devolver el top-K global de mayor a menor")
+    void shouldReturnGlobalTopK() {
+        // When
+        List<PokemonResponse> top = index.top(PokemonRangeIndex.Field.WEIGHT, null, 3);
+
+        // Then
+        assertThat(top).extracting(PokemonResponse::getName).containsExactly("snorlax", "lapras", "charizard");
+    }
+
+    @Test
+    @DisplayName("Debe devolver el ranking de un tipo")
+    void shouldReturnTopKByType() {
+        // When
+        List<PokemonResponse> top = index.top(PokemonRangeIndex.Field.HEIGHT, "FIRE", 10);
+
+        // Then
+        assertThat(top).extracting(PokemonResponse::getName).containsExactly("charizard", "charmander");
+        assertThat(index.top(PokemonRangeIndex.Field.HEIGHT, "dragon", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Debe desempatar por ID y omitir valores nulos")
+    void shouldBreakTiesByIdAndSkipNulls() {
+        // Given
+        index.onCreated(pokemon(26L, "raichu", 8, 60, "electric"));
+
+        // When
+        List<PokemonResponse> top = index.top(PokemonRangeIndex.Field.WEIGHT, "electric", 10);
+
+        // Then
+        assertThat(top).extracting(PokemonResponse::getName).containsExactly("pikachu", "raichu");
+        assertThat(index.top(PokemonRangeIndex.Field.WEIGHT, null, 10))
+                .extracting(PokemonResponse::getName).doesNotContain("mewtwo");
+    }
+
+    @Test
+    @DisplayName("Debe reflejar eliminaciones")
+    void shouldRemoveDeletedPokemon() {
+        // When
+        index.onDeleted(pokemon(143L, "snorlax", 21, 4600, "normal"));
+
+        // Then
+        assertThat(index.top(PokemonRangeIndex.Field.WEIGHT, null, 1))
+                .extracting(PokemonResponse::getName).containsExactly("lapras");
+        assertThat(index.top(PokemonRangeIndex.Field.WEIGHT, "normal", 10)).isEmpty();
+    }
+
+    private static PokemonResponse pokemon(Long id, String name, Integer height, Integer weight, String... types) {
+        return PokemonResponse.builder()
+                .id(id)
+                .name(name)
+                .height(height)
+                .weight(weight)
+                .types(List.of(types))
+                .abilities(List.of())
+                .build();
+    }
+}
@@ -0,0 +1,188 @@
+package com.pokemon.application.readmodel;
+
+import com.pokemon.application.dto.response.PokemonResponse;
+import com.pokemon.application.event.PokemonCreatedEvent;
+import com.pokemon.application.event.PokemonDeletedEvent;
+import com.pokemon.application.mapper.PokemonMapper;
+import com.pokemon.domain.entity.Pokemon;
+import com.pokemon.domain.repository.PokemonRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitarios para PokemonReadModel
+ * 
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Pokemon Read Model Tests")
+class PokemonReadModelTest {
+
+    @Mock
+    private PokemonRepository pokemonRepository;
+
+    @Mock
+    private PokemonMapper pokemonMapper;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PokemonReadModel readModel;
+
+    @BeforeEach
+    void setUp() {
+        readModel = new PokemonReadModel(pokemonRepository, pokemonMapper, transactionManager, List.of(), true);
+
+        Pokemon pikachu = entity(25L, "pikachu", 60, "electric");
+        Pokemon charizard = entity(6L, "charizard", 905, "fire", "flying");
+        Pokemon raichu = entity(26L, "raichu", 300, "electric");
+
+        when(pokemonRepository.findAll(any(Sort.class))).thenReturn(List.of(charizard, pikachu, raichu));
+        when(pokemonMapper.toResponse(any(Pokemon.class))).thenAnswer(invocation -> response(invocation.getArgument(0)));
+
+        readModel.reload();
+    }
+
+    @Test
+    @DisplayName("Debe resolver lecturas por ID, nombre, tipo y texto desde memoria")
+    void shouldServeLookupsFromMemory() {
+        assertThat(readModel.isReady()).isTrue();
+        assertThat(readModel.findById(6L)).map(PokemonResponse::getName).contains("charizard");
+        assertThat(readModel.findByName("PIKACHU")).map(PokemonResponse::getId).contains(25L);
+        assertThat(readModel.findById(999L)).isEmpty();
+
+        Page<PokemonResponse> electric = readModel.findByType("Electric", PageRequest.of(0, 10)).orElseThrow();
+        assertThat(electric.getContent()).extracting(PokemonResponse::getName).containsExactly("pikachu", "raichu");
+
+        Page<PokemonResponse> search = readModel.searchByName("chu", PageRequest.of(0, 1)).orElseThrow();
+        assertThat(search.getTotalElements()).isEqualTo(2);
+        assertThat(search.getContent()).extracting(PokemonResponse::getName).containsExactly("pikachu");
+    }
+
+    @Test
+    @DisplayName("Debe ordenar en memoria y rechazar campos de orden no soportados")
+    void shouldSortInMemory() {
+        Page<PokemonResponse> byWeight = readModel.findAll(PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "weight")))
+                .orElseThrow();
+        assertThat(byWeight.getContent()).extracting(PokemonResponse::getName)
+                .containsExactly("charizard", "raichu", "pikachu");
+
+        assertThat(readModel.findAll(PageRequest.of(0, 10, Sort.by("createdAt")))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Debe ordenar las búsquedas por tipo y texto, o delegarlas si el orden no se soporta")
+    void shouldSortFilteredResults() {
+        Page<PokemonResponse> electric = readModel.findByType("electric",
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "weight"))).orElseThrow();
+        assertThat(electric.getContent()).extracting(PokemonResponse::getName).containsExactly("raichu", "pikachu");
+
+        Page<PokemonResponse> search = readModel.searchByName("a",
+                PageRequest.of(1, 1, Sort.by("name"))).orElseThrow();
+        assertThat(search.getTotalElements()).isEqualTo(3);
+        assertThat(search.getContent()).extracting(PokemonResponse::getName).containsExactly("pikachu");
+
+        assertThat(readModel.findByType("electric", PageRequest.of(0, 10, Sort.by("createdAt")))).isEmpty();
+        assertThat(readModel.searchByName("chu", PageRequest.of(0, 10, Sort.by("createdAt")))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Debe paginar el catálogo sin ordenamiento en orden de ID")
+    void shouldPageUnsortedCatalogById() {
+        Page<PokemonResponse> page = readModel.findAll(PageRequest.of(1, 2)).orElseThrow();
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).extracting(PokemonResponse::getName).containsExactly("raichu");
+    }
+
+    @Test
+    @DisplayName("Debe aplicar creaciones y eliminaciones con copy-on-write")
+    void shouldApplyWritesCopyOnWrite() {
+        CatalogSnapshot before = readModel.snapshot();
+
+        readModel.onPokemonCreated(new PokemonCreatedEvent(response(entity(1L, "bulbasaur", 69, "grass", "poison")), 0L));
+        readModel.onPokemonDeleted(new PokemonDeletedEvent(6L));
+
+        assertThat(before.size()).isEqualTo(3);
+        assertThat(before.findById(6L)).isPresent();
+        assertThat(readModel.snapshot().size()).isEqualTo(3);
+        assertThat(readModel.findById(1L)).isPresent();
+        assertThat(readModel.findById(6L)).isEmpty();
+        assertThat(readModel.findByType("fire", PageRequest.of(0, 10)).orElseThrow().getContent()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Debe releer de la base de datos los Pokémon cambiados por otra instancia")
+    void shouldRefreshFromDatabase() {
+        Pokemon heavierPikachu = entity(25L, "pikachu", 75, "electric");
+        heavierPikachu.setVersion(1L);
+        when(pokemonRepository.findById(25L)).thenReturn(Optional.of(heavierPikachu));
+        when(pokemonRepository.findById(6L)).thenReturn(Optional.empty());
+
+        readModel.refresh(25L);
+        readModel.refresh(6L);
+
+        assertThat(readModel.findById(25L)).map(PokemonResponse::getWeight).contains(75);
+        assertThat(readModel.findById(6L)).isEmpty();
+        assertThat(readModel.snapshot().size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Debe detectar diferencias contra la base de datos")
+    void shouldReportInconsistencies() {
+        when(pokemonRepository.findAllIdsAndVersions()).thenReturn(List.of(
+                new Object[]{6L, 0L},
+                new Object[]{25L, 1L},
+                new Object[]{150L, 0L}
+        ));
+
+        PokemonReadModel.ConsistencyReport report = readModel.checkConsistency();
+
+        assertThat(report.isConsistent()).isFalse();
+        assertThat(report.getMissingIds()).containsExactly(150L);
+        assertThat(report.getStaleIds()).containsExactly(25L);
+        assertThat(report.getUnexpectedIds()).containsExactly(26L);
+    }
+
+    private static Pokemon entity(Long id, String name, int weight, String... types) {
+        return Pokemon.builder()
+                .id(id)
+                .externalId(id.intValue())
+                .name(name)
+                .height(10)
+                .weight(weight)
+                .baseExperience(100)
+                .types(List.of(types))
+                .abilities(List.of())
+                .version(0L)
+                .build();
+    }
+
+    private static PokemonResponse response(Pokemon pokemon) {
+        return PokemonResponse.builder()
+                .id(pokemon.getId())
+                .externalId(pokemon.getExternalId())
+                .name(pokemon.getName())
+                .height(pokemon.getHeight())
+                .weight(pokemon.getWeight())
+                .baseExperience(pokemon.getBaseExperience())
+                .types(pokemon.getTypes())
+                .abilities(pokemon.getAbilities())
+                .build();
+    }
+}
@@ -0,0 +1,107 @@
+package com.pokemon.application.readmodel;
+
+import com.pokemon.application.dto.response.PokemonResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests unitarios para PokemonSimilarityIndex
+ * 
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@DisplayName("Pokemon Similarity Index Tests")
+class PokemonSimilarityIndexTest {
+
+    private CatalogSnapshot snapshot;
+    private PokemonSimilarityIndex index;
+
+    @BeforeEach
+    void setUp() {
+        List<PokemonResponse> pokemon = List.of(
+                pokemon(25L, "pikachu", 4, 60, 112, "electric"),
+                pokemon(26L, "raichu", 8, 300, 218, "electric"),
+                pokemon(39L, "jigglypuff", 5, 55, 95, "normal", "fairy"),
+                pokemon(81L, "magnemite", 3, 60, 65, "electric", "steel"),
+                pokemon(143L, "snorlax", 21, 4600, 189, "normal"),
+                pokemon(172L, "pichu", 3, 20, null, "electric")
+        );
+        snapshot = CatalogSnapshot.of(pokemon, Collections.nCopies(pokemon.size(), 0L));
+        index = new PokemonSimilarityIndex(1.0f);
+        index.rebuild(snapshot);
+    }
+
+    @Test
+    @DisplayName("Debe devolver los vecinos ordenados por distancia excluyendo al Pokémon de referencia")
+    void shouldReturnNearestNeighborsInOrder() {
+        // When
+        List<PokemonSimilarityIndex.Neighbor> neighbors = index.nearest(25L, 3);
+
+        // Then
+        assertThat(neighbors).hasSize(3);
+        assertThat(neighbors).extracting(neighbor -> neighbor.getPokemon().getName())
+                .doesNotContain("pikachu")
+                .startsWith("pichu");
+        assertThat(neighbors).extracting(PokemonSimilarityIndex.Neighbor::getDistance).isSorted();
+        assertThat(neighbors.get(0).getSharedTypes()).containsExactly("electric");
+    }
+
+    @Test
+    @DisplayName("Debe penalizar los tipos no compartidos")
+    void shouldPenalizeDifferentTypes() {
+        // Given
+        PokemonSimilarityIndex typeDriven = new PokemonSimilarityIndex(100f);
+        typeDriven.rebuild(snapshot);
+
+        // When
+        List<PokemonSimilarityIndex.Neighbor> neighbors = typeDriven.nearest(25L, 5);
+
+        // Then
+        assertThat(neighbors).extracting(neighbor -> neighbor.getPokemon().getName())
+                .containsExactly("pichu", "raichu", "magnemite", "jigglypuff", "snorlax");
+    }
+
+    @Test
+    @DisplayName("Debe reflejar creaciones y eliminaciones")
+    void shouldKeepMatrixInSyncOnWrites() {
+        // Given
+        PokemonResponse raichu = pokemon(26L, "raichu", 8, 300, 218, "electric");
+        PokemonResponse mewtwo = pokemon(150L, "mewtwo", 20, 1220, 306, "psychic");
+
+        // When
+        index.onDeleted(raichu);
+        index.onCreated(mewtwo);
+
+        // Then
+        assertThat(index.contains(26L)).isFalse();
+        assertThat(index.contains(150L)).isTrue();
+        assertThat(index.nearest(150L, 10)).hasSize(5)
+                .extracting(neighbor -> neighbor.getPokemon().getName())
+                .doesNotContain("raichu");
+    }
+
+    @Test
+    @DisplayName("Debe devolver una lista vacía para un Pokémon no indexado")
+    void shouldReturnEmptyForUnknownPokemon() {
+        assertThat(index.nearest(999L, 5)).isEmpty();
+    }
+
+    private static PokemonResponse pokemon(Long id, String name, Integer height, Integer weight,
+                                           Integer baseExperience, String... types) {
+        return PokemonResponse.builder()
+                .id(id)
+                .name(name)
+                .height(height)
+                .weight(weight)
+                .baseExperience(baseExperience)
+                .types(List.of(types))
+                .abilities(List.of())
+                .build();
+    }
+}
@@ -0,0 +1,181 @@
+package com.pokemon.application.service;
+
+import com.pokemon.application.dto.request.PokemonCreateRequest;
+import com.pokemon.application.dto.response.PokemonChangeResponse;
+import com.pokemon.application.dto.response.PokemonChangesResponse;
+import com.pokemon.application.mapper.PokemonMapperImpl;
+import com.pokemon.application.readmodel.PokemonReadModel;
+import com.pokemon.domain.entity.PokemonChange;
+import com.pokemon.infrastructure.external.dto.PokeApiResponse;
+import com.pokemon.infrastructure.external.service.PokeApiService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests del registro de cambios contra H2 en modo PostgreSQL
+ *
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:changes;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "pokemon.changes.retention=0s"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PokemonService.class, PokemonWriteBuffer.class, PokemonMapperImpl.class, NegativeLookupCache.class, PokemonChangeFeedService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Pokemon Change Feed Service Tests")
+class PokemonChangeFeedServiceTest {
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    private PokemonService pokemonService;
+
+    @Autowired
+    private PokemonChangeFeedService changeFeedService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private PokeApiService pokeApiService;
+
+    @MockBean
+    private PokemonReadModel readModel;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM pokemon_types");
+        jdbcTemplate.update("DELETE FROM pokemon_abilities");
+        jdbcTemplate.update("DELETE FROM pokemon");
+        jdbcTemplate.update("DELETE FROM pokemon_change");
+        jdbcTemplate.update("DELETE FROM pokemon_change_sequence");
+    }
+
+    @Test
+    @DisplayName("Debe registrar altas y bajas en orden dentro de la transacción del cambio")
+    void shouldRecordCreationsAndDeletions() {
+        // Given
+        givenPokeApi();
+        Long pikachuId = create("pikachu");
+        Long bulbasaurId = create("bulbasaur");
+
+        // When
+        pokemonService.deletePokemon(pikachuId);
+
+        // Then
+        PokemonChangesResponse firstPage = changeFeedService.getChanges(0, 2);
+        assertThat(firstPage.getChanges())
+                .extracting(PokemonChangeResponse::getSequence, PokemonChangeResponse::getType,
+                        PokemonChangeResponse::getPokemonId, PokemonChangeResponse::getPokemonName)
+                .containsExactly(
+                        tuple(1L, PokemonChange.Type.CREATED, pikachuId, "pikachu"),
+                        tuple(2L, PokemonChange.Type.CREATED, bulbasaurId, "bulbasaur"));
+        assertThat(firstPage.getHasMore()).isTrue();
+        assertThat(firstPage.getNextSince()).isEqualTo(2L);
+        assertThat(firstPage.getLastSequence()).isEqualTo(3L);
+
+        PokemonChangesResponse secondPage = changeFeedService.getChanges(firstPage.getNextSince(), 2);
+        assertThat(secondPage.getChanges())
+                .extracting(PokemonChangeResponse::getType, PokemonChangeResponse::getPokemonId)
+                .containsExactly(tuple(PokemonChange.Type.DELETED, pikachuId));
+        assertThat(secondPage.getHasMore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Debe asignar secuencias consecutivas a creaciones concurrentes")
+    void shouldAssignGapFreeSequencesConcurrently() throws Exception {
+        // Given
+        givenPokeApi();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<Long>> ids = new ArrayList<>();
+
+        // When
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                String name = "pokemon" + i;
+                ids.add(executor.submit(() -> create(name)));
+            }
+            executor.shutdown();
+            assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        List<Long> created = new ArrayList<>();
+        for (Future<Long> id : ids) {
+            created.add(id.get());
+        }
+        PokemonChangesResponse changes = changeFeedService.getChanges(0, 100);
+        assertThat(changes.getChanges()).extracting(PokemonChangeResponse::getSequence)
+                .containsExactlyElementsOf(LongStream.rangeClosed(1, THREADS).boxed().toList());
+        assertThat(changes.getChanges()).extracting(PokemonChangeResponse::getPokemonId)
+                .containsExactlyInAnyOrderElementsOf(created);
+    }
+
+    @Test
+    @DisplayName("Debe compactar, aplicar la retención y rechazar lo ya eliminado")
+    void shouldCompactAndExpireOldChanges() {
+        // Given
+        givenPokeApi();
+        Long pikachuId = create("pikachu");
+        pokemonService.deletePokemon(pikachuId);
+        create("bulbasaur");
+
+        // When
+        changeFeedService.compact();
+
+        // Then
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM pokemon_change", Integer.class)).isZero();
+        assertThatThrownBy(() -> changeFeedService.getChanges(0, 10))
+                .isInstanceOf(PokemonChangeFeedService.ChangesExpiredException.class);
+
+        PokemonChangesResponse current = changeFeedService.getChanges(3, 10);
+        assertThat(current.getChanges()).isEmpty();
+        assertThat(current.getNextSince()).isEqualTo(3L);
+    }
+
+    private Long create(String name) {
+        return pokemonService.createPokemon(PokemonCreateRequest.builder().name(name).build()).getId();
+    }
+
+    private void givenPokeApi() {
+        when(pokeApiService.getPokemonByName(anyString())).thenAnswer(invocation -> {
+            String name = invocation.getArgument(0);
+            return PokeApiResponse.builder()
+                    .id(Math.abs(name.hashCode()) % 100_000 + 1)
+                    .name(name)
+                    .height(4)
+                    .weight(60)
+                    .baseExperience(112)
+                    .types(List.of(new PokeApiResponse.TypeSlot(1, new PokeApiResponse.Type("electric", "url"))))
+                    .abilities(List.of())
+                    .build();
+        });
+    }
+}
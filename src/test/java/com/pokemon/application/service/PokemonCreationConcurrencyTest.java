@@ -0,0 +1,169 @@
+package com.pokemon.application.service;
+
+import com.pokemon.application.dto.request.PokemonCreateRequest;
+import com.pokemon.application.mapper.PokemonMapperImpl;
+import com.pokemon.application.readmodel.PokemonReadModel;
+import com.pokemon.domain.repository.PokemonRepository;
+import com.pokemon.infrastructure.external.dto.PokeApiResponse;
+import com.pokemon.infrastructure.external.service.PokeApiService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test de estrés de creaciones concurrentes contra H2 en modo PostgreSQL
+ * 
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:concurrency;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PokemonService.class, PokemonWriteBuffer.class, PokemonMapperImpl.class, NegativeLookupCache.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Pokemon Creation Concurrency Tests")
+class PokemonCreationConcurrencyTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private PokemonService pokemonService;
+
+    @Autowired
+    private PokemonRepository pokemonRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private PokeApiService pokeApiService;
+
+    @MockBean
+    private PokemonReadModel readModel;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM pokemon_types");
+        jdbcTemplate.update("DELETE FROM pokemon_abilities");
+        jdbcTemplate.update("DELETE FROM pokemon");
+    }
+
+    @Test
+    @DisplayName("Debe consultar PokeAPI una sola vez cuando muchas solicitudes crean el mismo nombre")
+    void shouldCallPokeApiOnceForConcurrentDuplicates() throws Exception {
+        // Given
+        AtomicInteger externalCalls = givenSlowPokeApi();
+
+        // When
+        List<Future<Outcome>> outcomes = runConcurrently(i -> "pikachu");
+
+        // Then
+        assertThat(externalCalls).hasValue(1);
+        assertOneCreatedRestRejected(outcomes);
+    }
+
+    @Test
+    @DisplayName("Debe resolver sin errores de integridad nombres distintos con el mismo ID externo")
+    void shouldResolveAliasesOfSameExternalId() throws Exception {
+        // Given
+        givenSlowPokeApi();
+
+        // When
+        List<Future<Outcome>> outcomes = runConcurrently(i -> i % 2 == 0 ? "pikachu" : "25");
+
+        // Then
+        assertOneCreatedRestRejected(outcomes);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM pokemon_types", Integer.class)).isEqualTo(1);
+    }
+
+    private void assertOneCreatedRestRejected(List<Future<Outcome>> outcomes) throws Exception {
+        int created = 0;
+        int rejected = 0;
+        for (Future<Outcome> outcome : outcomes) {
+            switch (outcome.get()) {
+                case CREATED -> created++;
+                case ALREADY_EXISTS -> rejected++;
+                default -> fail("Resultado inesperado: " + outcome.get());
+            }
+        }
+        assertThat(created).isEqualTo(1);
+        assertThat(rejected).isEqualTo(THREADS - 1);
+        assertThat(pokemonRepository.count()).isEqualTo(1);
+    }
+
+    private AtomicInteger givenSlowPokeApi() {
+        AtomicInteger calls = new AtomicInteger();
+        when(pokeApiService.getPokemonByName(anyString())).thenAnswer(invocation -> {
+            calls.incrementAndGet();
+            Thread.sleep(50);
+            return PokeApiResponse.builder()
+                    .id(25)
+                    .name("pikachu")
+                    .height(4)
+                    .weight(60)
+                    .baseExperience(112)
+                    .types(List.of(new PokeApiResponse.TypeSlot(1, new PokeApiResponse.Type("electric", "url"))))
+                    .abilities(List.of())
+                    .build();
+        });
+        return calls;
+    }
+
+    private List<Future<Outcome>> runConcurrently(java.util.function.IntFunction<String> names) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Outcome>> outcomes = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                String name = names.apply(i);
+                Callable<Outcome> task = () -> {
+                    start.await();
+                    try {
+                        pokemonService.createPokemon(PokemonCreateRequest.builder().name(name).build());
+                        return Outcome.CREATED;
+                    } catch (PokemonService.PokemonAlreadyExistsException e) {
+                        return Outcome.ALREADY_EXISTS;
+                    } catch (RuntimeException e) {
+                        return Outcome.ERROR;
+                    }
+                };
+                outcomes.add(executor.submit(task));
+            }
+            start.countDown();
+            executor.shutdown();
+            assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+        return outcomes;
+    }
+
+    private enum Outcome {
+        CREATED, ALREADY_EXISTS, ERROR
+    }
+}
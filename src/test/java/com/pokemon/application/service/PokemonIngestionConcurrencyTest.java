@@ -0,0 +1,128 @@
+package com.pokemon.application.service;
+
+import com.pokemon.application.dto.request.PokemonCreateRequest;
+import com.pokemon.application.dto.response.IngestionJobResponse;
+import com.pokemon.domain.entity.IngestionJob;
+import com.pokemon.domain.repository.IngestionJobRepository;
+import com.pokemon.infrastructure.external.service.JobCallbackClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test de encolado concurrente contra H2 en modo PostgreSQL
+ *
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:ingestion;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "pokemon.ingestion.enabled=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(PokemonIngestionService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Pokemon Ingestion Concurrency Tests")
+class PokemonIngestionConcurrencyTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private PokemonIngestionService ingestionService;
+
+    @Autowired
+    private IngestionJobRepository jobRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private PokemonService pokemonService;
+
+    @MockBean
+    private JobCallbackClient callbackClient;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM ingestion_job");
+    }
+
+    @Test
+    @DisplayName("Debe crear un solo trabajo cuando muchas solicitudes encolan el mismo nombre")
+    void shouldCreateSingleJobForConcurrentSubmits() throws Exception {
+        // When
+        List<Future<IngestionJobResponse>> results = submitConcurrently("pikachu");
+
+        // Then
+        Set<UUID> ids = new HashSet<>();
+        for (Future<IngestionJobResponse> result : results) {
+            ids.add(result.get().getId());
+        }
+        assertThat(ids).hasSize(1);
+        assertThat(jobRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Debe permitir un trabajo nuevo cuando el anterior ya terminó")
+    void shouldAllowNewJobAfterPreviousFinished() {
+        // Given
+        IngestionJobResponse first = ingestionService.submit(PokemonCreateRequest.builder().name("pikachu").build());
+        IngestionJob finished = jobRepository.findById(first.getId()).orElseThrow();
+        finished.setStatus(IngestionJob.Status.FAILED);
+        jobRepository.save(finished);
+
+        // When
+        IngestionJobResponse second = ingestionService.submit(PokemonCreateRequest.builder().name("pikachu").build());
+
+        // Then
+        assertThat(second.getId()).isNotEqualTo(first.getId());
+        assertThat(jobRepository.findAll().stream().map(IngestionJob::getActiveName).collect(Collectors.toList()))
+                .containsExactlyInAnyOrder(null, "pikachu");
+    }
+
+    private List<Future<IngestionJobResponse>> submitConcurrently(String name) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<IngestionJobResponse>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                Callable<IngestionJobResponse> task = () -> {
+                    start.await();
+                    return ingestionService.submit(PokemonCreateRequest.builder().name(name).build());
+                };
+                results.add(executor.submit(task));
+            }
+            start.countDown();
+            executor.shutdown();
+            assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+        return results;
+    }
+}
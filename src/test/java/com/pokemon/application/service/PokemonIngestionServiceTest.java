@@ -0,0 +1,249 @@
+package com.pokemon.application.service;
+
+import com.pokemon.application.dto.request.PokemonCreateRequest;
+import com.pokemon.application.dto.response.IngestionJobResponse;
+import com.pokemon.application.dto.response.PokemonResponse;
+import com.pokemon.domain.entity.IngestionJob;
+import com.pokemon.domain.repository.IngestionJobRepository;
+import com.pokemon.domain.repository.PokemonRepository;
+import com.pokemon.infrastructure.external.service.JobCallbackClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para PokemonIngestionService
+ * 
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Pokemon Ingestion Service Tests")
+class PokemonIngestionServiceTest {
+
+    @Mock
+    private IngestionJobRepository jobRepository;
+
+    @Mock
+    private PokemonRepository pokemonRepository;
+
+    @Mock
+    private PokemonService pokemonService;
+
+    @Mock
+    private JobCallbackClient callbackClient;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PokemonIngestionService ingestionService;
+
+    @BeforeEach
+    void setUp() {
+        ingestionService = new PokemonIngestionService(jobRepository, pokemonRepository, pokemonService,
+                callbackClient, transactionManager, false, 2, 3, 3,
+                Duration.ofSeconds(2), Duration.ofSeconds(1), Duration.ofMinutes(5), Duration.ofDays(7));
+        lenient().when(jobRepository.save(any(IngestionJob.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(jobRepository.saveAndFlush(any(IngestionJob.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    @DisplayName("Debe encolar un trabajo pendiente")
+    void shouldEnqueuePendingJob() {
+        // Given
+        when(jobRepository.findFirstByPokemonNameAndStatusIn(eq("pikachu"), anyCollection())).thenReturn(Optional.empty());
+        when(jobRepository.countByStatusIn(anyCollection())).thenReturn(0L);
+
+        // When
+        IngestionJobResponse result = ingestionService.submit(PokemonCreateRequest.builder()
+                .name(" Pikachu ")
+                .callbackUrl("https://example.com/hook")
+                .build());
+
+        // Then
+        assertThat(result.getStatus()).isEqualTo(IngestionJob.Status.PENDING);
+        assertThat(result.getPokemonName()).isEqualTo("pikachu");
+        verify(jobRepository).saveAndFlush(argThat(job -> "https://example.com/hook".equals(job.getCallbackUrl())));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar una URL de callback no permitida sin encolar el trabajo")
+    void shouldRejectDisallowedCallbackUrl() {
+        // Given
+        doThrow(new JobCallbackClient.InvalidCallbackUrlException("no pública"))
+                .when(callbackClient).validate("http://169.254.169.254/latest");
+
+        // When & Then
+        assertThatThrownBy(() -> ingestionService.submit(PokemonCreateRequest.builder()
+                .name("pikachu")
+                .callbackUrl("http://169.254.169.254/latest")
+                .build()))
+                .isInstanceOf(JobCallbackClient.InvalidCallbackUrlException.class);
+        verifyNoInteractions(jobRepository);
+    }
+
+    @Test
+    @DisplayName("Debe reutilizar el trabajo activo del mismo Pokémon")
+    void shouldReuseActiveJob() {
+        // Given
+        IngestionJob active = job(IngestionJob.Status.RUNNING, 1);
+        when(jobRepository.findFirstByPokemonNameAndStatusIn(eq("pikachu"), anyCollection())).thenReturn(Optional.of(active));
+
+        // When
+        IngestionJobResponse result = ingestionService.submit(PokemonCreateRequest.builder().name("pikachu").build());
+
+        // Then
+        assertThat(result.getId()).isEqualTo(active.getId());
+        verify(jobRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("Debe devolver el trabajo de otra solicitud que encoló el mismo nombre a la vez")
+    void shouldReuseJobInsertedConcurrently() {
+        // Given
+        IngestionJob concurrent = job(IngestionJob.Status.PENDING, 0);
+        when(jobRepository.findFirstByPokemonNameAndStatusIn(eq("pikachu"), anyCollection()))
+                .thenReturn(Optional.empty(), Optional.of(concurrent));
+        when(jobRepository.countByStatusIn(anyCollection())).thenReturn(0L);
+        when(jobRepository.saveAndFlush(any(IngestionJob.class)))
+                .thenThrow(new DataIntegrityViolationException("active_name"));
+
+        // When
+        IngestionJobResponse result = ingestionService.submit(PokemonCreateRequest.builder().name("pikachu").build());
+
+        // Then
+        assertThat(result.getId()).isEqualTo(concurrent.getId());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar trabajos nuevos cuando la cola está llena")
+    void shouldRejectWhenQueueIsFull() {
+        // Given
+        when(jobRepository.findFirstByPokemonNameAndStatusIn(eq("pikachu"), anyCollection())).thenReturn(Optional.empty());
+        when(jobRepository.countByStatusIn(anyCollection())).thenReturn(3L);
+
+        // When & Then
+        assertThatThrownBy(() -> ingestionService.submit(PokemonCreateRequest.builder().name("pikachu").build()))
+                .isInstanceOf(PokemonIngestionService.IngestionQueueFullException.class)
+                .satisfies(e -> assertThat(((PokemonIngestionService.IngestionQueueFullException) e)
+                        .getRetryAfterSeconds()).isPositive());
+        verify(jobRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("Debe completar el trabajo y notificar el callback")
+    void shouldCompleteJobAndNotifyCallback() {
+        // Given
+        IngestionJob job = job(IngestionJob.Status.PENDING, 0);
+        job.setCallbackUrl("https://example.com/hook");
+        givenReady(job);
+        when(pokemonService.createPokemon(any())).thenReturn(PokemonResponse.builder().id(25L).name("pikachu").build());
+
+        // When
+        boolean processed = ingestionService.processNext();
+
+        // Then
+        assertThat(processed).isTrue();
+        assertThat(job.getStatus()).isEqualTo(IngestionJob.Status.SUCCEEDED);
+        assertThat(job.getPokemonId()).isEqualTo(25L);
+        assertThat(job.getAttempts()).isEqualTo(1);
+        assertThat(job.getCompletedAt()).isNotNull();
+        verify(callbackClient).notify(eq("https://example.com/hook"),
+                argThat(body -> ((IngestionJobResponse) body).getStatus() == IngestionJob.Status.SUCCEEDED));
+    }
+
+    @Test
+    @DisplayName("Debe reintentar con backoff los errores transitorios")
+    void shouldRetryTransientFailures() {
+        // Given
+        IngestionJob job = job(IngestionJob.Status.PENDING, 1);
+        givenReady(job);
+        when(pokemonService.createPokemon(any()))
+                .thenThrow(new PokemonService.ExternalServiceException("timeout", new RuntimeException()));
+
+        // When
+        ingestionService.processNext();
+
+        // Then
+        assertThat(job.getStatus()).isEqualTo(IngestionJob.Status.PENDING);
+        assertThat(job.getAttempts()).isEqualTo(2);
+        assertThat(job.getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(3));
+        verifyNoInteractions(callbackClient);
+    }
+
+    @Test
+    @DisplayName("Debe fallar el trabajo al agotar los intentos")
+    void shouldFailAfterMaxAttempts() {
+        // Given
+        IngestionJob job = job(IngestionJob.Status.PENDING, 2);
+        givenReady(job);
+        when(pokemonService.createPokemon(any()))
+                .thenThrow(new PokemonService.ExternalServiceException("timeout", new RuntimeException()));
+
+        // When
+        ingestionService.processNext();
+
+        // Then
+        assertThat(job.getStatus()).isEqualTo(IngestionJob.Status.FAILED);
+        assertThat(job.getErrorCode()).isEqualTo("EXTERNAL_SERVICE_ERROR");
+    }
+
+    @Test
+    @DisplayName("Debe fallar sin reintentar cuando el Pokémon no existe en PokeAPI")
+    void shouldFailWithoutRetryWhenPokemonDoesNotExist() {
+        // Given
+        IngestionJob job = job(IngestionJob.Status.PENDING, 0);
+        givenReady(job);
+        when(pokemonService.createPokemon(any()))
+                .thenThrow(new PokemonService.PokemonNotFoundException("no encontrado"));
+
+        // When
+        ingestionService.processNext();
+
+        // Then
+        assertThat(job.getStatus()).isEqualTo(IngestionJob.Status.FAILED);
+        assertThat(job.getErrorCode()).isEqualTo("POKEMON_NOT_FOUND");
+        assertThat(job.getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Debe indicar que no hay trabajo cuando la cola está vacía")
+    void shouldReturnFalseWhenQueueIsEmpty() {
+        // Given
+        when(jobRepository.findReadyForUpdate(any(), any(), any())).thenReturn(List.of());
+
+        // When & Then
+        assertThat(ingestionService.processNext()).isFalse();
+        verifyNoInteractions(pokemonService);
+    }
+
+    private void givenReady(IngestionJob job) {
+        when(jobRepository.findReadyForUpdate(any(), any(), any())).thenReturn(List.of(job));
+        when(jobRepository.findById(job.getId())).thenReturn(Optional.of(job));
+    }
+
+    private static IngestionJob job(IngestionJob.Status status, int attempts) {
+        return IngestionJob.builder()
+                .id(UUID.randomUUID())
+                .pokemonName("pikachu")
+                .status(status)
+                .attempts(attempts)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,312 @@
+package com.pokemon.application.service;
+
+import com.pokemon.application.dto.request.PokemonFields;
+import com.pokemon.application.dto.request.PokemonRangeCriteria;
+import com.pokemon.application.dto.response.PokemonAggregateResponse;
+import com.pokemon.application.dto.response.PokemonBatchItem;
+import com.pokemon.application.dto.response.PokemonResponse;
+import com.pokemon.application.mapper.PokemonMapper;
+import com.pokemon.application.readmodel.CatalogSnapshot;
+import com.pokemon.application.readmodel.PokemonAutocompleteIndex;
+import com.pokemon.application.readmodel.PokemonBitmapIndex;
+import com.pokemon.application.readmodel.PokemonColumnStore;
+import com.pokemon.application.readmodel.PokemonLeaderboardIndex;
+import com.pokemon.application.readmodel.PokemonRangeIndex;
+import com.pokemon.application.readmodel.PokemonReadModel;
+import com.pokemon.application.readmodel.PokemonSimilarityIndex;
+import com.pokemon.domain.entity.Pokemon;
+import com.pokemon.domain.repository.PokemonRepository;
+import com.pokemon.domain.repository.PokemonSummaryView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para PokemonQueryService
+ * 
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Pokemon Query Service Tests")
+class PokemonQueryServiceTest {
+
+    @Mock
+    private PokemonReadModel readModel;
+
+    @Mock
+    private PokemonRepository pokemonRepository;
+
+    @Mock
+    private PokemonMapper pokemonMapper;
+
+    private PokemonRangeIndex rangeIndex;
+    private CaffeineCacheManager cacheManager;
+    private PokemonQueryService queryService;
+
+    @BeforeEach
+    void setUp() {
+        List<PokemonResponse> pokemon = List.of(
+                pokemon(1L, "bulbasaur", 7, 69, 64),
+                pokemon(6L, "charizard", 17, 905, 267),
+                pokemon(25L, "pikachu", 4, 60, 112),
+                pokemon(94L, "gengar", 15, 405, 250),
+                pokemon(131L, "lapras", 25, 2200, 187),
+                pokemon(143L, "snorlax", 21, 4600, null)
+        );
+        CatalogSnapshot snapshot = CatalogSnapshot.of(pokemon, Collections.nCopies(pokemon.size(), 0L));
+
+        rangeIndex = new PokemonRangeIndex();
+        rangeIndex.rebuild(snapshot);
+
+        lenient().when(readModel.isReady()).thenReturn(true);
+        lenient().when(readModel.snapshot()).thenReturn(snapshot);
+        lenient().when(readModel.findById(anyLong())).thenAnswer(invocation -> snapshot.findById(invocation.getArgument(0)));
+
+        PokemonSimilarityIndex similarityIndex = new PokemonSimilarityIndex(1.0f);
+        similarityIndex.rebuild(snapshot);
+        PokemonLeaderboardIndex leaderboardIndex = new PokemonLeaderboardIndex();
+        leaderboardIndex.rebuild(snapshot);
+        PokemonColumnStore columnStore = new PokemonColumnStore();
+        columnStore.rebuild(snapshot);
+
+        cacheManager = new CaffeineCacheManager("pokemonCache");
+        queryService = new PokemonQueryService(readModel, new PokemonBitmapIndex(), new PokemonAutocompleteIndex(),
+                rangeIndex, similarityIndex, leaderboardIndex, columnStore, pokemonRepository, pokemonMapper,
+                cacheManager, new NegativeLookupCache(Duration.ofSeconds(30), 100));
+    }
+
+    @Test
+    @DisplayName("Debe intersectar rangos y ordenar por peso descendente")
+    void shouldIntersectRangesAndSortByWeight() {
+        PokemonRangeCriteria criteria = PokemonRangeCriteria.builder()
+                .minWeight(100)
+                .maxWeight(3000)
+                .minBaseExperience(200)
+                .build();
+
+        Page<PokemonResponse> result = queryService.queryByRange(criteria,
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "weight")));
+
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        assertThat(result.getContent()).extracting(PokemonResponse::getName).containsExactly("charizard", "gengar");
+        verifyNoInteractions(pokemonRepository);
+    }
+
+    @Test
+    @DisplayName("Debe paginar en el orden del índice con los nulos al final en orden ascendente")
+    void shouldPageInIndexOrderWithNullsLast() {
+        Page<PokemonResponse> firstPage = queryService.queryByRange(new PokemonRangeCriteria(),
+                PageRequest.of(0, 4, Sort.by("baseExperience")));
+        Page<PokemonResponse> secondPage = queryService.queryByRange(new PokemonRangeCriteria(),
+                PageRequest.of(1, 4, Sort.by("baseExperience")));
+
+        assertThat(firstPage.getContent()).extracting(PokemonResponse::getName)
+                .containsExactly("bulbasaur", "pikachu", "lapras", "gengar");
+        assertThat(secondPage.getContent()).extracting(PokemonResponse::getName)
+                .containsExactly("charizard", "snorlax");
+    }
+
+    @Test
+    @DisplayName("Debe mantener el índice al crear y eliminar")
+    void shouldKeepIndexInSyncOnWrites() {
+        rangeIndex.onDeleted(pokemon(94L, "gengar", 15, 405, 250));
+        rangeIndex.onCreated(pokemon(150L, "mewtwo", 20, 1220, 306));
+
+        assertThat(rangeIndex.range(PokemonRangeIndex.Field.BASE_EXPERIENCE, 250, null).toArray())
+                .containsExactly(6, 150);
+        assertThat(rangeIndex.range(PokemonRangeIndex.Field.HEIGHT, 15, 15).isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Debe consultar la base de datos cuando el catálogo no está cargado")
+    void shouldFallBackToDatabase() {
+        when(readModel.isReady()).thenReturn(false);
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("height"));
+        when(pokemonRepository.findByRanges(isNull(), isNull(), eq(100), eq(500), isNull(), isNull(), eq(pageable)))
+                .thenReturn(new PageImpl<>(List.of(), pageable, 0));
+        when(pokemonMapper.toResponseList(anyList())).thenReturn(List.of());
+
+        Page<PokemonResponse> result = queryService.queryByRange(
+                PokemonRangeCriteria.builder().minWeight(100).maxWeight(500).build(), pageable);
+
+        assertThat(result.getTotalElements()).isZero();
+        verify(pokemonRepository).findByRanges(isNull(), isNull(), eq(100), eq(500), isNull(), isNull(), eq(pageable));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar campos de ordenamiento no soportados")
+    void shouldRejectUnsupportedSortField() {
+        assertThatThrownBy(() -> queryService.queryByRange(new PokemonRangeCriteria(),
+                PageRequest.of(0, 10, Sort.by("name"))))
+                .isInstanceOf(PokemonQueryService.InvalidQueryException.class);
+    }
+
+    @Test
+    @DisplayName("Debe lanzar excepción al buscar similares de un Pokémon inexistente")
+    void shouldRejectSimilarForUnknownPokemon() {
+        assertThatThrownBy(() -> queryService.findSimilar(999L, 5))
+                .isInstanceOf(PokemonService.PokemonNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Debe devolver el ranking por experiencia base omitiendo valores nulos")
+    void shouldReturnTopByBaseExperience() {
+        List<PokemonResponse> top = queryService.topPokemon("baseExperience", null, 10);
+
+        assertThat(top).extracting(PokemonResponse::getName)
+                .containsExactly("charizard", "gengar", "lapras", "pikachu", "bulbasaur");
+        verifyNoInteractions(pokemonRepository);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar métricas de ranking no soportadas")
+    void shouldRejectUnsupportedMetric() {
+        assertThatThrownBy(() -> queryService.topPokemon("name", null, 10))
+                .isInstanceOf(PokemonQueryService.InvalidQueryException.class);
+    }
+
+    @Test
+    @DisplayName("Debe calcular agregados sin agrupar con etiquetas de percentil")
+    void shouldAggregateWithoutGrouping() {
+        PokemonAggregateResponse result = queryService.aggregate("baseExperience", null, List.of(50.0, 99.5));
+
+        assertThat(result.getGroupBy()).isNull();
+        assertThat(result.getGroups()).singleElement().satisfies(group -> {
+            assertThat(group.getKey()).isEqualTo("all");
+            assertThat(group.getCount()).isEqualTo(5);
+            assertThat(group.getMin()).isEqualTo(64);
+            assertThat(group.getMax()).isEqualTo(267);
+            assertThat(group.getPercentiles()).containsOnlyKeys("p50", "p99_5").containsEntry("p50", 187.0);
+        });
+    }
+
+    @Test
+    @DisplayName("Debe rechazar percentiles fuera de rango y agrupamientos desconocidos")
+    void shouldRejectInvalidAggregateParameters() {
+        assertThatThrownBy(() -> queryService.aggregate("weight", null, List.of(150.0)))
+                .isInstanceOf(PokemonQueryService.InvalidQueryException.class);
+        assertThatThrownBy(() -> queryService.aggregate("weight", "color", List.of(50.0)))
+                .isInstanceOf(PokemonQueryService.InvalidQueryException.class);
+    }
+
+    @Test
+    @DisplayName("Debe resolver un lote desde el catálogo en memoria respetando el orden pedido")
+    void shouldResolveBatchFromCatalogInRequestOrder() {
+        List<PokemonBatchItem> items = queryService.findBatch(List.of(25L, 999L, 1L, 25L), null);
+
+        assertThat(items).extracting(PokemonBatchItem::getKey).containsExactly("25", "999", "1", "25");
+        assertThat(items).extracting(PokemonBatchItem::isFound).containsExactly(true, false, true, true);
+        assertThat(items.get(1).getErrorCode()).isEqualTo("POKEMON_NOT_FOUND");
+        assertThat(items.get(2).getPokemon().getName()).isEqualTo("bulbasaur");
+        verifyNoInteractions(pokemonRepository);
+    }
+
+    @Test
+    @DisplayName("Debe combinar aciertos de cache con una sola consulta para los faltantes")
+    void shouldLoadBatchMissesWithSingleQuery() {
+        when(readModel.isReady()).thenReturn(false);
+        PokemonResponse bulbasaur = pokemon(1L, "bulbasaur", 7, 69, 64);
+        PokemonResponse pikachu = pokemon(25L, "pikachu", 4, 60, 112);
+        Pokemon pikachuEntity = Pokemon.builder().id(25L).name("pikachu").build();
+        cacheManager.getCache("pokemonCache").put("id_1", bulbasaur);
+        when(pokemonRepository.findAllWithTypesByIdIn(anyCollection())).thenReturn(List.of(pikachuEntity));
+        when(pokemonMapper.toResponse(pikachuEntity)).thenReturn(pikachu);
+
+        List<PokemonBatchItem> first = queryService.findBatch(List.of(25L, 1L, 999L), null);
+        List<PokemonBatchItem> second = queryService.findBatch(List.of(999L, 25L), null);
+
+        assertThat(first).extracting(PokemonBatchItem::getPokemon).containsExactly(pikachu, bulbasaur, null);
+        assertThat(second).extracting(PokemonBatchItem::getPokemon).containsExactly(null, pikachu);
+        verify(pokemonRepository, times(1)).findAllWithTypesByIdIn(argThat(ids -> ids.size() == 2
+                && ids.containsAll(List.of(25L, 999L))));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar lotes sin lista, con ambas listas o demasiado grandes")
+    void shouldRejectInvalidBatch() {
+        assertThatThrownBy(() -> queryService.findBatch(null, null))
+                .isInstanceOf(PokemonQueryService.InvalidQueryException.class);
+        assertThatThrownBy(() -> queryService.findBatch(List.of(1L), List.of("pikachu")))
+                .isInstanceOf(PokemonQueryService.InvalidQueryException.class);
+        assertThatThrownBy(() -> queryService.findBatch(Collections.nCopies(101, 1L), null))
+                .isInstanceOf(PokemonQueryService.InvalidQueryException.class);
+    }
+
+    @Test
+    @DisplayName("Debe recorrer el catálogo en bloques cuando se piden colecciones")
+    void shouldStreamCatalogInChunks() {
+        Pokemon first = Pokemon.builder().id(1L).name("bulbasaur").build();
+        Pokemon second = Pokemon.builder().id(4L).name("charmander").build();
+        PokemonResponse firstResponse = pokemon(1L, "bulbasaur", 7, 69, 64);
+        PokemonResponse secondResponse = pokemon(4L, "charmander", 6, 85, 62);
+        doAnswer(invocation -> {
+            Consumer<List<Pokemon>> chunkConsumer = invocation.getArgument(2);
+            chunkConsumer.accept(List.of(first, second));
+            return null;
+        }).when(pokemonRepository).forEachChunk(eq(Sort.by("name")), anyInt(), any());
+        when(pokemonMapper.toResponseList(List.of(first, second))).thenReturn(List.of(firstResponse, secondResponse));
+
+        List<PokemonResponse> emitted = new ArrayList<>();
+        queryService.streamAll(Sort.by("name"), PokemonFields.ALL, emitted::add);
+
+        assertThat(emitted).containsExactly(firstResponse, secondResponse);
+        verify(pokemonRepository, never()).streamProjectedBy(any());
+    }
+
+    @Test
+    @DisplayName("Debe recorrer la proyección escalar si no se piden colecciones")
+    void shouldStreamProjectionWithoutCollections() {
+        PokemonSummaryView summary = mock(PokemonSummaryView.class);
+        PokemonResponse response = PokemonResponse.builder().id(25L).name("pikachu").build();
+        when(pokemonRepository.streamProjectedBy(Sort.by("id"))).thenReturn(Stream.of(summary));
+        when(pokemonMapper.toSummaryResponse(summary)).thenReturn(response);
+
+        List<PokemonResponse> emitted = new ArrayList<>();
+        queryService.streamAll(Sort.by("id"), PokemonFields.parse("name"), emitted::add);
+
+        assertThat(emitted).containsExactly(response);
+        verify(pokemonRepository, never()).forEachChunk(any(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar ordenar el streaming por colecciones o campos inexistentes")
+    void shouldRejectInvalidStreamSort() {
+        assertThatThrownBy(() -> queryService.streamAll(Sort.by("types"), PokemonFields.ALL, pokemon -> { }))
+                .isInstanceOf(PokemonQueryService.InvalidQueryException.class)
+                .hasMessageContaining("types");
+        verifyNoInteractions(pokemonRepository);
+    }
+
+    private static PokemonResponse pokemon(Long id, String name, Integer height, Integer weight, Integer baseExperience) {
+        return PokemonResponse.builder()
+                .id(id)
+                .name(name)
+                .height(height)
+                .weight(weight)
+                .baseExperience(baseExperience)
+                .types(List.of())
+                .abilities(List.of())
+                .build();
+    }
+}
@@ -1,10 +1,14 @@
 package com.pokemon.application.service;
 
 import com.pokemon.application.dto.request.PokemonCreateRequest;
+import com.pokemon.application.dto.request.PokemonFields;
 import com.pokemon.application.dto.response.PokemonResponse;
+import com.pokemon.application.event.PokemonDeletedEvent;
 import com.pokemon.application.mapper.PokemonMapper;
+import com.pokemon.application.readmodel.PokemonReadModel;
 import com.pokemon.domain.entity.Pokemon;
 import com.pokemon.domain.repository.PokemonRepository;
+import com.pokemon.domain.repository.PokemonSummaryView;
 import com.pokemon.infrastructure.external.dto.PokeApiResponse;
 import com.pokemon.infrastructure.external.service.PokeApiService;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,11 +17,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -45,6 +52,18 @@ class PokemonServiceTest {
     @Mock
     private PokemonMapper pokemonMapper;
 
+    @Mock
+    private PokemonReadModel readModel;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PokemonWriteBuffer writeBuffer;
+
+    @Spy
+    private NegativeLookupCache notFoundCache = new NegativeLookupCache(Duration.ofSeconds(30), 100);
+
     @InjectMocks
     private PokemonService pokemonService;
 
@@ -110,8 +129,7 @@ class PokemonServiceTest {
         when(pokemonRepository.existsByNameIgnoreCase("pikachu")).thenReturn(false);
         when(pokeApiService.getPokemonByName("pikachu")).thenReturn(pokeApiResponse);
         when(pokemonMapper.fromPokeApiResponse(pokeApiResponse)).thenReturn(pokemon);
-        when(pokemonRepository.save(pokemon)).thenReturn(pokemon);
-        when(pokemonMapper.toResponse(pokemon)).thenReturn(pokemonResponse);
+        when(writeBuffer.insert(pokemon)).thenReturn(Optional.of(pokemonResponse));
 
         // When
         PokemonResponse result = pokemonService.createPokemon(createRequest);
@@ -124,8 +142,25 @@ class PokemonServiceTest {
         verify(pokemonRepository).existsByNameIgnoreCase("pikachu");
         verify(pokeApiService).getPokemonByName("pikachu");
         verify(pokemonMapper).fromPokeApiResponse(pokeApiResponse);
-        verify(pokemonRepository).save(pokemon);
-        verify(pokemonMapper).toResponse(pokemon);
+        verify(writeBuffer).insert(pokemon);
+    }
+
+    @Test
+    @DisplayName("Debe lanzar excepción cuando otro nombre ya insertó el mismo ID externo")
+    void shouldThrowExceptionWhenExternalIdAlreadyInserted() {
+        // Given
+        PokemonCreateRequest request = PokemonCreateRequest.builder().name("25").build();
+        when(pokemonRepository.existsByNameIgnoreCase("25")).thenReturn(false);
+        when(pokeApiService.getPokemonByName("25")).thenReturn(pokeApiResponse);
+        when(pokemonMapper.fromPokeApiResponse(pokeApiResponse)).thenReturn(pokemon);
+        when(writeBuffer.insert(pokemon)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> pokemonService.createPokemon(request))
+                .isInstanceOf(PokemonService.PokemonAlreadyExistsException.class)
+                .hasMessageContaining("'pikachu' ya existe");
+
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
@@ -141,7 +176,7 @@ class PokemonServiceTest {
 
         verify(pokemonRepository).existsByNameIgnoreCase("pikachu");
         verify(pokeApiService, never()).getPokemonByName(anyString());
-        verify(pokemonRepository, never()).save(any());
+        verify(writeBuffer, never()).insert(any());
     }
 
     @Test
@@ -163,7 +198,7 @@ class PokemonServiceTest {
 
         verify(pokemonRepository).existsByNameIgnoreCase("nonexistent");
         verify(pokeApiService).getPokemonByName("nonexistent");
-        verify(pokemonRepository, never()).save(any());
+        verify(writeBuffer, never()).insert(any());
     }
 
     @Test
@@ -178,7 +213,7 @@ class PokemonServiceTest {
         when(pokemonMapper.toResponseList(anyList())).thenReturn(responses);
 
         // When
-        Page<PokemonResponse> result = pokemonService.getAllPokemon(pageable);
+        Page<PokemonResponse> result = pokemonService.getAllPokemon(pageable, PokemonFields.ALL);
 
         // Then
         assertThat(result).isNotNull();
@@ -190,6 +225,28 @@ class PokemonServiceTest {
         verify(pokemonMapper).toResponseList(anyList());
     }
 
+    @Test
+    @DisplayName("Debe usar la proyección escalar si no se piden tipos ni habilidades")
+    void shouldUseProjectionWhenCollectionsAreNotRequested() {
+        // Given
+        Pageable pageable = Pageable.ofSize(10);
+        PokemonSummaryView summary = mock(PokemonSummaryView.class);
+        PokemonResponse summaryResponse = PokemonResponse.builder().id(1L).name("pikachu").build();
+
+        when(pokemonRepository.findAllProjectedBy(pageable)).thenReturn(new PageImpl<>(List.of(summary), pageable, 1));
+        when(pokemonMapper.toSummaryResponse(summary)).thenReturn(summaryResponse);
+
+        // When
+        Page<PokemonResponse> result = pokemonService.getAllPokemon(pageable, PokemonFields.parse("name,height"));
+
+        // Then
+        assertThat(result.getContent()).containsExactly(summaryResponse);
+        assertThat(result.getTotalElements()).isEqualTo(1);
+
+        verify(pokemonRepository, never()).findAll(any(Pageable.class));
+        verify(pokemonMapper, never()).toResponseList(anyList());
+    }
+
     @Test
     @DisplayName("Debe obtener Pokemon por ID")
     void shouldGetPokemonById() {
@@ -226,12 +283,87 @@ class PokemonServiceTest {
         verify(pokemonMapper, never()).toResponse(any());
     }
 
+    @Test
+    @DisplayName("Debe recordar los IDs inexistentes y no volver a consultar la base de datos")
+    void shouldCacheNotFoundById() {
+        // Given
+        when(pokemonRepository.findById(999L)).thenReturn(Optional.empty());
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> pokemonService.getPokemonById(999L))
+                    .isInstanceOf(PokemonService.PokemonNotFoundException.class);
+        }
+
+        // Then
+        verify(pokemonRepository, times(1)).findById(999L);
+    }
+
+    @Test
+    @DisplayName("Debe olvidar los nombres inexistentes al crear un Pokémon")
+    void shouldInvalidateNotFoundCacheOnCreate() {
+        // Given
+        when(pokemonRepository.findByNaturalId("pikachu"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(pokemon));
+        assertThatThrownBy(() -> pokemonService.getPokemonByName("pikachu"))
+                .isInstanceOf(PokemonService.PokemonNotFoundException.class)
+                .satisfies(e -> assertThat(e.getStackTrace()).isEmpty());
+        when(pokemonRepository.existsByNameIgnoreCase("pikachu")).thenReturn(false);
+        when(pokeApiService.getPokemonByName("pikachu")).thenReturn(pokeApiResponse);
+        when(pokemonMapper.fromPokeApiResponse(pokeApiResponse)).thenReturn(pokemon);
+        when(writeBuffer.insert(pokemon)).thenReturn(Optional.of(pokemonResponse));
+        when(pokemonMapper.toResponse(pokemon)).thenReturn(pokemonResponse);
+
+        // When
+        pokemonService.createPokemon(createRequest);
+        PokemonResponse result = pokemonService.getPokemonByName("pikachu");
+
+        // Then
+        assertThat(result).isSameAs(pokemonResponse);
+        verify(notFoundCache).invalidateAll();
+        verify(pokemonRepository, times(2)).findByNaturalId("pikachu");
+    }
+
+    @Test
+    @DisplayName("Debe obtener Pokemon por ID desde el modelo de lectura sin consultar la base de datos")
+    void shouldGetPokemonByIdFromReadModel() {
+        // Given
+        when(readModel.isReady()).thenReturn(true);
+        when(readModel.findById(1L)).thenReturn(Optional.of(pokemonResponse));
+
+        // When
+        PokemonResponse result = pokemonService.getPokemonById(1L);
+
+        // Then
+        assertThat(result).isSameAs(pokemonResponse);
+        verifyNoInteractions(pokemonRepository);
+    }
+
+    @Test
+    @DisplayName("Debe consultar la base de datos cuando el modelo de lectura no soporta el ordenamiento")
+    void shouldFallBackToRepositoryWhenReadModelCannotSort() {
+        // Given
+        Pageable pageable = Pageable.ofSize(10);
+        when(readModel.isReady()).thenReturn(true);
+        when(readModel.findAll(pageable)).thenReturn(Optional.empty());
+        when(pokemonRepository.findAll(pageable)).thenReturn(new PageImpl<>(List.of(pokemon), pageable, 1));
+        when(pokemonMapper.toResponseList(anyList())).thenReturn(List.of(pokemonResponse));
+
+        // When
+        Page<PokemonResponse> result = pokemonService.getAllPokemon(pageable, PokemonFields.ALL);
+
+        // Then
+        assertThat(result.getContent()).containsExactly(pokemonResponse);
+        verify(pokemonRepository).findAll(pageable);
+    }
+
     @Test
     @DisplayName("Debe obtener Pokemon por nombre")
     void shouldGetPokemonByName() {
         // Given
         String pokemonName = "pikachu";
-        when(pokemonRepository.findByNameIgnoreCase(pokemonName)).thenReturn(Optional.of(pokemon));
+        when(pokemonRepository.findByNaturalId(pokemonName)).thenReturn(Optional.of(pokemon));
         when(pokemonMapper.toResponse(pokemon)).thenReturn(pokemonResponse);
 
         // When
@@ -241,7 +373,7 @@ class PokemonServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getName()).isEqualTo(pokemonName);
 
-        verify(pokemonRepository).findByNameIgnoreCase(pokemonName);
+        verify(pokemonRepository).findByNaturalId(pokemonName);
         verify(pokemonMapper).toResponse(pokemon);
     }
 
@@ -250,14 +382,15 @@ class PokemonServiceTest {
     void shouldDeletePokemonSuccessfully() {
         // Given
         Long pokemonId = 1L;
-        when(pokemonRepository.existsById(pokemonId)).thenReturn(true);
+        when(pokemonRepository.findById(pokemonId)).thenReturn(Optional.of(pokemon));
 
         // When
         pokemonService.deletePokemon(pokemonId);
 
         // Then
-        verify(pokemonRepository).existsById(pokemonId);
-        verify(pokemonRepository).deleteById(pokemonId);
+        verify(pokemonRepository).findById(pokemonId);
+        verify(pokemonRepository).delete(pokemon);
+        verify(eventPublisher).publishEvent(new PokemonDeletedEvent(pokemonId));
     }
 
     @Test
@@ -265,15 +398,15 @@ class PokemonServiceTest {
     void shouldThrowExceptionWhenDeletingNonExistentPokemon() {
         // Given
         Long pokemonId = 999L;
-        when(pokemonRepository.existsById(pokemonId)).thenReturn(false);
+        when(pokemonRepository.findById(pokemonId)).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> pokemonService.deletePokemon(pokemonId))
                 .isInstanceOf(PokemonService.PokemonNotFoundException.class)
                 .hasMessageContaining("no encontrado");
 
-        verify(pokemonRepository).existsById(pokemonId);
-        verify(pokemonRepository, never()).deleteById(any());
+        verify(pokemonRepository).findById(pokemonId);
+        verify(pokemonRepository, never()).delete(any(Pokemon.class));
     }
 
     @Test
@@ -0,0 +1,237 @@
+package com.pokemon.application.service;
+
+import com.pokemon.application.dto.response.PokemonResponse;
+import com.pokemon.application.event.PokemonDeletedEvent;
+import com.pokemon.infrastructure.external.service.SpriteClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para PokemonSpriteService
+ *
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Pokemon Sprite Service Tests")
+class PokemonSpriteServiceTest {
+
+    @Mock
+    private PokemonService pokemonService;
+
+    @Mock
+    private SpriteClient spriteClient;
+
+    @TempDir
+    private Path directory;
+
+    private PokemonSpriteService spriteService;
+
+    @BeforeEach
+    void setUp() {
+        spriteService = service(DataSize.ofKilobytes(1));
+    }
+
+    @Test
+    @DisplayName("Debe descargar el sprite una sola vez y luego servirlo desde disco")
+    void shouldDownloadOnceAndServeFromDisk() throws Exception {
+        // Given
+        givenPokemon(1L, "https://sprites.example/1.png");
+        when(spriteClient.download("https://sprites.example/1.png"))
+                .thenReturn(new SpriteClient.Download(new byte[]{1, 2, 3}, MediaType.IMAGE_PNG));
+
+        // When
+        PokemonSpriteService.Sprite first = spriteService.getSprite(1L);
+        PokemonSpriteService.Sprite second = spriteService.getSprite(1L);
+
+        // Then
+        assertThat(second).isEqualTo(first);
+        assertThat(first.contentType()).isEqualTo(MediaType.IMAGE_PNG);
+        assertThat(first.etag()).hasSize(32);
+        assertThat(first.path().getFileName().toString()).isEqualTo("1-" + first.etag() + ".png");
+        assertThat(Files.readAllBytes(first.path())).containsExactly(1, 2, 3);
+        verify(spriteClient, times(1)).download(anyString());
+    }
+
+    @Test
+    @DisplayName("Debe recuperar los sprites ya guardados al reiniciar")
+    void shouldReloadSpritesFromDisk() {
+        // Given
+        givenPokemon(1L, "https://sprites.example/1.png");
+        when(spriteClient.download(anyString()))
+                .thenReturn(new SpriteClient.Download(new byte[]{1, 2, 3}, MediaType.IMAGE_PNG));
+        PokemonSpriteService.Sprite downloaded = spriteService.getSprite(1L);
+
+        // When
+        PokemonSpriteService restarted = service(DataSize.ofKilobytes(1));
+        PokemonSpriteService.Sprite reloaded = restarted.getSprite(1L);
+
+        // Then
+        assertThat(reloaded.etag()).isEqualTo(downloaded.etag());
+        assertThat(reloaded.contentType()).isEqualTo(MediaType.IMAGE_PNG);
+        assertThat(reloaded.size()).isEqualTo(3);
+        verify(spriteClient, times(1)).download(anyString());
+    }
+
+    @Test
+    @DisplayName("Debe desalojar el sprite usado hace más tiempo al superar el tamaño máximo")
+    void shouldEvictLeastRecentlyUsed() {
+        // Given
+        spriteService = service(DataSize.ofBytes(10));
+        for (long id = 1; id <= 3; id++) {
+            givenPokemon(id, "https://sprites.example/" + id + ".png");
+            when(spriteClient.download("https://sprites.example/" + id + ".png"))
+                    .thenReturn(new SpriteClient.Download(new byte[]{(byte) id, 0, 0, 0, 0}, MediaType.IMAGE_PNG));
+        }
+        PokemonSpriteService.Sprite first = spriteService.getSprite(1L);
+        PokemonSpriteService.Sprite second = spriteService.getSprite(2L);
+        spriteService.getSprite(1L);
+
+        // When
+        spriteService.getSprite(3L);
+
+        // Then
+        assertThat(second.path()).doesNotExist();
+        assertThat(first.path()).exists();
+        spriteService.getSprite(1L);
+        verify(spriteClient, times(1)).download("https://sprites.example/1.png");
+    }
+
+    @Test
+    @DisplayName("Debe borrar el sprite de un Pokémon eliminado")
+    void shouldDeleteSpriteOfDeletedPokemon() {
+        // Given
+        givenPokemon(1L, "https://sprites.example/1.png");
+        when(spriteClient.download(anyString()))
+                .thenReturn(new SpriteClient.Download(new byte[]{1, 2, 3}, MediaType.IMAGE_PNG));
+        PokemonSpriteService.Sprite sprite = spriteService.getSprite(1L);
+
+        // When
+        spriteService.onPokemonDeleted(new PokemonDeletedEvent(1L));
+
+        // Then
+        assertThat(sprite.path()).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Debe poder leer un sprite abierto aunque se borre mientras se sirve")
+    void shouldKeepOpenSpriteReadableAfterDeletion() throws Exception {
+        // Given
+        givenPokemon(1L, "https://sprites.example/1.png");
+        when(spriteClient.download(anyString()))
+                .thenReturn(new SpriteClient.Download(new byte[]{1, 2, 3}, MediaType.IMAGE_PNG));
+
+        try (PokemonSpriteService.OpenSprite open = spriteService.openSprite(1L)) {
+            // When
+            spriteService.onPokemonDeleted(new PokemonDeletedEvent(1L));
+
+            // Then
+            ByteBuffer content = ByteBuffer.allocate(3);
+            while (content.hasRemaining() && open.channel().read(content) >= 0) {
+                // Lectura completa
+            }
+            assertThat(content.array()).containsExactly(1, 2, 3);
+            assertThat(open.sprite().path()).doesNotExist();
+        }
+    }
+
+    @Test
+    @DisplayName("Debe mantener legible el enlace para sendfile aunque el sprite se borre")
+    void shouldKeepSendfileLinkAfterDeletion() throws Exception {
+        // Given
+        givenPokemon(1L, "https://sprites.example/1.png");
+        when(spriteClient.download(anyString()))
+                .thenReturn(new SpriteClient.Download(new byte[]{1, 2, 3}, MediaType.IMAGE_PNG));
+        PokemonSpriteService.Sprite sprite = spriteService.getSprite(1L);
+
+        // When
+        Path link = spriteService.linkForSendfile(sprite).orElseThrow();
+        spriteService.onPokemonDeleted(new PokemonDeletedEvent(1L));
+
+        // Then
+        assertThat(sprite.path()).doesNotExist();
+        assertThat(Files.readAllBytes(link)).containsExactly(1, 2, 3);
+        assertThat(spriteService.linkForSendfile(sprite)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Debe borrar los enlaces para sendfile vencidos")
+    void shouldCleanUpExpiredSendfileLinks() {
+        // Given
+        spriteService = service(DataSize.ofKilobytes(1), Duration.ZERO);
+        givenPokemon(1L, "https://sprites.example/1.png");
+        when(spriteClient.download(anyString()))
+                .thenReturn(new SpriteClient.Download(new byte[]{1, 2, 3}, MediaType.IMAGE_PNG));
+        PokemonSpriteService.Sprite sprite = spriteService.getSprite(1L);
+        Path link = spriteService.linkForSendfile(sprite).orElseThrow();
+
+        // When
+        spriteService.cleanUpLinks();
+
+        // Then
+        assertThat(link).doesNotExist();
+        assertThat(sprite.path()).exists();
+    }
+
+    @Test
+    @DisplayName("Debe lanzar excepción cuando el Pokémon no tiene sprite")
+    void shouldThrowWhenPokemonHasNoSprite() {
+        // Given
+        givenPokemon(1L, null);
+
+        // When & Then
+        assertThatThrownBy(() -> spriteService.getSprite(1L))
+                .isInstanceOf(PokemonSpriteService.SpriteNotAvailableException.class);
+        verifyNoInteractions(spriteClient);
+    }
+
+    @Test
+    @DisplayName("Debe traducir los errores de descarga a error de servicio externo")
+    void shouldWrapDownloadErrors() {
+        // Given
+        givenPokemon(1L, "https://sprites.example/1.png");
+        when(spriteClient.download(anyString()))
+                .thenThrow(new SpriteClient.SpriteDownloadException("timeout", null));
+
+        // When & Then
+        assertThatThrownBy(() -> spriteService.getSprite(1L))
+                .isInstanceOf(PokemonService.ExternalServiceException.class);
+        assertThat(directory).isDirectoryNotContaining("glob:**.{png,tmp}");
+    }
+
+    private PokemonSpriteService service(DataSize maxSize) {
+        return service(maxSize, Duration.ofMinutes(1));
+    }
+
+    private PokemonSpriteService service(DataSize maxSize, Duration linkTtl) {
+        PokemonSpriteService service = new PokemonSpriteService(pokemonService, spriteClient, directory,
+                maxSize, Duration.ofSeconds(1), linkTtl);
+        service.load();
+        return service;
+    }
+
+    private void givenPokemon(Long id, String spriteUrl) {
+        when(pokemonService.getPokemonById(id)).thenReturn(PokemonResponse.builder()
+                .id(id)
+                .name("pokemon-" + id)
+                .spriteUrl(spriteUrl)
+                .build());
+    }
+}
@@ -0,0 +1,274 @@
+package com.pokemon.application.service;
+
+import com.pokemon.application.dto.response.PokemonResponse;
+import com.pokemon.application.mapper.PokemonMapperImpl;
+import com.pokemon.domain.entity.Pokemon;
+import com.pokemon.domain.repository.PokemonRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests de la inserción agrupada contra H2 en modo PostgreSQL
+ *
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:writebuffer;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "pokemon.create.group-commit.max-delay=500ms"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PokemonWriteBuffer.class, PokemonMapperImpl.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Pokemon Write Buffer Tests")
+class PokemonWriteBufferTest {
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    private PokemonWriteBuffer writeBuffer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        writeBuffer.bindTo(meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM pokemon_types");
+        jdbcTemplate.update("DELETE FROM pokemon_abilities");
+        jdbcTemplate.update("DELETE FROM pokemon");
+    }
+
+    @Test
+    @DisplayName("Debe insertar en una sola transacción las creaciones concurrentes")
+    void shouldGroupConcurrentInserts() throws Exception {
+        // Given
+        double flushesBefore = meterRegistry.get("pokemon.create.batch.flushes").functionCounter().count();
+        double rowsBefore = meterRegistry.get("pokemon.create.batch.rows").functionCounter().count();
+
+        // When
+        List<Future<Optional<PokemonResponse>>> results = runConcurrently(i -> pokemon(i + 1, "pokemon-" + i));
+
+        // Then
+        for (Future<Optional<PokemonResponse>> result : results) {
+            assertThat(result.get()).hasValueSatisfying(response -> {
+                assertThat(response.getId()).isNotNull();
+                assertThat(response.getTypes()).containsExactly("normal");
+            });
+        }
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM pokemon", Integer.class)).isEqualTo(THREADS);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM pokemon_types", Integer.class)).isEqualTo(THREADS);
+        assertThat(meterRegistry.get("pokemon.create.batch.flushes").functionCounter().count()).isEqualTo(flushesBefore + 1);
+        assertThat(meterRegistry.get("pokemon.create.batch.rows").functionCounter().count()).isEqualTo(rowsBefore + THREADS);
+    }
+
+    @Test
+    @DisplayName("Debe insertar una sola vez los duplicados del mismo lote")
+    void shouldSkipDuplicatesWithinBatch() throws Exception {
+        // When
+        List<Future<Optional<PokemonResponse>>> results = runConcurrently(i -> pokemon(25, "pikachu"));
+
+        // Then
+        int created = 0;
+        for (Future<Optional<PokemonResponse>> result : results) {
+            created += result.get().isPresent() ? 1 : 0;
+        }
+        assertThat(created).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM pokemon_types", Integer.class)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Debe reintentar de a uno para que una fila inválida no haga fallar al resto")
+    void shouldIsolateFailingRow() throws Exception {
+        // When
+        List<Future<Optional<PokemonResponse>>> results = runConcurrently(i -> pokemon(i + 1, i == 0 ? null : "pokemon-" + i));
+
+        // Then
+        assertThatThrownBy(() -> results.get(0).get()).hasCauseInstanceOf(DataIntegrityViolationException.class);
+        for (Future<Optional<PokemonResponse>> result : results.subList(1, THREADS)) {
+            assertThat(result.get()).isPresent();
+        }
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM pokemon", Integer.class)).isEqualTo(THREADS - 1);
+    }
+
+    @Test
+    @DisplayName("Debe responder que el servicio está saturado si el commit no llega a tiempo")
+    void shouldTimeOutWaitingForCommit() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        PokemonWriteBuffer blocked = standalone(() -> await(release), 1000);
+
+        try {
+            // When & Then
+            assertThatThrownBy(() -> blocked.insert(pokemon(25, "pikachu")))
+                    .isInstanceOf(PokemonService.ServiceBusyException.class)
+                    .hasMessageContaining("todavía puede confirmarse")
+                    .hasCauseInstanceOf(TimeoutException.class);
+        } finally {
+            release.countDown();
+            blocked.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Debe rechazar inserciones cuando la cola está llena")
+    void shouldRejectWhenQueueIsFull() throws Exception {
+        // Given
+        CountDownLatch flushing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PokemonWriteBuffer blocked = standalone(() -> {
+            flushing.countDown();
+            await(release);
+        }, 1);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        blocked.bindTo(registry);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            executor.submit(() -> blocked.insert(pokemon(1, "bulbasaur")));
+            assertThat(flushing.await(5, TimeUnit.SECONDS)).isTrue();
+            executor.submit(() -> blocked.insert(pokemon(4, "charmander")));
+            while (registry.get("pokemon.create.batch.pending").gauge().value() < 1) {
+                Thread.sleep(5);
+            }
+
+            // When & Then
+            assertThatThrownBy(() -> blocked.insert(pokemon(7, "squirtle")))
+                    .isInstanceOf(PokemonService.ServiceBusyException.class)
+                    .hasMessageContaining("llena");
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+            blocked.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Debe seguir atendiendo lotes después de un error inesperado")
+    void shouldSurviveUnexpectedErrors() throws Exception {
+        // Given
+        AtomicBoolean failed = new AtomicBoolean();
+        PokemonWriteBuffer flaky = standalone(() -> {
+            if (failed.compareAndSet(false, true)) {
+                throw new AssertionError("error inesperado");
+            }
+        }, 1000);
+
+        try {
+            // When
+            assertThatThrownBy(() -> flaky.insert(pokemon(1, "bulbasaur")))
+                    .hasCauseInstanceOf(AssertionError.class);
+            Optional<PokemonResponse> second = flaky.insert(pokemon(4, "charmander"));
+
+            // Then
+            assertThat(second).isPresent();
+        } finally {
+            flaky.stop();
+        }
+    }
+
+    /**
+     * Buffer con repositorio simulado; {@code beforeFlush} corre al abrir cada transacción
+     */
+    private PokemonWriteBuffer standalone(Runnable beforeFlush, int queueCapacity) {
+        TransactionOperations transactionOperations = new TransactionOperations() {
+            @Override
+            public <T> T execute(TransactionCallback<T> action) {
+                beforeFlush.run();
+                return action.doInTransaction(null);
+            }
+        };
+        PokemonRepository repository = mock(PokemonRepository.class);
+        when(repository.insertAllIfAbsent(anyList())).thenAnswer(invocation -> {
+            List<Pokemon> pokemons = invocation.getArgument(0);
+            pokemons.forEach(pokemon -> pokemon.setId((long) pokemon.getExternalId()));
+            return pokemons;
+        });
+        return new PokemonWriteBuffer(repository, new PokemonMapperImpl(), event -> { },
+                transactionOperations, 100, Duration.ZERO, Duration.ofMillis(200), queueCapacity);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private List<Future<Optional<PokemonResponse>>> runConcurrently(java.util.function.IntFunction<Pokemon> pokemons)
+            throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Optional<PokemonResponse>>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                Pokemon pokemon = pokemons.apply(i);
+                Callable<Optional<PokemonResponse>> task = () -> {
+                    start.await();
+                    return writeBuffer.insert(pokemon);
+                };
+                results.add(executor.submit(task));
+            }
+            start.countDown();
+            executor.shutdown();
+            assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+        return results;
+    }
+
+    private static Pokemon pokemon(int externalId, String name) {
+        return Pokemon.builder()
+                .externalId(externalId)
+                .name(name)
+                .height(4)
+                .weight(60)
+                .baseExperience(112)
+                .types(List.of("normal"))
+                .abilities(List.of())
+                .build();
+    }
+}
@@ -0,0 +1,161 @@
+package com.pokemon.application.service;
+
+import com.pokemon.application.dto.request.TeamAnalysisRequest;
+import com.pokemon.application.dto.response.PokemonResponse;
+import com.pokemon.application.dto.response.TeamAnalysisResponse;
+import com.pokemon.application.readmodel.CatalogSnapshot;
+import com.pokemon.application.readmodel.PokemonReadModel;
+import com.pokemon.domain.model.PokemonType;
+import com.pokemon.domain.model.TypeChart;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para TeamAnalysisService
+ * 
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Team Analysis Service Tests")
+class TeamAnalysisServiceTest {
+
+    @Mock
+    private PokemonReadModel readModel;
+
+    private List<PokemonResponse> catalog;
+    private TeamAnalysisService teamAnalysisService;
+
+    @BeforeEach
+    void setUp() {
+        catalog = List.of(
+                pokemon(1L, 64, "grass", "poison"),
+                pokemon(4L, 62, "fire"),
+                pokemon(6L, 267, "fire", "flying"),
+                pokemon(7L, 63, "water"),
+                pokemon(9L, 265, "water"),
+                pokemon(25L, 112, "electric"),
+                pokemon(74L, 60, "rock", "ground"),
+                pokemon(94L, 250, "ghost", "poison"),
+                pokemon(143L, 189, "normal"),
+                pokemon(149L, 300, "dragon", "flying")
+        );
+        CatalogSnapshot snapshot = CatalogSnapshot.of(catalog, Collections.nCopies(catalog.size(), 0L));
+        lenient().when(readModel.isReady()).thenReturn(true);
+        lenient().when(readModel.snapshot()).thenReturn(snapshot);
+
+        teamAnalysisService = new TeamAnalysisService(readModel);
+    }
+
+    @Test
+    @DisplayName("Debe aplicar la tabla de efectividad a defensores de dos tipos")
+    void shouldApplyTypeChartToDualTypes() {
+        int rockGround = PokemonType.ROCK.mask() | PokemonType.GROUND.mask();
+        int dragonFlying = PokemonType.DRAGON.mask() | PokemonType.FLYING.mask();
+
+        assertThat(TypeChart.multiplier(PokemonType.WATER, rockGround)).isEqualTo(4.0);
+        assertThat(TypeChart.multiplier(PokemonType.ELECTRIC, rockGround)).isZero();
+        assertThat(TypeChart.multiplier(PokemonType.ICE, dragonFlying)).isEqualTo(4.0);
+        assertThat(TypeChart.multiplier(PokemonType.FIRE, PokemonType.WATER.mask())).isEqualTo(0.5);
+        assertThat(PokemonType.namesOf(TypeChart.resistances(PokemonType.GHOST.mask())))
+                .contains("normal", "fighting", "poison", "bug");
+    }
+
+    @Test
+    @DisplayName("Debe calcular cobertura, combinaciones no cubiertas y debilidades del equipo")
+    void shouldAnalyzeTeamCoverage() {
+        // When
+        TeamAnalysisResponse result = teamAnalysisService.analyze(TeamAnalysisRequest.builder()
+                .pokemonIds(List.of(25L))
+                .build());
+
+        // Then: eléctrico golpea súper eficaz a agua y a fuego/volador, pero no a dragón/volador
+        assertThat(result.getAttackingTypes()).containsExactly("electric");
+        assertThat(result.getCoverage()).isEqualTo(0.3);
+        assertThat(result.getUncovered()).hasSize(7)
+                .contains("flying/dragon", "ground/rock", "poison/ghost")
+                .doesNotContain("water", "fire/flying");
+        assertThat(result.getWeaknesses()).containsExactly("ground");
+        assertThat(result.getResistances()).containsExactly("electric", "flying", "steel");
+        assertThat(result.getSuggestions()).isNull();
+    }
+
+    @Test
+    @DisplayName("Debe completar el equipo con Pokémon que no estén en él maximizando el puntaje")
+    void shouldCompleteTeam() {
+        // When
+        TeamAnalysisResponse result = teamAnalysisService.analyze(TeamAnalysisRequest.builder()
+                .pokemonIds(List.of(25L, 6L))
+                .complete(true)
+                .build());
+
+        // Then
+        assertThat(result.getSuggestions()).hasSize(4)
+                .extracting(PokemonResponse::getId)
+                .doesNotContain(25L, 6L)
+                .doesNotHaveDuplicates();
+        assertThat(result.getCoverage()).isGreaterThan(0.8);
+
+        TeamAnalysisResponse partial = teamAnalysisService.analyze(TeamAnalysisRequest.builder()
+                .pokemonIds(List.of(25L, 6L))
+                .build());
+        assertThat(result.getScore()).isGreaterThan(partial.getScore());
+    }
+
+    @Test
+    @DisplayName("Debe sugerir al Pokémon con más experiencia base de cada combinación")
+    void shouldPreferStrongestRepresentative() {
+        // When
+        TeamAnalysisResponse result = teamAnalysisService.analyze(TeamAnalysisRequest.builder()
+                .pokemonIds(List.of(1L, 4L, 25L, 74L, 94L))
+                .complete(true)
+                .build());
+
+        // Then
+        assertThat(result.getSuggestions()).singleElement().satisfies(suggested ->
+                assertThat(catalog)
+                        .filteredOn(candidate -> candidate.getTypes().equals(suggested.getTypes()))
+                        .allSatisfy(candidate -> assertThat(candidate.getBaseExperience())
+                                .isLessThanOrEqualTo(suggested.getBaseExperience())));
+    }
+
+    @Test
+    @DisplayName("Debe lanzar excepción si algún Pokémon no existe")
+    void shouldRejectUnknownMember() {
+        assertThatThrownBy(() -> teamAnalysisService.analyze(TeamAnalysisRequest.builder()
+                .pokemonIds(List.of(25L, 999L))
+                .build()))
+                .isInstanceOf(PokemonService.PokemonNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Debe fallar si el catálogo en memoria no está disponible")
+    void shouldFailWhenCatalogUnavailable() {
+        when(readModel.isReady()).thenReturn(false);
+
+        assertThatThrownBy(() -> teamAnalysisService.analyze(TeamAnalysisRequest.builder()
+                .pokemonIds(List.of(25L))
+                .build()))
+                .isInstanceOf(PokemonQueryService.CatalogUnavailableException.class);
+    }
+
+    private static PokemonResponse pokemon(Long id, Integer baseExperience, String... types) {
+        return PokemonResponse.builder()
+                .id(id)
+                .name("pokemon-" + id)
+                .baseExperience(baseExperience)
+                .types(List.of(types))
+                .abilities(List.of())
+                .build();
+    }
+}
@@ -0,0 +1,119 @@
+package com.pokemon.benchmark;
+
+import com.pokemon.application.dto.response.PokemonResponse;
+import com.pokemon.application.readmodel.CatalogSnapshot;
+import com.pokemon.application.readmodel.PokemonColumnStore;
+import com.pokemon.application.readmodel.PokemonRangeIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Agregados agrupados por tipo sobre la copia columnar frente al SQL equivalente
+ * 
+ * La línea base corre en H2 en memoria con el mismo esquema de tablas que la
+ * aplicación ({@code pokemon} y {@code pokemon_types}) y sin reutilizar
+ * resultados de consultas repetidas. Ejecutar con:
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.pokemon.benchmark.AnalyticsBenchmark}
+ * 
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnalyticsBenchmark {
+
+    private static final double[] PERCENTILES = {0.5, 0.9, 0.99};
+
+    private PokemonColumnStore columnStore;
+    private Connection connection;
+    private PreparedStatement groupByType;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        List<PokemonResponse> pokemon = BenchmarkCatalog.generate(BenchmarkCatalog.FULL_SIZE);
+        columnStore = new PokemonColumnStore();
+        columnStore.rebuild(CatalogSnapshot.of(pokemon, Collections.nCopies(pokemon.size(), 0L)));
+
+        connection = DriverManager.getConnection("jdbc:h2:mem:analytics;DB_CLOSE_DELAY=-1;OPTIMIZE_REUSE_RESULTS=FALSE");
+        try (var statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE pokemon (id BIGINT PRIMARY KEY, weight INT)");
+            statement.execute("CREATE TABLE pokemon_types (pokemon_id BIGINT, type_name VARCHAR(50))");
+        }
+        try (var insertPokemon = connection.prepareStatement("INSERT INTO pokemon VALUES (?, ?)");
+             var insertType = connection.prepareStatement("INSERT INTO pokemon_types VALUES (?, ?)")) {
+            for (PokemonResponse p : pokemon) {
+                insertPokemon.setLong(1, p.getId());
+                insertPokemon.setInt(2, p.getWeight());
+                insertPokemon.addBatch();
+                for (String type : p.getTypes()) {
+                    insertType.setLong(1, p.getId());
+                    insertType.setString(2, type);
+                    insertType.addBatch();
+                }
+            }
+            insertPokemon.executeBatch();
+            insertType.executeBatch();
+        }
+        groupByType = connection.prepareStatement("SELECT t.type_name, COUNT(*), AVG(CAST(p.weight AS DOUBLE)), "
+                + "MIN(p.weight), MAX(p.weight), "
+                + "PERCENTILE_CONT(0.5) WITHIN GROUP (ORDER BY p.weight), "
+                + "PERCENTILE_CONT(0.9) WITHIN GROUP (ORDER BY p.weight), "
+                + "PERCENTILE_CONT(0.99) WITHIN GROUP (ORDER BY p.weight) "
+                + "FROM pokemon p JOIN pokemon_types t ON t.pokemon_id = p.id "
+                + "WHERE p.weight IS NOT NULL GROUP BY t.type_name ORDER BY t.type_name");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public List<PokemonColumnStore.GroupStats> columnarByType() {
+        return columnStore.aggregate(PokemonRangeIndex.Field.WEIGHT, PokemonColumnStore.Dimension.TYPE, PERCENTILES);
+    }
+
+    @Benchmark
+    public List<PokemonColumnStore.GroupStats> columnarUngrouped() {
+        return columnStore.aggregate(PokemonRangeIndex.Field.WEIGHT, null, PERCENTILES);
+    }
+
+    @Benchmark
+    public double sqlByType() throws SQLException {
+        double checksum = 0;
+        try (ResultSet resultSet = groupByType.executeQuery()) {
+            while (resultSet.next()) {
+                checksum += resultSet.getDouble(3) + resultSet.getDouble(6);
+            }
+        }
+        return checksum;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        BenchmarkLauncher.run(AnalyticsBenchmark.class);
+    }
+}
@@ -0,0 +1,58 @@
+package com.pokemon.benchmark;
+
+import com.pokemon.application.dto.response.PokemonResponse;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Catálogo sintético del tamaño de la Pokédex completa para los benchmarks
+ * 
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+final class BenchmarkCatalog {
+
+    static final int FULL_SIZE = 1302;
+
+    static final String[] TYPES = {
+        "normal", "fire", "water", "electric", "grass", "ice", "fighting", "poison", "ground",
+        "flying", "psychic", "bug", "rock", "ghost", "dragon", "dark", "steel", "fairy"
+    };
+
+    private BenchmarkCatalog() {
+    }
+
+    /**
+     * Genera {@code size} Pokémon con datos pseudoaleatorios reproducibles
+     */
+    static List<PokemonResponse> generate(int size) {
+        SplittableRandom random = new SplittableRandom(42);
+        LocalDateTime now = LocalDateTime.now();
+        List<PokemonResponse> pokemon = new ArrayList<>(size);
+
+        for (int i = 1; i <= size; i++) {
+            String primary = TYPES[random.nextInt(TYPES.length)];
+            List<String> types = random.nextBoolean()
+                    ? List.of(primary)
+                    : List.of(primary, TYPES[random.nextInt(TYPES.length)]);
+
+            pokemon.add(PokemonResponse.builder()
+                    .id((long) i)
+                    .externalId(i)
+                    .name("pokemon-" + i)
+                    .height(1 + random.nextInt(200))
+                    .weight(1 + random.nextInt(10000))
+                    .baseExperience(30 + random.nextInt(600))
+                    .types(types)
+                    .abilities(List.of("ability-" + random.nextInt(300), "ability-" + random.nextInt(300)))
+                    .spriteUrl("https://example.com/sprites/" + i + ".png")
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+        }
+        return pokemon;
+    }
+}
@@ -0,0 +1,58 @@
+package com.pokemon.benchmark;
+
+import org.openjdk.jmh.profile.Profiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lanza un benchmark JMH propagando el classpath a la JVM bifurcada
+ * 
+ * {@code exec:java} carga las clases de test con su propio class loader, por lo
+ * que {@code java.class.path} sólo contiene Maven y la JVM bifurcada por JMH no
+ * encontraría las clases del proyecto.
+ * 
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+final class BenchmarkLauncher {
+
+    private BenchmarkLauncher() {
+    }
+
+    @SafeVarargs
+    static void run(Class<?> benchmark, Class<? extends Profiler>... profilers) throws RunnerException {
+        System.setProperty("java.class.path", classpath());
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .include(benchmark.getSimpleName());
+        for (Class<? extends Profiler> profiler : profilers) {
+            options.addProfiler(profiler);
+        }
+        new Runner(options.build()).run();
+    }
+
+    private static String classpath() {
+        List<String> entries = new ArrayList<>();
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        if (loader instanceof URLClassLoader urlClassLoader) {
+            for (URL url : urlClassLoader.getURLs()) {
+                try {
+                    entries.add(Paths.get(url.toURI()).toString());
+                } catch (URISyntaxException e) {
+                    entries.add(url.getPath());
+                }
+            }
+        }
+        entries.add(System.getProperty("java.class.path"));
+        return String.join(File.pathSeparator, entries);
+    }
+}
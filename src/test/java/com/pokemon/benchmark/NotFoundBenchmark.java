@@ -0,0 +1,130 @@
+package com.pokemon.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.pokemon.application.service.NegativeLookupCache;
+import com.pokemon.application.service.PokemonService;
+import com.pokemon.infrastructure.web.dto.ErrorResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput de una respuesta 404: lanzar la excepción de dominio a
+ * {@code depth} frames de profundidad (una request de Spring MVC suele tener
+ * más de 100), capturarla y serializar el {@link ErrorResponse}
+ * 
+ * Compara una excepción con stack trace (como eran las de dominio) con la
+ * versión sin stack trace, y esta última precedida por la consulta al cache de
+ * fallos. El ahorro principal del cache, la consulta a la base de datos que
+ * evita, no entra en la medición:
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.pokemon.benchmark.NotFoundBenchmark}
+ * 
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NotFoundBenchmark {
+
+    private static final String MESSAGE = "Pokémon con ID 99999 no encontrado";
+
+    @Param({"20", "150"})
+    private int depth;
+
+    private ObjectMapper mapper;
+    private NegativeLookupCache notFoundCache;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        notFoundCache = new NegativeLookupCache(Duration.ofMinutes(5), 10_000);
+        notFoundCache.recordMissing("id_99999", notFoundCache.generation());
+    }
+
+    @Benchmark
+    public byte[] withStackTrace() throws JsonProcessingException {
+        try {
+            throwAt(depth, () -> new StackTraceNotFoundException(MESSAGE));
+        } catch (RuntimeException e) {
+            return respond(e);
+        }
+        throw new IllegalStateException();
+    }
+
+    @Benchmark
+    public byte[] stackless() throws JsonProcessingException {
+        try {
+            throwAt(depth, () -> new PokemonService.PokemonNotFoundException(MESSAGE));
+        } catch (RuntimeException e) {
+            return respond(e);
+        }
+        throw new IllegalStateException();
+    }
+
+    @Benchmark
+    public byte[] stacklessFromNegativeCache() throws JsonProcessingException {
+        try {
+            throwAt(depth, () -> notFoundCache.isMissing("id_99999")
+                    ? new PokemonService.PokemonNotFoundException(MESSAGE)
+                    : new IllegalStateException());
+        } catch (RuntimeException e) {
+            return respond(e);
+        }
+        throw new IllegalStateException();
+    }
+
+    private byte[] respond(RuntimeException e) throws JsonProcessingException {
+        ErrorResponse error = ErrorResponse.of(e.getMessage(), "POKEMON_NOT_FOUND");
+        error.setPath("/api/v1/pokemon/99999");
+        return mapper.writeValueAsBytes(error);
+    }
+
+    private static void throwAt(int frames, ExceptionFactory factory) {
+        if (frames == 0) {
+            throw factory.create();
+        }
+        throwAt(frames - 1, factory);
+    }
+
+    @FunctionalInterface
+    private interface ExceptionFactory {
+        RuntimeException create();
+    }
+
+    /**
+     * Excepción equivalente a las de dominio antes del cambio (captura el stack trace)
+     */
+    private static final class StackTraceNotFoundException extends RuntimeException {
+        private StackTraceNotFoundException(String message) {
+            super(message);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        BenchmarkLauncher.run(NotFoundBenchmark.class);
+    }
+}
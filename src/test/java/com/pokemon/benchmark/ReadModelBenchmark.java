@@ -0,0 +1,127 @@
+package com.pokemon.benchmark;
+
+import com.pokemon.application.dto.response.PokemonResponse;
+import com.pokemon.application.readmodel.CatalogSnapshot;
+import com.pokemon.application.readmodel.PokemonAutocompleteIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latencia de lecturas del modelo en memoria frente a una consulta JDBC equivalente
+ * 
+ * La línea base usa H2 en memoria (sin red), por lo que subestima el costo real
+ * de ir a PostgreSQL. Ejecutar con:
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.pokemon.benchmark.ReadModelBenchmark}
+ * 
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReadModelBenchmark {
+
+    private CatalogSnapshot snapshot;
+    private PokemonAutocompleteIndex autocompleteIndex;
+    private Connection connection;
+    private PreparedStatement selectById;
+    private long probeId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        List<PokemonResponse> pokemon = BenchmarkCatalog.generate(BenchmarkCatalog.FULL_SIZE);
+        snapshot = CatalogSnapshot.of(pokemon, Collections.nCopies(pokemon.size(), 0L));
+        probeId = BenchmarkCatalog.FULL_SIZE / 2;
+        autocompleteIndex = new PokemonAutocompleteIndex();
+        autocompleteIndex.rebuild(snapshot);
+
+        connection = DriverManager.getConnection("jdbc:h2:mem:readmodel;DB_CLOSE_DELAY=-1;OPTIMIZE_REUSE_RESULTS=FALSE");
+        try (var statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE pokemon (id BIGINT PRIMARY KEY, name VARCHAR(100), "
+                    + "height INT, weight INT, base_experience INT)");
+        }
+        try (var insert = connection.prepareStatement("INSERT INTO pokemon VALUES (?, ?, ?, ?, ?)")) {
+            for (PokemonResponse p : pokemon) {
+                insert.setLong(1, p.getId());
+                insert.setString(2, p.getName());
+                insert.setInt(3, p.getHeight());
+                insert.setInt(4, p.getWeight());
+                insert.setInt(5, p.getBaseExperience());
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+        selectById = connection.prepareStatement("SELECT id, name, height, weight, base_experience FROM pokemon WHERE id = ?");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public Optional<PokemonResponse> readModelById() {
+        return snapshot.findById(probeId);
+    }
+
+    @Benchmark
+    public Optional<PokemonResponse> readModelByName() {
+        return snapshot.findByName("pokemon-651");
+    }
+
+    @Benchmark
+    public int[] readModelByType() {
+        return snapshot.positionsOfType("fire");
+    }
+
+    @Benchmark
+    public int[] readModelSearch() {
+        return snapshot.positionsContaining("65");
+    }
+
+    @Benchmark
+    public List<PokemonResponse> autocompletePrefix() {
+        return autocompleteIndex.suggest("pokemon-12", 10);
+    }
+
+    @Benchmark
+    public List<PokemonResponse> autocompleteWithTypo() {
+        return autocompleteIndex.suggest("pokemom-12", 10);
+    }
+
+    @Benchmark
+    public String jdbcById() throws SQLException {
+        selectById.setLong(1, probeId);
+        try (ResultSet resultSet = selectById.executeQuery()) {
+            return resultSet.next() ? resultSet.getString(2) : null;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        BenchmarkLauncher.run(ReadModelBenchmark.class);
+    }
+}
@@ -0,0 +1,107 @@
+package com.pokemon.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.pokemon.application.dto.response.PokemonResponse;
+import com.pokemon.infrastructure.web.dto.ApiResponse;
+import com.pokemon.infrastructure.web.dto.PageResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.RunnerException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de serializar las respuestas de la API: {@code PageImpl} frente al
+ * envoltorio {@link PageResponse}, con y sin Blackbird
+ * 
+ * Los mappers replican la configuración de la aplicación (snake_case,
+ * sin nulos, java.time). Se ejecuta con el profiler de GC para reportar bytes
+ * asignados por operación ({@code gc.alloc.rate.norm}):
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.pokemon.benchmark.SerializationBenchmark}
+ * 
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private ObjectMapper reflection;
+    private ObjectMapper blackbird;
+    private ApiResponse<Page<PokemonResponse>> pageImplResponse;
+    private ApiResponse<PageResponse<PokemonResponse>> envelopeResponse;
+    private ApiResponse<PokemonResponse> singleResponse;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        reflection = mapper();
+        blackbird = mapper().registerModule(new BlackbirdModule());
+
+        List<PokemonResponse> pokemon = BenchmarkCatalog.generate(PAGE_SIZE);
+        Page<PokemonResponse> page = new PageImpl<>(pokemon, PageRequest.of(3, PAGE_SIZE), BenchmarkCatalog.FULL_SIZE);
+        pageImplResponse = ApiResponse.success(page, "Lista de Pokémon obtenida exitosamente");
+        envelopeResponse = ApiResponse.success(PageResponse.of(page), "Lista de Pokémon obtenida exitosamente");
+        singleResponse = ApiResponse.success(pokemon.get(0), "Pokémon encontrado");
+    }
+
+    @Benchmark
+    public byte[] pageImplReflection() throws JsonProcessingException {
+        return reflection.writeValueAsBytes(pageImplResponse);
+    }
+
+    @Benchmark
+    public byte[] pageEnvelopeReflection() throws JsonProcessingException {
+        return reflection.writeValueAsBytes(envelopeResponse);
+    }
+
+    @Benchmark
+    public byte[] pageEnvelopeBlackbird() throws JsonProcessingException {
+        return blackbird.writeValueAsBytes(envelopeResponse);
+    }
+
+    @Benchmark
+    public byte[] singleReflection() throws JsonProcessingException {
+        return reflection.writeValueAsBytes(singleResponse);
+    }
+
+    @Benchmark
+    public byte[] singleBlackbird() throws JsonProcessingException {
+        return blackbird.writeValueAsBytes(singleResponse);
+    }
+
+    private static ObjectMapper mapper() {
+        return new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        BenchmarkLauncher.run(SerializationBenchmark.class, GCProfiler.class);
+    }
+}
@@ -0,0 +1,89 @@
+package com.pokemon.benchmark;
+
+import com.pokemon.application.dto.response.PokemonResponse;
+import com.pokemon.application.readmodel.CatalogSnapshot;
+import com.pokemon.application.readmodel.PokemonSimilarityIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Búsqueda de similares sobre la matriz empaquetada frente a una versión ingenua con objetos
+ * 
+ * La versión ingenua recalcula la distancia sobre los DTOs (valores en caja,
+ * conjuntos de tipos) y ordena todo el catálogo, que es lo que haría un
+ * {@code stream().sorted().limit(k)}. Ejecutar con:
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.pokemon.benchmark.SimilarityBenchmark}
+ * 
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimilarityBenchmark {
+
+    private static final int K = 10;
+
+    private List<PokemonResponse> pokemon;
+    private PokemonSimilarityIndex index;
+    private long probeId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pokemon = BenchmarkCatalog.generate(BenchmarkCatalog.FULL_SIZE);
+        index = new PokemonSimilarityIndex(1.0f);
+        index.rebuild(CatalogSnapshot.of(pokemon, Collections.nCopies(pokemon.size(), 0L)));
+        probeId = BenchmarkCatalog.FULL_SIZE / 2;
+    }
+
+    @Benchmark
+    public List<PokemonSimilarityIndex.Neighbor> packedMatrix() {
+        return index.nearest(probeId, K);
+    }
+
+    @Benchmark
+    public List<PokemonResponse> naiveObjects() {
+        PokemonResponse reference = pokemon.get((int) probeId - 1);
+        Set<String> referenceTypes = new HashSet<>(reference.getTypes());
+        return pokemon.stream()
+                .filter(candidate -> !candidate.getId().equals(reference.getId()))
+                .sorted(Comparator.comparingDouble(candidate -> naiveDistance(reference, referenceTypes, candidate)))
+                .limit(K)
+                .collect(Collectors.toList());
+    }
+
+    private static double naiveDistance(PokemonResponse reference, Set<String> referenceTypes, PokemonResponse candidate) {
+        double dh = Math.log1p(reference.getHeight()) - Math.log1p(candidate.getHeight());
+        double dw = Math.log1p(reference.getWeight()) - Math.log1p(candidate.getWeight());
+        double de = Math.log1p(reference.getBaseExperience()) - Math.log1p(candidate.getBaseExperience());
+        Set<String> union = new HashSet<>(referenceTypes);
+        union.addAll(candidate.getTypes());
+        long shared = candidate.getTypes().stream().filter(referenceTypes::contains).count();
+        return dh * dh + dw * dw + de * de + (1.0 - (double) shared / union.size());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        BenchmarkLauncher.run(SimilarityBenchmark.class);
+    }
+}
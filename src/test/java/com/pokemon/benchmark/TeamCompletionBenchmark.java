@@ -0,0 +1,80 @@
+package com.pokemon.benchmark;
+
+import com.pokemon.application.dto.response.PokemonResponse;
+import com.pokemon.domain.model.PokemonType;
+import com.pokemon.domain.model.TeamCoverage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Búsqueda de la mejor completación de un equipo sobre el catálogo completo
+ * 
+ * Con {@code openSlots} de 1 a 3 la búsqueda es exhaustiva; con 4 se suma un
+ * paso voraz. Se compara un pool de un hilo contra el pool común. Ejecutar con:
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.pokemon.benchmark.TeamCompletionBenchmark}
+ * 
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TeamCompletionBenchmark {
+
+    @Param({"1", "2", "3", "4"})
+    private int openSlots;
+
+    private TeamCoverage coverage;
+    private int[] members;
+    private int[] candidates;
+    private ForkJoinPool singleThread;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<PokemonResponse> pokemon = BenchmarkCatalog.generate(BenchmarkCatalog.FULL_SIZE);
+        int[] masks = pokemon.stream().mapToInt(p -> PokemonType.maskOf(p.getTypes())).toArray();
+        coverage = TeamCoverage.of(masks);
+        candidates = Arrays.stream(masks).distinct().toArray();
+        members = Arrays.copyOf(masks, TeamCoverage.TEAM_SIZE - openSlots);
+        singleThread = new ForkJoinPool(1);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        singleThread.shutdown();
+    }
+
+    @Benchmark
+    public int[] completeSequential() {
+        return coverage.complete(members, candidates, openSlots, singleThread);
+    }
+
+    @Benchmark
+    public int[] completeParallel() {
+        return coverage.complete(members, candidates, openSlots, ForkJoinPool.commonPool());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        BenchmarkLauncher.run(TeamCompletionBenchmark.class);
+    }
+}
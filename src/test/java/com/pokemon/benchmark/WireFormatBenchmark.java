@@ -0,0 +1,111 @@
+package com.pokemon.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufFactory;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.pokemon.application.dto.response.IsoDateTimeSerializer;
+import com.pokemon.application.dto.response.PokemonResponse;
+import com.pokemon.infrastructure.web.converter.ProtobufJacksonHttpMessageConverter;
+import com.pokemon.infrastructure.web.dto.ApiResponse;
+import com.pokemon.infrastructure.web.dto.PageResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tamaño y latencia de una página de 20 Pokémon en JSON, CBOR, Smile y protobuf
+ * 
+ * Los mappers se construyen como en {@code WebMvcConfig}. El tamaño en bytes
+ * de cada formato se imprime al preparar el estado:
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.pokemon.benchmark.WireFormatBenchmark}
+ * 
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WireFormatBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"json", "cbor", "smile", "protobuf"})
+    public String format;
+
+    private ApiResponse<PageResponse<PokemonResponse>> response;
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        response = ApiResponse.success(PageResponse.of(new PageImpl<>(BenchmarkCatalog.generate(PAGE_SIZE),
+                PageRequest.of(0, PAGE_SIZE), BenchmarkCatalog.FULL_SIZE)), "Lista de Pokémon obtenida exitosamente");
+
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+                .serializationInclusion(JsonInclude.Include.NON_NULL);
+        ObjectMapper mapper;
+        switch (format) {
+            case "cbor" -> mapper = builder.factory(new CBORFactory()).build();
+            case "smile" -> mapper = builder.factory(new SmileFactory()).build();
+            case "protobuf" -> mapper = builder.serializerByType(LocalDateTime.class, new IsoDateTimeSerializer())
+                    .factory(new ProtobufFactory()).build();
+            default -> mapper = builder.factory(new JsonFactory()).build();
+        }
+        JavaType type = mapper.getTypeFactory().constructParametricType(ApiResponse.class,
+                mapper.getTypeFactory().constructParametricType(PageResponse.class, PokemonResponse.class));
+
+        writer = mapper.writerFor(type);
+        reader = mapper.readerFor(type);
+        if ("protobuf".equals(format)) {
+            ProtobufSchema schema = new ProtobufJacksonHttpMessageConverter(mapper).schemaFor(type).orElseThrow();
+            writer = writer.with(schema);
+            reader = reader.with(schema);
+        }
+        encoded = writer.writeValueAsBytes(response);
+        System.out.printf("%n%s: %d bytes%n", format, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return writer.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public Object decode() throws IOException {
+        return reader.readValue(encoded);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        BenchmarkLauncher.run(WireFormatBenchmark.class);
+    }
+}
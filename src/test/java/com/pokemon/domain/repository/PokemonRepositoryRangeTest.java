@@ -0,0 +1,106 @@
+package com.pokemon.domain.repository;
+
+import com.pokemon.domain.entity.Pokemon;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests de la búsqueda por rangos contra H2 en modo PostgreSQL
+ *
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:ranges;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Pokemon Repository Range Tests")
+class PokemonRepositoryRangeTest {
+
+    @Autowired
+    private PokemonRepository pokemonRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        pokemonRepository.insertAllIfAbsent(List.of(
+                pokemon(1, "bulbasaur", 7, 69, 64),
+                pokemon(25, "pikachu", 4, 60, 112),
+                pokemon(94, "gengar", 15, 405, 250),
+                pokemon(143, "snorlax", 21, 4600, null)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM pokemon_types");
+        jdbcTemplate.update("DELETE FROM pokemon_abilities");
+        jdbcTemplate.update("DELETE FROM pokemon");
+    }
+
+    @Test
+    @DisplayName("Debe aplicar solo las cotas recibidas")
+    void shouldApplyOnlyPresentBounds() {
+        // When
+        Page<Pokemon> page = pokemonRepository.findByRanges(null, null, 60, 500, null, null,
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "weight")));
+
+        // Then
+        assertThat(page.getContent()).extracting(Pokemon::getName).containsExactly("gengar", "bulbasaur", "pikachu");
+        assertThat(page.getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Debe devolver todo el catálogo paginado cuando no hay cotas")
+    void shouldReturnEverythingWithoutBounds() {
+        // When
+        Page<Pokemon> page = pokemonRepository.findByRanges(null, null, null, null, null, null,
+                PageRequest.of(1, 2, Sort.by("externalId")));
+
+        // Then
+        assertThat(page.getContent()).extracting(Pokemon::getName).containsExactly("gengar", "snorlax");
+        assertThat(page.getTotalElements()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Debe excluir los valores nulos de una columna acotada")
+    void shouldExcludeNullsFromBoundedColumn() {
+        // When
+        Page<Pokemon> page = pokemonRepository.findByRanges(10, null, null, null, 100, null,
+                PageRequest.of(0, 10));
+
+        // Then
+        assertThat(page.getContent()).extracting(Pokemon::getName).containsExactly("gengar");
+    }
+
+    private static Pokemon pokemon(int externalId, String name, Integer height, Integer weight, Integer baseExperience) {
+        return Pokemon.builder()
+                .externalId(externalId)
+                .name(name)
+                .height(height)
+                .weight(weight)
+                .baseExperience(baseExperience)
+                .types(List.of("normal"))
+                .abilities(List.of())
+                .build();
+    }
+}
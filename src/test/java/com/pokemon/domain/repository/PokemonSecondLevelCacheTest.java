@@ -0,0 +1,146 @@
+package com.pokemon.domain.repository;
+
+import com.pokemon.domain.entity.Pokemon;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests del cache de segundo nivel de Hibernate contra H2 en modo PostgreSQL
+ *
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:l2cache;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Pokemon Second Level Cache Tests")
+class PokemonSecondLevelCacheTest {
+
+    @Autowired
+    private PokemonRepository pokemonRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM pokemon_types");
+        jdbcTemplate.update("DELETE FROM pokemon_abilities");
+        jdbcTemplate.update("DELETE FROM pokemon");
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    @Test
+    @DisplayName("Debe resolver por ID la entidad y sus colecciones sin consultar la base de datos")
+    void shouldServeEntityAndCollectionsFromCache() {
+        // Given
+        Long id = insert("pikachu");
+        readFully(id);
+        statistics.clear();
+
+        // When
+        Pokemon cached = readFully(id);
+
+        // Then
+        assertThat(cached.getTypes()).containsExactly("electric");
+        assertThat(cached.getAbilities()).containsExactly("static");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Debe resolver por nombre con el cache del ID natural")
+    void shouldServeNaturalIdLookupsFromCache() {
+        // Given
+        Long id = insert("pikachu");
+        transactionTemplate.executeWithoutResult(status -> pokemonRepository.findByNaturalId("pikachu"));
+        statistics.clear();
+
+        // When
+        Optional<Pokemon> found = transactionTemplate.execute(status -> pokemonRepository.findByNaturalId("PIKACHU"));
+
+        // Then
+        assertThat(found).map(Pokemon::getId).contains(id);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getNaturalIdCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Debe desalojar el Pokémon eliminado")
+    void shouldEvictOnDelete() {
+        // Given
+        Long id = insert("pikachu");
+        readFully(id);
+
+        // When
+        transactionTemplate.executeWithoutResult(status ->
+                pokemonRepository.delete(pokemonRepository.findById(id).orElseThrow()));
+
+        // Then
+        Optional<Pokemon> byId = transactionTemplate.execute(status -> pokemonRepository.findById(id));
+        Optional<Pokemon> byName = transactionTemplate.execute(status -> pokemonRepository.findByNaturalId("pikachu"));
+        assertThat(byId).isEmpty();
+        assertThat(byName).isEmpty();
+    }
+
+    private Long insert(String name) {
+        Pokemon pokemon = Pokemon.builder()
+                .externalId(25)
+                .name(name)
+                .height(4)
+                .weight(60)
+                .baseExperience(112)
+                .types(List.of("electric"))
+                .abilities(List.of("static"))
+                .build();
+        return transactionTemplate.execute(status -> pokemonRepository.insertIfAbsent(pokemon).orElseThrow().getId());
+    }
+
+    private Pokemon readFully(Long id) {
+        return transactionTemplate.execute(status -> {
+            Pokemon pokemon = pokemonRepository.findById(id).orElseThrow();
+            pokemon.getTypes().size();
+            pokemon.getAbilities().size();
+            return pokemon;
+        });
+    }
+}
@@ -0,0 +1,144 @@
+package com.pokemon.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pokemon.application.dto.response.PokemonResponse;
+import com.pokemon.application.readmodel.PokemonReadModel;
+import com.pokemon.application.service.NegativeLookupCache;
+import com.pokemon.domain.entity.Pokemon;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitarios para LocalCacheInvalidator
+ *
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Local Cache Invalidator Tests")
+class LocalCacheInvalidatorTest {
+
+    @Mock
+    private PokemonReadModel readModel;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private SessionFactory sessionFactory;
+
+    @Mock
+    private org.hibernate.Cache secondLevelCache;
+
+    private CaffeineCacheManager cacheManager;
+    private NegativeLookupCache notFoundCache;
+    private LocalCacheInvalidator invalidator;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new CaffeineCacheManager();
+        for (String name : new String[]{"pokemonCache", "pokemonListCache", "pokemonSearchCache", "pokemonStatsCache"}) {
+            cacheManager.registerCustomCache(name, Caffeine.newBuilder().build());
+        }
+        notFoundCache = new NegativeLookupCache(Duration.ofMinutes(1), 100);
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getCache()).thenReturn(secondLevelCache);
+        invalidator = new LocalCacheInvalidator(cacheManager, notFoundCache, readModel, entityManagerFactory);
+    }
+
+    @Test
+    @DisplayName("Debe desalojar solo las claves del Pokémon creado y los listados")
+    void shouldEvictTargetedKeysOnRemoteCreation() {
+        // Given
+        Cache pokemonCache = cacheManager.getCache("pokemonCache");
+        pokemonCache.put("id_1", pikachu(1L));
+        pokemonCache.put("name_bulbasaur", pikachu(2L));
+        cacheManager.getCache("pokemonListCache").put("0_20_UNSORTED", "page");
+        notFoundCache.recordMissing("name_bulbasaur", notFoundCache.generation());
+
+        // When
+        invalidator.onRemoteCreated(2L, "Bulbasaur");
+
+        // Then
+        assertThat(pokemonCache.get("id_1")).isNotNull();
+        assertThat(pokemonCache.get("name_bulbasaur")).isNull();
+        assertThat(cacheManager.getCache("pokemonListCache").get("0_20_UNSORTED")).isNull();
+        assertThat(notFoundCache.isMissing("name_bulbasaur")).isFalse();
+        verify(readModel).refresh(2L);
+    }
+
+    @Test
+    @DisplayName("Debe desalojar por nombre cuando conoce el Pokémon eliminado")
+    void shouldEvictByKnownNameOnRemoteDeletion() {
+        // Given
+        Cache pokemonCache = cacheManager.getCache("pokemonCache");
+        pokemonCache.put("id_25", pikachu(25L));
+        pokemonCache.put("name_pikachu", pikachu(25L));
+        pokemonCache.put("id_1", pikachu(1L));
+
+        // When
+        invalidator.onRemoteDeleted(25L);
+
+        // Then
+        assertThat(pokemonCache.get("id_25")).isNull();
+        assertThat(pokemonCache.get("name_pikachu")).isNull();
+        assertThat(pokemonCache.get("id_1")).isNotNull();
+        verify(secondLevelCache).evictEntityData(Pokemon.class, 25L);
+        verify(secondLevelCache).evictCollectionData(Pokemon.class.getName() + ".types", 25L);
+        verify(secondLevelCache).evictNaturalIdData(Pokemon.class);
+        verify(readModel).refresh(25L);
+    }
+
+    @Test
+    @DisplayName("Debe vaciar pokemonCache si no conoce el nombre del Pokémon eliminado")
+    void shouldClearPokemonCacheWhenNameUnknown() {
+        // Given
+        Cache pokemonCache = cacheManager.getCache("pokemonCache");
+        pokemonCache.put("name_pikachu", pikachu(25L));
+        when(readModel.findById(25L)).thenReturn(Optional.empty());
+
+        // When
+        invalidator.onRemoteDeleted(25L);
+
+        // Then
+        assertThat(pokemonCache.get("name_pikachu")).isNull();
+    }
+
+    @Test
+    @DisplayName("Debe vaciar todos los caches y verificar el modelo de lectura")
+    void shouldFlushEverything() {
+        // Given
+        cacheManager.getCache("pokemonCache").put("id_1", pikachu(1L));
+        cacheManager.getCache("pokemonStatsCache").put("stats", "stats");
+        notFoundCache.recordMissing("id_99", notFoundCache.generation());
+
+        // When
+        invalidator.flushAll();
+
+        // Then
+        assertThat(cacheManager.getCache("pokemonCache").get("id_1")).isNull();
+        assertThat(cacheManager.getCache("pokemonStatsCache").get("stats")).isNull();
+        assertThat(notFoundCache.isMissing("id_99")).isFalse();
+        verify(secondLevelCache).evictAllRegions();
+        verify(readModel).verifyConsistency();
+    }
+
+    private static PokemonResponse pikachu(Long id) {
+        return PokemonResponse.builder().id(id).name("pikachu").build();
+    }
+}
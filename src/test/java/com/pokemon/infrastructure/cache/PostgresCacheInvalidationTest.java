@@ -0,0 +1,99 @@
+package com.pokemon.infrastructure.cache;
+
+import com.pokemon.application.dto.response.PokemonResponse;
+import com.pokemon.application.event.PokemonCreatedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para PostgresCacheInvalidation
+ *
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Postgres Cache Invalidation Tests")
+class PostgresCacheInvalidationTest {
+
+    @Mock
+    private LocalCacheInvalidator invalidator;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Debe notificar en la transacción con el formato origen:tipo:id:nombre")
+    void shouldNotifyWithinTransaction() {
+        // Given
+        PostgresCacheInvalidation invalidation = invalidation("jdbc:postgresql://localhost:5432/pokemon_db");
+        PokemonResponse pikachu = PokemonResponse.builder().id(25L).name("pikachu").build();
+
+        // When
+        invalidation.onPokemonCreated(new PokemonCreatedEvent(pikachu, 0L));
+
+        // Then
+        verify(jdbcTemplate).queryForList("SELECT pg_notify(?, ?)", "pokemon_cache_invalidation",
+                invalidation.origin() + ":C:25:pikachu");
+    }
+
+    @Test
+    @DisplayName("Debe quedar deshabilitada si la base de datos no es PostgreSQL")
+    void shouldBeDisabledOutsidePostgres() {
+        // Given
+        PostgresCacheInvalidation invalidation = invalidation("jdbc:h2:mem:test");
+        PokemonResponse pikachu = PokemonResponse.builder().id(25L).name("pikachu").build();
+
+        // When
+        invalidation.onPokemonCreated(new PokemonCreatedEvent(pikachu, 0L));
+
+        // Then
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Debe aplicar solo las notificaciones de otras instancias")
+    void shouldApplyOnlyRemoteNotifications() {
+        // Given
+        PostgresCacheInvalidation invalidation = invalidation("jdbc:postgresql://localhost:5432/pokemon_db");
+
+        // When
+        invalidation.apply(invalidation.origin() + ":C:25:pikachu");
+        invalidation.apply("other-node:C:1:bulbasaur");
+        invalidation.apply("other-node:D:6");
+        invalidation.apply("basura");
+
+        // Then
+        verify(invalidator).onRemoteCreated(1L, "bulbasaur");
+        verify(invalidator).onRemoteDeleted(6L);
+        verify(invalidator, never()).onRemoteCreated(eq(25L), anyString());
+        verifyNoMoreInteractions(invalidator);
+    }
+
+    @Test
+    @DisplayName("Debe interpretar los mensajes y rechazar los incompletos")
+    void shouldParseMessages() {
+        assertThat(PostgresCacheInvalidation.Message.parse("node:D:6"))
+                .contains(new PostgresCacheInvalidation.Message("node", "D", 6L, null));
+        assertThat(PostgresCacheInvalidation.Message.parse("node:C:1:mr-mime"))
+                .contains(new PostgresCacheInvalidation.Message("node", "C", 1L, "mr-mime"));
+        assertThat(PostgresCacheInvalidation.Message.parse("node:C:1")).isEmpty();
+        assertThat(PostgresCacheInvalidation.Message.parse("node:X:1")).isEmpty();
+        assertThat(PostgresCacheInvalidation.Message.parse("node:D:abc")).isEmpty();
+    }
+
+    private PostgresCacheInvalidation invalidation(String url) {
+        return new PostgresCacheInvalidation(invalidator, jdbcTemplate, url, "postgres", "secret", true,
+                "pokemon_cache_invalidation", Duration.ofSeconds(5), Duration.ofSeconds(1), Duration.ofSeconds(30));
+    }
+}
@@ -0,0 +1,99 @@
+package com.pokemon.infrastructure.config;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+/**
+ * Tests de WebClientConfig contra un servidor HTTP local
+ *
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@DisplayName("WebClient Config Tests")
+class WebClientConfigTest {
+
+    private HttpServer server;
+    private ConnectionProvider connectionProvider;
+    private WebClient webClient;
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/ok", exchange -> respond(exchange, 200, "{}"));
+        server.createContext("/broken", exchange -> respond(exchange, 500, "{\"detail\": \"boom\"}"));
+        server.start();
+
+        Metrics.addRegistry(meterRegistry);
+        WebClientConfig config = new WebClientConfig(Duration.ofSeconds(5), 4, 8, Duration.ofSeconds(1),
+                Duration.ofSeconds(30), Duration.ofMinutes(5), Duration.ofSeconds(30), false);
+        connectionProvider = config.externalConnectionProvider();
+        webClient = config.webClient(connectionProvider);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionProvider.dispose();
+        Metrics.removeRegistry(meterRegistry);
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("El manejo de errores no debe consumir el cuerpo de la respuesta")
+    void shouldKeepErrorBodyForCaller() {
+        // When
+        WebClientResponseException error = catchThrowableOfType(() -> webClient.get()
+                .uri(url("/broken"))
+                .retrieve()
+                .bodyToMono(String.class)
+                .block(), WebClientResponseException.class);
+
+        // Then
+        assertThat(error.getStatusCode().value()).isEqualTo(500);
+        assertThat(error.getResponseBodyAsString()).isEqualTo("{\"detail\": \"boom\"}");
+    }
+
+    @Test
+    @DisplayName("Debe publicar las métricas del pool dedicado")
+    void shouldPublishPoolMetrics() {
+        // When
+        webClient.get().uri(url("/ok")).retrieve().bodyToMono(String.class).block();
+
+        // Then
+        assertThat(meterRegistry.find("reactor.netty.connection.provider.total.connections")
+                .tag("name", WebClientConfig.POOL_NAME).gauge()).isNotNull();
+        assertThat(meterRegistry.find("reactor.netty.connection.provider.max.connections")
+                .tag("name", WebClientConfig.POOL_NAME).gauge().value()).isEqualTo(4);
+    }
+
+    private String url(String path) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
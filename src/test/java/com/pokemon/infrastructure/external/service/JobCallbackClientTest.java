@@ -0,0 +1,120 @@
+package com.pokemon.infrastructure.external.service;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests unitarios para JobCallbackClient
+ *
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@DisplayName("Job Callback Client Tests")
+class JobCallbackClientTest {
+
+    private JobCallbackClient callbackClient = client(List.of());
+
+    @AfterEach
+    void tearDown() {
+        callbackClient.shutdown();
+    }
+
+    @Test
+    @DisplayName("Debe rechazar callbacks a loopback, link-local y redes privadas")
+    void shouldRejectInternalAddresses() {
+        // When & Then
+        for (String url : List.of(
+                "http://127.0.0.1:8080/actuator/shutdown",
+                "http://localhost/hook",
+                "http://169.254.169.254/latest/meta-data/",
+                "http://10.0.0.5/hook",
+                "http://192.168.1.10/hook",
+                "http://100.64.0.1/hook",
+                "http://0.0.0.0/hook",
+                "http://[::1]/hook",
+                "http://[fd00::1]/hook")) {
+            assertThatThrownBy(() -> callbackClient.validate(url))
+                    .as(url)
+                    .isInstanceOf(JobCallbackClient.InvalidCallbackUrlException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("Debe aceptar una dirección pública y rechazar esquemas que no son http")
+    void shouldAcceptPublicHttpAddresses() {
+        // When & Then
+        assertThatCode(() -> callbackClient.validate("https://93.184.216.34/hook")).doesNotThrowAnyException();
+        assertThatThrownBy(() -> callbackClient.validate("file:///etc/passwd"))
+                .isInstanceOf(JobCallbackClient.InvalidCallbackUrlException.class);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar hosts fuera de la lista permitida aunque sean públicos")
+    void shouldRejectHostsOutsideAllowList() {
+        // Given
+        callbackClient.shutdown();
+        callbackClient = client(List.of("example.com"));
+
+        // When & Then
+        assertThatThrownBy(() -> callbackClient.validate("https://93.184.216.34/hook"))
+                .isInstanceOf(JobCallbackClient.InvalidCallbackUrlException.class)
+                .hasMessageContaining("no está permitido");
+        assertThatThrownBy(() -> callbackClient.validate("https://evil-example.com/hook"))
+                .isInstanceOf(JobCallbackClient.InvalidCallbackUrlException.class)
+                .hasMessageContaining("no está permitido");
+    }
+
+    @Test
+    @DisplayName("No debe enviar callbacks a un servidor local")
+    void shouldNotNotifyLocalServer() throws IOException, InterruptedException {
+        // Given
+        AtomicInteger hits = new AtomicInteger();
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/hook", exchange -> {
+            hits.incrementAndGet();
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        server.start();
+
+        try {
+            // When
+            callbackClient.notify("http://127.0.0.1:" + server.getAddress().getPort() + "/hook", Map.of("ok", true));
+            Thread.sleep(200);
+
+            // Then
+            assertThat(hits).hasValue(0);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    @DisplayName("Debe clasificar como públicas solo las direcciones enrutables en Internet")
+    void shouldClassifyPublicAddresses() throws IOException {
+        // When & Then
+        assertThat(JobCallbackClient.isPublic(InetAddress.getByName("8.8.8.8"))).isTrue();
+        assertThat(JobCallbackClient.isPublic(InetAddress.getByName("2606:4700::1111"))).isTrue();
+        assertThat(JobCallbackClient.isPublic(InetAddress.getByName("172.16.0.1"))).isFalse();
+        assertThat(JobCallbackClient.isPublic(InetAddress.getByName("fe80::1"))).isFalse();
+        assertThat(JobCallbackClient.isPublic(InetAddress.getByName("::ffff:127.0.0.1"))).isFalse();
+    }
+
+    private static JobCallbackClient client(List<String> allowedHosts) {
+        return new JobCallbackClient(Duration.ofSeconds(1), 0, 2, allowedHosts);
+    }
+}
@@ -0,0 +1,158 @@
+package com.pokemon.infrastructure.external.service;
+
+import com.pokemon.infrastructure.external.dto.PokeApiResponse;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntUnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests de PokeApiService contra un servidor HTTP local con latencia y errores inyectados
+ *
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@DisplayName("PokeApi Service Tests")
+class PokeApiServiceTest {
+
+    private static final String PIKACHU = "{\"id\": 25, \"name\": \"pikachu\", \"height\": 4, \"weight\": 60}";
+
+    private HttpServer server;
+    private final AtomicInteger hits = new AtomicInteger();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    /** Status a responder según el número de request (desde 1); un valor negativo indica 200 con ese retardo en ms */
+    private volatile IntUnaryOperator behaviour = hit -> 200;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/pokemon/", this::handle);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("Debe lanzar un hedge cuando el primer intento supera la latencia aprendida")
+    void shouldHedgeSlowRequest() {
+        // Given
+        PokeApiService service = service(true, 0.1);
+        for (int i = 0; i < 25; i++) {
+            service.getPokemonByName("pikachu");
+        }
+        int slowHit = hits.get() + 1;
+        behaviour = hit -> hit == slowHit ? -3000 : 200;
+
+        // When
+        long start = System.nanoTime();
+        PokeApiResponse response = service.getPokemonByName("pikachu");
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        // Then
+        assertThat(response.getName()).isEqualTo("pikachu");
+        assertThat(elapsed).isLessThan(Duration.ofSeconds(1));
+        assertThat(meterRegistry.counter("pokeapi.hedge.fired").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("pokeapi.hedge.won").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Debe reintentar ante un 503 y devolver la respuesta siguiente")
+    void shouldRetryServerErrors() {
+        // Given
+        PokeApiService service = service(false, 0.1);
+        behaviour = hit -> hit == 1 ? 503 : 200;
+
+        // When
+        PokeApiResponse response = service.getPokemonByName("pikachu");
+
+        // Then
+        assertThat(response.getId()).isEqualTo(25);
+        assertThat(hits).hasValue(2);
+        assertThat(meterRegistry.counter("pokeapi.retry").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("No debe reintentar un 404")
+    void shouldNotRetryNotFound() {
+        // Given
+        PokeApiService service = service(false, 0.1);
+        behaviour = hit -> 404;
+
+        // When & Then
+        assertThatThrownBy(() -> service.getPokemonByName("missingno"))
+                .isInstanceOf(PokeApiService.PokemonNotFoundException.class);
+        assertThat(hits).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Debe dejar de reintentar cuando se agota el presupuesto")
+    void shouldStopRetryingWhenBudgetIsExhausted() {
+        // Given
+        PokeApiService service = service(false, 0.0);
+        behaviour = hit -> 500;
+
+        // When
+        for (int i = 0; i < 8; i++) {
+            assertThatThrownBy(() -> service.getPokemonByName("pikachu"))
+                    .isInstanceOf(PokeApiService.ExternalApiException.class);
+        }
+
+        // Then: 8 intentos originales más las 10 fichas de reserva
+        assertThat(hits).hasValue(18);
+        assertThat(meterRegistry.counter("pokeapi.retry").count()).isEqualTo(10);
+        assertThat(meterRegistry.counter("pokeapi.retry.budget.exhausted").count()).isGreaterThan(0);
+    }
+
+    private PokeApiService service(boolean hedging, double budgetRatio) {
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        return new PokeApiService(WebClient.create(), meterRegistry, baseUrl,
+                Duration.ofSeconds(10), Duration.ofSeconds(5),
+                hedging, 0.95, Duration.ofMillis(50),
+                3, Duration.ofMillis(5), budgetRatio, 10);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        int status = behaviour.applyAsInt(hits.incrementAndGet());
+        if (status < 0) {
+            sleep(-status);
+            status = 200;
+        }
+        byte[] body = status == 200 ? PIKACHU.getBytes(StandardCharsets.UTF_8) : new byte[0];
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        } catch (IOException e) {
+            // el cliente canceló el intento perdedor
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,25 +1,63 @@
 package com.pokemon.infrastructure.web.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchemaLoader;
 import com.pokemon.application.dto.request.PokemonCreateRequest;
+import com.pokemon.application.dto.request.PokemonFields;
+import com.pokemon.application.dto.response.IngestionJobResponse;
+import com.pokemon.application.dto.response.PokemonBatchItem;
+import com.pokemon.application.dto.response.PokemonChangeResponse;
+import com.pokemon.application.dto.response.PokemonChangesResponse;
 import com.pokemon.application.dto.response.PokemonResponse;
+import com.pokemon.domain.entity.IngestionJob;
+import com.pokemon.domain.entity.PokemonChange;
+import com.pokemon.application.service.PokemonChangeFeedService;
+import com.pokemon.application.service.PokemonIngestionService;
+import com.pokemon.application.service.PokemonQueryService;
 import com.pokemon.application.service.PokemonService;
+import com.pokemon.application.service.PokemonSpriteService;
+import com.pokemon.application.service.TeamAnalysisService;
+import com.pokemon.infrastructure.config.JacksonConfig;
+import com.pokemon.infrastructure.external.service.JobCallbackClient;
+import com.pokemon.infrastructure.web.sse.PokemonChangeBroadcaster;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -31,9 +69,41 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * @version 1.0.0
  */
 @WebMvcTest(PokemonController.class)
+@Import(JacksonConfig.class)
 @DisplayName("Pokemon Controller Integration Tests")
 class PokemonControllerIntegrationTest {
 
+    /** Esquema que publica GET /schemas/protobuf para los listados paginados */
+    private static final String PAGE_SCHEMA = """
+            message ApiResponse {
+              optional bool success = 1;
+              optional string message = 2;
+              optional PageResponse data = 3;
+              optional string timestamp = 4;
+            }
+            message PageResponse {
+              repeated PokemonResponse content = 1;
+              optional int32 page = 2;
+              optional int32 size = 3;
+              optional int64 total_elements = 4;
+              optional int32 total_pages = 5;
+              optional bool has_next = 6;
+            }
+            message PokemonResponse {
+              optional int64 id = 1;
+              optional int32 external_id = 2;
+              optional string name = 3;
+              optional int32 height = 4;
+              optional int32 weight = 5;
+              optional int32 base_experience = 6;
+              repeated string types = 7;
+              repeated string abilities = 8;
+              optional string sprite_url = 9;
+              optional string created_at = 10;
+              optional string updated_at = 11;
+            }
+            """;
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -43,6 +113,27 @@ class PokemonControllerIntegrationTest {
     @MockBean
     private PokemonService pokemonService;
 
+    @MockBean
+    private PokemonQueryService pokemonQueryService;
+
+    @MockBean
+    private TeamAnalysisService teamAnalysisService;
+
+    @MockBean
+    private PokemonIngestionService ingestionService;
+
+    @MockBean
+    private PokemonChangeFeedService changeFeedService;
+
+    @MockBean
+    private PokemonChangeBroadcaster changeBroadcaster;
+
+    @MockBean
+    private PokemonSpriteService spriteService;
+
+    @TempDir
+    private Path spriteDirectory;
+
     @Test
     @DisplayName("POST /pokemon - Debe crear Pokemon exitosamente")
     void shouldCreatePokemonSuccessfully() throws Exception {
@@ -79,6 +170,106 @@ class PokemonControllerIntegrationTest {
                 .andExpect(jsonPath("$.data.types[0]").value("electric"));
     }
 
+    @Test
+    @DisplayName("POST /pokemon?async=true - Debe responder 202 con el trabajo encolado")
+    void shouldAcceptAsyncCreation() throws Exception {
+        // Given
+        UUID jobId = UUID.fromString("3f2b6c1e-8a44-4f4e-9d8a-0b6a9f1c2d3e");
+        when(ingestionService.submit(any(PokemonCreateRequest.class))).thenReturn(IngestionJobResponse.builder()
+                .id(jobId)
+                .pokemonName("pikachu")
+                .status(IngestionJob.Status.PENDING)
+                .attempts(0)
+                .build());
+
+        // When & Then
+        mockMvc.perform(post("/pokemon")
+                .param("async", "true")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"pikachu\", \"callback_url\": \"https://example.com/hook\"}"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "http://localhost/pokemon/jobs/" + jobId))
+                .andExpect(jsonPath("$.data.id").value(jobId.toString()))
+                .andExpect(jsonPath("$.data.status").value("PENDING"));
+    }
+
+    @Test
+    @DisplayName("POST /pokemon?async=true - Debe responder 400 cuando la URL de callback apunta a un host interno")
+    void shouldRejectInternalCallbackUrl() throws Exception {
+        // Given
+        when(ingestionService.submit(any(PokemonCreateRequest.class)))
+                .thenThrow(new JobCallbackClient.InvalidCallbackUrlException("no pública"));
+
+        // When & Then
+        mockMvc.perform(post("/pokemon")
+                .param("async", "true")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"pikachu\", \"callback_url\": \"http://127.0.0.1:8080/actuator\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error_code").value("INVALID_CALLBACK_URL"));
+    }
+
+    @Test
+    @DisplayName("POST /pokemon?async=true - Debe responder 503 con Retry-After cuando la cola está llena")
+    void shouldRejectAsyncCreationWhenQueueIsFull() throws Exception {
+        // Given
+        when(ingestionService.submit(any(PokemonCreateRequest.class)))
+                .thenThrow(new PokemonIngestionService.IngestionQueueFullException("llena", 7));
+
+        // When & Then
+        mockMvc.perform(post("/pokemon")
+                .param("async", "true")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"pikachu\"}"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "7"))
+                .andExpect(jsonPath("$.error_code").value("INGESTION_QUEUE_FULL"));
+    }
+
+    @Test
+    @DisplayName("POST /pokemon?async=true - Debe repetir la respuesta original con la misma Idempotency-Key")
+    void shouldReplayResponseForSameIdempotencyKey() throws Exception {
+        // Given
+        UUID jobId = UUID.fromString("7c1d2e3f-4a5b-4c6d-8e9f-0a1b2c3d4e5f");
+        when(ingestionService.submit(any(PokemonCreateRequest.class))).thenReturn(IngestionJobResponse.builder()
+                .id(jobId)
+                .pokemonName("eevee")
+                .status(IngestionJob.Status.PENDING)
+                .attempts(0)
+                .build());
+        String body = "{\"name\": \"eevee\"}";
+
+        // When
+        mockMvc.perform(post("/pokemon")
+                .param("async", "true")
+                .header("Idempotency-Key", "eevee-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(status().isAccepted())
+                .andExpect(header().doesNotExist("Idempotent-Replayed"));
+
+        // Then
+        mockMvc.perform(post("/pokemon")
+                .param("async", "true")
+                .header("Idempotency-Key", "eevee-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(header().string("Location", "http://localhost/pokemon/jobs/" + jobId))
+                .andExpect(jsonPath("$.data.id").value(jobId.toString()));
+
+        mockMvc.perform(post("/pokemon")
+                .param("async", "true")
+                .header("Idempotency-Key", "eevee-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"vaporeon\"}"))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.error_code").value("IDEMPOTENCY_KEY_REUSED"));
+
+        verify(ingestionService, times(1)).submit(any(PokemonCreateRequest.class));
+    }
+
     @Test
     @DisplayName("POST /pokemon - Debe retornar error de validación con nombre vacío")
     void shouldReturnValidationErrorWithEmptyName() throws Exception {
@@ -116,7 +307,7 @@ class PokemonControllerIntegrationTest {
                 .build();
 
         Page<PokemonResponse> page = new PageImpl<>(List.of(response));
-        when(pokemonService.getAllPokemon(any(Pageable.class))).thenReturn(page);
+        when(pokemonService.getAllPokemon(any(Pageable.class), any(PokemonFields.class))).thenReturn(page);
 
         // When & Then
         mockMvc.perform(get("/pokemon")
@@ -175,6 +366,28 @@ class PokemonControllerIntegrationTest {
                 .andExpect(jsonPath("$.errorCode").value("POKEMON_NOT_FOUND"));
     }
 
+    @Test
+    @DisplayName("GET /pokemon/batch - Debe devolver el lote en orden con marcas de no encontrado")
+    void shouldGetPokemonBatch() throws Exception {
+        // Given
+        PokemonResponse pikachu = PokemonResponse.builder()
+                .id(25L)
+                .name("pikachu")
+                .build();
+        when(pokemonQueryService.findBatch(List.of(25L, 999L), null)).thenReturn(List.of(
+                PokemonBatchItem.of("25", pikachu),
+                PokemonBatchItem.of("999", null)));
+
+        // When & Then
+        mockMvc.perform(get("/pokemon/batch").param("ids", "25,999"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].key").value("25"))
+                .andExpect(jsonPath("$.data[0].found").value(true))
+                .andExpect(jsonPath("$.data[0].pokemon.name").value("pikachu"))
+                .andExpect(jsonPath("$.data[1].found").value(false))
+                .andExpect(jsonPath("$.data[1].error_code").value("POKEMON_NOT_FOUND"));
+    }
+
     @Test
     @DisplayName("GET /pokemon/name/{name} - Debe obtener Pokemon por nombre")
     void shouldGetPokemonByName() throws Exception {
@@ -223,7 +436,7 @@ class PokemonControllerIntegrationTest {
                 .build();
 
         Page<PokemonResponse> page = new PageImpl<>(List.of(response));
-        when(pokemonService.searchPokemonByName(eq(query), any(Pageable.class))).thenReturn(page);
+        when(pokemonService.searchPokemonByName(eq(query), any(Pageable.class), any(PokemonFields.class))).thenReturn(page);
 
         // When & Then
         mockMvc.perform(get("/pokemon/search")
@@ -235,6 +448,113 @@ class PokemonControllerIntegrationTest {
                 .andExpect(jsonPath("$.data.content[0].name").value("pikachu"));
     }
 
+    @Test
+    @DisplayName("GET /pokemon/search?fields= - Debe serializar solo los campos pedidos")
+    void shouldReturnOnlyRequestedFields() throws Exception {
+        // Given
+        PokemonResponse response = PokemonResponse.builder()
+                .id(1L)
+                .externalId(25)
+                .name("pikachu")
+                .spriteUrl("sprite-url")
+                .createdAt(LocalDateTime.now())
+                .build();
+        when(pokemonService.searchPokemonByName(eq("chu"), any(Pageable.class), any(PokemonFields.class)))
+                .thenReturn(new PageImpl<>(List.of(response)));
+
+        // When & Then
+        mockMvc.perform(get("/pokemon/search")
+                .param("query", "chu")
+                .param("fields", "name,spriteUrl"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].id").value(1))
+                .andExpect(jsonPath("$.data.content[0].name").value("pikachu"))
+                .andExpect(jsonPath("$.data.content[0].sprite_url").value("sprite-url"))
+                .andExpect(jsonPath("$.data.content[0].external_id").doesNotExist())
+                .andExpect(jsonPath("$.data.content[0].created_at").doesNotExist())
+                .andExpect(jsonPath("$.data.total_elements").value(1));
+
+        verify(pokemonService).searchPokemonByName(eq("chu"), any(Pageable.class),
+                argThat(fields -> !fields.includesCollections() && fields.names().contains("sprite_url")));
+    }
+
+    @Test
+    @DisplayName("GET /pokemon/{id}?fields= - Debe rechazar campos desconocidos")
+    void shouldRejectUnknownFields() throws Exception {
+        // Given
+        when(pokemonService.getPokemonById(1L)).thenReturn(PokemonResponse.builder().id(1L).build());
+
+        // When & Then
+        mockMvc.perform(get("/pokemon/{id}", 1L).param("fields", "name,power"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /pokemon/stream - Debe emitir un Pokémon por línea en NDJSON")
+    void shouldStreamPokemonAsNdjson() throws Exception {
+        // Given
+        doAnswer(invocation -> {
+            Consumer<PokemonResponse> sink = invocation.getArgument(2);
+            sink.accept(PokemonResponse.builder().id(1L).name("bulbasaur").types(List.of("grass")).build());
+            sink.accept(PokemonResponse.builder().id(4L).name("charmander").types(List.of("fire")).build());
+            return null;
+        }).when(pokemonQueryService).streamAll(any(Sort.class), any(PokemonFields.class), any());
+
+        // When
+        MvcResult result = mockMvc.perform(get("/pokemon/stream")
+                .param("fields", "name")
+                .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("{\"id\":1,\"name\":\"bulbasaur\"}\n{\"id\":4,\"name\":\"charmander\"}\n"));
+    }
+
+    @Test
+    @DisplayName("GET /pokemon/stream - Debe emitir eventos SSE y un evento final con el total")
+    void shouldStreamPokemonAsServerSentEvents() throws Exception {
+        // Given
+        doAnswer(invocation -> {
+            Consumer<PokemonResponse> sink = invocation.getArgument(2);
+            sink.accept(PokemonResponse.builder().id(25L).name("pikachu").build());
+            return null;
+        }).when(pokemonQueryService).streamAll(eq(Sort.by(Sort.Direction.DESC, "name")), eq(PokemonFields.ALL), any());
+
+        // When
+        MvcResult result = mockMvc.perform(get("/pokemon/stream")
+                .param("sortBy", "name")
+                .param("sortDir", "desc")
+                .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-cache"))
+                .andExpect(content().string("id: 25\nevent: pokemon\ndata: {\"id\":25,\"name\":\"pikachu\"}\n\n"
+                        + "event: end\ndata: {\"count\":1}\n\n"));
+    }
+
+    @Test
+    @DisplayName("GET /pokemon/stream - Debe validar el ordenamiento antes de empezar a emitir")
+    void shouldRejectInvalidStreamSortBeforeStreaming() throws Exception {
+        // Given
+        doThrow(new PokemonQueryService.InvalidQueryException("No se puede ordenar por 'types'"))
+                .when(pokemonQueryService).requireStreamableSort(any(Sort.class));
+
+        // When & Then
+        mockMvc.perform(get("/pokemon/stream")
+                .param("sortBy", "types")
+                .accept(MediaType.APPLICATION_NDJSON, MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(request().asyncNotStarted());
+    }
+
     @Test
     @DisplayName("DELETE /pokemon/{id} - Debe eliminar Pokemon exitosamente")
     void shouldDeletePokemonSuccessfully() throws Exception {
@@ -266,4 +586,228 @@ class PokemonControllerIntegrationTest {
                 .andExpect(jsonPath("$.data.total_pokemon").value(10));
 
     }
-} 
\ No newline at end of file
+
+    @Test
+    @DisplayName("GET /pokemon/filter - Debe filtrar Pokemon por combinación de tipos")
+    void shouldFilterPokemonByTypeCombination() throws Exception {
+        // Given
+        PokemonResponse response = PokemonResponse.builder()
+                .id(6L)
+                .externalId(6)
+                .name("charizard")
+                .types(List.of("fire", "flying"))
+                .build();
+
+        when(pokemonQueryService.filterPokemon(
+                argThat(criteria -> criteria.getAllTypes().equals(List.of("fire", "flying"))
+                        && criteria.getNoneTypes().equals(List.of("dragon"))),
+                any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(response), PageRequest.of(0, 10), 1));
+
+        // When & Then
+        mockMvc.perform(get("/pokemon/filter")
+                .param("allTypes", "fire,flying")
+                .param("noneTypes", "dragon"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.content[0].name").value("charizard"));
+    }
+
+    @Test
+    @DisplayName("GET /pokemon/filter - Debe retornar 503 cuando el catálogo no está cargado")
+    void shouldReturn503WhenCatalogUnavailable() throws Exception {
+        // Given
+        when(pokemonQueryService.filterPokemon(any(), any(Pageable.class)))
+                .thenThrow(new PokemonQueryService.CatalogUnavailableException("no disponible"));
+
+        // When & Then
+        mockMvc.perform(get("/pokemon/filter").param("anyTypes", "fire"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.error_code").value("CATALOG_UNAVAILABLE"));
+    }
+
+    @Test
+    @DisplayName("GET /pokemon/{id} - Debe responder en CBOR cuando se pide en Accept")
+    void shouldNegotiateCborResponse() throws Exception {
+        // Given
+        when(pokemonService.getPokemonById(1L)).thenReturn(PokemonResponse.builder()
+                .id(1L)
+                .externalId(25)
+                .name("pikachu")
+                .build());
+
+        // When
+        byte[] body = mockMvc.perform(get("/pokemon/{id}", 1L).accept("application/cbor"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/cbor"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then
+        JsonNode data = new CBORMapper().readTree(body).get("data");
+        assertThat(data.get("name").asText()).isEqualTo("pikachu");
+        assertThat(data.get("external_id").asInt()).isEqualTo(25);
+    }
+
+    @Test
+    @DisplayName("GET /pokemon - Debe responder en protobuf según el esquema publicado")
+    void shouldNegotiateProtobufResponse() throws Exception {
+        // Given
+        PokemonResponse response = PokemonResponse.builder()
+                .id(1L)
+                .externalId(25)
+                .name("pikachu")
+                .types(List.of("electric"))
+                .createdAt(LocalDateTime.of(2024, 1, 5, 9, 7, 3))
+                .build();
+        when(pokemonService.getAllPokemon(any(Pageable.class), any(PokemonFields.class)))
+                .thenReturn(new PageImpl<>(List.of(response), PageRequest.of(0, 10), 1));
+
+        // When
+        byte[] body = mockMvc.perform(get("/pokemon").accept("application/x-protobuf"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-protobuf"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then
+        ProtobufMapper mapper = new ProtobufMapper();
+        JsonNode root = mapper.readerFor(JsonNode.class)
+                .with(ProtobufSchemaLoader.std.parse(PAGE_SCHEMA))
+                .readValue(body);
+        JsonNode pokemon = root.get("data").get("content").get(0);
+        assertThat(pokemon.get("name").asText()).isEqualTo("pikachu");
+        assertThat(pokemon.get("types").get(0).asText()).isEqualTo("electric");
+        assertThat(pokemon.get("created_at").asText()).isEqualTo("2024-01-05T09:07:03");
+        assertThat(root.get("data").get("total_elements").asLong()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("GET /pokemon/changes - Debe devolver los cambios posteriores a la secuencia")
+    void shouldGetChangesSinceSequence() throws Exception {
+        // Given
+        PokemonChangesResponse changes = PokemonChangesResponse.builder()
+                .changes(List.of(PokemonChangeResponse.builder()
+                        .sequence(8L)
+                        .type(PokemonChange.Type.DELETED)
+                        .pokemonId(3L)
+                        .occurredAt(LocalDateTime.of(2024, 1, 5, 9, 7, 3))
+                        .build()))
+                .nextSince(8L)
+                .hasMore(false)
+                .lastSequence(8L)
+                .build();
+        when(changeFeedService.getChanges(7L, 50)).thenReturn(changes);
+
+        // When & Then
+        mockMvc.perform(get("/pokemon/changes").param("since", "7").param("limit", "50"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.changes[0].sequence").value(8))
+                .andExpect(jsonPath("$.data.changes[0].type").value("DELETED"))
+                .andExpect(jsonPath("$.data.changes[0].pokemon_id").value(3))
+                .andExpect(jsonPath("$.data.changes[0].pokemon_name").doesNotExist())
+                .andExpect(jsonPath("$.data.next_since").value(8))
+                .andExpect(jsonPath("$.data.has_more").value(false));
+    }
+
+    @Test
+    @DisplayName("GET /pokemon/changes - Debe retornar 410 cuando los cambios ya se eliminaron")
+    void shouldReturn410WhenChangesExpired() throws Exception {
+        // Given
+        when(changeFeedService.getChanges(0L, 100))
+                .thenThrow(new PokemonChangeFeedService.ChangesExpiredException("vencidos"));
+
+        // When & Then
+        mockMvc.perform(get("/pokemon/changes"))
+                .andExpect(status().isGone())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.error_code").value("CHANGES_EXPIRED"));
+    }
+
+    @Test
+    @DisplayName("GET /pokemon/changes/stream - Debe reanudar desde el header Last-Event-ID")
+    void shouldResumeChangeStreamFromLastEventId() throws Exception {
+        // Given
+        when(changeBroadcaster.subscribe(42L)).thenReturn(new SseEmitter());
+
+        // When & Then
+        mockMvc.perform(get("/pokemon/changes/stream")
+                .param("since", "5")
+                .header("Last-Event-ID", "42")
+                .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted());
+        verify(changeBroadcaster).subscribe(42L);
+    }
+
+    @Test
+    @DisplayName("GET /pokemon/{id}/sprite - Debe servir la imagen desde disco con ETag y cache de larga duración")
+    void shouldServeSpriteFromDisk() throws Exception {
+        // Given
+        byte[] image = {(byte) 0x89, 'P', 'N', 'G', 1, 2, 3};
+        Path file = Files.write(spriteDirectory.resolve("1-abc123.png"), image);
+        when(spriteService.openSprite(1L)).thenReturn(new PokemonSpriteService.OpenSprite(
+                new PokemonSpriteService.Sprite(1L, file, "abc123", MediaType.IMAGE_PNG, image.length),
+                FileChannel.open(file, StandardOpenOption.READ)));
+
+        // When & Then
+        mockMvc.perform(get("/pokemon/1/sprite"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.IMAGE_PNG))
+                .andExpect(content().bytes(image))
+                .andExpect(header().string("ETag", "\"abc123\""))
+                .andExpect(header().string("Cache-Control", "max-age=2592000, public"))
+                .andExpect(header().longValue("Content-Length", image.length));
+    }
+
+    @Test
+    @DisplayName("GET /pokemon/{id}/sprite - Debe delegar el envío en sendfile con un enlace propio de la respuesta")
+    void shouldServeSpriteWithSendfile() throws Exception {
+        // Given
+        Path file = Files.write(spriteDirectory.resolve("1-abc123.png"), new byte[]{1, 2, 3});
+        Path link = Files.createLink(spriteDirectory.resolve("link-1-abc123.png"), file);
+        PokemonSpriteService.Sprite sprite =
+                new PokemonSpriteService.Sprite(1L, file, "abc123", MediaType.IMAGE_PNG, 3);
+        when(spriteService.openSprite(1L)).thenReturn(new PokemonSpriteService.OpenSprite(
+                sprite, FileChannel.open(file, StandardOpenOption.READ)));
+        when(spriteService.linkForSendfile(sprite)).thenReturn(Optional.of(link));
+
+        // When & Then
+        mockMvc.perform(get("/pokemon/1/sprite").requestAttr("org.apache.tomcat.sendfile.support", true))
+                .andExpect(status().isOk())
+                .andExpect(header().longValue("Content-Length", 3))
+                .andExpect(request().attribute("org.apache.tomcat.sendfile.filename", link.toAbsolutePath().toString()))
+                .andExpect(request().attribute("org.apache.tomcat.sendfile.start", 0L))
+                .andExpect(request().attribute("org.apache.tomcat.sendfile.end", 3L))
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    @DisplayName("GET /pokemon/{id}/sprite - Debe responder 304 cuando el ETag sigue vigente")
+    void shouldReturn304WhenSpriteNotModified() throws Exception {
+        // Given
+        Path file = Files.write(spriteDirectory.resolve("1-abc123.png"), new byte[]{1, 2, 3});
+        when(spriteService.openSprite(1L)).thenReturn(new PokemonSpriteService.OpenSprite(
+                new PokemonSpriteService.Sprite(1L, file, "abc123", MediaType.IMAGE_PNG, 3),
+                FileChannel.open(file, StandardOpenOption.READ)));
+
+        // When & Then
+        mockMvc.perform(get("/pokemon/1/sprite").header("If-None-Match", "\"abc123\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"abc123\""))
+                .andExpect(header().string("Cache-Control", "max-age=2592000, public"))
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    @DisplayName("GET /pokemon/{id}/sprite - Debe retornar 404 cuando el Pokémon no tiene sprite")
+    void shouldReturn404WhenSpriteNotAvailable() throws Exception {
+        // Given
+        when(spriteService.openSprite(1L))
+                .thenThrow(new PokemonSpriteService.SpriteNotAvailableException("sin sprite"));
+
+        // When & Then
+        mockMvc.perform(get("/pokemon/1/sprite").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error_code").value("SPRITE_NOT_AVAILABLE"));
+    }
+}
@@ -0,0 +1,144 @@
+package com.pokemon.infrastructure.web.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests unitarios para AdaptiveConcurrencyLimiter
+ *
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@DisplayName("Adaptive Concurrency Limiter Tests")
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long NORMAL = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(200);
+
+    @Test
+    @DisplayName("Debe rechazar cuando las requests en curso alcanzan el límite")
+    void shouldRejectAboveLimit() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10);
+
+        // When
+        boolean first = limiter.tryAcquire();
+        boolean second = limiter.tryAcquire();
+        boolean third = limiter.tryAcquire();
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+        assertThat(limiter.inFlight()).isEqualTo(2);
+        assertThat(limiter.rejected()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Debe aumentar el límite mientras la latencia se mantiene y el límite está en uso")
+    void shouldGrowWhenLatencyIsStable() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 1, 100);
+
+        // When
+        for (int i = 0; i < 200; i++) {
+            saturate(limiter);
+            drain(limiter, NORMAL);
+        }
+
+        // Then
+        assertThat(limiter.limit()).isGreaterThan(4);
+    }
+
+    @Test
+    @DisplayName("Debe reducir el límite cuando la latencia de una ventana en uso supera la referencia aprendida")
+    void shouldShrinkWhenLatencySpikes() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(40, 2, 100);
+        for (int i = 0; i < 2; i++) {
+            saturate(limiter);
+            drain(limiter, NORMAL);
+        }
+        int before = limiter.limit();
+
+        // When
+        saturate(limiter);
+        drain(limiter, SLOW);
+
+        // Then
+        assertThat(limiter.limit()).isLessThan(before).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("No debe incorporar las ventanas sobrecargadas a la latencia de referencia")
+    void shouldKeepOverloadedWindowsOutOfBaseline() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(50, 2, 100);
+        for (int i = 0; i < 4; i++) {
+            saturate(limiter);
+            drain(limiter, NORMAL);
+        }
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            saturate(limiter);
+            drain(limiter, SLOW);
+        }
+
+        // Then
+        assertThat(limiter.limit()).isLessThan(20);
+    }
+
+    @Test
+    @DisplayName("Debe mantener el límite con una mezcla de latencias rápidas y lentas a baja concurrencia")
+    void shouldKeepLimitWithBimodalLatencyAtLowConcurrency() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 2, 100);
+        Random random = new Random(42);
+
+        // When
+        for (int i = 0; i < 2000; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+            limiter.release(random.nextInt(10) < 3 ? SLOW : NORMAL, false);
+        }
+
+        // Then
+        assertThat(limiter.limit()).isEqualTo(20);
+        assertThat(limiter.rejected()).isZero();
+    }
+
+    @Test
+    @DisplayName("No debe bajar del límite mínimo")
+    void shouldRespectMinimum() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(5, 3, 10);
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            saturate(limiter);
+            while (limiter.inFlight() > 0) {
+                limiter.release(NORMAL, true);
+            }
+        }
+
+        // Then
+        assertThat(limiter.limit()).isEqualTo(3);
+    }
+
+    private static void saturate(AdaptiveConcurrencyLimiter limiter) {
+        while (limiter.tryAcquire()) {
+            // ocupar todos los lugares disponibles
+        }
+    }
+
+    private static void drain(AdaptiveConcurrencyLimiter limiter, long latency) {
+        while (limiter.inFlight() > 0) {
+            limiter.release(latency, false);
+        }
+    }
+}
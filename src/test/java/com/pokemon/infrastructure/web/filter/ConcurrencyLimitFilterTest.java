@@ -0,0 +1,145 @@
+package com.pokemon.infrastructure.web.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests unitarios para ConcurrencyLimitFilter
+ *
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@DisplayName("Concurrency Limit Filter Tests")
+class ConcurrencyLimitFilterTest {
+
+    private ConcurrencyLimitFilter filter;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        filter = new ConcurrencyLimitFilter(new ObjectMapper(), true, Duration.ofSeconds(2),
+                50, 10, 100, 1, 1, 5, 1, 1, 5);
+        meterRegistry = new SimpleMeterRegistry();
+        filter.bindTo(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Debe responder 503 con Retry-After cuando la creación está saturada sin afectar las lecturas")
+    void shouldShedCreatesOverLimit() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain slowChain = (req, res) -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            executor.submit(() -> perform("POST", "/api/v1/pokemon", slowChain));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // When
+            MockHttpServletResponse rejected = perform("POST", "/api/v1/pokemon", (req, res) -> { });
+            MockHttpServletResponse read = perform("GET", "/api/v1/pokemon/25", (req, res) -> { });
+
+            // Then
+            assertThat(rejected.getStatus()).isEqualTo(503);
+            assertThat(rejected.getHeader("Retry-After")).isEqualTo("2");
+            assertThat(rejected.getContentAsString()).contains("CONCURRENCY_LIMIT_EXCEEDED");
+            assertThat(read.getStatus()).isEqualTo(200);
+            assertThat(meterRegistry.get("pokemon.concurrency.rejected").tag("endpoint", "create")
+                    .functionCounter().count()).isEqualTo(1);
+            assertThat(meterRegistry.get("pokemon.concurrency.in-flight").tag("endpoint", "create")
+                    .gauge().value()).isEqualTo(1);
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("No debe limitar la creación asíncrona, las respuestas de larga duración ni rutas fuera de /pokemon")
+    void shouldIgnoreUnlimitedRequests() throws Exception {
+        // Given
+        MockHttpServletRequest async = request("POST", "/api/v1/pokemon");
+        async.setParameter("async", "true");
+        MockHttpServletRequest health = request("GET", "/api/v1/actuator/health");
+
+        // When & Then
+        assertThat(filter.shouldNotFilter(async)).isTrue();
+        assertThat(filter.shouldNotFilter(health)).isTrue();
+        assertThat(filter.shouldNotFilter(request("GET", "/api/v1/pokemon/stream"))).isTrue();
+        assertThat(filter.shouldNotFilter(request("GET", "/api/v1/pokemon/changes/stream"))).isTrue();
+        assertThat(filter.shouldNotFilter(request("GET", "/api/v1/pokemon/25/sprite"))).isTrue();
+        assertThat(filter.shouldNotFilter(request("GET", "/api/v1/pokemon/25"))).isFalse();
+        assertThat(filter.shouldNotFilter(request("GET", "/api/v1/pokemon/search"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Debe limitar las lecturas costosas aparte de las lecturas simples")
+    void shouldLimitHeavyReadsSeparately() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain slowChain = (req, res) -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            executor.submit(() -> perform("GET", "/api/v1/pokemon/analytics", slowChain));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // When
+            MockHttpServletResponse rejected = perform("GET", "/api/v1/pokemon/query", (req, res) -> { });
+            MockHttpServletResponse read = perform("GET", "/api/v1/pokemon/25", (req, res) -> { });
+
+            // Then
+            assertThat(rejected.getStatus()).isEqualTo(503);
+            assertThat(read.getStatus()).isEqualTo(200);
+            assertThat(meterRegistry.get("pokemon.concurrency.rejected").tag("endpoint", "heavy")
+                    .functionCounter().count()).isEqualTo(1);
+            assertThat(meterRegistry.get("pokemon.concurrency.rejected").tag("endpoint", "read")
+                    .functionCounter().count()).isZero();
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    private MockHttpServletResponse perform(String method, String uri, FilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(method, uri), response, chain);
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String method, String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setContextPath("/api/v1");
+        return request;
+    }
+}
@@ -0,0 +1,238 @@
+package com.pokemon.infrastructure.web.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests unitarios para IdempotencyFilter
+ *
+ * @author Pokemon API Team
+ * @version 1.0.0
+ */
+@DisplayName("Idempotency Filter Tests")
+class IdempotencyFilterTest {
+
+    private IdempotencyFilter filter;
+    private AtomicInteger executions;
+
+    @BeforeEach
+    void setUp() {
+        filter = new IdempotencyFilter(new ObjectMapper(), Duration.ofHours(1), 1000, Duration.ofSeconds(5),
+                DataSize.ofBytes(64));
+        executions = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Debe esperar la ejecución en curso en lugar de correr en paralelo")
+    void shouldWaitForInFlightExecution() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain slowChain = (req, res) -> {
+            executions.incrementAndGet();
+            started.countDown();
+            await(release);
+            ((HttpServletResponse) res).setStatus(201);
+            res.getOutputStream().write("{\"id\":1}".getBytes(StandardCharsets.UTF_8));
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // When
+            Future<MockHttpServletResponse> first = executor.submit(() -> perform("k1", "{\"name\":\"pikachu\"}", slowChain));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<MockHttpServletResponse> second = executor.submit(() -> perform("k1", "{\"name\":\"pikachu\"}", slowChain));
+            Thread.sleep(100);
+            assertThat(second.isDone()).isFalse();
+            release.countDown();
+
+            // Then
+            MockHttpServletResponse original = first.get(5, TimeUnit.SECONDS);
+            MockHttpServletResponse replay = second.get(5, TimeUnit.SECONDS);
+            assertThat(executions).hasValue(1);
+            assertThat(original.getStatus()).isEqualTo(201);
+            assertThat(replay.getStatus()).isEqualTo(201);
+            assertThat(replay.getContentAsString()).isEqualTo("{\"id\":1}");
+            assertThat(replay.getHeader(IdempotencyFilter.IDEMPOTENT_REPLAYED)).isEqualTo("true");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Debe volver a ejecutar cuando la respuesta original fue un error 5xx")
+    void shouldNotStoreServerErrors() throws Exception {
+        // Given
+        FilterChain failingChain = (req, res) -> {
+            executions.incrementAndGet();
+            ((HttpServletResponse) res).setStatus(502);
+        };
+
+        // When
+        MockHttpServletResponse first = perform("k2", "{}", failingChain);
+        MockHttpServletResponse second = perform("k2", "{}", failingChain);
+
+        // Then
+        assertThat(executions).hasValue(2);
+        assertThat(first.getStatus()).isEqualTo(502);
+        assertThat(second.getHeader(IdempotencyFilter.IDEMPOTENT_REPLAYED)).isNull();
+    }
+
+    @Test
+    @DisplayName("Debe volver a ejecutar la request cuando la primera terminó en 409 CREATION_IN_PROGRESS")
+    void shouldRetryAfterCreationInProgress() throws Exception {
+        // Given
+        FilterChain chain = (req, res) -> {
+            HttpServletResponse response = (HttpServletResponse) res;
+            if (executions.incrementAndGet() == 1) {
+                response.setStatus(409);
+                response.getOutputStream().write(
+                        "{\"error_code\":\"CREATION_IN_PROGRESS\"}".getBytes(StandardCharsets.UTF_8));
+            } else {
+                response.setStatus(201);
+                response.getOutputStream().write("{\"id\":1}".getBytes(StandardCharsets.UTF_8));
+            }
+        };
+
+        // When
+        MockHttpServletResponse first = perform("k3", "{}", chain);
+        MockHttpServletResponse second = perform("k3", "{}", chain);
+        MockHttpServletResponse third = perform("k3", "{}", chain);
+
+        // Then
+        assertThat(executions).hasValue(2);
+        assertThat(first.getStatus()).isEqualTo(409);
+        assertThat(second.getStatus()).isEqualTo(201);
+        assertThat(second.getHeader(IdempotencyFilter.IDEMPOTENT_REPLAYED)).isNull();
+        assertThat(third.getStatus()).isEqualTo(201);
+        assertThat(third.getHeader(IdempotencyFilter.IDEMPOTENT_REPLAYED)).isEqualTo("true");
+    }
+
+    @Test
+    @DisplayName("Debe repetir los conflictos definitivos y no guardar los 429")
+    void shouldStoreOnlyFinalClientErrors() throws Exception {
+        // Given
+        FilterChain alreadyExists = (req, res) -> {
+            executions.incrementAndGet();
+            ((HttpServletResponse) res).setStatus(409);
+            res.getOutputStream().write("{\"error_code\":\"POKEMON_ALREADY_EXISTS\"}".getBytes(StandardCharsets.UTF_8));
+        };
+        FilterChain throttled = (req, res) -> {
+            executions.incrementAndGet();
+            ((HttpServletResponse) res).setStatus(429);
+        };
+
+        // When
+        perform("k4", "{}", alreadyExists);
+        MockHttpServletResponse replayed = perform("k4", "{}", alreadyExists);
+        perform("k5", "{}", throttled);
+        MockHttpServletResponse retried = perform("k5", "{}", throttled);
+
+        // Then
+        assertThat(executions).hasValue(3);
+        assertThat(replayed.getStatus()).isEqualTo(409);
+        assertThat(replayed.getHeader(IdempotencyFilter.IDEMPOTENT_REPLAYED)).isEqualTo("true");
+        assertThat(retried.getHeader(IdempotencyFilter.IDEMPOTENT_REPLAYED)).isNull();
+    }
+
+    @Test
+    @DisplayName("Debe rechazar claves demasiado largas")
+    void shouldRejectOversizedKey() throws Exception {
+        // When
+        MockHttpServletResponse response = perform("x".repeat(256), "{}", (req, res) -> executions.incrementAndGet());
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(400);
+        assertThat(response.getContentAsString()).contains("INVALID_IDEMPOTENCY_KEY");
+        assertThat(executions).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar con 413 los cuerpos que superan el tamaño máximo")
+    void shouldRejectOversizedBody() throws Exception {
+        // When
+        MockHttpServletResponse response = perform("k1", "{\"name\":\"" + "x".repeat(100) + "\"}",
+                (req, res) -> executions.incrementAndGet());
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(413);
+        assertThat(response.getContentAsString()).contains("PAYLOAD_TOO_LARGE");
+        assertThat(executions).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("Debe notificar de inmediato al ReadListener que el cuerpo está disponible")
+    void shouldNotifyReadListener() throws Exception {
+        // Given
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+        AtomicBoolean allDataRead = new AtomicBoolean();
+        FilterChain asyncReader = (req, res) -> {
+            ServletInputStream in = req.getInputStream();
+            in.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    while (in.isReady() && !in.isFinished()) {
+                        read.write(in.read());
+                    }
+                }
+
+                @Override
+                public void onAllDataRead() {
+                    allDataRead.set(true);
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                }
+            });
+        };
+
+        // When
+        perform("k1", "{\"name\":\"pikachu\"}", asyncReader);
+
+        // Then
+        assertThat(read.toString(StandardCharsets.UTF_8)).isEqualTo("{\"name\":\"pikachu\"}");
+        assertThat(allDataRead).isTrue();
+    }
+
+    private MockHttpServletResponse perform(String key, String body, FilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/pokemon");
+        request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY, key);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}